@@ -0,0 +1,93 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vision OCR 요청 본문 직렬화 비용 비교 (300 DPI A4 PNG 크기의 이미지 한 장)
+ *
+ * - mapTree: 이전 방식. Base64 문자열을 만든 뒤 HashMap/ArrayList 트리로 직렬화
+ * - typedRequest: GeminiRequest의 byte[]를 출력 스트림에 바로 Base64로 인코딩
+ *
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm이 호출당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeminiRequestSerializationBenchmark {
+
+    private static final String PROMPT = "이미지의 모든 텍스트를 원래 줄바꿈을 유지하여 추출하세요.";
+
+    @Param({"3145728"})
+    private int imageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 직렬화 결과를 버리는 출력 스트림 (ObjectMapper가 close해도 계속 사용 가능)
+    private final OutputStream sink = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+    private byte[] image;
+
+    @Setup
+    public void setUp() {
+        image = new byte[imageSize];
+        new Random(42).nextBytes(image);
+    }
+
+    @Benchmark
+    public void mapTree() throws IOException {
+        String base64Image = Base64.getEncoder().encodeToString(image);
+
+        Map<String, Object> inlineData = new HashMap<>();
+        inlineData.put("mimeType", "image/png");
+        inlineData.put("data", base64Image);
+        Map<String, Object> imagePart = new HashMap<>();
+        imagePart.put("inlineData", inlineData);
+        Map<String, Object> textPart = new HashMap<>();
+        textPart.put("text", PROMPT);
+        List<Map<String, Object>> parts = new ArrayList<>();
+        parts.add(textPart);
+        parts.add(imagePart);
+        Map<String, Object> content = new HashMap<>();
+        content.put("parts", parts);
+        List<Map<String, Object>> contents = new ArrayList<>();
+        contents.add(content);
+
+        Map<String, Object> generationConfig = new HashMap<>();
+        generationConfig.put("temperature", 0.1);
+        generationConfig.put("maxOutputTokens", 8000);
+        generationConfig.put("topP", 0.95);
+        generationConfig.put("topK", 40);
+
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("contents", contents);
+        requestBody.put("generationConfig", generationConfig);
+
+        objectMapper.writeValue(sink, requestBody);
+    }
+
+    @Benchmark
+    public void typedRequest() throws IOException {
+        objectMapper.writeValue(sink, GeminiRequest.of(PROMPT,
+            new GeminiRequest.InlineData("image/png", image), 0.1, 8000));
+    }
+}
@@ -5,6 +5,7 @@ import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
 import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
 import com.example.konnect_backend.domain.ai.service.log.GeminiLogService;
 import com.example.konnect_backend.domain.ai.service.module.PromptModule;
+import com.example.konnect_backend.domain.ai.service.prompt.PromptTemplateResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -24,9 +25,11 @@ import static com.example.konnect_backend.domain.ai.interceptor.AnalysisIntercep
 public class LlmLoggingAspect {
 
     private final GeminiLogService logService;
+    private final PromptTemplateResolver resolver;
 
     /**
-     * GeminiService 반환 시 로깅에 사용할 수 있도록 ThreadLocal 에 모듈명과 프롬프트 버전을 저장한다.
+     * GeminiService 반환 시 로깅에 사용할 수 있도록 ThreadLocal 에 모듈명과 프롬프트 버전을 저장한다. <br />
+     * 템플릿의 고정 부분도 함께 저장하여 GeminiContextCache가 캐시할 수 있게 한다.
      */
     @Around(value = "execution(* com.example.konnect_backend.domain.ai.service.module.PromptModule.process(..)) && args(promptTemplate, context)",
             argNames = "joinPoint,promptTemplate,context")
@@ -38,7 +41,8 @@ public class LlmLoggingAspect {
             new PromptContext(
                 module.getModuleName(),
                 promptTemplate.getVersion(),
-                module.getVars(context)
+                module.getVars(context),
+                resolver.getStaticPrefix(promptTemplate.getTemplate())
             )
         );
 
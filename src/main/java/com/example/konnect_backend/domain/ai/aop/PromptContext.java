@@ -2,5 +2,9 @@ package com.example.konnect_backend.domain.ai.aop;
 
 import java.util.Map;
 
-public record PromptContext(String moduleName, Integer promptVersion, Map<String, String> vars) {
+/**
+ * @param staticPrefix 템플릿에서 첫 변수 슬롯 앞까지의 고정 부분 (컨텍스트 캐시 대상)
+ */
+public record PromptContext(String moduleName, Integer promptVersion, Map<String, String> vars,
+                            String staticPrefix) {
 }
@@ -0,0 +1,28 @@
+package com.example.konnect_backend.domain.ai.config;
+
+import com.example.konnect_backend.domain.ai.infra.fake.FakeGeminiProperties;
+import com.example.konnect_backend.domain.ai.infra.fake.FakeGeminiServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 로컬 Gemini 대역 서버 (fake-gemini 프로필) <br />
+ * application-fake-gemini.properties가 gemini.api.base-url을 이 서버로 지정합니다.
+ *
+ * ## 예시
+ * spring.profiles.active=local,fake-gemini
+ */
+@Configuration
+@Profile("fake-gemini")
+@EnableConfigurationProperties(FakeGeminiProperties.class)
+public class FakeGeminiServerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public FakeGeminiServer fakeGeminiServer(FakeGeminiProperties properties,
+                                             ObjectMapper objectMapper) {
+        return new FakeGeminiServer(properties, objectMapper);
+    }
+}
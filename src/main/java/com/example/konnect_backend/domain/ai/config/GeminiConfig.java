@@ -3,9 +3,11 @@ package com.example.konnect_backend.domain.ai.config;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
-import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Gemini API 설정
@@ -42,6 +44,11 @@ public class GeminiConfig {
     private Api api = new Api();
     private Model model = new Model();
     private Limit limit = new Limit();
+    private Bulkhead bulkhead = new Bulkhead();
+    private Http http = new Http();
+    private Retry retry = new Retry();
+    private Logging logging = new Logging();
+    private Cache cache = new Cache();
 
     @Getter
     @Setter
@@ -61,27 +68,138 @@ public class GeminiConfig {
         private String vision = "gemini-2.0-flash";
     }
 
+    /**
+     * 모델별 호출 한도 <br />
+     * rpd는 일일 요청 수(모든 인스턴스 합계), rpm과 tpm은 분당 요청 수와 분당 토큰 수(입력 + 출력)입니다.
+     */
     @Getter
     @Setter
     public static class Limit {
         private Primary primary = new Primary();
         private Lite lite = new Lite();
+        // 분당 한도에 여유가 생기기를 기다리는 최대 시간, 넘기면 AI_SERVICE_BUSY
+        private Duration admissionTimeout = Duration.ofSeconds(20);
+        // 일일 한도가 초기화되는 시간대 (Gemini는 태평양 시간 자정)
+        private String resetZone = "America/Los_Angeles";
+        // 인스턴스가 DB에서 한 번에 예약하는 일일 호출 수
+        private int leaseSize = 5;
 
         @Getter
         @Setter
         public static class Primary {
             private int rpd = 200;
+            private int rpm = 15;
+            private int tpm = 1_000_000;
         }
 
         @Getter
         @Setter
         public static class Lite {
             private int rpd = 1000;
+            private int rpm = 30;
+            private int tpm = 1_000_000;
         }
     }
 
-    @Bean
-    public RestTemplate geminiRestTemplate() {
-        return new RestTemplate();
+    /**
+     * 모델 자원별 동시 호출 수 상한 <br />
+     * 가상 스레드 모드에서는 실행기 스레드 수가 동시 호출 수를 제한하지 않으므로 이 값이 유일한 상한이 됩니다.
+     */
+    @Getter
+    @Setter
+    public static class Bulkhead {
+        private int primary = 8;
+        private int lite = 16;
+        // Vision OCR (이미지 입력 호출)
+        private int ocr = 4;
+        // 자리가 나기를 기다리는 최대 시간, 넘기면 AI_SERVICE_BUSY
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 일시 오류(429, 5xx, I/O) 재시도 설정 <br />
+     * max-attempts는 첫 시도를 포함한 전체 시도 횟수입니다.
+     */
+    @Getter
+    @Setter
+    public static class Retry {
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(8);
+        private double multiplier = 2.0;
+        // 성공 한 번당 적립되는 재시도 토큰
+        private double budgetRatio = 0.2;
+        private int budgetMaxTokens = 20;
+    }
+
+    /**
+     * 응답 본문 디버그 로그 <br />
+     * 디버그 레벨에서도 일부 응답만, 앞부분만 기록하여 큰 응답이 로그와 메모리를 차지하지 않게 합니다.
+     */
+    @Getter
+    @Setter
+    public static class Logging {
+        // 0.0 ~ 1.0
+        private double responseSampleRate = 0.01;
+        private int responseMaxBytes = 2048;
+    }
+
+    /**
+     * 프롬프트 템플릿 고정 부분의 컨텍스트 캐시 (cachedContents) <br />
+     * 모듈, 프롬프트 버전, 모델마다 하나씩 만들고 요청에는 변수 부분만 보냅니다.
+     * 캐시는 최소 토큰 수 미만이면 만들 수 없으므로 그보다 짧은 고정 부분은 그대로 보냅니다.
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private Duration ttl = Duration.ofHours(1);
+        // 서버에서 만료되기 전에 새 캐시로 교체하는 여유 시간
+        private Duration refreshMargin = Duration.ofMinutes(5);
+        private int minPrefixTokens = 4096;
+        // 캐시 생성에 실패한 고정 부분을 다시 시도하기까지 기다리는 시간
+        private Duration failureBackoff = Duration.ofMinutes(10);
+    }
+
+    /**
+     * Gemini API HTTP 커넥션 풀과 제한 시간 <br />
+     * 모든 모델이 같은 호스트를 사용하므로 연결(커넥션 풀, 연결 제한 시간)은 공유하고,
+     * 응답 대기 시간과 전체 마감 시간만 모델별로 다르게 설정할 수 있습니다.
+     *
+     * ## 예시
+     * gemini.http.models[gemini-2.0-flash-lite].deadline=PT30S
+     */
+    @Getter
+    @Setter
+    public static class Http {
+        private int maxConnections = 50;
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        // 풀에서 커넥션을 빌려오기까지 기다리는 시간
+        private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+        // 소켓 읽기 사이의 최대 대기 시간
+        private Duration responseTimeout = Duration.ofSeconds(60);
+        // 요청 전송부터 응답 헤더 수신까지의 전체 마감 시간
+        private Duration deadline = Duration.ofSeconds(90);
+        private Duration idleTimeout = Duration.ofSeconds(30);
+        private Duration timeToLive = Duration.ofMinutes(5);
+        private Map<String, ModelTimeout> models = new HashMap<>();
+
+        public Duration getResponseTimeout(String model) {
+            ModelTimeout timeout = models.get(model);
+            return timeout != null && timeout.getResponseTimeout() != null
+                ? timeout.getResponseTimeout() : responseTimeout;
+        }
+
+        public Duration getDeadline(String model) {
+            ModelTimeout timeout = models.get(model);
+            return timeout != null && timeout.getDeadline() != null ? timeout.getDeadline() : deadline;
+        }
+
+        @Getter
+        @Setter
+        public static class ModelTimeout {
+            private Duration responseTimeout;
+            private Duration deadline;
+        }
     }
 }
@@ -0,0 +1,118 @@
+package com.example.konnect_backend.domain.ai.config;
+
+import com.example.konnect_backend.domain.ai.infra.GeminiRequestDeadlineHandler;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Gemini API 호출용 HTTP 클라이언트 설정
+ *
+ * ## 커넥션 풀
+ * - 모듈 호출마다 새 연결을 맺지 않고 keep-alive 커넥션을 재사용하므로 TLS 핸드셰이크는 커넥션당 한 번만 발생
+ * - 유휴 커넥션은 idle-timeout 뒤에 정리하고, time-to-live가 지난 커넥션은 반납 시 닫음
+ * - 풀 상태는 httpcomponents.httpclient.pool.* 지표로 노출 (pool=gemini)
+ *
+ * ## 제한 시간
+ * - connect-timeout, connection-request-timeout: 모든 모델 공통
+ * - response-timeout, deadline: gemini.http.models[모델명]으로 모델별 지정 가능
+ */
+@Configuration
+public class GeminiHttpClientConfig {
+
+    private static final String POOL_NAME = "gemini";
+    private static final String MODEL_PATH_PREFIX = "/models/";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager geminiConnectionManager(GeminiConfig config,
+                                                                      MeterRegistry meterRegistry) {
+        GeminiConfig.Http http = config.getHttp();
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(http.getMaxConnections())
+            // Gemini API는 단일 호스트이므로 라우트당 상한도 전체 상한과 같음
+            .setMaxConnPerRoute(http.getMaxConnections())
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(toTimeout(http.getConnectTimeout()))
+                .setTimeToLive(TimeValue.of(http.getTimeToLive()))
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .build())
+            .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+            .bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean
+    public GeminiRequestDeadlineHandler geminiRequestDeadlineHandler() {
+        return new GeminiRequestDeadlineHandler();
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient geminiHttpClient(GeminiConfig config,
+                                                PoolingHttpClientConnectionManager geminiConnectionManager,
+                                                GeminiRequestDeadlineHandler geminiRequestDeadlineHandler) {
+        GeminiConfig.Http http = config.getHttp();
+        return HttpClients.custom()
+            .setConnectionManager(geminiConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(http.getConnectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(http.getResponseTimeout()))
+                .build())
+            .addExecInterceptorFirst("gemini-deadline", geminiRequestDeadlineHandler)
+            .evictIdleConnections(TimeValue.of(http.getIdleTimeout()))
+            .evictExpiredConnections()
+            .build();
+    }
+
+    @Bean
+    public RestTemplate geminiRestTemplate(GeminiConfig config, CloseableHttpClient geminiHttpClient) {
+        GeminiConfig.Http http = config.getHttp();
+        HttpComponentsClientHttpRequestFactory requestFactory =
+            new HttpComponentsClientHttpRequestFactory(geminiHttpClient);
+        // URL의 모델명으로 요청별 응답 대기 시간과 마감 시간을 정함
+        requestFactory.setHttpContextFactory((method, uri) -> {
+            String model = modelOf(uri);
+            HttpClientContext context = HttpClientContext.create();
+            context.setRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(toTimeout(http.getConnectionRequestTimeout()))
+                .setResponseTimeout(toTimeout(http.getResponseTimeout(model)))
+                .build());
+            context.setAttribute(GeminiRequestDeadlineHandler.DEADLINE_ATTRIBUTE,
+                http.getDeadline(model));
+            return context;
+        });
+        return new RestTemplate(requestFactory);
+    }
+
+    // .../models/{model}:generateContent 형식의 경로에서 모델명을 꺼냄
+    static String modelOf(URI uri) {
+        String path = uri.getPath();
+        int start = path == null ? -1 : path.indexOf(MODEL_PATH_PREFIX);
+        if (start < 0) {
+            return "";
+        }
+        start += MODEL_PATH_PREFIX.length();
+        int end = path.indexOf(':', start);
+        return end < 0 ? path.substring(start) : path.substring(start, end);
+    }
+
+    private static Timeout toTimeout(Duration duration) {
+        return Timeout.ofMilliseconds(duration.toMillis());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.konnect_backend.domain.ai.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 문서 분석 파이프라인 그래프 설정
+ *
+ * ## 노드 이름
+ * - TEXT_EXTRACTION: 텍스트 추출 (OCR 포함)
+ * - 그 외: 각 PromptModule의 module_name (CLASSIFICATION, TRANSLATION 등)
+ *
+ * ## 예시
+ * ai.pipeline.nodes.DIFFICULT_EXPRESSION_EXTRACTION.enabled=false
+ * ai.pipeline.nodes.TEXT_EXTRACTION.timeout=PT2M
+ *
+ * 비활성화된 노드의 결과가 필요한 노드도 함께 제외됩니다.
+ *
+ * ## 실행 모드 (ai.pipeline.mode)
+ * - split: 분류, 통합 추출, 어려운 표현 추출을 각각 호출 (기본값)
+ * - fused: FUSED_ANALYSIS 한 번의 호출로 세 결과를 함께 생성
+ * llm_call_metadata의 prompt_module_name으로 두 모드의 지연 시간과 토큰 사용량을 비교할 수 있습니다.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "ai.pipeline")
+@Getter
+@Setter
+public class PipelineConfig {
+
+    // 노드별 timeout이 없을 때 적용
+    private Duration defaultTimeout = Duration.ofSeconds(60);
+
+    private Map<String, Node> nodes = new HashMap<>();
+
+    private Mode mode = Mode.SPLIT;
+
+    public boolean isEnabled(String nodeName) {
+        Node node = nodes.get(nodeName);
+        return node == null || node.isEnabled();
+    }
+
+    public Duration getTimeout(String nodeName) {
+        Node node = nodes.get(nodeName);
+        return node != null && node.getTimeout() != null ? node.getTimeout() : defaultTimeout;
+    }
+
+    public enum Mode {
+        SPLIT, FUSED
+    }
+
+    @Getter
+    @Setter
+    public static class Node {
+        private boolean enabled = true;
+        private Duration timeout;
+    }
+}
@@ -2,9 +2,12 @@ package com.example.konnect_backend.domain.ai.controller;
 
 import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
 import com.example.konnect_backend.domain.ai.dto.response.AnalysisHistoryResponse;
+import com.example.konnect_backend.domain.ai.dto.response.AnalysisJobResponse;
 import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
 import com.example.konnect_backend.domain.ai.service.history.AnalysisHistoryService;
+import com.example.konnect_backend.domain.ai.service.job.AnalysisJobService;
 import com.example.konnect_backend.domain.ai.service.pipeline.DocumentAnalysisPipeline;
+import com.example.konnect_backend.domain.ai.service.stream.AnalysisStreamService;
 import com.example.konnect_backend.domain.ai.type.FileType;
 import com.example.konnect_backend.global.ApiResponse;
 import com.example.konnect_backend.global.code.status.ErrorStatus;
@@ -14,11 +17,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/ai")
@@ -29,9 +35,11 @@ public class AIController {
 
     private final DocumentAnalysisPipeline documentAnalysisPipeline;
     private final AnalysisHistoryService documentHistoryService;
+    private final AnalysisStreamService analysisStreamService;
+    private final AnalysisJobService analysisJobService;
 
     @PostMapping(value = "/analyze", consumes = "multipart/form-data")
-    @Operation(summary = "가정통신문 분석", description = "가정통신문(PDF/이미지)을 분석하여 문서 유형 분류, 일정 추출, 번역, 요약을 수행합니다. " + "사용자 설정 언어로 자동 번역됩니다. 중간에 실패 시 analysisId를 사용하여 재시도할 수 있습니다.")
+    @Operation(summary = "가정통신문 분석", description = "가정통신문(PDF/이미지)을 분석하여 문서 유형 분류, 일정 추출, 번역, 요약을 수행합니다. " + "사용자 설정 언어로 자동 번역됩니다. 중간에 실패 시 응답의 X-Request-Id 헤더 값으로 이어서 실행할 수 있습니다.")
     public ResponseEntity<ApiResponse<DocumentAnalysisResponse>> analyzeDocument(
             @RequestHeader(value = "X-Device-Id", required = false) String deviceUuid,
         @RequestParam("file") MultipartFile multipartFile,
@@ -39,21 +47,73 @@ public class AIController {
         Long userId = SecurityUtil.getCurrentUserIdOrNull();
 
         validateFileInput(multipartFile, fileType);
-
-        UploadFile file;
-        try {
-            file = new UploadFile(multipartFile.getOriginalFilename(), fileType,
-                multipartFile.getContentType(), multipartFile.getSize(),
-                multipartFile.getInputStream().readAllBytes());
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
+        UploadFile file = toUploadFile(multipartFile, fileType);
 
         DocumentAnalysisResponse response = documentAnalysisPipeline.analyze(file, userId, deviceUuid);
 
         return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
+    @PostMapping(value = "/analyze/stream", consumes = "multipart/form-data",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "가정통신문 분석 (스트리밍)", description = "가정통신문 분석 결과를 단계가 끝나는 대로 Server-Sent Events로 전송합니다. "
+        + "이벤트: extracted-text, classification, schedules, difficult-expressions, simplified-korean, translation, summary, complete, error")
+    public SseEmitter analyzeDocumentStream(
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceUuid,
+        @RequestParam("file") MultipartFile multipartFile,
+        @RequestParam("fileType") FileType fileType) {
+        Long userId = SecurityUtil.getCurrentUserIdOrNull();
+
+        validateFileInput(multipartFile, fileType);
+        // 요청 종료 후 multipart 임시 파일이 삭제되므로 비동기 처리 전에 바이트를 읽어둠
+        UploadFile file = toUploadFile(multipartFile, fileType);
+
+        return analysisStreamService.analyze(file, userId, deviceUuid);
+    }
+
+    @PostMapping("/analyze/{requestId}/resume")
+    @Operation(summary = "가정통신문 분석 이어서 실행", description = "실패한 분석을 완료된 단계부터 이어서 실행합니다. "
+        + "requestId는 실패한 분석 응답의 X-Request-Id 헤더 값이며, 한 번 이어서 실행한 요청은 다시 사용할 수 없습니다.")
+    public ResponseEntity<ApiResponse<DocumentAnalysisResponse>> resumeAnalysis(
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceUuid,
+        @PathVariable UUID requestId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrNull();
+
+        DocumentAnalysisResponse response = documentAnalysisPipeline.resume(requestId, userId,
+            deviceUuid);
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
+    @PostMapping(value = "/analyze/jobs", consumes = "multipart/form-data")
+    @Operation(summary = "가정통신문 분석 작업 등록", description = "분석 작업을 등록하고 작업 ID를 즉시 반환합니다. "
+        + "결과는 작업 조회 API로 확인하며, 로그인 사용자는 완료 시 푸시 알림을 받습니다.")
+    public ResponseEntity<ApiResponse<AnalysisJobResponse>> enqueueAnalysis(
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceUuid,
+        @RequestParam("file") MultipartFile multipartFile,
+        @RequestParam("fileType") FileType fileType) {
+        Long userId = SecurityUtil.getCurrentUserIdOrNull();
+
+        validateFileInput(multipartFile, fileType);
+        UploadFile file = toUploadFile(multipartFile, fileType);
+
+        AnalysisJobResponse response = analysisJobService.enqueue(file, userId, deviceUuid);
+
+        return ResponseEntity.accepted().body(ApiResponse.onSuccess(response));
+    }
+
+    @GetMapping("/analyze/jobs/{jobId}")
+    @Operation(summary = "가정통신문 분석 작업 조회", description = "분석 작업의 상태를 조회합니다. 완료된 작업은 분석 결과를 포함합니다.")
+    public ResponseEntity<ApiResponse<AnalysisJobResponse>> getAnalysisJob(
+            @RequestHeader(value = "X-Device-Id", required = false) String deviceUuid,
+        @PathVariable Long jobId) {
+        Long userId = SecurityUtil.getCurrentUserIdOrNull();
+
+        AnalysisJobResponse response = analysisJobService.getJob(jobId, userId, deviceUuid);
+
+        return ResponseEntity.ok(ApiResponse.onSuccess(response));
+    }
+
     @GetMapping("/history")
     @Operation(summary = "분석 내역 조회", description = "사용자의 최근 문서 분석 내역을 최대 10개까지 조회합니다.")
     public ResponseEntity<ApiResponse<AnalysisHistoryResponse>> getHistory(@RequestHeader(value = "X-Device-Id", required = false) String deviceUuid) {
@@ -61,6 +121,16 @@ public class AIController {
         return ResponseEntity.ok(ApiResponse.onSuccess(response));
     }
 
+    private UploadFile toUploadFile(MultipartFile multipartFile, FileType fileType) {
+        try {
+            return new UploadFile(multipartFile.getOriginalFilename(), fileType,
+                multipartFile.getContentType(), multipartFile.getSize(),
+                multipartFile.getInputStream().readAllBytes());
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private void validateFileInput(MultipartFile file, FileType fileType) {
         if (file == null || file.isEmpty()) {
             throw new GeneralException(ErrorStatus.FILE_EMPTY);
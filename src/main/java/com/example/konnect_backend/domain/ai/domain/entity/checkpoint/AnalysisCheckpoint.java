@@ -0,0 +1,54 @@
+package com.example.konnect_backend.domain.ai.domain.entity.checkpoint;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 파이프라인 단계 하나의 실행 결과입니다. (JSON)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "analysis_checkpoint", indexes = {
+    @Index(name = "idx_analysis_checkpoint_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_analysis_checkpoint_request_stage",
+        columnNames = {"request_uuid", "stage"})
+})
+public class AnalysisCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "request_uuid", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID requestUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private PipelineStage stage;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String payload;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    public AnalysisCheckpoint(UUID requestUuid, PipelineStage stage, String payload,
+                              LocalDateTime createdAt) {
+        this.requestUuid = requestUuid;
+        this.stage = stage;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+}
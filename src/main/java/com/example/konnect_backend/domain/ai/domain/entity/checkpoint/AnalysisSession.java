@@ -0,0 +1,99 @@
+package com.example.konnect_backend.domain.ai.domain.entity.checkpoint;
+
+import com.example.konnect_backend.domain.ai.type.AnalysisSessionStatus;
+import com.example.konnect_backend.domain.ai.type.FileType;
+import com.example.konnect_backend.domain.ai.type.TargetLanguage;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 문서 분석 요청 한 건의 메타데이터입니다. <br />
+ * 실패한 요청을 이어서 실행할 때 원본 파일 없이 응답과 내역을 만들 수 있도록 파일 정보를 보관합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "analysis_session", indexes = {
+    @Index(name = "idx_analysis_session_created_at", columnList = "created_at")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_analysis_session_request_uuid", columnNames = "request_uuid")
+})
+public class AnalysisSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "request_uuid", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID requestUuid;
+
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "resumed_from_uuid", columnDefinition = "BINARY(16)")
+    private UUID resumedFromUuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AnalysisSessionStatus status;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "device_uuid")
+    private String deviceUuid;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "file_type", nullable = false, length = 20)
+    private FileType fileType;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_language", nullable = false, length = 20)
+    private TargetLanguage targetLanguage;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    private AnalysisSession(UUID requestUuid, UUID resumedFromUuid, Long userId,
+                            String deviceUuid, String fileName, FileType fileType,
+                            String contentType, long fileSize, TargetLanguage targetLanguage,
+                            LocalDateTime createdAt) {
+        this.requestUuid = requestUuid;
+        this.resumedFromUuid = resumedFromUuid;
+        this.status = AnalysisSessionStatus.IN_PROGRESS;
+        this.userId = userId;
+        this.deviceUuid = deviceUuid;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.targetLanguage = targetLanguage;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    public void changeStatus(AnalysisSessionStatus status, LocalDateTime now) {
+        this.status = status;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.konnect_backend.domain.ai.domain.entity.job;
+
+import com.example.konnect_backend.domain.ai.type.AnalysisJobStatus;
+import com.example.konnect_backend.domain.ai.type.FileType;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 문서 분석 작업입니다. <br />
+ * 상태 전이(선점, 완료, 실패)는 여러 인스턴스가 동시에 접근하므로 리포지토리의 벌크 쿼리로만 수행합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "analysis_job", indexes = {
+    @Index(name = "idx_analysis_job_status_lease", columnList = "status, lease_expires_at"),
+    @Index(name = "idx_analysis_job_user", columnList = "user_id, created_at")
+})
+public class AnalysisJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AnalysisJobStatus status;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "device_uuid")
+    private String deviceUuid;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "file_type", nullable = false, length = 20)
+    private FileType fileType;
+
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size", nullable = false)
+    private long fileSize;
+
+    // 실행 시도마다 새로 발급되어 분석 요청 로그와 연결됨
+    @JdbcTypeCode(SqlTypes.BINARY)
+    @Column(name = "request_uuid", columnDefinition = "BINARY(16)")
+    private UUID requestUuid;
+
+    @Column(name = "analysis_id")
+    private Long analysisId;
+
+    @Lob
+    @Column(name = "result_json", columnDefinition = "MEDIUMTEXT")
+    private String resultJson;
+
+    @Column(name = "error_code", length = 50)
+    private String errorCode;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    @JsonFormat(timezone = "Asia/Seoul")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private AnalysisJob(AnalysisJobStatus status, Long userId, String deviceUuid, String fileName,
+                        FileType fileType, String contentType, long fileSize,
+                        LocalDateTime createdAt) {
+        this.status = status;
+        this.userId = userId;
+        this.deviceUuid = deviceUuid;
+        this.fileName = fileName;
+        this.fileType = fileType;
+        this.contentType = contentType;
+        this.fileSize = fileSize;
+        this.attempts = 0;
+        this.createdAt = createdAt;
+        this.updatedAt = createdAt;
+    }
+
+    public static AnalysisJob pending(Long userId, String deviceUuid, String fileName,
+                                      FileType fileType, String contentType, long fileSize,
+                                      LocalDateTime now) {
+        return AnalysisJob.builder().status(AnalysisJobStatus.PENDING).userId(userId)
+            .deviceUuid(deviceUuid).fileName(fileName).fileType(fileType)
+            .contentType(contentType).fileSize(fileSize).createdAt(now).build();
+    }
+
+    public boolean isFinished() {
+        return status == AnalysisJobStatus.SUCCEEDED || status == AnalysisJobStatus.FAILED;
+    }
+}
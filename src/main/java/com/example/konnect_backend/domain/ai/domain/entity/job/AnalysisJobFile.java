@@ -0,0 +1,30 @@
+package com.example.konnect_backend.domain.ai.domain.entity.job;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 작업의 업로드 원본입니다. <br />
+ * 상태 조회가 대용량 바이너리를 읽지 않도록 작업 테이블과 분리되어 있습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "analysis_job_file")
+public class AnalysisJobFile {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Lob
+    @Column(name = "data", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] data;
+
+    public AnalysisJobFile(Long jobId, byte[] data) {
+        this.jobId = jobId;
+        this.data = data;
+    }
+}
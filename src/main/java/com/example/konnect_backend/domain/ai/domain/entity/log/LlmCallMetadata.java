@@ -36,6 +36,10 @@ public class LlmCallMetadata {
     @Column(name = "output_tokens")
     private Integer outputTokens;
 
+    // input_tokens 중 컨텍스트 캐시에서 읽은 토큰 수
+    @Column(name = "cached_input_tokens")
+    private Integer cachedInputTokens;
+
     @Column(name = "latency_ms")
     private Integer latencyMs;
 
@@ -58,7 +62,8 @@ public class LlmCallMetadata {
 
     @Builder(access = AccessLevel.PRIVATE)
     public LlmCallMetadata(UUID requestUuid, String model, Integer maxTokens, Integer inputTokens,
-                           Integer outputTokens, Integer latencyMs, String status,
+                           Integer outputTokens, Integer cachedInputTokens, Integer latencyMs,
+                           String status,
                            Integer promptVersion, String promptModuleName, String finishReason,
                            LocalDateTime createdAt) {
         this.requestUuid = requestUuid;
@@ -66,6 +71,7 @@ public class LlmCallMetadata {
         this.maxTokens = maxTokens;
         this.inputTokens = inputTokens;
         this.outputTokens = outputTokens;
+        this.cachedInputTokens = cachedInputTokens;
         this.latencyMs = latencyMs;
         this.status = status;
         this.promptVersion = promptVersion;
@@ -75,11 +81,13 @@ public class LlmCallMetadata {
     }
 
     public static LlmCallMetadata succeed(UUID requestId, String model, int maxTokens, int inputTokens,
-                                          int outputTokens, int latency, int promptVersion,
+                                          int outputTokens, int cachedInputTokens, int latency,
+                                          int promptVersion,
                                           String promptModuleName, String finishReason,
                                           LocalDateTime logTime) {
         return LlmCallMetadata.builder().requestUuid(requestId).model(model).maxTokens(maxTokens)
-            .inputTokens(inputTokens).outputTokens(outputTokens).latencyMs(latency)
+            .inputTokens(inputTokens).outputTokens(outputTokens)
+            .cachedInputTokens(cachedInputTokens).latencyMs(latency)
             .status("SUCCESS").promptVersion(promptVersion).promptModuleName(promptModuleName)
             .finishReason(finishReason).createdAt(logTime).build();
     }
@@ -0,0 +1,65 @@
+package com.example.konnect_backend.domain.ai.domain.entity.ocr;
+
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.PageFingerprint;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.PageHash;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 페이지 이미지 지각 해시별 OCR 결과 <br />
+ * 인스턴스 간에 공유하는 OCR 결과 캐시의 2차 저장소입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ocr_page_text", indexes = {
+    @Index(name = "idx_ocr_page_text_created_at", columnList = "created_at")
+})
+public class OcrPageText {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long hash0;
+
+    @Column(nullable = false)
+    private long hash1;
+
+    @Column(nullable = false)
+    private long hash2;
+
+    @Column(nullable = false)
+    private long hash3;
+
+    // 후보 확인용 세부 해시 (PageFingerprint.detail, 1024비트)
+    @Column(nullable = false, length = 128)
+    private byte[] detail;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String text;
+
+    @Column(name = "created_at", updatable = false, nullable = false)
+    private LocalDateTime createdAt;
+
+    public OcrPageText(PageFingerprint fingerprint, String text, LocalDateTime createdAt) {
+        PageHash hash = fingerprint.hash();
+        this.hash0 = hash.hash0();
+        this.hash1 = hash.hash1();
+        this.hash2 = hash.hash2();
+        this.hash3 = hash.hash3();
+        this.detail = fingerprint.detail();
+        this.text = text;
+        this.createdAt = createdAt;
+    }
+
+    public PageHash getHash() {
+        return new PageHash(hash0, hash1, hash2, hash3);
+    }
+}
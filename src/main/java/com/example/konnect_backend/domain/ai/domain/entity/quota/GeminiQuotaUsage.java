@@ -0,0 +1,36 @@
+package com.example.konnect_backend.domain.ai.domain.entity.quota;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 모델 유형별 Gemini 일일 호출 수 <br />
+ * 모든 인스턴스가 이 행을 원자적으로 증가시켜 한도를 나눠 씁니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "gemini_quota_usage", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_gemini_quota_usage_date_model",
+        columnNames = {"quota_date", "model_type"})
+})
+public class GeminiQuotaUsage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 제공자(Gemini) 기준 날짜
+    @Column(name = "quota_date", nullable = false)
+    private LocalDate quotaDate;
+
+    @Column(name = "model_type", nullable = false, length = 20)
+    private String modelType;
+
+    @Column(nullable = false)
+    private int used;
+}
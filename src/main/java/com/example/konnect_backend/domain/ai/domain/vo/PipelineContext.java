@@ -1,8 +1,10 @@
 package com.example.konnect_backend.domain.ai.domain.vo;
 
+import com.example.konnect_backend.domain.ai.domain.entity.PromptTemplate;
 import com.example.konnect_backend.domain.ai.dto.internal.ClassificationResult;
 import com.example.konnect_backend.domain.ai.dto.internal.ExtractionResult;
 import com.example.konnect_backend.domain.ai.dto.response.DifficultExpressionDto;
+import com.example.konnect_backend.domain.ai.service.pipeline.PipelineEventListener;
 import com.example.konnect_backend.domain.ai.type.DocumentType;
 import com.example.konnect_backend.domain.ai.type.TargetLanguage;
 import lombok.AllArgsConstructor;
@@ -13,7 +15,10 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @Data
@@ -56,9 +61,21 @@ public class PipelineContext {
     @Builder.Default
     private PipelineStage completedStage = PipelineStage.NONE;
 
+    // 병렬로 완료되는 단계를 모두 기록 (completedStage는 마지막으로 끝난 단계만 남음)
+    @Builder.Default
+    private Set<PipelineStage> completedStages = ConcurrentHashMap.newKeySet();
+
+    // 요청 시작 시 고정한 모듈별 활성 프롬프트 (실행 중 활성화가 바뀌어도 일관되게 사용)
+    @Builder.Default
+    private Map<String, PromptTemplate> promptTemplates = Map.of();
+
     @Builder.Default
     private List<String> processingLogs = new ArrayList<>();
 
+    // 단계별 결과를 즉시 전달받을 리스너 (스트리밍 응답 등)
+    @Builder.Default
+    private PipelineEventListener eventListener = PipelineEventListener.NONE;
+
     public synchronized void addLog(String log) {
         if (processingLogs == null) {
             processingLogs = new ArrayList<>();
@@ -66,6 +83,24 @@ public class PipelineContext {
         processingLogs.add(LocalDateTime.now() + ": " + log);
     }
 
+    public void publishStageCompleted(PipelineStage stage) {
+        completedStages.add(stage);
+        eventListener.onStageCompleted(stage, this);
+    }
+
+    public void publishStageRestored(PipelineStage stage) {
+        completedStages.add(stage);
+        eventListener.onStageRestored(stage, this);
+    }
+
+    public boolean acceptsPartialResults() {
+        return eventListener.acceptsPartialResults();
+    }
+
+    public void publishPartialResult(PipelineStage stage, String chunk) {
+        eventListener.onPartialResult(stage, chunk);
+    }
+
     public void accTokenUsage(TokenUsage tokenUsage) {
         inputTokens.addAndGet(tokenUsage.inputTokens());
         outputTokens.addAndGet(tokenUsage.outputTokens());
@@ -1,4 +1,11 @@
 package com.example.konnect_backend.domain.ai.domain.vo;
 
-public record TokenUsage(int inputTokens, int outputTokens) {
+/**
+ * @param cachedInputTokens inputTokens 중 캐시된 컨텍스트(cachedContent)에서 읽은 토큰 수
+ */
+public record TokenUsage(int inputTokens, int outputTokens, int cachedInputTokens) {
+
+    public TokenUsage(int inputTokens, int outputTokens) {
+        this(inputTokens, outputTokens, 0);
+    }
 }
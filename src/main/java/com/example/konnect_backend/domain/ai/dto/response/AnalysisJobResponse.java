@@ -0,0 +1,51 @@
+package com.example.konnect_backend.domain.ai.dto.response;
+
+import com.example.konnect_backend.domain.ai.domain.entity.job.AnalysisJob;
+import com.example.konnect_backend.domain.ai.type.AnalysisJobStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AnalysisJobResponse {
+
+    private Long jobId;
+    private AnalysisJobStatus status;
+    private String originalFileName;
+
+    // 완료 시에만 포함
+    private DocumentAnalysisResponse result;
+
+    // 마지막 실행 시도의 요청 식별자, 실패 시 이어서 실행할 때 사용
+    private UUID requestId;
+
+    // 실패 시에만 포함
+    private String errorCode;
+    private String errorMessage;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime createdAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    private LocalDateTime finishedAt;
+
+    public static AnalysisJobResponse of(AnalysisJob job, DocumentAnalysisResponse result) {
+        return AnalysisJobResponse.builder()
+            .jobId(job.getId())
+            .status(job.getStatus())
+            .originalFileName(job.getFileName())
+            .result(result)
+            .requestId(job.getRequestUuid())
+            .errorCode(job.getErrorCode())
+            .errorMessage(job.getErrorMessage())
+            .createdAt(job.getCreatedAt())
+            .finishedAt(job.getFinishedAt())
+            .build();
+    }
+}
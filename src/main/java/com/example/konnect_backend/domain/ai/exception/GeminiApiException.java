@@ -0,0 +1,82 @@
+package com.example.konnect_backend.domain.ai.exception;
+
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+
+/**
+ * Gemini API 호출 실패 <br />
+ * 응답 상태 코드와 Retry-After를 보관하여 재시도 여부와 대기 시간을 판단할 수 있게 합니다.
+ */
+@Getter
+public class GeminiApiException extends DocumentAnalysisException {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final Set<Integer> TRANSIENT_STATUSES = Set.of(TOO_MANY_REQUESTS, 500, 502, 503, 504);
+
+    // 응답을 받지 못한 경우(연결, 읽기 실패) null
+    private final Integer statusCode;
+    private final Duration retryAfter;
+    private final boolean retryable;
+
+    private GeminiApiException(Integer statusCode, Duration retryAfter, boolean retryable) {
+        super(ErrorStatus.AI_SERVICE_UNAVAILABLE);
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+        this.retryable = retryable;
+    }
+
+    public static GeminiApiException from(Exception e) {
+        if (e instanceof GeminiApiException geminiApiException) {
+            return geminiApiException;
+        }
+        if (e instanceof HttpStatusCodeException statusCodeException) {
+            int status = statusCodeException.getStatusCode().value();
+            return new GeminiApiException(status,
+                parseRetryAfter(statusCodeException.getResponseHeaders()),
+                TRANSIENT_STATUSES.contains(status));
+        }
+        // 연결 실패, 읽기 시간 초과 등 I/O 오류
+        if (e instanceof ResourceAccessException) {
+            return new GeminiApiException(null, null, true);
+        }
+        return new GeminiApiException(null, null, false);
+    }
+
+    // 이미 일부 결과를 전달한 스트리밍 호출처럼 다시 보내면 안 되는 경우
+    public GeminiApiException nonRetryable() {
+        return retryable ? new GeminiApiException(statusCode, retryAfter, false) : this;
+    }
+
+    public boolean isRateLimited() {
+        return statusCode != null && statusCode == TOO_MANY_REQUESTS;
+    }
+
+    // Retry-After는 초 단위 정수 또는 HTTP-date 형식
+    private static Duration parseRetryAfter(HttpHeaders headers) {
+        String value = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignored) {
+            // HTTP-date 형식 시도
+        }
+        try {
+            Duration wait = Duration.between(ZonedDateTime.now(),
+                ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME));
+            return wait.isNegative() ? Duration.ZERO : wait;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 읽는 내용의 앞부분을 최대 maxBytes까지 보관하는 입력 스트림 <br />
+ * 응답을 스트리밍으로 파싱하면서도 디버그 로그에 남길 본문 일부를 얻기 위해 사용합니다.
+ */
+class CapturingInputStream extends FilterInputStream {
+
+    private final byte[] captured;
+    private int capturedLength;
+    private long totalBytes;
+
+    CapturingInputStream(InputStream in, int maxBytes) {
+        super(in);
+        this.captured = new byte[maxBytes];
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            if (capturedLength < captured.length) {
+                captured[capturedLength++] = (byte) b;
+            }
+            totalBytes++;
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = super.read(b, off, len);
+        if (n > 0) {
+            int copy = Math.min(n, captured.length - capturedLength);
+            if (copy > 0) {
+                System.arraycopy(b, off, captured, capturedLength, copy);
+                capturedLength += copy;
+            }
+            totalBytes += n;
+        }
+        return n;
+    }
+
+    // 잘린 경우 전체 크기를 덧붙임 (마지막 글자가 깨질 수 있음)
+    String captured() {
+        String head = new String(captured, 0, capturedLength, StandardCharsets.UTF_8);
+        return totalBytes > capturedLength
+            ? head + "...(" + totalBytes + " bytes)" : head;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Gemini 호출을 모델 자원별로 격리하는 벌크헤드
+ *
+ * ## 자원
+ * - PRIMARY: gemini-2.0-flash 텍스트 호출
+ * - LITE: gemini-2.0-flash-lite 텍스트 호출
+ * - OCR: 이미지 입력 호출 (Vision OCR)
+ *
+ * 한 자원이 포화되어도 다른 자원의 호출은 영향을 받지 않습니다. <br />
+ * 제한 시간 안에 자리를 얻지 못하면 AI_SERVICE_BUSY로 실패시켜 과부하를 호출자에게 드러냅니다.
+ */
+@Component
+@Slf4j
+public class GeminiBulkhead {
+
+    private static final String AVAILABLE_GAUGE = "ai.gemini.bulkhead.available";
+    private static final String REJECTED_COUNTER = "ai.gemini.bulkhead.rejected";
+
+    public enum Resource {
+        PRIMARY, LITE, OCR
+    }
+
+    private final GeminiConfig config;
+    private final MeterRegistry meterRegistry;
+    private final Duration acquireTimeout;
+    private final Map<Resource, Semaphore> permits = new EnumMap<>(Resource.class);
+
+    public GeminiBulkhead(GeminiConfig config, MeterRegistry meterRegistry) {
+        this.config = config;
+        this.meterRegistry = meterRegistry;
+        this.acquireTimeout = config.getBulkhead().getAcquireTimeout();
+
+        GeminiConfig.Bulkhead limits = config.getBulkhead();
+        register(Resource.PRIMARY, limits.getPrimary());
+        register(Resource.LITE, limits.getLite());
+        register(Resource.OCR, limits.getOcr());
+    }
+
+    /**
+     * 호출할 모델과 이미지 포함 여부로 자원을 정합니다. <br />
+     * Lite 모델이 아니면 Primary로 취급하므로 관리자 화면의 임의 모델 호출도 Primary 자원을 사용합니다.
+     */
+    public Resource resolve(String model, boolean hasImage) {
+        if (hasImage) {
+            return Resource.OCR;
+        }
+        return config.getModel().getLite().equals(model) ? Resource.LITE : Resource.PRIMARY;
+    }
+
+    public <T> T execute(Resource resource, Supplier<T> call) {
+        Semaphore semaphore = permits.get(resource);
+        acquire(resource, semaphore);
+        try {
+            return call.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    private void acquire(Resource resource, Semaphore semaphore) {
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_BUSY);
+        }
+
+        if (!acquired) {
+            log.warn("Gemini 벌크헤드 포화: resource={}, timeout={}", resource, acquireTimeout);
+            Counter.builder(REJECTED_COUNTER)
+                .tag("resource", resource.name())
+                .register(meterRegistry)
+                .increment();
+            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_BUSY);
+        }
+    }
+
+    private void register(Resource resource, int maxConcurrent) {
+        Semaphore semaphore = new Semaphore(maxConcurrent, true);
+        permits.put(resource, semaphore);
+        Gauge.builder(AVAILABLE_GAUGE, semaphore, Semaphore::availablePermits)
+            .tag("resource", resource.name())
+            .register(meterRegistry);
+    }
+}
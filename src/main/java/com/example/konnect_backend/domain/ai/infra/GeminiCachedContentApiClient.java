@@ -0,0 +1,76 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.exception.GeminiApiException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Gemini cachedContents API 클라이언트
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GeminiCachedContentApiClient implements GeminiCachedContentClient {
+
+    private final GeminiConfig config;
+    private final RestTemplate geminiRestTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public CachedContent create(String model, String text, Duration ttl) {
+        String url = String.format("%s/cachedContents?key=%s",
+            config.getApi().getBaseUrl(),
+            config.getApi().getKey());
+        CreateRequest body = new CreateRequest("models/" + model,
+            List.of(GeminiRequest.Content.user(List.of(GeminiRequest.Part.text(text)))),
+            ttl.toSeconds() + "s");
+
+        try {
+            JsonNode response = geminiRestTemplate.execute(url, HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    objectMapper.writeValue(StreamUtils.nonClosing(request.getBody()), body);
+                },
+                res -> objectMapper.readTree(res.getBody()));
+
+            String name = response == null ? null : response.path("name").asText(null);
+            if (name == null) {
+                throw new IllegalStateException("cachedContents 응답에 name이 없음");
+            }
+            String expireTime = response.path("expireTime").asText(null);
+            return new CachedContent(name,
+                expireTime != null ? Instant.parse(expireTime) : Instant.now().plus(ttl));
+        } catch (Exception e) {
+            throw GeminiApiException.from(e);
+        }
+    }
+
+    @Override
+    public void delete(String name) {
+        String url = String.format("%s/%s?key=%s",
+            config.getApi().getBaseUrl(),
+            name,
+            config.getApi().getKey());
+
+        try {
+            geminiRestTemplate.delete(url);
+        } catch (Exception e) {
+            log.warn("Gemini 컨텍스트 캐시 삭제 실패 (TTL로 만료됨): name={}, error={}", name, e.getMessage());
+        }
+    }
+
+    private record CreateRequest(String model, List<GeminiRequest.Content> contents, String ttl) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Gemini 컨텍스트 캐시(cachedContents) 생성, 삭제
+ */
+public interface GeminiCachedContentClient {
+
+    /**
+     * text를 model용 캐시로 만들고 생성된 캐시를 반환합니다.
+     *
+     * @param ttl 서버에서 보관할 시간
+     */
+    CachedContent create(String model, String text, Duration ttl);
+
+    void delete(String name);
+
+    /**
+     * @param name       요청의 cachedContent에 넣는 이름 (cachedContents/...)
+     * @param expireTime 서버에서 만료되는 시각
+     */
+    record CachedContent(String name, Instant expireTime) {
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 실행 중인 작업(파이프라인 노드 등)의 마감 시각 <br />
+ * Gemini 재시도는 남은 시간 안에서만 수행되어, 호출자가 이미 포기한 요청을 계속 재시도하지 않습니다.
+ */
+public final class GeminiCallDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private GeminiCallDeadline() {
+    }
+
+    public static void runWithin(Duration timeout, Runnable task) {
+        runUntil(System.nanoTime() + timeout.toNanos(), task);
+    }
+
+    public static void runUntil(long deadlineNanos, Runnable task) {
+        Long previous = DEADLINE_NANOS.get();
+        // 바깥 작업의 마감이 더 이르면 그대로 유지
+        DEADLINE_NANOS.set(previous == null ? deadlineNanos : Math.min(previous, deadlineNanos));
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 마감을 다른 스레드(OCR 실행기 등)로 넘길 때 사용합니다.
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> supplier) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return supplier;
+        }
+        return () -> {
+            Object[] result = new Object[1];
+            runUntil(deadline, () -> result[0] = supplier.get());
+            @SuppressWarnings("unchecked")
+            T value = (T) result[0];
+            return value;
+        };
+    }
+
+    /**
+     * 앞 단계의 결과를 받아 다른 스레드에서 이어 실행하는 작업(thenApplyAsync 등)에 현재 스레드의 마감을 넘깁니다.
+     */
+    public static <T, R> Function<T, R> propagate(Function<T, R> function) {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return function;
+        }
+        return value -> {
+            Object[] result = new Object[1];
+            runUntil(deadline, () -> result[0] = function.apply(value));
+            @SuppressWarnings("unchecked")
+            R applied = (R) result[0];
+            return applied;
+        };
+    }
+
+    // 마감이 없으면 empty, 이미 지났으면 Duration.ZERO
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        long remaining = deadline - System.nanoTime();
+        return Optional.of(remaining <= 0 ? Duration.ZERO : Duration.ofNanos(remaining));
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.aop.PromptContext;
+import com.example.konnect_backend.domain.ai.aop.PromptContextHolder;
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.service.prompt.management.PromptActivatedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 프롬프트 템플릿 고정 부분의 Gemini 컨텍스트 캐시
+ * <p>
+ * 모듈 프롬프트는 지시문(고정 부분) 뒤에 문서 내용 등 변수가 이어지는 구조이므로,
+ * 고정 부분을 cachedContents로 한 번 만들어 두고 요청마다 변수 부분만 보냅니다.
+ * <p>
+ * ## 키 구성
+ * - 모듈명, 프롬프트 버전 (LlmLoggingAspect가 PromptContextHolder에 저장한 값)
+ * - 모델 (캐시는 모델별로 만들어야 함)
+ * <p>
+ * ## 갱신, 무효화
+ * - 서버 만료(ttl)보다 refresh-margin만큼 먼저 로컬 항목을 만료시켜 다음 요청이 새 캐시를 만듦
+ * - 프롬프트 활성화 시 해당 모듈의 캐시를 제거하고 서버에서도 삭제
+ * - 캐시를 사용한 요청이 4xx로 실패하면(서버에서 먼저 만료 등) 해당 캐시를 제거
+ * - 생성에 실패한 고정 부분은 failure-backoff 동안 캐시 없이 보냄
+ * <p>
+ * ## 생성
+ * - 원격 생성 호출은 Caffeine 계산 밖, 처음 조회한 요청의 스레드에서 실행 (같은 bin의 다른 조회를 막지 않음)
+ * - 생성 중인 키를 조회한 다른 요청은 기다리지 않고 캐시 없이 보냄
+ * - GeminiService가 넘긴 Creator로 호출하여 한도 대기, 재시도, 서킷 브레이커를 일반 호출과 같이 적용
+ */
+@Component
+@Slf4j
+public class GeminiContextCache {
+
+    private final GeminiConfig.Cache settings;
+    private final GeminiCachedContentClient client;
+    private final AsyncCache<Key, Entry> entries;
+
+    public GeminiContextCache(GeminiConfig config, GeminiCachedContentClient client) {
+        this.settings = config.getCache();
+        this.client = client;
+        this.entries = Caffeine.newBuilder()
+            .maximumSize(100)
+            .expireAfter(new EntryExpiry())
+            .buildAsync();
+    }
+
+    public Optional<CachedPrompt> lookup(String model, String prompt) {
+        return lookup(model, prompt, Creator.DIRECT);
+    }
+
+    /**
+     * 현재 프롬프트 모듈의 고정 부분 캐시를 찾거나 만듭니다. <br />
+     * 프롬프트 모듈 밖의 호출, 고정 부분이 짧은 템플릿, 캐시 생성 실패, 다른 요청이 생성 중인 경우에는 빈 값을 반환합니다.
+     *
+     * @param prompt  고정 부분과 변수 부분이 합쳐진 전체 프롬프트
+     * @param creator 캐시가 없을 때 생성 요청을 보내는 방법
+     */
+    public Optional<CachedPrompt> lookup(String model, String prompt, Creator creator) {
+        PromptContext context = PromptContextHolder.get();
+        if (!settings.isEnabled() || context == null || context.staticPrefix() == null) {
+            return Optional.empty();
+        }
+
+        String prefix = context.staticPrefix();
+        // 변수 부분이 없으면 contents가 비므로 캐시를 사용할 수 없음
+        if (prompt.length() <= prefix.length() || !prompt.startsWith(prefix)
+            || GeminiRateLimitService.estimateTokens(prefix, false) < settings.getMinPrefixTokens()) {
+            return Optional.empty();
+        }
+
+        Key key = new Key(context.moduleName(), context.promptVersion(), model);
+        CompletableFuture<Entry> pending = entries.getIfPresent(key);
+        if (pending == null) {
+            CompletableFuture<Entry> creating = new CompletableFuture<>();
+            pending = entries.asMap().putIfAbsent(key, creating);
+            if (pending == null) {
+                pending = creating;
+                complete(creating, key, prefix, creator);
+            }
+        }
+
+        Entry entry = pending.getNow(null);
+        if (entry == null || entry.name() == null || !entry.prefix().equals(prefix)) {
+            return Optional.empty();
+        }
+        return Optional.of(new CachedPrompt(entry.name(), prompt.substring(prefix.length())));
+    }
+
+    // 서버에서 찾을 수 없는 캐시를 버림 (다음 조회 시 다시 생성)
+    public void evict(CachedPrompt cachedPrompt) {
+        entries.asMap().values().removeIf(pending -> {
+            Entry entry = pending.getNow(null);
+            return entry != null && cachedPrompt.name().equals(entry.name());
+        });
+    }
+
+    /**
+     * 활성화 트랜잭션이 커밋된 뒤 해당 모듈의 이전 버전 캐시를 제거하고 서버에서도 삭제합니다. <br />
+     * 만료로 제거된 항목은 서버에 refresh-margin만큼 남아 있다가 스스로 만료되므로 삭제하지 않습니다.
+     */
+    @TransactionalEventListener
+    public void onPromptActivated(PromptActivatedEvent event) {
+        entries.asMap().forEach((key, pending) -> {
+            if (key.moduleName().equals(event.moduleName()) && entries.asMap().remove(key, pending)) {
+                // 생성 중이던 캐시는 생성이 끝난 뒤 삭제
+                pending.thenAccept(entry -> {
+                    if (entry.name() != null) {
+                        client.delete(entry.name());
+                        log.info("프롬프트 활성화로 Gemini 컨텍스트 캐시 삭제: module={}, version={}, name={}",
+                            event.moduleName(), key.promptVersion(), entry.name());
+                    }
+                });
+            }
+        });
+    }
+
+    private void complete(CompletableFuture<Entry> creating, Key key, String prefix, Creator creator) {
+        try {
+            creating.complete(create(key, prefix, creator));
+        } catch (RuntimeException | Error e) {
+            // 실패한 future는 캐시에서 제거되어 다음 조회가 다시 생성함
+            creating.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Entry create(Key key, String prefix, Creator creator) {
+        try {
+            GeminiCachedContentClient.CachedContent created = creator.create(key.model(), prefix,
+                () -> client.create(key.model(), prefix, settings.getTtl()));
+            log.info("Gemini 컨텍스트 캐시 생성: module={}, version={}, model={}, name={}",
+                key.moduleName(), key.promptVersion(), key.model(), created.name());
+            return new Entry(prefix, created.name(), created.expireTime());
+        } catch (Exception e) {
+            log.warn("Gemini 컨텍스트 캐시 생성 실패, 캐시 없이 호출: module={}, model={}, error={}",
+                key.moduleName(), key.model(), e.getMessage());
+            return new Entry(prefix, null, Instant.now().plus(settings.getFailureBackoff()));
+        }
+    }
+
+    /**
+     * 캐시 생성 요청을 보내는 방법 <br />
+     * GeminiService는 요청을 한도 대기와 재시도로 감싸서 보냅니다. (서킷 브레이커 허가는 캐시를 조회한 호출의 것을 씀)
+     */
+    @FunctionalInterface
+    public interface Creator {
+
+        Creator DIRECT = (model, prefix, request) -> request.get();
+
+        /**
+         * @param prefix  캐시로 만들 고정 부분 (토큰 수 추정용)
+         * @param request 생성 요청을 한 번 보내는 호출
+         */
+        GeminiCachedContentClient.CachedContent create(String model, String prefix,
+                                                       Supplier<GeminiCachedContentClient.CachedContent> request);
+    }
+
+    /**
+     * @param name         요청의 cachedContent
+     * @param variablePart 고정 부분을 제외한 나머지 프롬프트
+     */
+    public record CachedPrompt(String name, String variablePart) {
+    }
+
+    private record Key(String moduleName, Integer promptVersion, String model) {
+    }
+
+    // name이 null이면 캐시를 만들지 못한 고정 부분
+    private record Entry(String prefix, String name, Instant expireTime) {
+    }
+
+    private class EntryExpiry implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry entry, long currentTime) {
+            Instant localExpiry = entry.name() == null
+                ? entry.expireTime() : entry.expireTime().minus(settings.getRefreshMargin());
+            return Math.max(0, Duration.between(Instant.now(), localExpiry).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry entry, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, entry, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
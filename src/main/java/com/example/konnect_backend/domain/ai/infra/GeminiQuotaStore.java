@@ -0,0 +1,74 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.domain.entity.quota.GeminiQuotaUsage;
+import com.example.konnect_backend.domain.ai.repository.GeminiQuotaUsageRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+/**
+ * 인스턴스 간에 공유되는 Gemini 일일 호출 수 저장소 (DB) <br />
+ * 한도 검사와 증가를 하나의 UPDATE로 처리하므로 여러 인스턴스가 동시에 예약해도 한도를 넘지 않습니다.
+ * <p>
+ * 예약과 기록은 호출한 쪽(분석 트랜잭션 등)과 관계없이 별도 트랜잭션으로 바로 커밋합니다.
+ * 분석 트랜잭션에 참여하면 분석이 끝날 때까지 (날짜, 모델) 행 잠금이 유지되어 모든 인스턴스의 예약이 줄을 서고,
+ * 분석이 롤백되면 이 인스턴스가 메모리에 받아 둔 예약분까지 되돌려져 공유 호출 수가 실제보다 적어집니다.
+ */
+@Component
+public class GeminiQuotaStore {
+
+    private final GeminiQuotaUsageRepository repository;
+    private final TransactionTemplate requiresNew;
+
+    public GeminiQuotaStore(GeminiQuotaUsageRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 한도 안에서 최대 amount만큼 예약하고 예약한 수를 반환합니다. <br />
+     * 남은 양이 amount보다 적으면 1개만 시도하며, 한도에 도달했으면 0을 반환합니다.
+     */
+    public int reserve(LocalDate quotaDate, String modelType, int amount, int limit) {
+        Integer reserved = requiresNew.execute(status -> {
+            ensureRow(quotaDate, modelType);
+
+            if (repository.increaseIfUnderLimit(quotaDate, modelType, amount, limit) > 0) {
+                return amount;
+            }
+            if (amount > 1 && repository.increaseIfUnderLimit(quotaDate, modelType, 1, limit) > 0) {
+                return 1;
+            }
+            return 0;
+        });
+        return reserved != null ? reserved : 0;
+    }
+
+    /**
+     * 한도와 관계없이 더합니다. 이미 수행된 호출을 기록하거나(양수), 쓰지 않은 예약을 반납할 때(음수) 사용합니다.
+     */
+    public void add(LocalDate quotaDate, String modelType, int amount) {
+        requiresNew.executeWithoutResult(status -> {
+            ensureRow(quotaDate, modelType);
+            repository.increase(quotaDate, modelType, amount);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public int getUsed(LocalDate quotaDate, String modelType) {
+        return repository.findByQuotaDateAndModelType(quotaDate, modelType)
+            .map(GeminiQuotaUsage::getUsed)
+            .orElse(0);
+    }
+
+    private void ensureRow(LocalDate quotaDate, String modelType) {
+        if (repository.findByQuotaDateAndModelType(quotaDate, modelType).isEmpty()) {
+            repository.insertIfAbsent(quotaDate, modelType);
+        }
+    }
+}
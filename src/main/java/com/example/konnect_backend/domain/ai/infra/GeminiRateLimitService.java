@@ -1,14 +1,25 @@
 package com.example.konnect_backend.domain.ai.infra;
 
 import com.example.konnect_backend.domain.ai.config.GeminiConfig;
-import com.github.benmanes.caffeine.cache.Cache;
-import com.github.benmanes.caffeine.cache.Caffeine;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Gemini API 호출 제한 관리 서비스
@@ -16,9 +27,17 @@ import java.util.concurrent.atomic.AtomicInteger;
  * ## 일일 호출 제한 (RPD: Requests Per Day)
  * - gemini-2.0-flash (primary): 200회/일
  * - gemini-2.0-flash-lite (lite): 1,000회/일
+ * - 호출 수는 DB(GeminiQuotaStore)에 저장되어 모든 인스턴스가 한도를 나눠 씀
+ * - 인스턴스는 lease-size개씩 미리 예약(lease)해 두고 호출마다 DB에 접근하지 않음
+ * - 날짜는 제공자가 한도를 초기화하는 시간대(reset-zone, 기본 태평양 시간) 기준
+ *
+ * ## 분당 제한 (RPM: Requests Per Minute, TPM: Tokens Per Minute)
+ * - 모델별로 요청 수와 토큰 수 토큰 버킷을 두고, 호출(재시도 포함) 전에 admit으로 자리를 예약
+ * - 토큰은 호출 전 프롬프트 길이로 추정하고, 호출 후 UsageMetadata의 실제 사용량으로 보정
+ * - 버킷이 비어 있으면 예약 순서대로 잠시 기다리며, admission-timeout을 넘기면 AI_SERVICE_BUSY
  *
  * ## 전략
- * 1. 캐시로 일일 호출 횟수 추적 (자정에 리셋)
+ * 1. 공유 저장소로 일일 호출 횟수 추적 (제공자 기준 자정에 리셋)
  * 2. Primary 모델 제한 도달 시 Lite 모델로 폴백
  * 3. 모든 제한 도달 시 예외 발생
  */
@@ -26,33 +45,107 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 public class GeminiRateLimitService {
 
+    private static final String AVAILABLE_GAUGE = "ai.gemini.ratelimit.available";
+    private static final String REJECTED_COUNTER = "ai.gemini.ratelimit.rejected";
+
+    // 토큰 수 추정용 (한국어는 더 적은 글자로 토큰이 되지만 호출 후 실제 사용량으로 보정됨)
+    private static final int CHARS_PER_TOKEN = 4;
+    // 이미지 한 장의 입력 토큰 (Gemini 기준 258)
+    private static final int IMAGE_TOKENS = 258;
+
     private final GeminiConfig config;
+    private final MeterRegistry meterRegistry;
+    private final GeminiQuotaStore quotaStore;
+    private final ZoneId resetZone;
 
-    // 일일 호출 카운터 캐시 (24시간 후 만료)
-    private final Cache<String, AtomicInteger> dailyCounterCache;
+    // 모델 유형별로 DB에서 미리 예약해 둔 일일 호출 수
+    private final Map<ModelType, AtomicReference<Lease>> leases = new EnumMap<>(ModelType.class);
+    private final Map<ModelType, MinuteLimit> minuteLimits = new EnumMap<>(ModelType.class);
 
-    public GeminiRateLimitService(GeminiConfig config) {
+    public GeminiRateLimitService(GeminiConfig config, MeterRegistry meterRegistry,
+                                  GeminiQuotaStore quotaStore) {
         this.config = config;
-        this.dailyCounterCache = Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofHours(24))
-                .maximumSize(10)
-                .build();
+        this.meterRegistry = meterRegistry;
+        this.quotaStore = quotaStore;
+        this.resetZone = ZoneId.of(config.getLimit().getResetZone());
+
+        GeminiConfig.Limit limit = config.getLimit();
+        register(ModelType.PRIMARY, limit.getPrimary().getRpm(), limit.getPrimary().getTpm());
+        register(ModelType.LITE, limit.getLite().getRpm(), limit.getLite().getTpm());
+        for (ModelType type : ModelType.values()) {
+            leases.put(type, new AtomicReference<>(new Lease(today())));
+        }
+    }
+
+    /**
+     * 호출 전 추정 토큰 수 (입력 기준)
+     */
+    public static int estimateTokens(String prompt, boolean hasImage) {
+        return estimateTokens(prompt, hasImage ? 1 : 0);
+    }
+
+    public static int estimateTokens(String prompt, int imageCount) {
+        int textTokens = prompt == null ? 0 : prompt.length() / CHARS_PER_TOKEN + 1;
+        return textTokens + imageCount * IMAGE_TOKENS;
+    }
+
+    /**
+     * 분당 요청 수와 토큰 수에 여유가 생길 때까지 기다린 뒤 자리를 예약합니다. <br />
+     * 대기 시간은 admission-timeout과 현재 작업의 남은 마감 시간 중 짧은 쪽을 넘지 않습니다.
+     *
+     * @param estimatedTokens estimateTokens로 구한 추정 토큰 수, 호출 후 recordTokenUsage로 보정
+     */
+    public void admit(String modelName, int estimatedTokens) {
+        ModelType type = getModelType(modelName);
+        MinuteLimit limit = minuteLimits.get(type);
+        long maxWaitNanos = maxAdmissionWait().toNanos();
+
+        long waitNanos;
+        synchronized (limit) {
+            long now = System.nanoTime();
+            waitNanos = Math.max(limit.requests().waitNanos(1, now),
+                limit.tokens().waitNanos(estimatedTokens, now));
+            if (waitNanos > maxWaitNanos) {
+                reject(type, waitNanos);
+            }
+            limit.requests().take(1, now);
+            limit.tokens().take(estimatedTokens, now);
+        }
+
+        if (waitNanos > 0) {
+            log.debug("Gemini 분당 제한 대기: model={}, wait={}ms", modelName,
+                TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_BUSY);
+            }
+        }
+    }
+
+    /**
+     * 예약한 추정 토큰 수를 실제 사용량(입력 + 출력)으로 보정합니다.
+     */
+    public void recordTokenUsage(String modelName, int estimatedTokens, int actualTokens) {
+        MinuteLimit limit = minuteLimits.get(getModelType(modelName));
+        synchronized (limit) {
+            limit.tokens().adjust(actualTokens - estimatedTokens, System.nanoTime());
+        }
     }
 
     /**
      * Primary 모델 호출 가능 여부 확인
      */
     public boolean canUsePrimaryModel() {
-        int count = getCurrentCount(ModelType.PRIMARY);
-        return count < config.getLimit().getPrimary().getRpd();
+        return hasDailyQuota(ModelType.PRIMARY);
     }
 
     /**
      * Lite 모델 호출 가능 여부 확인
      */
     public boolean canUseLiteModel() {
-        int count = getCurrentCount(ModelType.LITE);
-        return count < config.getLimit().getLite().getRpd();
+        return hasDailyQuota(ModelType.LITE);
     }
 
     /**
@@ -92,15 +185,20 @@ public class GeminiRateLimitService {
      */
     public void recordUsage(String modelName) {
         ModelType type = getModelType(modelName);
-        incrementCount(type);
-        log.debug("Gemini API 호출 기록: model={}, 일일횟수={}/{}",
-                modelName,
-                getCurrentCount(type),
-                type == ModelType.PRIMARY ? config.getLimit().getPrimary().getRpd() : config.getLimit().getLite().getRpd());
+        Lease lease = currentLease(type);
+        if (!lease.tryConsume()) {
+            // 확인 후 다른 스레드가 예약분을 먼저 써버린 경우, 이미 수행된 호출이므로 한도와 관계없이 기록
+            try {
+                quotaStore.add(lease.quotaDate, type.name(), 1);
+            } catch (DataAccessException e) {
+                log.warn("Gemini 일일 호출 수 기록 실패: model={}, error={}", modelName, e.getMessage());
+            }
+        }
+        log.debug("Gemini API 호출 기록: model={}, 남은 예약={}", modelName, lease.remaining.get());
     }
 
     /**
-     * 현재 사용량 조회
+     * 현재 사용량 조회 (이 인스턴스가 예약만 하고 아직 쓰지 않은 수는 제외)
      */
     public UsageStatus getUsageStatus() {
         int primaryCount = getCurrentCount(ModelType.PRIMARY);
@@ -114,20 +212,124 @@ public class GeminiRateLimitService {
         );
     }
 
-    private int getCurrentCount(ModelType type) {
-        String key = getCacheKey(type);
-        AtomicInteger counter = dailyCounterCache.getIfPresent(key);
-        return counter != null ? counter.get() : 0;
+    private Duration maxAdmissionWait() {
+        Duration timeout = config.getLimit().getAdmissionTimeout();
+        Optional<Duration> remaining = GeminiCallDeadline.remaining();
+        return remaining.isPresent() && remaining.get().compareTo(timeout) < 0
+            ? remaining.get() : timeout;
     }
 
-    private void incrementCount(ModelType type) {
-        String key = getCacheKey(type);
-        AtomicInteger counter = dailyCounterCache.get(key, k -> new AtomicInteger(0));
-        counter.incrementAndGet();
+    private void reject(ModelType type, long waitNanos) {
+        log.warn("Gemini 분당 제한 대기 시간 초과: model={}, 필요 대기={}ms", type,
+            TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        Counter.builder(REJECTED_COUNTER)
+            .tag("model", type.name())
+            .register(meterRegistry)
+            .increment();
+        throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_BUSY);
     }
 
-    private String getCacheKey(ModelType type) {
-        return type.name() + "_" + LocalDate.now().toString();
+    private void register(ModelType type, int rpm, int tpm) {
+        long now = System.nanoTime();
+        MinuteLimit limit = new MinuteLimit(new GeminiTokenBucket(rpm, now),
+            new GeminiTokenBucket(tpm, now));
+        minuteLimits.put(type, limit);
+        registerGauge(type, "rpm", limit, limit.requests());
+        registerGauge(type, "tpm", limit, limit.tokens());
+    }
+
+    private void registerGauge(ModelType type, String kind, MinuteLimit limit,
+                               GeminiTokenBucket bucket) {
+        Gauge.builder(AVAILABLE_GAUGE, limit, l -> {
+                synchronized (l) {
+                    return bucket.available(System.nanoTime());
+                }
+            })
+            .tag("model", type.name())
+            .tag("limit", kind)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시 쓰지 않은 예약을 반납하여 다른 인스턴스가 쓸 수 있게 합니다.
+     */
+    @PreDestroy
+    public void releaseLeases() {
+        leases.forEach((type, ref) -> {
+            Lease lease = ref.get();
+            int unused = lease.remaining.getAndSet(0);
+            if (unused > 0 && lease.quotaDate.equals(today())) {
+                try {
+                    quotaStore.add(lease.quotaDate, type.name(), -unused);
+                } catch (DataAccessException e) {
+                    log.warn("Gemini 일일 호출 예약 반납 실패: type={}, unused={}", type, unused);
+                }
+            }
+        });
+    }
+
+    /**
+     * 예약분이 남아 있으면 DB에 접근하지 않고, 없으면 lease-size개를 새로 예약합니다. <br />
+     * 한도에 도달한 날은 다시 조회하지 않으며, DB 장애 시에는 분석이 멈추지 않도록 호출을 허용합니다.
+     */
+    private boolean hasDailyQuota(ModelType type) {
+        Lease lease = currentLease(type);
+        if (lease.remaining.get() > 0) {
+            return true;
+        }
+        if (lease.exhausted) {
+            return false;
+        }
+
+        synchronized (lease) {
+            if (lease.remaining.get() > 0) {
+                return true;
+            }
+            if (lease.exhausted) {
+                return false;
+            }
+            try {
+                int granted = quotaStore.reserve(lease.quotaDate, type.name(),
+                    config.getLimit().getLeaseSize(), getDailyLimit(type));
+                if (granted == 0) {
+                    log.warn("Gemini 일일 호출 제한 도달: type={}, date={}", type, lease.quotaDate);
+                    lease.exhausted = true;
+                    return false;
+                }
+                lease.remaining.addAndGet(granted);
+                return true;
+            } catch (DataAccessException e) {
+                log.warn("Gemini 일일 호출 수 예약 실패, 호출 허용: type={}, error={}", type,
+                    e.getMessage());
+                return true;
+            }
+        }
+    }
+
+    // 제공자 기준 날짜가 바뀌면 새 예약으로 교체 (이전 날짜의 예약은 의미가 없으므로 버림)
+    private Lease currentLease(ModelType type) {
+        AtomicReference<Lease> ref = leases.get(type);
+        LocalDate today = today();
+        Lease lease = ref.get();
+        if (lease.quotaDate.equals(today)) {
+            return lease;
+        }
+        Lease fresh = new Lease(today);
+        return ref.compareAndSet(lease, fresh) ? fresh : ref.get();
+    }
+
+    private LocalDate today() {
+        return LocalDate.now(resetZone);
+    }
+
+    private int getDailyLimit(ModelType type) {
+        return type == ModelType.PRIMARY
+            ? config.getLimit().getPrimary().getRpd() : config.getLimit().getLite().getRpd();
+    }
+
+    private int getCurrentCount(ModelType type) {
+        Lease lease = currentLease(type);
+        return quotaStore.getUsed(lease.quotaDate, type.name()) - lease.remaining.get();
     }
 
     private ModelType getModelType(String modelName) {
@@ -141,6 +343,31 @@ public class GeminiRateLimitService {
         PRIMARY, LITE
     }
 
+    private static class Lease {
+        private final LocalDate quotaDate;
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile boolean exhausted;
+
+        private Lease(LocalDate quotaDate) {
+            this.quotaDate = quotaDate;
+        }
+
+        private boolean tryConsume() {
+            int current;
+            do {
+                current = remaining.get();
+                if (current <= 0) {
+                    return false;
+                }
+            } while (!remaining.compareAndSet(current, current - 1));
+            return true;
+        }
+    }
+
+    // 모델별 분당 요청 수, 토큰 수 버킷 (두 버킷은 함께 잠금)
+    private record MinuteLimit(GeminiTokenBucket requests, GeminiTokenBucket tokens) {
+    }
+
     public record UsageStatus(
             int primaryUsed,
             int primaryLimit,
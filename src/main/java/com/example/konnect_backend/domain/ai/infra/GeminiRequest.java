@@ -0,0 +1,63 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * generateContent / streamGenerateContent 요청 본문
+ *
+ * 이미지 바이트는 byte[]로 보관하며, Jackson이 직렬화할 때 출력 스트림에 바로 Base64로 인코딩합니다. <br />
+ * RestTemplate이 요청 본문을 스트리밍으로 쓰므로 페이지마다 수 MB의 Base64 문자열이나 Map 트리를 만들지 않습니다. <br />
+ * cachedContent가 있으면 캐시된 고정 프롬프트 뒤에 contents가 이어지므로 contents에는 변수 부분만 담습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record GeminiRequest(String cachedContent, List<Content> contents, GenerationConfig generationConfig) {
+
+    private static final double TOP_P = 0.95;
+    private static final int TOP_K = 40;
+
+    static GeminiRequest of(String prompt, InlineData image, double temperature, int maxTokens) {
+        return withImages(prompt, image == null ? List.of() : List.of(image), temperature, maxTokens);
+    }
+
+    // 이미지는 프롬프트 뒤에 주어진 순서대로 inlineData 파트로 붙음
+    static GeminiRequest withImages(String prompt, List<InlineData> images, double temperature,
+                                    int maxTokens) {
+        List<Part> parts = new ArrayList<>(images.size() + 1);
+        parts.add(Part.text(prompt));
+        images.forEach(image -> parts.add(new Part(null, image)));
+        return new GeminiRequest(null, List.of(Content.user(parts)),
+            new GenerationConfig(temperature, maxTokens, TOP_P, TOP_K));
+    }
+
+    // cachedContent: GeminiCachedContentClient가 만든 캐시 이름 (cachedContents/...)
+    static GeminiRequest cached(String cachedContent, String variablePart, double temperature,
+                                int maxTokens) {
+        return new GeminiRequest(cachedContent, List.of(Content.user(List.of(Part.text(variablePart)))),
+            new GenerationConfig(temperature, maxTokens, TOP_P, TOP_K));
+    }
+
+    record Content(String role, List<Part> parts) {
+
+        static Content user(List<Part> parts) {
+            return new Content("user", parts);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    record Part(String text, InlineData inlineData) {
+
+        static Part text(String text) {
+            return new Part(text, null);
+        }
+    }
+
+    // data는 Base64(패딩 포함, 줄바꿈 없음)로 직렬화됨
+    record InlineData(String mimeType, byte[] data) {
+    }
+
+    record GenerationConfig(double temperature, int maxOutputTokens, double topP, int topK) {
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 요청의 전체 마감 시간을 적용하는 HttpClient 실행 체인 핸들러 <br />
+ * 소켓 읽기 제한 시간은 바이트가 조금씩 도착하면 계속 연장되므로, 요청 전송부터 응답 헤더 수신까지를 별도로 제한합니다. <br />
+ * 마감 시간이 지나면 요청을 취소하여 커넥션을 닫고, 호출 스레드는 I/O 예외로 즉시 반환됩니다.
+ */
+@Slf4j
+public class GeminiRequestDeadlineHandler implements ExecChainHandler, DisposableBean {
+
+    // HttpContext에 요청별 마감 시간(Duration)을 담는 속성 이름
+    public static final String DEADLINE_ATTRIBUTE = "gemini.deadline";
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+        runnable -> {
+            Thread thread = new Thread(runnable, "gemini-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    @Override
+    public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope,
+                                       ExecChain chain) throws IOException, HttpException {
+        Duration deadline = (Duration) scope.clientContext.getAttribute(DEADLINE_ATTRIBUTE);
+        if (deadline == null || !(scope.originalRequest instanceof Cancellable cancellable)) {
+            return chain.proceed(request, scope);
+        }
+
+        ScheduledFuture<?> timer = scheduler.schedule(() -> {
+            log.warn("Gemini 요청 마감 시간 초과로 취소: uri={}, deadline={}",
+                scope.originalRequest.getRequestUri(), deadline);
+            cancellable.cancel();
+        }, deadline.toMillis(), TimeUnit.MILLISECONDS);
+        try {
+            return chain.proceed(request, scope);
+        } finally {
+            timer.cancel(false);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * GenerateContentResponse를 스트리밍으로 읽어 사용하는 필드만 꺼냅니다.
+ *
+ * ## 읽는 필드
+ * - candidates[0].content.parts[].text (여러 파트면 이어 붙임)
+ * - candidates[0].finishReason
+ * - modelVersion
+ * - usageMetadata.promptTokenCount, candidatesTokenCount, cachedContentTokenCount
+ *
+ * 응답 전체를 문자열이나 객체 트리로 만들지 않으며, 안전성 평가, 인용 정보 등 나머지 필드는 건너뜁니다.
+ */
+final class GeminiResponseParser {
+
+    record ParsedResponse(String text, String finishReason, String modelVersion, TokenUsage usage) {
+    }
+
+    private String text;
+    private StringBuilder multiPartText;
+    private String finishReason;
+    private String modelVersion;
+    private TokenUsage usage;
+
+    private GeminiResponseParser() {
+    }
+
+    static ParsedResponse parse(JsonFactory jsonFactory, InputStream body) throws IOException {
+        GeminiResponseParser reader = new GeminiResponseParser();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return reader.read(parser);
+        }
+    }
+
+    static ParsedResponse parse(JsonFactory jsonFactory, String body) throws IOException {
+        GeminiResponseParser reader = new GeminiResponseParser();
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            return reader.read(parser);
+        }
+    }
+
+    private ParsedResponse read(JsonParser parser) throws IOException {
+        expect(parser.nextToken(), JsonToken.START_OBJECT, parser);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "candidates" -> readCandidates(parser);
+                case "usageMetadata" -> readUsage(parser);
+                case "modelVersion" -> modelVersion = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        String fullText = multiPartText != null ? multiPartText.toString() : text;
+        return new ParsedResponse(fullText, finishReason, modelVersion, usage);
+    }
+
+    private void readCandidates(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return;
+        }
+        boolean first = true;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (first && parser.currentToken() == JsonToken.START_OBJECT) {
+                readCandidate(parser);
+            } else {
+                parser.skipChildren();
+            }
+            first = false;
+        }
+    }
+
+    private void readCandidate(JsonParser parser) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "content" -> readContent(parser);
+                case "finishReason" -> finishReason = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+    }
+
+    private void readContent(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("parts".equals(field) && parser.currentToken() == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    readPart(parser);
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private void readPart(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("text".equals(field)) {
+                appendText(parser.getValueAsString());
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // 파트가 하나면 문자열을 그대로 사용하고, 둘 이상일 때만 이어 붙임
+    private void appendText(String part) {
+        if (part == null) {
+            return;
+        }
+        if (text == null) {
+            text = part;
+            return;
+        }
+        if (multiPartText == null) {
+            multiPartText = new StringBuilder(text);
+        }
+        multiPartText.append(part);
+    }
+
+    private void readUsage(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        int promptTokens = 0;
+        int candidatesTokens = 0;
+        int cachedTokens = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "promptTokenCount" -> promptTokens = parser.getValueAsInt();
+                case "candidatesTokenCount" -> candidatesTokens = parser.getValueAsInt();
+                case "cachedContentTokenCount" -> cachedTokens = parser.getValueAsInt();
+                default -> parser.skipChildren();
+            }
+        }
+        usage = new TokenUsage(promptTokens, candidatesTokens, cachedTokens);
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected, JsonParser parser)
+        throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser,
+                "Gemini 응답 형식 오류: " + expected + " 대신 " + actual);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.exception.GeminiApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gemini 일시 오류 재시도 정책
+ *
+ * ## 재시도 대상
+ * - 429, 500, 502, 503, 504 응답
+ * - 연결 실패, 읽기 시간 초과
+ *
+ * ## 대기 시간
+ * - 지수 백오프에 full jitter 적용: random(0, min(max-backoff, initial-backoff * multiplier^(n-1)))
+ * - Retry-After 헤더가 있으면 그 값을 우선
+ * - 다른 모델로 전환하는 경우 대기하지 않음
+ *
+ * ## 재시도 예산
+ * 성공 한 번마다 budget-ratio만큼 토큰이 쌓이고 재시도 한 번에 토큰 하나를 사용합니다. <br />
+ * 장애가 길어지면 예산이 바닥나 재시도가 멈추므로 재시도가 장애 중인 API에 부하를 더하지 않습니다.
+ */
+@Component
+@Slf4j
+public class GeminiRetryPolicy {
+
+    private static final String RETRY_COUNTER = "ai.gemini.retry";
+    // 토큰을 정수로 다루기 위한 배율
+    private static final long TOKEN_SCALE = 1000;
+
+    private final GeminiConfig.Retry config;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong budget;
+    private final long maxBudget;
+    private final long depositPerSuccess;
+
+    public GeminiRetryPolicy(GeminiConfig config, MeterRegistry meterRegistry) {
+        this.config = config.getRetry();
+        this.meterRegistry = meterRegistry;
+        this.maxBudget = this.config.getBudgetMaxTokens() * TOKEN_SCALE;
+        this.depositPerSuccess = Math.round(this.config.getBudgetRatio() * TOKEN_SCALE);
+        this.budget = new AtomicLong(maxBudget);
+    }
+
+    public void recordSuccess() {
+        budget.accumulateAndGet(depositPerSuccess, (current, deposit) -> Math.min(maxBudget, current + deposit));
+    }
+
+    /**
+     * 실패한 시도 다음에 다시 시도할지 정하고, 다시 시도한다면 대기 시간을 반환합니다.
+     *
+     * @param attempt        방금 실패한 시도 번호 (1부터)
+     * @param switchingModel 다음 시도가 다른 모델로 전환하는 경우 true
+     * @return 재시도하지 않으면 empty
+     */
+    public Optional<Duration> nextDelay(GeminiApiException e, int attempt, boolean switchingModel) {
+        if (!e.isRetryable() || attempt >= config.getMaxAttempts()) {
+            return Optional.empty();
+        }
+
+        Duration delay = switchingModel ? Duration.ZERO : backoff(attempt, e.getRetryAfter());
+        Optional<Duration> remaining = GeminiCallDeadline.remaining();
+        if (remaining.isPresent() && remaining.get().compareTo(delay) <= 0) {
+            log.warn("남은 시간 부족으로 Gemini 재시도 중단: remaining={}, delay={}", remaining.get(), delay);
+            count("deadline_exceeded");
+            return Optional.empty();
+        }
+        if (!tryWithdraw()) {
+            log.warn("Gemini 재시도 예산 소진: status={}", e.getStatusCode());
+            count("budget_exhausted");
+            return Optional.empty();
+        }
+
+        count(switchingModel ? "fallback" : "retry");
+        return Optional.of(delay);
+    }
+
+    private Duration backoff(int attempt, Duration retryAfter) {
+        if (retryAfter != null) {
+            return retryAfter;
+        }
+        double exponential = config.getInitialBackoff().toMillis()
+            * Math.pow(config.getMultiplier(), attempt - 1);
+        long cap = (long) Math.min(config.getMaxBackoff().toMillis(), exponential);
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    private boolean tryWithdraw() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < TOKEN_SCALE) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - TOKEN_SCALE));
+        return true;
+    }
+
+    private void count(String outcome) {
+        Counter.builder(RETRY_COUNTER)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment();
+    }
+}
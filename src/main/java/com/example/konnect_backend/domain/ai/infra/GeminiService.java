@@ -4,19 +4,28 @@ import com.example.konnect_backend.domain.ai.config.GeminiConfig;
 import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
 import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
 import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.domain.ai.exception.GeminiApiException;
 import com.example.konnect_backend.global.code.status.ErrorStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.OffsetDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Gemini API 통합 서비스
@@ -27,9 +36,15 @@ import java.util.Map;
  * <p>
  * ## 주요 기능
  * 1. 텍스트 생성 (generateContent)
- * 2. 이미지 분석 (generateContentWithImage) - Vision
+ * 2. 이미지 분석 (generateContentWithImage, generateContentWithImages) - Vision
  * 3. 자동 모델 선택 및 폴백
  * 4. 호출 횟수 추적
+ * 5. 모델 자원별 동시 호출 수 제한 (GeminiBulkhead)
+ * 6. 스트리밍 텍스트 생성 (streamContent) - 생성되는 대로 조각 전달
+ * 7. 일시 오류 재시도 (GeminiRetryPolicy) 및 429 시 Lite 모델 폴백
+ * 8. LLM 장애 시 즉시 실패 (LlmHealthTracker 서킷 브레이커)
+ * 9. 분당 요청 수, 토큰 수 한도 대기 (GeminiRateLimitService)
+ * 10. 프롬프트 템플릿 고정 부분 컨텍스트 캐시 (GeminiContextCache)
  */
 @Component
 @RequiredArgsConstructor
@@ -37,13 +52,15 @@ import java.util.Map;
 public class GeminiService {
 
     private final GeminiConfig config;
-    // Todo 카페인 캐시는 쓰는 순간부터 24시간이 지나가므로 매일 정확히 0시에 value를 0으로 쓰지 않는 이상 정확하지 않음
     private final GeminiRateLimitService rateLimitService;
     private final RestTemplate geminiRestTemplate;
     private final ObjectMapper objectMapper;
 
     private final DiscordWebhookService discordService;
     private final LlmHealthTracker tracker;
+    private final GeminiBulkhead bulkhead;
+    private final GeminiRetryPolicy retryPolicy;
+    private final GeminiContextCache contextCache;
 
     /**
      * 텍스트 생성 (모델 선호도 지정)
@@ -55,6 +72,16 @@ public class GeminiService {
      */
     public GeminiCallResult generateContent(String prompt, double temperature, int maxTokens,
                                             boolean preferPrimary) {
+        return generateContent(prompt, temperature, maxTokens, preferPrimary, false);
+    }
+
+    /**
+     * 텍스트 생성 (모델 선호도, 폴백 허용 여부 지정)
+     *
+     * @param allowFallback true: Primary 모델이 429를 반환하면 Lite 모델로 다시 시도
+     */
+    public GeminiCallResult generateContent(String prompt, double temperature, int maxTokens,
+                                            boolean preferPrimary, boolean allowFallback) {
         String model = rateLimitService.getAvailableModel(preferPrimary);
 
         if (model == null) {
@@ -62,7 +89,10 @@ public class GeminiService {
             throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
         }
 
-        return callGeminiApi(model, prompt, null, temperature, maxTokens);
+        String fallbackModel = allowFallback && rateLimitService.canUseLiteModel()
+            ? config.getModel().getLite() : null;
+        return callWithRetry(model, fallbackModel,
+            attemptModel -> callGeminiApi(attemptModel, prompt, List.of(), temperature, maxTokens));
     }
 
     /**
@@ -78,13 +108,25 @@ public class GeminiService {
      * 이미지 분석 (Vision 모델)
      * OCR, 이미지 내 텍스트 추출
      *
-     * @param prompt      프롬프트
-     * @param imageBase64 Base64 인코딩된 이미지
-     * @param mimeType    이미지 MIME 타입 (image/jpeg, image/png 등)
+     * @param prompt     프롬프트
+     * @param imageBytes 이미지 원본 바이트 (요청 본문을 쓸 때 Base64로 인코딩됨)
+     * @param mimeType   이미지 MIME 타입 (image/jpeg, image/png 등)
      */
-    public GeminiCallResult generateContentWithImage(String prompt, String imageBase64,
+    public GeminiCallResult generateContentWithImage(String prompt, byte[] imageBytes,
                                                      String mimeType,
                                                      double temperature, int maxTokens) {
+        return generateContentWithImages(prompt,
+            List.of(new GeminiRequest.InlineData(mimeType, imageBytes)), temperature, maxTokens);
+    }
+
+    /**
+     * 여러 이미지 분석 (Vision 모델) <br />
+     * 이미지를 한 요청의 inlineData 파트로 함께 보내므로 이미지 수와 관계없이 한 번의 호출(RPD 1회)로 처리됩니다.
+     *
+     * @param images 프롬프트 뒤에 순서대로 붙일 이미지 (application/pdf 등 inlineData로 보낼 수 있는 파일 포함)
+     */
+    public GeminiCallResult generateContentWithImages(String prompt, List<GeminiRequest.InlineData> images,
+                                                      double temperature, int maxTokens) {
         String model = rateLimitService.getVisionModel();
 
         if (model == null) {
@@ -92,146 +134,313 @@ public class GeminiService {
             throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
         }
 
-        return callGeminiApi(model, prompt, new ImageData(imageBase64, mimeType), temperature,
-            maxTokens);
+        return callWithRetry(model, null,
+            attemptModel -> callGeminiApi(attemptModel, prompt, images, temperature, maxTokens));
     }
 
     public GeminiCallResult call(String model, String prompt, double temperature, int maxTokens) {
-        return callGeminiApi(model, prompt, null, temperature, maxTokens);
+        return callWithRetry(model, null,
+            attemptModel -> callGeminiApi(attemptModel, prompt, List.of(), temperature, maxTokens));
+    }
+
+    /**
+     * 스트리밍 텍스트 생성 (streamGenerateContent) <br />
+     * 응답 전체를 기다리지 않고 생성된 텍스트 조각을 도착하는 대로 onChunk에 전달합니다.
+     * 반환값은 전체 텍스트와 최종 토큰 사용량을 담으므로 일반 호출과 동일하게 기록됩니다.
+     *
+     * 조각을 하나라도 전달한 뒤의 실패는 중복 전달을 막기 위해 재시도하지 않습니다.
+     *
+     * @param onChunk 텍스트 조각마다 호출 스레드에서 실행되며, 예외는 무시됨
+     */
+    public GeminiCallResult streamContent(String prompt, double temperature, int maxTokens,
+                                          boolean preferPrimary, Consumer<String> onChunk) {
+        String model = rateLimitService.getAvailableModel(preferPrimary);
+
+        if (model == null) {
+            log.error("사용 가능한 Gemini 모델이 없습니다 (일일 제한 도달)");
+            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
+        }
+
+        AtomicBoolean delivered = new AtomicBoolean(false);
+        Consumer<String> trackingOnChunk = chunk -> {
+            delivered.set(true);
+            onChunk.accept(chunk);
+        };
+        return callWithRetry(model, null, attemptModel -> admitted(attemptModel, prompt, 0,
+            () -> withContextCache(attemptModel, prompt, temperature, maxTokens,
+                requestBody -> bulkhead.execute(bulkhead.resolve(attemptModel, false),
+                    () -> doStreamGeminiApi(attemptModel, requestBody, prompt.length(),
+                        maxTokens, trackingOnChunk, delivered)))));
+    }
+
+    /**
+     * 서킷 브레이커 허가를 받아 호출하고, 재시도를 마친 최종 결과를 LLM 상태 추적에 한 번만 기록합니다. <br />
+     * 벌크헤드 대기로 인한 실패는 LLM 장애가 아니므로 기록하지 않습니다. <br />
+     * LLM 장애(DEGRADED) 중에는 시간 초과를 기다리지 않고 즉시 실패하며, 허용된 probe 호출만 보냅니다.
+     * 결과를 기록하지 않고 끝난 probe는 허가를 돌려주어 다음 probe가 open-duration을 다시 기다리지 않게 합니다.
+     */
+    private <T> T callWithRetry(String model, String fallbackModel, Function<String, T> attempt) {
+        if (!tracker.tryAcquirePermission()) {
+            log.warn("LLM 장애 상태로 Gemini 호출 차단: model={}", model);
+            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
+        }
+
+        // 벌크헤드, 한도 대기 거절처럼 결과를 기록하지 않고 끝나면 probe 허가를 돌려줌
+        boolean healthRecorded = false;
+        try {
+            T result = retry(model, fallbackModel, attempt);
+            healthRecorded = true;
+            recordHealth(true);
+            return result;
+        } catch (GeminiApiException e) {
+            healthRecorded = true;
+            recordHealth(false);
+            throw e;
+        } finally {
+            if (!healthRecorded) {
+                tracker.releasePermission();
+            }
+        }
     }
 
     /**
-     * Gemini API 호출
+     * 일시 오류를 재시도 정책에 따라 다시 시도합니다. <br />
+     * fallbackModel이 있으면 429 응답 시 대기 없이 그 모델로 전환합니다. <br />
+     * 재시도할 수 없거나 대기 중 인터럽트되면 마지막 GeminiApiException을 던집니다.
      */
-    private GeminiCallResult callGeminiApi(String model, String prompt, ImageData imageData,
+    private <T> T retry(String model, String fallbackModel, Function<String, T> attempt) {
+        String currentModel = model;
+        for (int attemptNo = 1; ; attemptNo++) {
+            try {
+                T result = attempt.apply(currentModel);
+                retryPolicy.recordSuccess();
+                return result;
+            } catch (GeminiApiException e) {
+                boolean switchingModel = e.isRateLimited() && fallbackModel != null
+                    && !fallbackModel.equals(currentModel);
+                Optional<Duration> delay = retryPolicy.nextDelay(e, attemptNo, switchingModel);
+                if (delay.isEmpty()) {
+                    throw e;
+                }
+
+                log.warn("Gemini 호출 재시도: model={}, status={}, attempt={}, delay={}ms, fallback={}",
+                    currentModel, e.getStatusCode(), attemptNo, delay.get().toMillis(),
+                    switchingModel ? fallbackModel : "-");
+                if (switchingModel) {
+                    currentModel = fallbackModel;
+                }
+                if (!sleep(delay.get())) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private boolean sleep(Duration delay) {
+        if (delay.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Gemini API 호출 (시도 1회)
+     */
+    private GeminiCallResult callGeminiApi(String model, String prompt,
+                                           List<GeminiRequest.InlineData> images,
                                            double temperature, int maxTokens) {
-        boolean success = false;
+        GeminiBulkhead.Resource resource = bulkhead.resolve(model, !images.isEmpty());
+        return admitted(model, prompt, images.size(), () -> !images.isEmpty()
+            ? bulkhead.execute(resource, () -> doCallGeminiApi(model,
+                GeminiRequest.withImages(prompt, images, temperature, maxTokens), prompt.length(), maxTokens))
+            : withContextCache(model, prompt, temperature, maxTokens,
+                requestBody -> bulkhead.execute(resource,
+                    () -> doCallGeminiApi(model, requestBody, prompt.length(), maxTokens))));
+    }
 
+    /**
+     * 프롬프트 모듈의 고정 부분 캐시가 있으면 변수 부분만 담은 요청으로 호출합니다. <br />
+     * 캐시를 사용한 요청이 4xx로 실패하면(서버에서 먼저 만료, 삭제 등) 캐시를 버리고 전체 프롬프트로 한 번 더 보냅니다. <br />
+     * 캐시 생성 호출이 벌크헤드 자리를 차지하지 않도록 벌크헤드 진입 전에 조회하며, call 안에서 벌크헤드에 들어가야 합니다.
+     */
+    private GeminiCallResult withContextCache(String model, String prompt, double temperature,
+                                              int maxTokens,
+                                              Function<GeminiRequest, GeminiCallResult> call) {
+        Optional<GeminiContextCache.CachedPrompt> cached = contextCache.lookup(model, prompt,
+            this::createCachedContent);
+        if (cached.isPresent()) {
+            try {
+                return call.apply(GeminiRequest.cached(cached.get().name(),
+                    cached.get().variablePart(), temperature, maxTokens));
+            } catch (GeminiApiException e) {
+                if (!isClientError(e)) {
+                    throw e;
+                }
+                log.warn("컨텍스트 캐시 요청 실패, 전체 프롬프트로 재요청: model={}, cache={}, status={}",
+                    model, cached.get().name(), e.getStatusCode());
+                contextCache.evict(cached.get());
+            }
+        }
+        return call.apply(GeminiRequest.of(prompt, null, temperature, maxTokens));
+    }
+
+    /**
+     * 컨텍스트 캐시 생성 요청을 분당 한도 대기와 재시도를 거쳐 보냅니다. <br />
+     * 생성은 이미 서킷 브레이커 허가를 받은 호출 안에서 일어나므로 허가를 따로 받거나 LLM 상태에 기록하지 않습니다.
+     * (probe 호출 하나가 허가를 두 개 쓰거나, 캐시 생성 성공이 회복 판정에 더해지지 않도록)
+     */
+    private GeminiCachedContentClient.CachedContent createCachedContent(
+        String model, String prefix, Supplier<GeminiCachedContentClient.CachedContent> request) {
+        return retry(model, null, attemptModel -> {
+            rateLimitService.admit(attemptModel, GeminiRateLimitService.estimateTokens(prefix, 0));
+            return request.get();
+        });
+    }
+
+    private boolean isClientError(GeminiApiException e) {
+        return e.getStatusCode() != null && e.getStatusCode() >= 400 && e.getStatusCode() < 500
+            && !e.isRateLimited();
+    }
+
+    /**
+     * 분당 요청 수, 토큰 수 한도 안에서 호출합니다. <br />
+     * 한도 대기는 벌크헤드 자리를 차지하지 않도록 벌크헤드 진입 전에 하고,
+     * 호출 후 추정 토큰 수를 실제 사용량으로 보정합니다.
+     */
+    private GeminiCallResult admitted(String model, String prompt, int imageCount,
+                                      Supplier<GeminiCallResult> call) {
+        int estimatedTokens = GeminiRateLimitService.estimateTokens(prompt, imageCount);
+        rateLimitService.admit(model, estimatedTokens);
+        GeminiCallResult result = call.get();
+        TokenUsage usage = result.tokenUsage();
+        rateLimitService.recordTokenUsage(model, estimatedTokens,
+            usage.inputTokens() + usage.outputTokens());
+        return result;
+    }
+
+    private GeminiCallResult doCallGeminiApi(String model, GeminiRequest requestBody,
+                                             int promptLength, int maxTokens) {
         String url = String.format("%s/models/%s:generateContent?key=%s",
             config.getApi().getBaseUrl(),
             model,
             config.getApi().getKey());
 
         try {
-            // 요청 본문 구성
-            Map<String, Object> requestBody = buildRequestBody(prompt, imageData, temperature,
-                maxTokens);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
+            // 요청 본문은 소켓에 바로 직렬화
+            log.debug("Gemini API 호출: model={}, promptLength={}, cachedContent={}", model,
+                promptLength, requestBody.cachedContent());
 
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            log.debug("Gemini API 호출: model={}, promptLength={}", model, prompt.length());
-
-            ResponseEntity<String> response = geminiRestTemplate.exchange(
-                url,
+            // 응답 파싱 (본문을 문자열로 모으지 않고 필요한 필드만 읽음)
+            GeminiResponseParser.ParsedResponse parsed = geminiRestTemplate.execute(url,
                 HttpMethod.POST,
-                entity,
-                String.class
-            );
-
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                log.error("Gemini API 오류: status={}, body={}", response.getStatusCode(),
-                    response.getBody());
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    writeBody(request, requestBody);
+                },
+                response -> parseResponse(model, response.getBody()));
+
+            if (parsed == null || parsed.text() == null || parsed.usage() == null) {
+                log.error("Gemini 응답에 텍스트 또는 토큰 사용량이 없음: model={}, finishReason={}", model,
+                    parsed == null ? null : parsed.finishReason());
                 throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
             }
-
-            // 응답 파싱
-            GeminiResponse geminiResponse = parseResponse(response.getBody());
-            String modelRawResponse = geminiResponse.getCandidates().get(0).getContent().getParts()
-                .get(0)
-                .getText();
-            long inputTokens = geminiResponse.getUsageMetadata().getPromptTokenCount();
-            long outputTokens = geminiResponse.getUsageMetadata().getCandidatesTokenCount();
-            String usedModel = geminiResponse.getModelVersion();
-            String finishReason = geminiResponse.getCandidates().get(0).getFinishReason();
-            GeminiCallResult result = new GeminiCallResult(modelRawResponse,
-                new TokenUsage((int) inputTokens, (int) outputTokens), maxTokens, usedModel,
-                finishReason);
+            String usedModel = parsed.modelVersion();
+            GeminiCallResult result = new GeminiCallResult(parsed.text(), parsed.usage(), maxTokens,
+                usedModel, parsed.finishReason());
 
             // 호출 기록
             rateLimitService.recordUsage(usedModel);
 
             log.debug("Gemini API 응답 완료: model={}, responseLength={}", model,
                 result.response().length());
-            success = true;
 
             return result;
         } catch (Exception e) {
             log.error("Gemini API 호출 실패: model={}, error={}", model, e.getMessage(), e);
-            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
-        } finally {
-            LlmHealthTracker.StateChange change = tracker.recordAndCheck(success);
-
-            // 이벤트로 분리하는 것도 가능
-            if (change == LlmHealthTracker.StateChange.DOWN) {
-                log.error("LLM 장애 발생 확인 - 시각: {}", OffsetDateTime.now());
-                discordService.notifyStateChange(true);
-            } else if (change == LlmHealthTracker.StateChange.UP) {
-                log.info("LLM 장애 복구 확인 - 시각: {}", OffsetDateTime.now());
-                discordService.notifyStateChange(false);
-            }
+            throw GeminiApiException.from(e);
         }
     }
 
-    /**
-     * 요청 본문 구성
-     */
-    private Map<String, Object> buildRequestBody(String prompt, ImageData imageData,
-                                                 double temperature, int maxTokens) {
-        Map<String, Object> requestBody = new HashMap<>();
-
-        // contents 구성
-        List<Map<String, Object>> contents = new ArrayList<>();
-        Map<String, Object> content = new HashMap<>();
-        List<Map<String, Object>> parts = new ArrayList<>();
-
-        // 텍스트 파트
-        Map<String, Object> textPart = new HashMap<>();
-        textPart.put("text", prompt);
-        parts.add(textPart);
-
-        // 이미지 파트 (Vision인 경우)
-        if (imageData != null) {
-            Map<String, Object> imagePart = new HashMap<>();
-            Map<String, Object> inlineData = new HashMap<>();
-            inlineData.put("mimeType", imageData.mimeType());
-            inlineData.put("data", imageData.base64Data());
-            imagePart.put("inlineData", inlineData);
-            parts.add(imagePart);
-        }
+    private GeminiCallResult doStreamGeminiApi(String model, GeminiRequest requestBody,
+                                               int promptLength, int maxTokens,
+                                               Consumer<String> onChunk, AtomicBoolean delivered) {
+        String url = String.format("%s/models/%s:streamGenerateContent?alt=sse&key=%s",
+            config.getApi().getBaseUrl(),
+            model,
+            config.getApi().getKey());
 
-        content.put("parts", parts);
-        contents.add(content);
-        requestBody.put("contents", contents);
+        try {
+            log.debug("Gemini 스트리밍 API 호출: model={}, promptLength={}, cachedContent={}", model,
+                promptLength, requestBody.cachedContent());
+
+            GeminiCallResult result = geminiRestTemplate.execute(url, HttpMethod.POST,
+                request -> {
+                    request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+                    request.getHeaders().setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+                    writeBody(request, requestBody);
+                },
+                response -> new GeminiStreamReader(objectMapper, onChunk)
+                    .read(response.getBody(), maxTokens));
 
-        // generationConfig 구성
-        Map<String, Object> generationConfig = new HashMap<>();
-        generationConfig.put("temperature", temperature);
-        generationConfig.put("maxOutputTokens", maxTokens);
-        generationConfig.put("topP", 0.95);
-        generationConfig.put("topK", 40);
-        requestBody.put("generationConfig", generationConfig);
+            // 호출 기록
+            rateLimitService.recordUsage(result.model());
 
-        return requestBody;
-    }
+            log.debug("Gemini 스트리밍 API 응답 완료: model={}, responseLength={}", model,
+                result.response().length());
 
-    private GeminiResponse parseResponse(String responseBody) {
-        try {
-            log.debug(responseBody);
-            return objectMapper.readValue(responseBody, GeminiResponse.class);
-        } catch (DocumentAnalysisException e) {
-            throw e;
+            return result;
         } catch (Exception e) {
-            log.error("Gemini 응답 파싱 실패: {}", e.getMessage(), e);
-            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
+            log.error("Gemini 스트리밍 API 호출 실패: model={}, error={}", model, e.getMessage(), e);
+            GeminiApiException failure = GeminiApiException.from(e);
+            throw delivered.get() ? failure.nonRetryable() : failure;
+        }
+    }
+
+    private void recordHealth(boolean success) {
+        LlmHealthTracker.StateChange change = tracker.recordAndCheck(success);
+
+        // 이벤트로 분리하는 것도 가능
+        if (change == LlmHealthTracker.StateChange.DOWN) {
+            log.error("LLM 장애 발생 확인 - 시각: {}", OffsetDateTime.now());
+            discordService.notifyStateChange(true);
+        } else if (change == LlmHealthTracker.StateChange.UP) {
+            log.info("LLM 장애 복구 확인 - 시각: {}", OffsetDateTime.now());
+            discordService.notifyStateChange(false);
+        }
+    }
+
+    // 스트리밍을 지원하는 요청이면 본문을 메모리에 모으지 않고 소켓에 바로 씀
+    private void writeBody(ClientHttpRequest request, GeminiRequest body) throws IOException {
+        if (request instanceof StreamingHttpOutputMessage streaming) {
+            streaming.setBody(out -> objectMapper.writeValue(StreamUtils.nonClosing(out), body));
+        } else {
+            objectMapper.writeValue(StreamUtils.nonClosing(request.getBody()), body);
         }
     }
 
     /**
-     * 이미지 데이터 레코드
+     * 응답 본문 파싱 <br />
+     * 디버그 로그가 켜져 있으면 response-sample-rate 비율의 응답만 앞부분 response-max-bytes까지 기록합니다.
      */
-    private record ImageData(String base64Data, String mimeType) {
+    private GeminiResponseParser.ParsedResponse parseResponse(String model, InputStream body)
+        throws IOException {
+        GeminiConfig.Logging logging = config.getLogging();
+        if (!log.isDebugEnabled()
+            || ThreadLocalRandom.current().nextDouble() >= logging.getResponseSampleRate()) {
+            return GeminiResponseParser.parse(objectMapper.getFactory(), body);
+        }
+
+        CapturingInputStream capturing = new CapturingInputStream(body, logging.getResponseMaxBytes());
+        try {
+            return GeminiResponseParser.parse(objectMapper.getFactory(), capturing);
+        } finally {
+            log.debug("Gemini 응답 본문 (샘플): model={}, body={}", model, capturing.captured());
+        }
     }
 }
@@ -0,0 +1,81 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
+import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * streamGenerateContent(alt=sse) 응답을 읽어 텍스트 조각을 전달하고 최종 결과를 만듭니다. <br />
+ * 각 data 줄은 GenerateContentResponse 하나이며, 토큰 사용량은 마지막 청크의 usageMetadata가 누적값입니다.
+ */
+@Slf4j
+class GeminiStreamReader {
+
+    private static final String DATA_PREFIX = "data:";
+
+    private final ObjectMapper objectMapper;
+    private final Consumer<String> onChunk;
+
+    private final StringBuilder text = new StringBuilder();
+    private TokenUsage usage;
+    private String modelVersion;
+    private String finishReason;
+
+    GeminiStreamReader(ObjectMapper objectMapper, Consumer<String> onChunk) {
+        this.objectMapper = objectMapper;
+        this.onChunk = onChunk;
+    }
+
+    GeminiCallResult read(InputStream body, long maxTokens) throws IOException {
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(DATA_PREFIX)) {
+                accept(GeminiResponseParser.parse(objectMapper.getFactory(),
+                    line.substring(DATA_PREFIX.length()).trim()));
+            }
+        }
+
+        if (usage == null) {
+            log.error("Gemini 스트리밍 응답에 토큰 사용량이 없음: 수신 {}자", text.length());
+            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
+        }
+        return new GeminiCallResult(text.toString(), usage, maxTokens, modelVersion, finishReason);
+    }
+
+    private void accept(GeminiResponseParser.ParsedResponse chunk) {
+        if (chunk.usage() != null) {
+            usage = chunk.usage();
+        }
+        if (chunk.modelVersion() != null) {
+            modelVersion = chunk.modelVersion();
+        }
+        if (chunk.finishReason() != null) {
+            finishReason = chunk.finishReason();
+        }
+        if (chunk.text() != null && !chunk.text().isEmpty()) {
+            text.append(chunk.text());
+            deliver(chunk.text());
+        }
+    }
+
+    // 조각 전달 실패가 생성 중인 응답을 버리게 하지 않도록 예외를 삼킴
+    private void deliver(String piece) {
+        try {
+            onChunk.accept(piece);
+        } catch (RuntimeException e) {
+            log.warn("스트리밍 조각 전달 실패: {}", e.getMessage());
+        }
+    }
+}
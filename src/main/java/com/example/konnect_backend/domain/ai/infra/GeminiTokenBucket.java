@@ -0,0 +1,61 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분당 한도(RPM, TPM)를 표현하는 토큰 버킷 <br />
+ * 용량만큼 채워진 상태에서 시작해 1분에 용량만큼 일정한 속도로 다시 채워집니다.
+ *
+ * 잔량은 음수가 될 수 있습니다. 호출자는 필요한 양을 먼저 예약하고 잔량이 회복될 때까지 잠금 밖에서 기다리므로,
+ * 먼저 예약한 호출이 먼저 실행되는 대기열이 됩니다. <br />
+ * 스레드 안전하지 않으며 GeminiRateLimitService가 모델별 잠금 안에서만 사용합니다.
+ */
+class GeminiTokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double available;
+    private long lastRefillNanos;
+
+    GeminiTokenBucket(long capacityPerMinute, long nowNanos) {
+        this.capacity = capacityPerMinute;
+        this.refillPerNano = capacityPerMinute / (double) TimeUnit.MINUTES.toNanos(1);
+        this.available = capacityPerMinute;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * amount를 사용할 수 있을 때까지 기다려야 하는 시간 <br />
+     * 용량보다 큰 요청은 버킷이 가득 찼을 때 통과시켜 영원히 기다리지 않게 합니다.
+     */
+    long waitNanos(double amount, long nowNanos) {
+        refill(nowNanos);
+        double deficit = Math.min(amount, capacity) - available;
+        return deficit <= 0 ? 0 : (long) Math.ceil(deficit / refillPerNano);
+    }
+
+    void take(double amount, long nowNanos) {
+        refill(nowNanos);
+        available -= amount;
+    }
+
+    // 예상치로 예약한 뒤 실제 사용량으로 보정 (음수면 돌려받음)
+    void adjust(double delta, long nowNanos) {
+        refill(nowNanos);
+        available = Math.min(capacity, available - delta);
+    }
+
+    double available(long nowNanos) {
+        refill(nowNanos);
+        return available;
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * refillPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package com.example.konnect_backend.domain.ai.infra;
 
+import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
 import com.example.konnect_backend.domain.ai.exception.OcrException;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor.OcrImage;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
 import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrService;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
 import com.example.konnect_backend.global.code.status.ErrorStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Primary;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
+import static com.example.konnect_backend.domain.ai.service.prompt.OcrPrompt.OCR_BATCH_PROMPT;
+import static com.example.konnect_backend.domain.ai.service.prompt.OcrPrompt.OCR_PDF_PROMPT;
 import static com.example.konnect_backend.domain.ai.service.prompt.OcrPrompt.OCR_PROMPT;
 
 /**
@@ -25,30 +40,52 @@ import static com.example.konnect_backend.domain.ai.service.prompt.OcrPrompt.OCR
  * - Primary 모델 사용 (200회/일 제한)
  * - 이미지 OCR은 필수 기능이므로 Primary 모델 사용
  * - 호출 제한 도달 시 OcrException 발생
+ * - 여러 페이지는 extractTexts로 묶어 보내 호출 한 번(RPD 1회)에 처리
+ *
+ * ## 페이지 묶음 (extractTexts)
+ * - 이미지 바이트 합이 batch.max-bytes, 장수가 batch.max-pages를 넘지 않도록 순서대로 묶음
+ * - 묶음이 여럿이면 promptExecutor에서 동시에 보내며, 동시 호출 수는 GeminiBulkhead가 제한
+ * - 응답은 "=== PAGE n ===" 구분선으로 나누며, 구분선이 빠졌거나 출력 한도로 잘린 페이지만 한 장씩 다시 요청
+ *
+ * ## PDF 직접 전달 (extractPdfPages)
+ * - 스캔 PDF 원본을 application/pdf inlineData로 보내 렌더링 없이 페이지별 텍스트를 받음
+ * - 구분선이 빠졌거나 잘린 페이지는 null로 돌려주며, 호출한 쪽이 해당 페이지만 이미지 OCR로 처리
  */
 @Service("geminiVisionOcr")
-@Primary  // Gemini Vision을 기본 OCR로 사용
-@RequiredArgsConstructor
+// @Primary - TieredOcrService가 Tesseract 결과의 신뢰도가 낮을 때만 호출함
 @Slf4j
 public class GeminiVisionOcrService implements OcrService {
 
-    private final GeminiService geminiService;
-
     private static final double TEMPERATURE = 0.1;  // 정확한 텍스트 추출 위해 낮은 온도
     private static final int MAX_TOKENS = 8000;     // 긴 문서 텍스트 추출을 위해 충분한 토큰
+    private static final Pattern PAGE_MARKER = Pattern.compile("(?m)^\\s*=+\\s*PAGE\\s+(\\d{1,4})\\s*=+\\s*$");
+
+    private final GeminiService geminiService;
+    // 한 요청에 담을 이미지 바이트 합 상한 (Base64로 약 4/3배가 되며, 요청 본문은 20MB를 넘을 수 없음)
+    private final long maxBatchBytes;
+    // 한 요청에 담을 페이지 수 상한 (출력 토큰 한도 안에 모든 페이지 텍스트가 들어가야 함)
+    private final int maxBatchPages;
+    private final AsyncTaskExecutor promptExecutor;
+
+    public GeminiVisionOcrService(GeminiService geminiService,
+                                  @Value("${ocr.vision.batch.max-bytes:6MB}") DataSize maxBatchBytes,
+                                  @Value("${ocr.vision.batch.max-pages:6}") int maxBatchPages,
+                                  AsyncTaskExecutor promptExecutor) {
+        this.geminiService = geminiService;
+        this.maxBatchBytes = maxBatchBytes.toBytes();
+        this.maxBatchPages = maxBatchPages;
+        this.promptExecutor = promptExecutor;
+    }
 
     @Override
     public String extractText(byte[] imageBytes, String mimeType) {
         try {
             log.info("Gemini Vision OCR 시작, 이미지 크기: {} bytes, MIME: {}", imageBytes.length, mimeType);
 
-            // 이미지를 Base64로 인코딩
-            String base64Image = Base64.getEncoder().encodeToString(imageBytes);
-
-            // Gemini Vision API 호출
+            // Gemini Vision API 호출 (Base64 인코딩은 요청 본문을 쓰면서 수행)
             String extractedText = geminiService.generateContentWithImage(
                     OCR_PROMPT,
-                    base64Image,
+                    imageBytes,
                     mimeType,
                     TEMPERATURE,
                     MAX_TOKENS
@@ -68,6 +105,167 @@ public class GeminiVisionOcrService implements OcrService {
         }
     }
 
+    @Override
+    public OcrResult extract(byte[] imageBytes, String mimeType) {
+        return new OcrResult(extractText(imageBytes, mimeType), OcrEngine.GEMINI_VISION_OCR);
+    }
+
+    /**
+     * 여러 페이지 이미지를 바이트 예산에 맞춰 묶어 보내고, 응답을 페이지 구분선으로 나눠 돌려줍니다. <br />
+     * 묶음이 여럿이면 동시에 보내고, 묶음 응답에서 찾지 못한 페이지는 한 장씩 다시 요청합니다.
+     */
+    @Override
+    public List<String> extractTexts(List<OcrImage> images) {
+        if (images.size() <= 1) {
+            return images.stream().map(image -> extractText(image.bytes(), image.mimeType())).toList();
+        }
+
+        List<List<OcrImage>> batches = batches(images);
+        if (batches.size() == 1) {
+            return extract(batches.get(0));
+        }
+        List<CompletableFuture<List<String>>> requests = new ArrayList<>(batches.size());
+        List<String> texts = new ArrayList<>(images.size());
+        try {
+            for (List<OcrImage> batch : batches) {
+                requests.add(CompletableFuture.supplyAsync(GeminiCallDeadline.propagate(() -> extract(batch)),
+                    promptExecutor));
+            }
+            requests.forEach(request -> texts.addAll(request.join()));
+        } catch (TaskRejectedException e) {
+            requests.forEach(request -> request.cancel(true));
+            log.warn("Vision OCR 묶음 요청 거절: 실행기 큐가 가득 찼습니다.");
+            throw new OcrException(ErrorStatus.AI_SERVICE_BUSY);
+        } catch (CompletionException e) {
+            requests.forEach(request -> request.cancel(true));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return texts;
+    }
+
+    /**
+     * PDF 원본을 한 번의 Vision 호출로 보내 페이지별 텍스트를 추출합니다. <br />
+     * 응답에서 찾지 못한 페이지는 null입니다.
+     *
+     * @param pdfBytes  PDF 원본 (요청 본문 크기 제한 안이어야 함)
+     * @param pageCount PDF 페이지 수
+     */
+    public List<String> extractPdfPages(byte[] pdfBytes, int pageCount) {
+        log.info("Gemini PDF OCR 시작: {} 페이지, {} bytes", pageCount, pdfBytes.length);
+
+        GeminiCallResult result;
+        try {
+            result = geminiService.generateContentWithImages(OCR_PDF_PROMPT.formatted(pageCount),
+                List.of(new GeminiRequest.InlineData("application/pdf", pdfBytes)), TEMPERATURE, MAX_TOKENS);
+        } catch (Exception e) {
+            log.error("Gemini PDF OCR 처리 중 오류: {}", e.getMessage(), e);
+            throw new OcrException(ErrorStatus.OCR_FAILED);
+        }
+
+        Map<Integer, String> pages = completePages(result);
+        List<String> texts = new ArrayList<>(pageCount);
+        for (int page = 1; page <= pageCount; page++) {
+            texts.add(pages.get(page));
+        }
+        log.info("Gemini PDF OCR 완료: {} 페이지 중 {} 페이지 추출", pageCount,
+            texts.stream().filter(text -> text != null).count());
+        return texts;
+    }
+
+    // 순서를 유지하며 바이트 합과 장수 상한까지 채움, 상한보다 큰 이미지는 혼자 묶음이 됨
+    List<List<OcrImage>> batches(List<OcrImage> images) {
+        List<List<OcrImage>> batches = new ArrayList<>();
+        List<OcrImage> current = new ArrayList<>();
+        long currentBytes = 0;
+        for (OcrImage image : images) {
+            if (!current.isEmpty()
+                && (current.size() >= maxBatchPages || currentBytes + image.bytes().length > maxBatchBytes)) {
+                batches.add(current);
+                current = new ArrayList<>();
+                currentBytes = 0;
+            }
+            current.add(image);
+            currentBytes += image.bytes().length;
+        }
+        if (!current.isEmpty()) {
+            batches.add(current);
+        }
+        return batches;
+    }
+
+    private List<String> extract(List<OcrImage> batch) {
+        return batch.size() == 1
+            ? List.of(extractText(batch.get(0).bytes(), batch.get(0).mimeType()))
+            : extractBatch(batch);
+    }
+
+    private List<String> extractBatch(List<OcrImage> batch) {
+        long totalBytes = batch.stream().mapToLong(image -> image.bytes().length).sum();
+        log.info("Gemini Vision OCR 묶음 시작: {} 페이지, {} bytes", batch.size(), totalBytes);
+
+        GeminiCallResult result;
+        try {
+            List<GeminiRequest.InlineData> images = batch.stream()
+                .map(image -> new GeminiRequest.InlineData(image.mimeType(), image.bytes()))
+                .toList();
+            result = geminiService.generateContentWithImages(OCR_BATCH_PROMPT.formatted(batch.size()),
+                images, TEMPERATURE, MAX_TOKENS);
+        } catch (Exception e) {
+            log.error("Gemini Vision OCR 묶음 처리 중 오류: {}", e.getMessage(), e);
+            throw new OcrException(ErrorStatus.OCR_FAILED);
+        }
+
+        Map<Integer, String> pages = completePages(result);
+
+        List<String> texts = new ArrayList<>(batch.size());
+        int retried = 0;
+        for (int page = 1; page <= batch.size(); page++) {
+            String text = pages.get(page);
+            if (text == null) {
+                OcrImage image = batch.get(page - 1);
+                text = extractText(image.bytes(), image.mimeType());
+                retried++;
+            }
+            texts.add(text);
+        }
+        log.info("Gemini Vision OCR 묶음 완료: {} 페이지, 개별 재요청 {} 페이지", batch.size(), retried);
+        return texts;
+    }
+
+    // 출력 한도로 잘렸다면 마지막으로 받은 페이지도 불완전하므로 빠진 페이지로 취급
+    private Map<Integer, String> completePages(GeminiCallResult result) {
+        Map<Integer, String> pages = splitPages(result.response());
+        if ("MAX_TOKENS".equals(result.finishReason()) && !pages.isEmpty()) {
+            pages.remove(pages.keySet().stream().max(Integer::compare).orElseThrow());
+        }
+        return pages;
+    }
+
+    // 구분선 번호별 텍스트, 첫 구분선 앞의 내용은 버림
+    static Map<Integer, String> splitPages(String response) {
+        Map<Integer, String> pages = new HashMap<>();
+        if (response == null) {
+            return pages;
+        }
+        Matcher matcher = PAGE_MARKER.matcher(response);
+        Integer page = null;
+        int start = 0;
+        while (matcher.find()) {
+            if (page != null) {
+                pages.putIfAbsent(page, response.substring(start, matcher.start()).trim());
+            }
+            page = Integer.parseInt(matcher.group(1));
+            start = matcher.end();
+        }
+        if (page != null) {
+            pages.putIfAbsent(page, response.substring(start).trim());
+        }
+        return pages;
+    }
+
     @Override
     public boolean supports(String mimeType) {
         // Gemini Vision이 지원하는 이미지 형식
@@ -1,11 +1,29 @@
 package com.example.konnect_backend.domain.ai.infra;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * LLM 호출 결과로 장애를 감지하는 서킷 브레이커
+ *
+ * ## 상태
+ * - HEALTHY: 모든 호출 허용. 최근 windowSize개 결과 중 실패가 failureThreshold 이상이면 DEGRADED로 전환
+ * - DEGRADED: open-duration 동안 모든 호출을 즉시 거부한 뒤,
+ *   probe-permits개까지만 동시에 시험 호출(probe)을 허용
+ *   - probe 성공이 recoveryThreshold번 연속되면 HEALTHY로 복구
+ *   - probe가 실패하면 다시 open-duration 동안 거부
+ *
+ * ## 동시성
+ * 모든 프롬프트 스레드가 Gemini 호출마다 기록하므로 락 없이 원자 변수만 사용합니다. <br />
+ * 슬라이딩 윈도우는 고정 크기 링 버퍼이며, 칸을 교체할 때 이전 값과의 차이만큼 실패 수를 조정합니다.
+ */
 @Component
 public class LlmHealthTracker {
 
@@ -17,61 +35,145 @@ public class LlmHealthTracker {
         HEALTHY, DEGRADED
     }
 
+    private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+    private static final int DEFAULT_PROBE_PERMITS = 2;
+
+    private static final int EMPTY = -1;
+    private static final int SUCCESS = 0;
+    private static final int FAILURE = 1;
+
     private final int windowSize;
-    private final int recoveryThreshold; // 생성자에 추가
+    private final int recoveryThreshold;
     private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int probePermits;
 
-    private final Deque<Boolean> window = new ArrayDeque<>();
-    private int failureCount = 0;
-    private int consecutiveSuccessCount = 0;
+    private final AtomicIntegerArray window;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicInteger failureCount = new AtomicInteger();
+    private final AtomicInteger consecutiveSuccessCount = new AtomicInteger();
 
-    private HealthState currentState = HealthState.HEALTHY;
+    private final AtomicReference<HealthState> currentState = new AtomicReference<>(HealthState.HEALTHY);
+    // DEGRADED 상태에서 호출을 거부하는 마감 시각 (System.nanoTime 기준)
+    private final AtomicLong openUntilNanos = new AtomicLong();
+    private final AtomicInteger remainingProbes = new AtomicInteger();
+
+    public LlmHealthTracker(int windowSize, int recoveryThreshold, int failureThreshold) {
+        this(windowSize, recoveryThreshold, failureThreshold, DEFAULT_OPEN_DURATION,
+            DEFAULT_PROBE_PERMITS);
+    }
 
+    @Autowired
     public LlmHealthTracker(@Value("${llmtracker.window-size:5}") int windowSize,
                             @Value("${llmtracker.recovery-threshold:4}") int recoveryThreshold,
-                            @Value("${llmtracker.failure-threshold:3}") int failureThreshold) {
+                            @Value("${llmtracker.failure-threshold:3}") int failureThreshold,
+                            @Value("${llmtracker.open-duration:PT30S}") Duration openDuration,
+                            @Value("${llmtracker.probe-permits:2}") int probePermits) {
         this.windowSize = windowSize;
         this.recoveryThreshold = recoveryThreshold;
         this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.probePermits = probePermits;
+        this.window = new AtomicIntegerArray(windowSize);
+        for (int i = 0; i < windowSize; i++) {
+            window.set(i, EMPTY);
+        }
     }
 
-    // 병목이 될 가능성이 있다. 성능 저하 시 락 방식 개선 필요.
-    public synchronized StateChange recordAndCheck(boolean success) {
-        updateWindow(success);
+    /**
+     * 호출 전에 확인합니다. false면 호출하지 않고 즉시 실패 처리해야 합니다. <br />
+     * DEGRADED 상태에서 true를 받은 호출은 probe이므로 결과를 반드시 recordAndCheck로 기록해야 합니다.
+     * 기록되지 않은 probe가 있어도 open-duration이 지나면 새 probe를 허용하므로 영구히 막히지는 않습니다.
+     */
+    public boolean tryAcquirePermission() {
+        if (currentState.get() == HealthState.HEALTHY) {
+            return true;
+        }
 
-        HealthState nextState = computeNextState();
-        StateChange change = resolveStateChange(currentState, nextState);
-        currentState = nextState;
-        return change;
+        long now = System.nanoTime();
+        long openUntil = openUntilNanos.get();
+        if (now - openUntil < 0) {
+            return false;
+        }
+        if (tryTakeProbe()) {
+            return true;
+        }
+        // probe 결과가 open-duration 동안 기록되지 않으면 새 probe 차례를 시작
+        if (now - openUntil >= openDurationNanos && openUntilNanos.compareAndSet(openUntil, now)) {
+            remainingProbes.set(probePermits - 1);
+            return true;
+        }
+        return false;
     }
 
-    private void updateWindow(boolean success) {
-        if (window.size() == windowSize) {
-            boolean oldest = window.removeFirst();
-            if (!oldest) failureCount--;
+    /**
+     * 허가를 받았지만 LLM을 호출하지 못해(벌크헤드, 한도 대기 거절 등) 결과를 기록하지 않는 호출이 허가를 반환합니다. <br />
+     * DEGRADED 상태면 probe 자리를 돌려주어 open-duration을 다시 기다리지 않고 다음 probe를 허용하며, HEALTHY 상태에서는 아무 일도 하지 않습니다.
+     */
+    public void releasePermission() {
+        if (currentState.get() == HealthState.DEGRADED) {
+            releaseProbe();
+        }
+    }
+
+    public StateChange recordAndCheck(boolean success) {
+        updateWindow(success);
+
+        if (currentState.get() == HealthState.HEALTHY) {
+            boolean degraded = sequence.get() >= windowSize && failureCount.get() >= failureThreshold;
+            if (degraded && currentState.compareAndSet(HealthState.HEALTHY, HealthState.DEGRADED)) {
+                consecutiveSuccessCount.set(0);
+                open();
+                return StateChange.DOWN;
+            }
+            return StateChange.NO_CHANGE;
         }
-        window.addLast(success);
+
         if (!success) {
-            failureCount++;
-            consecutiveSuccessCount = 0;
-        } else {
-            consecutiveSuccessCount++;
+            open();
+            return StateChange.NO_CHANGE;
         }
+        if (consecutiveSuccessCount.get() >= recoveryThreshold
+            && currentState.compareAndSet(HealthState.DEGRADED, HealthState.HEALTHY)) {
+            return StateChange.UP;
+        }
+        releaseProbe();
+        return StateChange.NO_CHANGE;
     }
 
-    private HealthState computeNextState() {
-        if (currentState == HealthState.HEALTHY) {
-            boolean degraded = window.size() == windowSize && failureCount >= failureThreshold;
-            return degraded ? HealthState.DEGRADED : HealthState.HEALTHY;
+    private void updateWindow(boolean success) {
+        int slot = (int) (sequence.getAndIncrement() % windowSize);
+        int previous = window.getAndSet(slot, success ? SUCCESS : FAILURE);
+        int delta = (success ? 0 : 1) - (previous == FAILURE ? 1 : 0);
+        if (delta != 0) {
+            failureCount.addAndGet(delta);
+        }
+
+        if (success) {
+            consecutiveSuccessCount.incrementAndGet();
         } else {
-            boolean recovered = consecutiveSuccessCount >= recoveryThreshold;
-            return recovered ? HealthState.HEALTHY : HealthState.DEGRADED;
+            consecutiveSuccessCount.set(0);
         }
     }
 
-    private StateChange resolveStateChange(HealthState before, HealthState after) {
-        if (before == HealthState.HEALTHY && after == HealthState.DEGRADED) return StateChange.DOWN;
-        if (before == HealthState.DEGRADED && after == HealthState.HEALTHY) return StateChange.UP;
-        return StateChange.NO_CHANGE;
+    private void open() {
+        remainingProbes.set(probePermits);
+        openUntilNanos.set(System.nanoTime() + openDurationNanos);
+    }
+
+    private boolean tryTakeProbe() {
+        int current;
+        do {
+            current = remainingProbes.get();
+            if (current <= 0) {
+                return false;
+            }
+        } while (!remainingProbes.compareAndSet(current, current - 1));
+        return true;
+    }
+
+    // 성공했거나 호출하지 못한 probe의 자리를 돌려주어 다음 probe를 허용
+    private void releaseProbe() {
+        remainingProbes.accumulateAndGet(1, (current, one) -> Math.min(probePermits, current + one));
     }
-}
\ No newline at end of file
+}
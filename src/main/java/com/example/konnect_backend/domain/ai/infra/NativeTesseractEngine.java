@@ -0,0 +1,60 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.sun.jna.Pointer;
+import net.sourceforge.tess4j.ITessAPI;
+import net.sourceforge.tess4j.TessAPI;
+import net.sourceforge.tess4j.util.ImageIOHelper;
+
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+
+/**
+ * TessBaseAPI 핸들을 직접 사용하는 엔진 <br />
+ * Tesseract 클래스는 doOCR마다 traineddata를 다시 읽고 해제하므로,
+ * 핸들을 한 번 초기화해 두고 인식 후에는 이미지와 결과만 지웁니다(TessBaseAPIClear).
+ */
+final class NativeTesseractEngine implements TesseractEngine {
+
+    private final TessAPI api;
+    private final ITessAPI.TessBaseAPI handle;
+
+    NativeTesseractEngine(String datapath, String language, int pageSegMode) {
+        this.api = TessAPI.INSTANCE;
+        this.handle = api.TessBaseAPICreate();
+        if (api.TessBaseAPIInit3(handle, datapath, language) != 0) {
+            api.TessBaseAPIDelete(handle);
+            throw new IllegalStateException(
+                "Tesseract 초기화 실패: datapath=" + datapath + ", language=" + language);
+        }
+        api.TessBaseAPISetPageSegMode(handle, pageSegMode);
+    }
+
+    @Override
+    public Recognition recognize(BufferedImage image) {
+        int bitsPerPixel = image.getColorModel().getPixelSize();
+        ByteBuffer data = ImageIOHelper.convertImageData(image);
+        try {
+            api.TessBaseAPISetImage(handle, data, image.getWidth(), image.getHeight(),
+                bitsPerPixel / 8, (int) Math.ceil(image.getWidth() * bitsPerPixel / 8.0));
+            Pointer text = api.TessBaseAPIGetUTF8Text(handle);
+            if (text == null) {
+                return new Recognition(null, 0);
+            }
+            try {
+                // 신뢰도는 GetUTF8Text로 인식한 결과를 기준으로 하므로 Clear 전에 조회
+                return new Recognition(text.getString(0, "UTF-8"),
+                    api.TessBaseAPIMeanTextConf(handle));
+            } finally {
+                api.TessDeleteText(text);
+            }
+        } finally {
+            api.TessBaseAPIClear(handle);
+        }
+    }
+
+    @Override
+    public void close() {
+        api.TessBaseAPIEnd(handle);
+        api.TessBaseAPIDelete(handle);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * 초기화된 Tesseract 엔진 하나 <br />
+ * 한 번에 한 스레드만 사용해야 하며, TesseractEnginePool이 빌려주고 돌려받습니다.
+ */
+interface TesseractEngine extends AutoCloseable {
+
+    Recognition recognize(BufferedImage image);
+
+    @Override
+    void close();
+
+    /**
+     * @param meanConfidence 단어별 인식 신뢰도의 평균 (0 ~ 100)
+     */
+    record Recognition(String text, int meanConfidence) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.exception.OcrException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 초기화된 Tesseract 엔진 풀
+ * <p>
+ * 엔진 초기화(traineddata 로드)는 작은 이미지의 인식 시간보다 오래 걸리고 엔진마다 수십 MB의 네이티브 메모리를 쓰므로,
+ * 동시에 인식하는 작업 수만큼만 엔진을 만들어 두고 돌려 씁니다.
+ * <p>
+ * ## 동작
+ * - 최대 size개까지 필요할 때 만들고, warmUp()으로 시작 시 미리 만들 수 있음
+ * - 모든 엔진이 사용 중이면 acquire-timeout까지 기다리며, 넘기면 AI_SERVICE_BUSY
+ * - 인식 중 예외가 난 엔진은 상태를 신뢰할 수 없으므로 닫고 다음 요청에서 새로 만듦
+ * <p>
+ * ## 지표
+ * - ocr.tesseract.pool.wait: 엔진을 빌리기까지 기다린 시간
+ * - ocr.tesseract.pool.engines (state=created|idle)
+ */
+@Slf4j
+class TesseractEnginePool implements AutoCloseable {
+
+    private final int size;
+    private final Duration acquireTimeout;
+    private final Supplier<TesseractEngine> engineFactory;
+    private final BlockingQueue<TesseractEngine> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger created = new AtomicInteger();
+    private final Timer waitTimer;
+
+    TesseractEnginePool(int size, Duration acquireTimeout, Supplier<TesseractEngine> engineFactory,
+                        MeterRegistry meterRegistry) {
+        this.size = size;
+        this.acquireTimeout = acquireTimeout;
+        this.engineFactory = engineFactory;
+        this.waitTimer = Timer.builder("ocr.tesseract.pool.wait")
+            .description("Tesseract 엔진을 빌리기까지 기다린 시간")
+            .register(meterRegistry);
+        Gauge.builder("ocr.tesseract.pool.engines", created, AtomicInteger::get)
+            .tag("state", "created")
+            .register(meterRegistry);
+        Gauge.builder("ocr.tesseract.pool.engines", idle, BlockingQueue::size)
+            .tag("state", "idle")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 엔진을 size개까지 미리 만듭니다. <br />
+     * Tesseract가 설치되지 않은 환경에서도 애플리케이션이 시작되도록 실패는 기록만 합니다.
+     */
+    void warmUp() {
+        long start = System.nanoTime();
+        try {
+            while (reserveSlot()) {
+                idle.add(createEngine());
+            }
+            log.info("Tesseract 엔진 풀 준비 완료: size={}, {}ms", size,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception | LinkageError e) {
+            log.warn("Tesseract 엔진 미리 만들기 실패, 첫 요청에서 다시 시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 엔진을 빌려 work를 실행하고 돌려받습니다.
+     */
+    <T> T execute(Function<TesseractEngine, T> work) {
+        TesseractEngine engine = acquire();
+        boolean healthy = false;
+        try {
+            T result = work.apply(engine);
+            healthy = true;
+            return result;
+        } finally {
+            if (healthy) {
+                idle.add(engine);
+            } else {
+                discard(engine);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        TesseractEngine engine;
+        while ((engine = idle.poll()) != null) {
+            discard(engine);
+        }
+    }
+
+    private TesseractEngine acquire() {
+        long start = System.nanoTime();
+        try {
+            TesseractEngine engine = idle.poll();
+            if (engine == null && reserveSlot()) {
+                engine = createEngine();
+            }
+            if (engine == null) {
+                engine = idle.poll(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (engine == null) {
+                log.warn("Tesseract 엔진 대기 시간 초과: size={}, timeout={}", size, acquireTimeout);
+                throw new OcrException(ErrorStatus.AI_SERVICE_BUSY);
+            }
+            return engine;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OcrException(ErrorStatus.AI_SERVICE_BUSY);
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = created.get();
+            if (current >= size) {
+                return false;
+            }
+        } while (!created.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    // reserveSlot으로 자리를 잡은 뒤 호출, 실패하면 자리를 반납
+    private TesseractEngine createEngine() {
+        try {
+            return engineFactory.get();
+        } catch (RuntimeException | LinkageError e) {
+            created.decrementAndGet();
+            throw e;
+        }
+    }
+
+    private void discard(TesseractEngine engine) {
+        created.decrementAndGet();
+        try {
+            engine.close();
+        } catch (Exception e) {
+            log.warn("Tesseract 엔진 해제 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,29 +1,56 @@
 package com.example.konnect_backend.domain.ai.infra;
 
 import com.example.konnect_backend.domain.ai.exception.OcrException;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
 import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrService;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
 import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.sourceforge.tess4j.ITesseract;
-import net.sourceforge.tess4j.Tesseract;
-import net.sourceforge.tess4j.TesseractException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
+import java.time.Duration;
 
+/**
+ * Tesseract 로컬 OCR <br />
+ * 초기화된 엔진을 TesseractEnginePool로 재사용하므로 호출마다 traineddata를 다시 읽지 않습니다.
+ */
 @Slf4j
 @Service("tesseractOcr")
-// @Primary - Gemini Vision OCR가 기본으로 사용됨
+@RequiredArgsConstructor
+// @Primary - TieredOcrService가 기본으로 사용되며 이 서비스를 먼저 호출함
 public class TesseractOcrService implements OcrService {
 
+    private static final String LANGUAGE = "kor+eng";
+
+    private final MeterRegistry meterRegistry;
+
     @Value("${tesseract.datapath:#{null}}")
     private String configuredDatapath;
 
+    // 동시에 인식할 수 있는 엔진 수 (PDF 페이지 병렬 처리 수와 맞춤)
+    @Value("${tesseract.pool.size:4}")
+    private int poolSize;
+
+    @Value("${tesseract.pool.acquire-timeout:PT30S}")
+    private Duration acquireTimeout;
+
+    @Value("${tesseract.pool.warm-up:true}")
+    private boolean warmUp;
+
+    // 3: 자동 페이지 분할 (Tesseract 기본값), 6: 단일 텍스트 블록
+    @Value("${tesseract.page-seg-mode:3}")
+    private int pageSegMode;
+
     private String datapath;
+    private TesseractEnginePool enginePool;
 
     @PostConstruct
     public void init() {
@@ -40,13 +67,37 @@ public class TesseractOcrService implements OcrService {
                 this.datapath = "/usr/share/tesseract-ocr/5/tessdata";
             }
         }
-        log.info("Tesseract OCR 초기화 완료, datapath: {}", datapath);
+        enginePool = new TesseractEnginePool(poolSize, acquireTimeout,
+            () -> new NativeTesseractEngine(datapath, LANGUAGE, pageSegMode), meterRegistry);
+        if (warmUp) {
+            enginePool.warmUp();
+        }
+        log.info("Tesseract OCR 초기화 완료, datapath: {}, poolSize: {}, psm: {}", datapath, poolSize,
+            pageSegMode);
+    }
+
+    @PreDestroy
+    public void close() {
+        enginePool.close();
     }
 
     @Override
     public String extractText(byte[] imageBytes, String mimeType) {
+        String text = recognize(imageBytes, mimeType).text();
+        return text == null ? "" : text;
+    }
+
+    @Override
+    public OcrResult extract(byte[] imageBytes, String mimeType) {
+        return new OcrResult(extractText(imageBytes, mimeType), OcrEngine.TESSERACT_OCR);
+    }
+
+    /**
+     * 텍스트와 함께 평균 단어 신뢰도를 반환합니다. TieredOcrService가 Vision으로 넘길지 판단할 때 사용합니다.
+     */
+    TesseractEngine.Recognition recognize(byte[] imageBytes, String mimeType) {
         try {
-            log.info("Tesseract OCR 시작, 이미지 크기: {} bytes, MIME: {}", imageBytes.length);
+            log.info("Tesseract OCR 시작, 이미지 크기: {} bytes, MIME: {}", imageBytes.length, mimeType);
 
             // 이미지 바이트 -> BufferedImage 변환
             BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageBytes));
@@ -54,24 +105,20 @@ public class TesseractOcrService implements OcrService {
                 throw new OcrException(ErrorStatus.INVALID_IMAGE_FILE);
             }
 
-            ITesseract tesseract = new Tesseract();
-            tesseract.setDatapath(datapath);
-            tesseract.setLanguage("kor+eng");
+            TesseractEngine.Recognition result = enginePool.execute(engine -> engine.recognize(image));
 
-            String result = tesseract.doOCR(image);
-
-            if (result == null || result.trim().isEmpty()) {
+            if (result.text() == null || result.text().trim().isEmpty()) {
                 log.warn("Tesseract OCR 결과 없음");
-                return "";
+                return new TesseractEngine.Recognition("", 0);
             }
 
-            log.info("Tesseract OCR 완료: {} 글자 추출", result.length());
-            return result.trim();
+            log.info("Tesseract OCR 완료: {} 글자 추출, 신뢰도 {}", result.text().length(),
+                result.meanConfidence());
+            return new TesseractEngine.Recognition(result.text().trim(), result.meanConfidence());
 
-        } catch (TesseractException e) {
-            log.error("Tesseract OCR 처리 중 오류: {}", e.getMessage());
-            throw new OcrException(ErrorStatus.OCR_FAILED);
-        } catch (Exception e) {
+        } catch (OcrException e) {
+            throw e;
+        } catch (Exception | LinkageError e) {
             log.error("Tesseract 이미지 처리 실패", e);
             throw new OcrException(ErrorStatus.OCR_FAILED);
         }
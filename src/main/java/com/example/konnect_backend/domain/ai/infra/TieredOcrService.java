@@ -0,0 +1,287 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor.OcrImage;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrService;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 신뢰도 기반 OCR 경로 선택
+ * <p>
+ * 모든 이미지와 스캔 페이지를 Gemini Vision(Primary 모델, 200회/일)으로 보내지 않도록,
+ * 로컬 Tesseract로 먼저 인식하고 결과를 평가하여 기준에 못 미치는 페이지만 Vision으로 넘깁니다.
+ * 깨끗하게 인쇄된 가정통신문은 Tesseract 결과를 그대로 사용하므로 Primary 할당량을 쓰지 않습니다.
+ * <p>
+ * ## 평가 기준 (모두 만족해야 Tesseract 결과 사용)
+ * - 평균 단어 신뢰도 >= min-confidence
+ * - 한글 비율(글자 중 한글 음절) >= min-hangul-ratio, 0이면 검사하지 않음
+ * - 잡음 비율(한글, 영문, 숫자, 일반 문장 부호가 아닌 문자와 홀로 쓰인 자모) <= max-garbage-ratio
+ * - 공백 제외 글자 수 >= min-length
+ * <p>
+ * Tesseract를 사용할 수 없거나(미설치, 지원하지 않는 형식) 실패하면 Vision으로 넘깁니다.
+ * Vision도 실패하면 Tesseract 결과가 있는 경우 그 결과를 사용합니다.
+ * <p>
+ * 여러 페이지(extractTexts, extractPages)는 ocrExecutor에서 페이지별 Tesseract 인식을 병렬로 수행한 뒤,
+ * 기준에 못 미친 페이지만 모아 Vision 묶음 요청(GeminiVisionOcrService.extractTexts)으로 보냅니다.
+ * extractPages는 페이지 이미지가 준비되는 대로 인식을 시작하므로 PDF 렌더링과 Tesseract 인식이 겹쳐 실행됩니다.
+ * <p>
+ * ## 지표
+ * - ocr.tier.route (engine=tesseract|vision, reason)
+ */
+@Service("tieredOcr")
+@Primary
+@Slf4j
+public class TieredOcrService implements OcrService {
+
+    private final TesseractOcrService tesseract;
+    private final GeminiVisionOcrService vision;
+    private final MeterRegistry meterRegistry;
+    private final AsyncTaskExecutor ocrExecutor;
+
+    private final boolean enabled;
+    private final int minConfidence;
+    private final double minHangulRatio;
+    private final double maxGarbageRatio;
+    private final int minLength;
+
+    public TieredOcrService(TesseractOcrService tesseract, GeminiVisionOcrService vision,
+                            MeterRegistry meterRegistry, AsyncTaskExecutor ocrExecutor,
+                            @Value("${ocr.tier.enabled:true}") boolean enabled,
+                            @Value("${ocr.tier.min-confidence:75}") int minConfidence,
+                            @Value("${ocr.tier.min-hangul-ratio:0.3}") double minHangulRatio,
+                            @Value("${ocr.tier.max-garbage-ratio:0.05}") double maxGarbageRatio,
+                            @Value("${ocr.tier.min-length:20}") int minLength) {
+        this.tesseract = tesseract;
+        this.vision = vision;
+        this.meterRegistry = meterRegistry;
+        this.ocrExecutor = ocrExecutor;
+        this.enabled = enabled;
+        this.minConfidence = minConfidence;
+        this.minHangulRatio = minHangulRatio;
+        this.maxGarbageRatio = maxGarbageRatio;
+        this.minLength = minLength;
+    }
+
+    @Override
+    public String extractText(byte[] imageBytes, String mimeType) {
+        return extract(imageBytes, mimeType).text();
+    }
+
+    /**
+     * Tesseract 결과가 기준을 만족하면 TESSERACT_OCR, Vision으로 넘겨 인식하면 GEMINI_VISION_OCR 결과를 돌려줍니다.
+     * (Vision이 실패하여 신뢰도가 낮은 Tesseract 결과를 쓰면 TESSERACT_OCR)
+     */
+    @Override
+    public OcrResult extract(byte[] imageBytes, String mimeType) {
+        Routing routing = route(mimeType, () -> tesseract.recognize(imageBytes, mimeType));
+        if (routing.passed()) {
+            return new OcrResult(routing.localText(), OcrEngine.TESSERACT_OCR);
+        }
+        return useVision(imageBytes, mimeType, routing.localText(), routing.reason());
+    }
+
+    /**
+     * 모든 페이지를 Tesseract로 먼저 인식하고, 기준에 못 미친 페이지만 한 번의 Vision 묶음 요청으로 보냅니다.
+     */
+    @Override
+    public List<String> extractTexts(List<OcrImage> images) {
+        return extractPages(images.stream().map(CompletableFuture::completedFuture).toList(), () -> {
+        }).stream().map(result -> result == null ? null : result.text()).toList();
+    }
+
+    /**
+     * 페이지 이미지가 준비되는 대로 ocrExecutor에서 Tesseract 인식을 시작하고, producer가 끝난 뒤 모든 인식을 기다려
+     * 기준에 못 미친 페이지만 한 번의 Vision 묶음 요청으로 보냅니다. <br />
+     * 결과에는 페이지마다 실제로 텍스트를 만든 엔진이 담깁니다.
+     */
+    @Override
+    public List<OcrResult> extractPages(List<CompletableFuture<OcrImage>> pages, Runnable producer) {
+        Function<OcrImage, Routing> recognize = GeminiCallDeadline.propagate(image -> image == null
+            ? null
+            : route(image.mimeType(), () -> tesseract.recognize(image.bytes(), image.mimeType())));
+        List<CompletableFuture<Routing>> routings = pages.stream()
+            .map(page -> page.thenApplyAsync(recognize, ocrExecutor))
+            .toList();
+        producer.run();
+
+        List<OcrImage> images = new ArrayList<>(pages.size());
+        List<OcrResult> results = new ArrayList<>(pages.size());
+        List<Integer> escalated = new ArrayList<>();
+        for (int i = 0; i < pages.size(); i++) {
+            Routing routing = routings.get(i).join();
+            images.add(pages.get(i).join());
+            results.add(routing == null ? null : new OcrResult(routing.localText(), OcrEngine.TESSERACT_OCR));
+            if (routing != null && !routing.passed()) {
+                escalated.add(i);
+            }
+        }
+        if (escalated.isEmpty()) {
+            return results;
+        }
+
+        List<String> visionTexts;
+        try {
+            visionTexts = vision.extractTexts(escalated.stream().map(images::get).toList());
+        } catch (RuntimeException e) {
+            if (escalated.stream().map(results::get).anyMatch(result -> result.text() == null
+                || result.text().isBlank())) {
+                throw e;
+            }
+            log.warn("Vision OCR 실패, 신뢰도가 낮은 Tesseract 결과 사용: {} 페이지, error={}", escalated.size(),
+                e.getMessage());
+            escalated.forEach(i -> count("tesseract", "vision_failed"));
+            return results;
+        }
+        for (int j = 0; j < escalated.size(); j++) {
+            int page = escalated.get(j);
+            results.set(page, new OcrResult(visionTexts.get(j), OcrEngine.GEMINI_VISION_OCR));
+            count("vision", routings.get(page).join().reason());
+        }
+        return results;
+    }
+
+    /**
+     * Tesseract 결과가 평가 기준을 모두 만족하면 그 결과, 아니면 empty (Vision은 호출하지 않음)
+     */
+    @Override
+    public Optional<OcrResult> extractTextLocally(OcrImage image) {
+        Routing routing = route(image.mimeType(), () -> tesseract.recognize(image.bytes(), image.mimeType()));
+        return routing.passed()
+            ? Optional.of(new OcrResult(routing.localText(), OcrEngine.TESSERACT_OCR))
+            : Optional.empty();
+    }
+
+    @Override
+    public boolean supports(String mimeType) {
+        return vision.supports(mimeType) || tesseract.supports(mimeType);
+    }
+
+    private OcrResult useVision(byte[] imageBytes, String mimeType, String localText, String reason) {
+        try {
+            String text = vision.extractText(imageBytes, mimeType);
+            count("vision", reason);
+            return new OcrResult(text, OcrEngine.GEMINI_VISION_OCR);
+        } catch (RuntimeException e) {
+            if (localText == null || localText.isBlank()) {
+                throw e;
+            }
+            log.warn("Vision OCR 실패, 신뢰도가 낮은 Tesseract 결과 사용: reason={}, error={}", reason,
+                e.getMessage());
+            count("tesseract", "vision_failed");
+            return new OcrResult(localText, OcrEngine.TESSERACT_OCR);
+        }
+    }
+
+    // Tesseract 결과를 평가하여 그대로 쓸지(passed), Vision으로 넘길지와 그 이유를 정함
+    private Routing route(String mimeType, Supplier<TesseractEngine.Recognition> recognize) {
+        if (!enabled || !tesseract.supports(mimeType)) {
+            return new Routing(null, enabled ? "unsupported" : "disabled");
+        }
+
+        TesseractEngine.Recognition local;
+        try {
+            local = recognize.get();
+        } catch (RuntimeException e) {
+            return new Routing(null, "tesseract_failed");
+        }
+
+        Score score = score(local);
+        String reason = escalationReason(score);
+        if (reason == null) {
+            log.info("OCR 경로: tesseract, {}", score);
+            count("tesseract", "passed");
+            return new Routing(local.text(), null);
+        }
+        log.info("OCR 경로: vision ({}), {}", reason, score);
+        return new Routing(local.text(), reason);
+    }
+
+    private void count(String engine, String reason) {
+        Counter.builder("ocr.tier.route")
+            .tag("engine", engine)
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    Score score(TesseractEngine.Recognition recognition) {
+        String text = recognition.text() == null ? "" : recognition.text();
+        int letters = 0;
+        int hangul = 0;
+        int garbage = 0;
+        for (int i = 0; i < text.length(); ) {
+            int c = text.codePointAt(i);
+            i += Character.charCount(c);
+            if (Character.isWhitespace(c)) {
+                continue;
+            }
+            letters++;
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                hangul++;
+            } else if (isGarbage(c)) {
+                garbage++;
+            }
+        }
+        return new Score(recognition.meanConfidence(), letters,
+            letters == 0 ? 0 : hangul / (double) letters,
+            letters == 0 ? 1 : garbage / (double) letters);
+    }
+
+    // 홀로 쓰인 호환 자모(ㄱ~ㅣ)와 글자, 숫자, 일반 문장 부호가 아닌 문자는 인식 잡음으로 봄
+    private static boolean isGarbage(int c) {
+        if (c >= 0x3131 && c <= 0x318E) {
+            return true;
+        }
+        if (Character.isLetterOrDigit(c)) {
+            return false;
+        }
+        return ".,:;!?'\"()[]{}<>-~/%&@#*+=_·…※○●■□▶◆◇★☆「」『』《》〈〉、。".indexOf(c) < 0;
+    }
+
+    private String escalationReason(Score score) {
+        if (score.length() < minLength) {
+            return "too_short";
+        }
+        if (score.confidence() < minConfidence) {
+            return "low_confidence";
+        }
+        if (minHangulRatio > 0 && score.hangulRatio() < minHangulRatio) {
+            return "low_hangul_ratio";
+        }
+        if (score.garbageRatio() > maxGarbageRatio) {
+            return "garbage";
+        }
+        return null;
+    }
+
+    record Score(int confidence, int length, double hangulRatio, double garbageRatio) {
+
+        @Override
+        public String toString() {
+            return String.format("confidence=%d, length=%d, hangul=%.2f, garbage=%.2f", confidence,
+                length, hangulRatio, garbageRatio);
+        }
+    }
+
+    // reason이 null이면 Tesseract 결과(localText)를 그대로 사용
+    private record Routing(String localText, String reason) {
+
+        boolean passed() {
+            return reason == null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.konnect_backend.domain.ai.infra.fake;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 로컬 Gemini 대역 서버 설정 (fake-gemini 프로필)
+ *
+ * ## 모드
+ * - SYNTHETIC: response-text로 응답을 만들어 반환
+ * - RECORD: upstream-base-url(실제 Gemini)로 전달하고 응답을 recording-dir에 파일로 저장
+ * - REPLAY: recording-dir에 저장된 응답을 반환하고, 없으면 SYNTHETIC과 같이 응답
+ *
+ * 지연 시간과 오류 주입은 SYNTHETIC, REPLAY 모드에만 적용됩니다.
+ */
+@ConfigurationProperties(prefix = "gemini.fake")
+@Getter
+@Setter
+public class FakeGeminiProperties {
+
+    // 0이면 임의의 빈 포트
+    private int port = 0;
+    private Mode mode = Mode.SYNTHETIC;
+    private String responseText = "{}";
+    // 스트리밍 응답을 나누는 조각 수와 조각 사이 간격
+    private int streamChunks = 4;
+    private Duration streamChunkInterval = Duration.ofMillis(50);
+    private Path recordingDir = Path.of("build/gemini-recordings");
+    private String upstreamBaseUrl = "https://generativelanguage.googleapis.com/v1beta";
+    private Latency latency = new Latency();
+    private Errors errors = new Errors();
+
+    public enum Mode {
+        SYNTHETIC, RECORD, REPLAY
+    }
+
+    /**
+     * 응답 지연 시간 분포 <br />
+     * FIXED는 median, UNIFORM은 min ~ max 균등 분포, LOG_NORMAL은 중앙값 median, 99분위 p99인 로그 정규 분포입니다.
+     * 스트리밍 응답은 첫 조각 전에 적용됩니다.
+     */
+    @Getter
+    @Setter
+    public static class Latency {
+        private Distribution distribution = Distribution.FIXED;
+        private Duration median = Duration.ofMillis(200);
+        private Duration p99 = Duration.ofSeconds(1);
+        private Duration min = Duration.ZERO;
+        private Duration max = Duration.ofMillis(400);
+
+        public enum Distribution {
+            FIXED, UNIFORM, LOG_NORMAL
+        }
+    }
+
+    /**
+     * 오류 주입 비율 (0.0 ~ 1.0, 요청마다 독립적으로 추첨)
+     */
+    @Getter
+    @Setter
+    public static class Errors {
+        private double rateLimitedRate = 0.0;
+        private double unavailableRate = 0.0;
+        // 429 응답의 Retry-After, null이면 헤더 없음
+        private Duration retryAfter;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.konnect_backend.domain.ai.infra.fake;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 녹화된 Gemini 응답 파일 저장소 <br />
+ * 요청 경로(쿼리 제외, API 키가 남지 않음)와 요청 본문의 SHA-256을 파일 이름으로 사용합니다.
+ */
+class FakeGeminiRecordings {
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+
+    FakeGeminiRecordings(Path directory, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.objectMapper = objectMapper;
+    }
+
+    Optional<Recording> find(String path, byte[] requestBody) throws IOException {
+        Path file = fileOf(path, requestBody);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        return Optional.of(objectMapper.readValue(file.toFile(), Recording.class));
+    }
+
+    void save(String path, byte[] requestBody, Recording recording) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.writerWithDefaultPrettyPrinter()
+            .writeValue(fileOf(path, requestBody).toFile(), recording);
+    }
+
+    private Path fileOf(String path, byte[] requestBody) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(path.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(requestBody);
+            return directory.resolve(HexFormat.of().formatHex(digest.digest()) + ".json");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param body 응답 본문 (스트리밍 응답은 SSE 원문)
+     */
+    record Recording(int status, String contentType, String body) {
+    }
+}
@@ -0,0 +1,334 @@
+package com.example.konnect_backend.domain.ai.infra.fake;
+
+import com.example.konnect_backend.domain.ai.infra.GeminiRateLimitService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 로컬 Gemini API 대역 서버
+ * <p>
+ * 실제 API 없이 GeminiService의 동시성, 재시도, 폴백 동작을 확인하거나 오프라인 벤치마크를 할 때 사용합니다.
+ * gemini.api.base-url을 이 서버로 지정하면 GeminiService는 실제 API와 같은 방식으로 호출합니다.
+ * <p>
+ * ## 지원 엔드포인트
+ * - POST {base}/models/{model}:generateContent
+ * - POST {base}/models/{model}:streamGenerateContent?alt=sse
+ * - POST {base}/cachedContents, DELETE {base}/cachedContents/{id}
+ * <p>
+ * ## 응답
+ * - 토큰 사용량: 입력은 요청 텍스트로 추정(GeminiRateLimitService.estimateTokens), 출력은 응답 길이 / 4
+ * - cachedContent를 사용한 요청은 캐시된 텍스트의 토큰 수를 cachedContentTokenCount로 돌려줌
+ * - 녹화, 재생은 generateContent, streamGenerateContent 응답만 대상으로 함
+ */
+@Slf4j
+public class FakeGeminiServer {
+
+    private static final String MODELS_PATH = "/models/";
+    private static final String CACHED_CONTENTS_PATH = "/cachedContents";
+    // 로그 정규 분포의 99분위 z 값
+    private static final double Z_99 = 2.326;
+
+    private final FakeGeminiProperties properties;
+    private final ObjectMapper objectMapper;
+    private final FakeGeminiRecordings recordings;
+    private final Map<String, Integer> cachedContentTokens = new ConcurrentHashMap<>();
+    private final AtomicInteger cachedContentSequence = new AtomicInteger();
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private HttpClient upstream;
+
+    public FakeGeminiServer(FakeGeminiProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.recordings = new FakeGeminiRecordings(properties.getRecordingDir(), objectMapper);
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), properties.getPort()), 0);
+        // 지연 시간 동안 요청 스레드가 잠들므로 요청마다 스레드를 사용
+        executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        if (properties.getMode() == FakeGeminiProperties.Mode.RECORD) {
+            upstream = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+        }
+        server.start();
+        log.info("Gemini 대역 서버 시작: port={}, mode={}", getPort(), properties.getMode());
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            byte[] requestBody = exchange.getRequestBody().readAllBytes();
+
+            if (properties.getMode() == FakeGeminiProperties.Mode.RECORD) {
+                forward(exchange, path, requestBody);
+            } else if (path.contains(MODELS_PATH)) {
+                generate(exchange, path, requestBody);
+            } else if (path.contains(CACHED_CONTENTS_PATH)) {
+                cachedContents(exchange, path, requestBody);
+            } else {
+                send(exchange, 404, "application/json", "{}");
+            }
+        } catch (Exception e) {
+            log.warn("Gemini 대역 서버 요청 처리 실패: uri={}, error={}", exchange.getRequestURI(),
+                e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void generate(HttpExchange exchange, String path, byte[] requestBody)
+        throws IOException, InterruptedException {
+        String target = path.substring(path.indexOf(MODELS_PATH) + MODELS_PATH.length());
+        int separator = target.indexOf(':');
+        if (separator < 0) {
+            send(exchange, 404, "application/json", "{}");
+            return;
+        }
+        String model = target.substring(0, separator);
+        boolean stream = target.startsWith("streamGenerateContent", separator + 1);
+
+        Thread.sleep(sampleLatency().toMillis());
+        if (injectError(exchange)) {
+            return;
+        }
+
+        if (properties.getMode() == FakeGeminiProperties.Mode.REPLAY) {
+            var recording = recordings.find(suffixOf(path), requestBody);
+            if (recording.isPresent()) {
+                send(exchange, recording.get().status(), recording.get().contentType(),
+                    recording.get().body());
+                return;
+            }
+            log.info("녹화된 응답 없음, 합성 응답 반환: path={}", path);
+        }
+
+        JsonNode request = objectMapper.readTree(requestBody);
+        ObjectNode usage = usage(request, properties.getResponseText());
+        if (stream) {
+            streamResponse(exchange, model, usage);
+        } else {
+            ObjectNode response = chunk(model, properties.getResponseText(), true);
+            response.set("usageMetadata", usage);
+            send(exchange, 200, "application/json", objectMapper.writeValueAsString(response));
+        }
+    }
+
+    // 응답 텍스트를 stream-chunks개로 나누어 SSE로 보내고, 마지막 조각에 finishReason과 토큰 사용량을 담음
+    private void streamResponse(HttpExchange exchange, String model, ObjectNode usage)
+        throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+
+        String text = properties.getResponseText();
+        int chunks = Math.max(1, Math.min(properties.getStreamChunks(), text.length()));
+        int size = (int) Math.ceil(text.length() / (double) chunks);
+        OutputStream out = exchange.getResponseBody();
+        for (int start = 0, i = 0; start < text.length() || i == 0; start += size, i++) {
+            if (i > 0) {
+                Thread.sleep(properties.getStreamChunkInterval().toMillis());
+            }
+            boolean last = start + size >= text.length();
+            ObjectNode response = chunk(model, text.substring(start, Math.min(text.length(), start + size)),
+                last);
+            if (last) {
+                response.set("usageMetadata", usage);
+            }
+            out.write(("data: " + objectMapper.writeValueAsString(response) + "\r\n\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        }
+    }
+
+    private ObjectNode chunk(String model, String text, boolean last) {
+        ObjectNode candidate = objectMapper.createObjectNode();
+        ObjectNode content = candidate.putObject("content");
+        content.putArray("parts").addObject().put("text", text);
+        content.put("role", "model");
+        if (last) {
+            candidate.put("finishReason", "STOP");
+        }
+        ObjectNode response = objectMapper.createObjectNode();
+        response.putArray("candidates").add(candidate);
+        response.put("modelVersion", model);
+        return response;
+    }
+
+    private ObjectNode usage(JsonNode request, String responseText) {
+        StringBuilder prompt = new StringBuilder();
+        int imageCount = 0;
+        for (JsonNode content : request.path("contents")) {
+            for (JsonNode part : content.path("parts")) {
+                prompt.append(part.path("text").asText(""));
+                imageCount += part.has("inlineData") ? 1 : 0;
+            }
+        }
+        int cachedTokens = cachedContentTokens.getOrDefault(
+            request.path("cachedContent").asText(""), 0);
+        int outputTokens = Math.max(1, responseText.length() / 4);
+        int inputTokens = GeminiRateLimitService.estimateTokens(prompt.toString(), imageCount)
+            + cachedTokens;
+
+        ObjectNode usage = objectMapper.createObjectNode();
+        usage.put("promptTokenCount", inputTokens);
+        usage.put("candidatesTokenCount", outputTokens);
+        usage.put("totalTokenCount", inputTokens + outputTokens);
+        if (cachedTokens > 0) {
+            usage.put("cachedContentTokenCount", cachedTokens);
+        }
+        return usage;
+    }
+
+    private void cachedContents(HttpExchange exchange, String path, byte[] requestBody)
+        throws IOException {
+        String method = exchange.getRequestMethod();
+        if ("DELETE".equals(method)) {
+            cachedContentTokens.remove(suffixOf(path).substring(1));
+            send(exchange, 200, "application/json", "{}");
+            return;
+        }
+        if (!"POST".equals(method)) {
+            send(exchange, 405, "application/json", "{}");
+            return;
+        }
+
+        JsonNode request = objectMapper.readTree(requestBody);
+        String name = "cachedContents/fake-" + cachedContentSequence.incrementAndGet();
+        cachedContentTokens.put(name, usage(request, "").path("promptTokenCount").asInt());
+        long ttlSeconds = Long.parseLong(request.path("ttl").asText("3600s").replace("s", ""));
+
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("name", name);
+        response.put("model", request.path("model").asText());
+        response.put("expireTime", Instant.now().plusSeconds(ttlSeconds).toString());
+        send(exchange, 200, "application/json", objectMapper.writeValueAsString(response));
+    }
+
+    /**
+     * 실제 Gemini로 전달합니다. 쿼리(API 키 포함)는 그대로 전달하지만 녹화 파일에는 남기지 않습니다.
+     */
+    private void forward(HttpExchange exchange, String path, byte[] requestBody)
+        throws IOException, InterruptedException {
+        String suffix = suffixOf(path);
+        URI uri = exchange.getRequestURI();
+        String url = properties.getUpstreamBaseUrl() + suffix
+            + (uri.getRawQuery() != null ? "?" + uri.getRawQuery() : "");
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url))
+            .method(exchange.getRequestMethod(), requestBody.length == 0
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(requestBody));
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType != null) {
+            request.header("Content-Type", contentType);
+        }
+        HttpResponse<String> response = upstream.send(request.build(),
+            HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        String responseType = response.headers().firstValue("Content-Type")
+            .orElse("application/json");
+
+        if (path.contains(MODELS_PATH) && response.statusCode() == 200) {
+            recordings.save(suffix, requestBody, new FakeGeminiRecordings.Recording(
+                response.statusCode(), responseType, response.body()));
+            log.info("Gemini 응답 녹화: path={}", suffix);
+        }
+        send(exchange, response.statusCode(), responseType, response.body());
+    }
+
+    private boolean injectError(HttpExchange exchange) throws IOException {
+        FakeGeminiProperties.Errors errors = properties.getErrors();
+        double draw = ThreadLocalRandom.current().nextDouble();
+        if (draw < errors.getRateLimitedRate()) {
+            if (errors.getRetryAfter() != null) {
+                exchange.getResponseHeaders().set("Retry-After",
+                    String.valueOf(errors.getRetryAfter().toSeconds()));
+            }
+            send(exchange, 429, "application/json", errorJson(429, "RESOURCE_EXHAUSTED"));
+            return true;
+        }
+        if (draw < errors.getRateLimitedRate() + errors.getUnavailableRate()) {
+            send(exchange, 503, "application/json", errorJson(503, "UNAVAILABLE"));
+            return true;
+        }
+        return false;
+    }
+
+    private String errorJson(int code, String status) throws IOException {
+        ObjectNode error = objectMapper.createObjectNode();
+        ObjectNode body = error.putObject("error");
+        body.put("code", code);
+        body.put("message", "Gemini 대역 서버 오류 주입");
+        body.put("status", status);
+        return objectMapper.writeValueAsString(error);
+    }
+
+    private Duration sampleLatency() {
+        FakeGeminiProperties.Latency latency = properties.getLatency();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (latency.getDistribution()) {
+            case FIXED -> latency.getMedian();
+            case UNIFORM -> {
+                long min = latency.getMin().toMillis();
+                long max = Math.max(min, latency.getMax().toMillis());
+                yield Duration.ofMillis(min + (long) (random.nextDouble() * (max - min)));
+            }
+            case LOG_NORMAL -> {
+                double median = Math.max(1, latency.getMedian().toMillis());
+                double sigma = Math.log(Math.max(median, latency.getP99().toMillis()) / median) / Z_99;
+                yield Duration.ofMillis((long) (median * Math.exp(sigma * random.nextGaussian())));
+            }
+        };
+    }
+
+    // 서버 경로 접두사(/v1beta 등)를 제외한 나머지 경로
+    private String suffixOf(String path) {
+        int models = path.indexOf(MODELS_PATH);
+        return path.substring(models >= 0 ? models : Math.max(0, path.indexOf(CACHED_CONTENTS_PATH)));
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, String body)
+        throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+}
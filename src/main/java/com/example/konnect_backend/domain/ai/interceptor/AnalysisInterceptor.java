@@ -3,25 +3,30 @@ package com.example.konnect_backend.domain.ai.interceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.MDC;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
 
 import java.util.UUID;
 
 /**
  * 각 문서 분석 요청을 식별할 request_id를 지정합니다. </br>
  * 식별자는 요청 내 LLM API 호출을 하나로 묶어줍니다. </br>
- * MDC는 스레드 단위에서 격리됩니다.
+ * MDC는 스레드 단위에서 격리됩니다. </br>
+ * 스트리밍 요청은 비동기로 처리되므로 서블릿 스레드가 반환될 때도 MDC를 정리합니다.
  */
-public class AnalysisInterceptor implements HandlerInterceptor {
+public class AnalysisInterceptor implements AsyncHandlerInterceptor {
 
     public static final String REQUEST_ID_KEY = "requestId";
+    // 실패한 분석을 이어서 실행할 때 클라이언트가 사용하는 식별자
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
 
     @Override
     public boolean preHandle(HttpServletRequest request,
                              HttpServletResponse response,
                              Object handler) throws Exception {
 
-        MDC.put(REQUEST_ID_KEY, UUID.randomUUID().toString());
+        String requestId = UUID.randomUUID().toString();
+        MDC.put(REQUEST_ID_KEY, requestId);
+        response.setHeader(REQUEST_ID_HEADER, requestId);
 
         return true;
     }
@@ -33,4 +38,11 @@ public class AnalysisInterceptor implements HandlerInterceptor {
                                 Exception ex) throws Exception {
         MDC.remove(REQUEST_ID_KEY);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                               HttpServletResponse response,
+                                               Object handler) throws Exception {
+        MDC.remove(REQUEST_ID_KEY);
+    }
+}
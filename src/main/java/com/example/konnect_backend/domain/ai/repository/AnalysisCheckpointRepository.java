@@ -0,0 +1,19 @@
+package com.example.konnect_backend.domain.ai.repository;
+
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface AnalysisCheckpointRepository extends JpaRepository<AnalysisCheckpoint, Long> {
+
+    List<AnalysisCheckpoint> findByRequestUuid(UUID requestUuid);
+
+    @Modifying
+    @Query("DELETE FROM AnalysisCheckpoint c WHERE c.requestUuid IN :requestUuids")
+    int deleteByRequestUuids(@Param("requestUuids") List<UUID> requestUuids);
+}
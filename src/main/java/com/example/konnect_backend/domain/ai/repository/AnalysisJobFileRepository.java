@@ -0,0 +1,16 @@
+package com.example.konnect_backend.domain.ai.repository;
+
+import com.example.konnect_backend.domain.ai.domain.entity.job.AnalysisJobFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+
+public interface AnalysisJobFileRepository extends JpaRepository<AnalysisJobFile, Long> {
+
+    @Modifying
+    @Query("DELETE FROM AnalysisJobFile f WHERE f.jobId IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") Collection<Long> jobIds);
+}
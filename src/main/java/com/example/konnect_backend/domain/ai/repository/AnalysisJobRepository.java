@@ -0,0 +1,109 @@
+package com.example.konnect_backend.domain.ai.repository;
+
+import com.example.konnect_backend.domain.ai.domain.entity.job.AnalysisJob;
+import com.example.konnect_backend.domain.ai.type.AnalysisJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, Long> {
+
+    /**
+     * 대기 중이거나 임대가 만료된 작업을 잠그고 조회합니다. <br />
+     * SKIP LOCKED로 다른 인스턴스가 잠근 행은 건너뛰므로 워커끼리 대기하지 않습니다.
+     */
+    @Query(value = """
+        SELECT id FROM analysis_job
+        WHERE (status = 'PENDING' OR (status = 'RUNNING' AND lease_expires_at < :now))
+          AND attempts < :maxAttempts
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<Long> findClaimableIdsForUpdate(@Param("now") LocalDateTime now,
+                                         @Param("maxAttempts") int maxAttempts,
+                                         @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisJob j
+        SET j.status = :running, j.leaseOwner = :owner, j.leaseExpiresAt = :leaseExpiresAt,
+            j.attempts = j.attempts + 1, j.updatedAt = :now
+        WHERE j.id IN :ids
+        """)
+    int claim(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+              @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt, @Param("now") LocalDateTime now,
+              @Param("running") AnalysisJobStatus running);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisJob j
+        SET j.leaseExpiresAt = :leaseExpiresAt, j.updatedAt = :now
+        WHERE j.id IN :ids AND j.leaseOwner = :owner AND j.status = :running
+        """)
+    int renewLeases(@Param("ids") Collection<Long> ids, @Param("owner") String owner,
+                    @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt,
+                    @Param("now") LocalDateTime now, @Param("running") AnalysisJobStatus running);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisJob j
+        SET j.requestUuid = :requestUuid, j.updatedAt = :now
+        WHERE j.id = :id AND j.leaseOwner = :owner
+        """)
+    int assignRequestUuid(@Param("id") Long id, @Param("owner") String owner,
+                          @Param("requestUuid") UUID requestUuid, @Param("now") LocalDateTime now);
+
+    /**
+     * 임대 소유자가 일치할 때만 완료 처리합니다. <br />
+     * 임대가 만료되어 다른 워커가 가져간 작업의 결과를 덮어쓰지 않기 위함입니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisJob j
+        SET j.status = :succeeded, j.analysisId = :analysisId, j.resultJson = :resultJson,
+            j.leaseOwner = null, j.leaseExpiresAt = null, j.updatedAt = :now, j.finishedAt = :now
+        WHERE j.id = :id AND j.leaseOwner = :owner
+        """)
+    int succeed(@Param("id") Long id, @Param("owner") String owner,
+                @Param("analysisId") Long analysisId, @Param("resultJson") String resultJson,
+                @Param("now") LocalDateTime now, @Param("succeeded") AnalysisJobStatus succeeded);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisJob j
+        SET j.status = :failed, j.errorCode = :errorCode, j.errorMessage = :errorMessage,
+            j.leaseOwner = null, j.leaseExpiresAt = null, j.updatedAt = :now, j.finishedAt = :now
+        WHERE j.id = :id AND j.leaseOwner = :owner
+        """)
+    int fail(@Param("id") Long id, @Param("owner") String owner,
+             @Param("errorCode") String errorCode, @Param("errorMessage") String errorMessage,
+             @Param("now") LocalDateTime now, @Param("failed") AnalysisJobStatus failed);
+
+    // 실행 중 인스턴스가 반복해서 종료된 작업은 재시도하지 않고 실패 처리
+    @Query("""
+        SELECT j.id FROM AnalysisJob j
+        WHERE j.status = :running AND j.leaseExpiresAt < :now AND j.attempts >= :maxAttempts
+        """)
+    List<Long> findExhaustedIds(@Param("now") LocalDateTime now,
+                                @Param("maxAttempts") int maxAttempts,
+                                @Param("running") AnalysisJobStatus running);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisJob j
+        SET j.status = :failed, j.errorCode = :errorCode, j.errorMessage = :errorMessage,
+            j.leaseOwner = null, j.leaseExpiresAt = null, j.updatedAt = :now, j.finishedAt = :now
+        WHERE j.id IN :ids AND j.status = :running AND j.leaseExpiresAt < :now
+        """)
+    int failExhausted(@Param("ids") Collection<Long> ids, @Param("errorCode") String errorCode,
+                      @Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now,
+                      @Param("running") AnalysisJobStatus running,
+                      @Param("failed") AnalysisJobStatus failed);
+}
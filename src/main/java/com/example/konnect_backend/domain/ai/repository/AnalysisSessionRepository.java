@@ -0,0 +1,34 @@
+package com.example.konnect_backend.domain.ai.repository;
+
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisSession;
+import com.example.konnect_backend.domain.ai.type.AnalysisSessionStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AnalysisSessionRepository extends JpaRepository<AnalysisSession, Long> {
+
+    Optional<AnalysisSession> findByRequestUuid(UUID requestUuid);
+
+    // 동시에 같은 요청을 이어서 실행하지 않도록 상태를 조건부로 전환
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE AnalysisSession s SET s.status = :to, s.updatedAt = :now
+        WHERE s.requestUuid = :requestUuid AND s.status = :from
+        """)
+    int transition(@Param("requestUuid") UUID requestUuid, @Param("from") AnalysisSessionStatus from,
+                   @Param("to") AnalysisSessionStatus to, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.requestUuid FROM AnalysisSession s WHERE s.createdAt < :before")
+    List<UUID> findRequestUuidsCreatedBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query("DELETE FROM AnalysisSession s WHERE s.requestUuid IN :requestUuids")
+    int deleteByRequestUuids(@Param("requestUuids") List<UUID> requestUuids);
+}
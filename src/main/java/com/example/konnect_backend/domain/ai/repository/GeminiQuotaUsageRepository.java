@@ -0,0 +1,48 @@
+package com.example.konnect_backend.domain.ai.repository;
+
+import com.example.konnect_backend.domain.ai.domain.entity.quota.GeminiQuotaUsage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface GeminiQuotaUsageRepository extends JpaRepository<GeminiQuotaUsage, Long> {
+
+    Optional<GeminiQuotaUsage> findByQuotaDateAndModelType(LocalDate quotaDate, String modelType);
+
+    // 동시에 생성해도 예외로 트랜잭션이 롤백되지 않도록 INSERT IGNORE 사용
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO gemini_quota_usage (quota_date, model_type, used)
+        VALUES (:quotaDate, :modelType, 0)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("quotaDate") LocalDate quotaDate,
+                       @Param("modelType") String modelType);
+
+    @Modifying
+    @Query("""
+        UPDATE GeminiQuotaUsage q
+        SET q.used = q.used + :amount
+        WHERE q.quotaDate = :quotaDate
+          AND q.modelType = :modelType
+          AND q.used + :amount <= :limit
+        """)
+    int increaseIfUnderLimit(@Param("quotaDate") LocalDate quotaDate,
+                             @Param("modelType") String modelType,
+                             @Param("amount") int amount,
+                             @Param("limit") int limit);
+
+    @Modifying
+    @Query("""
+        UPDATE GeminiQuotaUsage q
+        SET q.used = q.used + :amount
+        WHERE q.quotaDate = :quotaDate
+          AND q.modelType = :modelType
+        """)
+    int increase(@Param("quotaDate") LocalDate quotaDate,
+                 @Param("modelType") String modelType,
+                 @Param("amount") int amount);
+}
@@ -0,0 +1,42 @@
+package com.example.konnect_backend.domain.ai.repository;
+
+import com.example.konnect_backend.domain.ai.domain.entity.ocr.OcrPageText;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OcrPageTextRepository extends JpaRepository<OcrPageText, Long> {
+
+    /**
+     * 해밍 거리가 maxDistance 이하인 후보를 가까운 순서로 최대 limit개 <br />
+     * 해밍 거리는 인덱스를 쓸 수 없으므로, created_at 인덱스로 보관 기간 안의 최근 scanLimit행만 읽어 비교합니다.
+     * (한 번의 조회 비용은 테이블 크기와 관계없이 scanLimit행의 BIT_COUNT 계산으로 제한됨)
+     */
+    @Query(value = """
+        SELECT * FROM (
+            SELECT * FROM ocr_page_text
+            WHERE created_at >= :since
+            ORDER BY created_at DESC
+            LIMIT :scanLimit
+        ) recent
+        WHERE BIT_COUNT(hash0 ^ :hash0) + BIT_COUNT(hash1 ^ :hash1)
+            + BIT_COUNT(hash2 ^ :hash2) + BIT_COUNT(hash3 ^ :hash3) <= :maxDistance
+        ORDER BY BIT_COUNT(hash0 ^ :hash0) + BIT_COUNT(hash1 ^ :hash1)
+            + BIT_COUNT(hash2 ^ :hash2) + BIT_COUNT(hash3 ^ :hash3), id DESC
+        LIMIT :limit
+        """, nativeQuery = true)
+    List<OcrPageText> findNearest(@Param("hash0") long hash0, @Param("hash1") long hash1,
+                                  @Param("hash2") long hash2, @Param("hash3") long hash3,
+                                  @Param("maxDistance") int maxDistance,
+                                  @Param("since") LocalDateTime since,
+                                  @Param("scanLimit") int scanLimit,
+                                  @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM OcrPageText t WHERE t.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
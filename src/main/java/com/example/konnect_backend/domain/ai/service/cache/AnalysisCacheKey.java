@@ -0,0 +1,25 @@
+package com.example.konnect_backend.domain.ai.service.cache;
+
+import com.example.konnect_backend.domain.ai.type.TargetLanguage;
+
+import java.util.Map;
+
+/**
+ * 문서 분석 결과 캐시 키 <br />
+ * 파일 내용 해시, 번역 대상 언어, 분석에 사용된 활성 프롬프트 버전이 모두 같아야 같은 결과로 간주합니다.
+ *
+ * @param contentHash    업로드 파일 바이트의 SHA-256 (hex)
+ * @param targetLanguage 번역 대상 언어
+ * @param promptVersions 모듈명 - 활성 프롬프트 버전
+ */
+public record AnalysisCacheKey(String contentHash, TargetLanguage targetLanguage,
+                               Map<String, Integer> promptVersions) {
+
+    public AnalysisCacheKey {
+        promptVersions = Map.copyOf(promptVersions);
+    }
+
+    public boolean usesModule(String moduleName) {
+        return promptVersions.containsKey(moduleName);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.konnect_backend.domain.ai.service.cache;
+
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.service.prompt.management.PromptActivatedEvent;
+import com.example.konnect_backend.domain.ai.type.TargetLanguage;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 문서 분석 결과 캐시
+ * <p>
+ * 같은 가정통신문이 여러 학부모에게서 반복 업로드되는 경우 OCR과 모든 프롬프트 모듈 호출을 생략합니다.
+ * <p>
+ * ## 키 구성
+ * - 업로드 파일 바이트의 SHA-256
+ * - 번역 대상 언어
+ * - 각 모듈의 활성 프롬프트 버전
+ * <p>
+ * ## 무효화
+ * - 프롬프트 활성화 시 해당 모듈을 사용한 항목을 모두 제거
+ * - 활성화 직전에 시작된 요청이 이전 버전 키로 저장하는 경우가 있으나, 이후 요청은 새 버전 키로 조회하므로 적중하지 않음
+ */
+@Component
+@Slf4j
+public class AnalysisResultCache {
+
+    private final boolean enabled;
+    private final Cache<AnalysisCacheKey, AnalysisResultSnapshot> cache;
+
+    public AnalysisResultCache(@Value("${ai.analysis-cache.enabled:true}") boolean enabled,
+                               @Value("${ai.analysis-cache.maximum-size:500}") long maximumSize,
+                               @Value("${ai.analysis-cache.expire-after-write:PT6H}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+    }
+
+    public AnalysisCacheKey createKey(UploadFile file, TargetLanguage targetLanguage,
+                                      Map<String, Integer> promptVersions) {
+        return new AnalysisCacheKey(sha256(file.bytes()), targetLanguage, promptVersions);
+    }
+
+    public Optional<AnalysisResultSnapshot> get(AnalysisCacheKey key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(key));
+    }
+
+    public void put(AnalysisCacheKey key, AnalysisResultSnapshot snapshot) {
+        if (!enabled) {
+            return;
+        }
+        cache.put(key, snapshot);
+    }
+
+    /**
+     * 활성화 트랜잭션이 커밋된 뒤 해당 모듈 프롬프트로 만든 결과를 제거합니다.
+     */
+    @TransactionalEventListener
+    public void onPromptActivated(PromptActivatedEvent event) {
+        long before = cache.estimatedSize();
+        cache.asMap().keySet().removeIf(key -> key.usesModule(event.moduleName()));
+        log.info("프롬프트 활성화로 분석 결과 캐시 무효화: module={}, version={}, 제거 전 {}건",
+            event.moduleName(), event.version(), before);
+    }
+
+    private String sha256(byte[] bytes) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현체는 SHA-256을 지원해야 함
+            throw new IllegalStateException(e);
+        }
+    }
+}
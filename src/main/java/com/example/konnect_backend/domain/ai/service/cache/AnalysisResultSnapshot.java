@@ -0,0 +1,99 @@
+package com.example.konnect_backend.domain.ai.service.cache;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.dto.internal.ClassificationResult;
+import com.example.konnect_backend.domain.ai.dto.internal.ExtractionResult;
+import com.example.konnect_backend.domain.ai.dto.response.DifficultExpressionDto;
+import com.example.konnect_backend.domain.ai.type.DocumentType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * 캐시와 단계별 체크포인트에 저장되는 파이프라인 실행 결과 <br />
+ * 요청별 값(요청 ID, 토큰 사용량, 사용자 정보)은 포함하지 않습니다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record AnalysisResultSnapshot(
+    String extractedText,
+    Integer pageCount,
+    String ocrMethod,
+    ClassificationResult classificationResult,
+    DocumentType documentType,
+    ExtractionResult extractionResult,
+    List<DifficultExpressionDto> difficultExpressions,
+    String simplifiedKorean,
+    String translatedText,
+    String summary
+) {
+
+    public static AnalysisResultSnapshot from(PipelineContext context) {
+        return new AnalysisResultSnapshot(
+            context.getExtractedText(),
+            context.getPageCount(),
+            context.getOcrMethod(),
+            context.getClassificationResult(),
+            context.getDocumentType(),
+            context.getExtractionResult(),
+            context.getDifficultExpressions() == null ? null
+                : List.copyOf(context.getDifficultExpressions()),
+            context.getSimplifiedKorean(),
+            context.getTranslatedText(),
+            context.getSummary()
+        );
+    }
+
+    /**
+     * 한 단계가 만든 값만 담은 스냅샷을 만듭니다. (체크포인트용)
+     */
+    public static AnalysisResultSnapshot ofStage(PipelineContext.PipelineStage stage,
+                                                 PipelineContext context) {
+        AnalysisResultSnapshot all = from(context);
+        return switch (stage) {
+            case TEXT_EXTRACTED -> new AnalysisResultSnapshot(all.extractedText, all.pageCount,
+                all.ocrMethod, null, null, null, null, null, null, null);
+            case CLASSIFIED -> new AnalysisResultSnapshot(null, null, null,
+                all.classificationResult, all.documentType, null, null, null, null, null);
+            case EXTRACTED -> new AnalysisResultSnapshot(null, null, null, null, null,
+                all.extractionResult, null, null, null, null);
+            case DIFFICULT_EXPRESSIONS_EXTRACTED -> new AnalysisResultSnapshot(null, null, null,
+                null, null, null, all.difficultExpressions, null, null, null);
+            case SIMPLIFIED -> new AnalysisResultSnapshot(null, null, null, null, null, null, null,
+                all.simplifiedKorean, null, null);
+            case TRANSLATED -> new AnalysisResultSnapshot(null, null, null, null, null, null, null,
+                null, all.translatedText, null);
+            case SUMMARIZED -> new AnalysisResultSnapshot(null, null, null, null, null, null, null,
+                null, null, all.summary);
+            default -> throw new IllegalArgumentException("결과가 없는 단계입니다: " + stage);
+        };
+    }
+
+    /**
+     * 값이 있는 항목만 컨텍스트에 덮어씁니다. (여러 단계의 스냅샷을 차례로 합칠 때 사용)
+     */
+    public void mergeInto(PipelineContext context) {
+        if (extractedText != null) context.setExtractedText(extractedText);
+        if (pageCount != null) context.setPageCount(pageCount);
+        if (ocrMethod != null) context.setOcrMethod(ocrMethod);
+        if (classificationResult != null) context.setClassificationResult(classificationResult);
+        if (documentType != null) context.setDocumentType(documentType);
+        if (extractionResult != null) context.setExtractionResult(extractionResult);
+        if (difficultExpressions != null) context.setDifficultExpressions(difficultExpressions);
+        if (simplifiedKorean != null) context.setSimplifiedKorean(simplifiedKorean);
+        if (translatedText != null) context.setTranslatedText(translatedText);
+        if (summary != null) context.setSummary(summary);
+    }
+
+    public void restoreTo(PipelineContext context) {
+        context.setExtractedText(extractedText);
+        context.setPageCount(pageCount);
+        context.setOcrMethod(ocrMethod);
+        context.setClassificationResult(classificationResult);
+        context.setDocumentType(documentType);
+        context.setExtractionResult(extractionResult);
+        context.setDifficultExpressions(difficultExpressions);
+        context.setSimplifiedKorean(simplifiedKorean);
+        context.setTranslatedText(translatedText);
+        context.setSummary(summary);
+    }
+}
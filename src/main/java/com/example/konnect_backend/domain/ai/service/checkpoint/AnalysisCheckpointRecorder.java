@@ -0,0 +1,55 @@
+package com.example.konnect_backend.domain.ai.service.checkpoint;
+
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisSession;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.example.konnect_backend.domain.ai.service.cache.AnalysisResultSnapshot;
+import com.example.konnect_backend.domain.ai.service.pipeline.PipelineEventListener;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 분석 요청 한 건의 세션 정보와 완료된 단계 결과를 메모리에 모읍니다. <br />
+ * 모듈 실행 스레드에서는 단계 결과만 복사하고, DB에는 요청이 실패했을 때만
+ * {@link AnalysisCheckpointService#markFailed(AnalysisCheckpointRecorder)}가 한 번에 저장합니다.
+ */
+@Slf4j
+public class AnalysisCheckpointRecorder implements PipelineEventListener {
+
+    private final AnalysisSession session;
+    private final Map<PipelineStage, AnalysisResultSnapshot> stages = new ConcurrentHashMap<>();
+
+    AnalysisCheckpointRecorder(AnalysisSession session, Map<PipelineStage, AnalysisResultSnapshot> restored) {
+        this.session = session;
+        this.stages.putAll(restored);
+    }
+
+    @Override
+    public void onStageCompleted(PipelineStage stage, PipelineContext context) {
+        try {
+            stages.put(stage, AnalysisResultSnapshot.ofStage(stage, context));
+        } catch (RuntimeException e) {
+            // 기록하지 못한 단계는 이어서 실행할 때 다시 실행됨
+            log.warn("체크포인트 기록 실패: requestId={}, stage={}, message={}", session.getRequestUuid(), stage,
+                e.getMessage());
+        }
+    }
+
+    // 체크포인트에서 복원한 단계는 생성 시 이미 담겨 있고, 분석 결과 캐시에서 복원한 단계는 기록하지 않음
+    @Override
+    public void onStageRestored(PipelineStage stage, PipelineContext context) {
+    }
+
+    public AnalysisSession session() {
+        return session;
+    }
+
+    Map<PipelineStage, AnalysisResultSnapshot> stages() {
+        Map<PipelineStage, AnalysisResultSnapshot> copy = new EnumMap<>(PipelineStage.class);
+        copy.putAll(stages);
+        return copy;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.konnect_backend.domain.ai.service.checkpoint;
+
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisCheckpoint;
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisSession;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.repository.AnalysisCheckpointRepository;
+import com.example.konnect_backend.domain.ai.repository.AnalysisSessionRepository;
+import com.example.konnect_backend.domain.ai.service.cache.AnalysisResultSnapshot;
+import com.example.konnect_backend.domain.ai.service.pipeline.PipelineEventListener;
+import com.example.konnect_backend.domain.ai.type.AnalysisSessionStatus;
+import com.example.konnect_backend.domain.ai.type.TargetLanguage;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 파이프라인 단계별 결과를 저장하고, 실패한 요청을 완료된 단계부터 이어서 실행할 수 있도록 복원합니다.
+ * <p>
+ * ## 저장 시점
+ * - 단계 결과는 요청별 기록기(AnalysisCheckpointRecorder)가 메모리에 모으고, 요청이 실패했을 때만 한 번에 저장
+ * - 성공한 요청은 세션과 체크포인트를 쓰지 않으므로 모듈 실행 중 DB를 기다리거나 커넥션을 하나 더 잡지 않음
+ * - 실패 저장은 분석 트랜잭션 롤백과 무관하게 남도록 별도 트랜잭션으로 수행 (실패 요청 로그와 같은 방식)
+ */
+@Slf4j
+@Service
+public class AnalysisCheckpointService {
+
+    private final AnalysisSessionRepository sessionRepository;
+    private final AnalysisCheckpointRepository checkpointRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNew;
+    private final Duration retention;
+
+    public AnalysisCheckpointService(AnalysisSessionRepository sessionRepository,
+                                     AnalysisCheckpointRepository checkpointRepository,
+                                     ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${ai.analysis-checkpoint.retention:PT24H}") Duration retention) {
+        this.sessionRepository = sessionRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.objectMapper = objectMapper;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retention = retention;
+    }
+
+    /**
+     * 요청의 세션 정보를 담은 기록기를 만듭니다. <br />
+     * 기록기를 파이프라인 리스너로 등록하면 완료된 단계 결과가 메모리에 모이며, 요청이 성공하면 아무것도 저장하지 않습니다.
+     */
+    public AnalysisCheckpointRecorder startSession(UUID requestId, Long userId, String deviceUuid,
+                                                   UploadFile file, TargetLanguage targetLanguage) {
+        return new AnalysisCheckpointRecorder(AnalysisSession.builder().requestUuid(requestId).userId(userId)
+            .deviceUuid(deviceUuid).fileName(file.originalName()).fileType(file.fileType())
+            .contentType(file.mimeType()).fileSize(file.size()).targetLanguage(targetLanguage)
+            .createdAt(LocalDateTime.now()).build(), Map.of());
+    }
+
+    /**
+     * 실패한 요청의 세션과 기록된 단계 결과를 저장하여 이어서 실행할 수 있게 합니다. <br />
+     * 분석 트랜잭션은 실패로 롤백되므로 별도 트랜잭션으로 저장하며, 저장 실패는 원래 예외를 가리지 않도록 로그만 남깁니다.
+     * (이 경우 요청은 이어서 실행할 수 없고 처음부터 다시 분석해야 함)
+     */
+    public void markFailed(AnalysisCheckpointRecorder recorder) {
+        AnalysisSession session = recorder.session();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<AnalysisCheckpoint> checkpoints = new ArrayList<>();
+            for (Map.Entry<PipelineStage, AnalysisResultSnapshot> stage : recorder.stages().entrySet()) {
+                checkpoints.add(new AnalysisCheckpoint(session.getRequestUuid(), stage.getKey(),
+                    objectMapper.writeValueAsString(stage.getValue()), now));
+            }
+            session.changeStatus(AnalysisSessionStatus.FAILED, now);
+            requiresNew.executeWithoutResult(status -> {
+                sessionRepository.save(session);
+                checkpointRepository.saveAll(checkpoints);
+            });
+        } catch (Exception e) {
+            log.warn("실패한 분석 요청의 체크포인트 저장 실패: requestId={}, message={}", session.getRequestUuid(),
+                e.getMessage());
+        }
+    }
+
+    /**
+     * 실패한 요청을 새 요청으로 이어받습니다. <br />
+     * 원래 요청은 RESUMED로 바뀌어 다시 이어받을 수 없고, 복원한 단계 결과는 새 요청의 기록기에 담겨
+     * 새 요청이 또 실패하면 새 요청의 체크포인트로 복사됩니다.
+     *
+     * @throws GeneralException 요청이 없거나 소유자가 아닌 경우 ANALYSIS_NOT_FOUND,
+     *                          실패 상태가 아니거나 텍스트 추출 결과가 없는 경우 ANALYSIS_NOT_RESUMABLE
+     */
+    @Transactional
+    public ResumePoint resume(UUID originalRequestId, UUID newRequestId, Long userId,
+                              String deviceUuid) {
+        AnalysisSession original = sessionRepository.findByRequestUuid(originalRequestId)
+            .filter(session -> isOwner(session, userId, deviceUuid))
+            .orElseThrow(() -> new GeneralException(ErrorStatus.ANALYSIS_NOT_FOUND));
+
+        Map<PipelineStage, AnalysisResultSnapshot> outputs = new EnumMap<>(PipelineStage.class);
+        for (AnalysisCheckpoint checkpoint : checkpointRepository.findByRequestUuid(
+            originalRequestId)) {
+            outputs.put(checkpoint.getStage(), read(checkpoint));
+        }
+        if (!outputs.containsKey(PipelineStage.TEXT_EXTRACTED)) {
+            throw new GeneralException(ErrorStatus.ANALYSIS_NOT_RESUMABLE);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (sessionRepository.transition(originalRequestId, AnalysisSessionStatus.FAILED,
+            AnalysisSessionStatus.RESUMED, now) == 0) {
+            throw new GeneralException(ErrorStatus.ANALYSIS_NOT_RESUMABLE);
+        }
+
+        AnalysisSession resumed = AnalysisSession.builder()
+            .requestUuid(newRequestId).resumedFromUuid(originalRequestId)
+            .userId(original.getUserId()).deviceUuid(original.getDeviceUuid())
+            .fileName(original.getFileName()).fileType(original.getFileType())
+            .contentType(original.getContentType()).fileSize(original.getFileSize())
+            .targetLanguage(original.getTargetLanguage()).createdAt(now).build();
+
+        log.info("분석 이어서 실행: {} -> {}, 복원 단계 {}", originalRequestId, newRequestId,
+            outputs.keySet());
+        return new ResumePoint(new AnalysisCheckpointRecorder(resumed, outputs), outputs);
+    }
+
+    @Scheduled(cron = "${ai.analysis-checkpoint.cleanup-cron:0 30 * * * *}")
+    @Transactional
+    public void deleteExpired() {
+        List<UUID> expired = sessionRepository.findRequestUuidsCreatedBefore(
+            LocalDateTime.now().minus(retention));
+        if (expired.isEmpty()) {
+            return;
+        }
+        checkpointRepository.deleteByRequestUuids(expired);
+        sessionRepository.deleteByRequestUuids(expired);
+        log.info("만료된 분석 세션 정리: {}건", expired.size());
+    }
+
+    private AnalysisResultSnapshot read(AnalysisCheckpoint checkpoint) {
+        try {
+            return objectMapper.readValue(checkpoint.getPayload(), AnalysisResultSnapshot.class);
+        } catch (JsonProcessingException e) {
+            log.error("체크포인트 역직렬화 실패: requestId={}, stage={}",
+                checkpoint.getRequestUuid(), checkpoint.getStage(), e);
+            throw new GeneralException(ErrorStatus.ANALYSIS_NOT_RESUMABLE);
+        }
+    }
+
+    private boolean isOwner(AnalysisSession session, Long userId, String deviceUuid) {
+        if (userId != null) {
+            return userId.equals(session.getUserId());
+        }
+        return session.getUserId() == null && deviceUuid != null
+            && Objects.equals(deviceUuid, session.getDeviceUuid());
+    }
+
+    /**
+     * @param recorder 이어받은 새 요청의 기록기 (세션 정보와 복원한 단계 결과를 담음)
+     * @param outputs  완료된 단계별 결과
+     */
+    public record ResumePoint(AnalysisCheckpointRecorder recorder,
+                              Map<PipelineStage, AnalysisResultSnapshot> outputs) {
+
+        public AnalysisSession session() {
+            return recorder.session();
+        }
+    }
+}
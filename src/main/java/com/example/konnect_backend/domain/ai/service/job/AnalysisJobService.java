@@ -0,0 +1,202 @@
+package com.example.konnect_backend.domain.ai.service.job;
+
+import com.example.konnect_backend.domain.ai.domain.entity.job.AnalysisJob;
+import com.example.konnect_backend.domain.ai.domain.entity.job.AnalysisJobFile;
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.dto.response.AnalysisJobResponse;
+import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
+import com.example.konnect_backend.domain.ai.repository.AnalysisJobFileRepository;
+import com.example.konnect_backend.domain.ai.repository.AnalysisJobRepository;
+import com.example.konnect_backend.domain.ai.type.AnalysisJobStatus;
+import com.example.konnect_backend.domain.user.entity.status.UsageType;
+import com.example.konnect_backend.domain.user.service.UsageFacade;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 비동기 문서 분석 작업의 등록, 조회, 상태 전이를 담당합니다. <br />
+ * 작업은 DB에 저장되므로 재시작 후에도 유지되며, 여러 인스턴스의 워커가 임대(lease) 방식으로 나누어 처리합니다.
+ */
+@Slf4j
+@Service
+public class AnalysisJobService {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 500;
+
+    private final AnalysisJobRepository jobRepository;
+    private final AnalysisJobFileRepository jobFileRepository;
+    private final UsageFacade usageFacade;
+    private final ObjectMapper objectMapper;
+    private final Duration leaseDuration;
+    private final int maxAttempts;
+
+    public AnalysisJobService(AnalysisJobRepository jobRepository,
+                              AnalysisJobFileRepository jobFileRepository,
+                              UsageFacade usageFacade,
+                              ObjectMapper objectMapper,
+                              @Value("${ai.analysis-job.lease-duration:PT2M}") Duration leaseDuration,
+                              @Value("${ai.analysis-job.max-attempts:3}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.jobFileRepository = jobFileRepository;
+        this.usageFacade = usageFacade;
+        this.objectMapper = objectMapper;
+        this.leaseDuration = leaseDuration;
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 분석 작업을 등록합니다. <br />
+     * 인증 정보가 있는 요청 스레드에서 사용량을 차감하고, 워커는 차감 없이 실행합니다.
+     */
+    @Transactional
+    public AnalysisJobResponse enqueue(UploadFile file, Long userId, String deviceUuid) {
+        usageFacade.validateAndIncrease(UsageType.DOCUMENT, deviceUuid);
+
+        AnalysisJob job = jobRepository.save(AnalysisJob.pending(userId, deviceUuid,
+            file.originalName(), file.fileType(), file.mimeType(), file.size(),
+            LocalDateTime.now()));
+        jobFileRepository.save(new AnalysisJobFile(job.getId(), file.bytes()));
+
+        log.debug("분석 작업 등록: jobId={}, 파일={}", job.getId(), file.originalName());
+        return AnalysisJobResponse.of(job, null);
+    }
+
+    @Transactional(readOnly = true)
+    public AnalysisJobResponse getJob(Long jobId, Long userId, String deviceUuid) {
+        AnalysisJob job = jobRepository.findById(jobId)
+            .filter(found -> isOwner(found, userId, deviceUuid))
+            .orElseThrow(() -> new GeneralException(ErrorStatus.ANALYSIS_JOB_NOT_FOUND));
+
+        DocumentAnalysisResponse result = job.getStatus() == AnalysisJobStatus.SUCCEEDED
+            ? readResult(job)
+            : null;
+        return AnalysisJobResponse.of(job, result);
+    }
+
+    /**
+     * 실행할 작업을 최대 limit개 선점합니다. <br />
+     * 임대가 만료된 작업(실행 중 인스턴스 종료)도 다시 가져오며, 최대 시도 횟수를 넘긴 작업은 실패 처리합니다.
+     */
+    @Transactional
+    public List<Long> claim(String owner, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        failExhausted(now);
+
+        List<Long> ids = jobRepository.findClaimableIdsForUpdate(now, maxAttempts, limit);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        jobRepository.claim(ids, owner, now.plus(leaseDuration), now, AnalysisJobStatus.RUNNING);
+        return ids;
+    }
+
+    @Transactional
+    public void renewLeases(String owner, Collection<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        jobRepository.renewLeases(jobIds, owner, now.plus(leaseDuration), now,
+            AnalysisJobStatus.RUNNING);
+    }
+
+    /**
+     * 실행에 필요한 작업 정보와 원본 파일을 읽고, 이번 시도의 요청 식별자를 기록합니다.
+     *
+     * @return 임대를 잃은 경우 null
+     */
+    @Transactional
+    public ClaimedJob start(Long jobId, String owner, UUID requestId) {
+        if (jobRepository.assignRequestUuid(jobId, owner, requestId, LocalDateTime.now()) == 0) {
+            return null;
+        }
+        AnalysisJob job = jobRepository.findById(jobId)
+            .orElseThrow(() -> new GeneralException(ErrorStatus.ANALYSIS_JOB_NOT_FOUND));
+        AnalysisJobFile jobFile = jobFileRepository.findById(jobId)
+            .orElseThrow(() -> new GeneralException(ErrorStatus.ANALYSIS_JOB_NOT_FOUND));
+
+        UploadFile file = new UploadFile(job.getFileName(), job.getFileType(),
+            job.getContentType(), job.getFileSize(), jobFile.getData());
+        return new ClaimedJob(job.getId(), job.getUserId(), job.getDeviceUuid(), file);
+    }
+
+    @Transactional
+    public boolean succeed(Long jobId, String owner, DocumentAnalysisResponse response) {
+        String resultJson;
+        try {
+            resultJson = objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new GeneralException(ErrorStatus.DOCUMENT_ANALYSIS_FAILED);
+        }
+
+        int updated = jobRepository.succeed(jobId, owner, response.getAnalysisId(), resultJson,
+            LocalDateTime.now(), AnalysisJobStatus.SUCCEEDED);
+        if (updated > 0) {
+            jobFileRepository.deleteByJobIds(List.of(jobId));
+        }
+        return updated > 0;
+    }
+
+    @Transactional
+    public boolean fail(Long jobId, String owner, String errorCode, String errorMessage) {
+        int updated = jobRepository.fail(jobId, owner, errorCode, truncate(errorMessage),
+            LocalDateTime.now(), AnalysisJobStatus.FAILED);
+        if (updated > 0) {
+            jobFileRepository.deleteByJobIds(List.of(jobId));
+        }
+        return updated > 0;
+    }
+
+    private void failExhausted(LocalDateTime now) {
+        List<Long> exhausted = jobRepository.findExhaustedIds(now, maxAttempts,
+            AnalysisJobStatus.RUNNING);
+        if (exhausted.isEmpty()) {
+            return;
+        }
+        log.warn("최대 시도 횟수를 초과한 분석 작업 실패 처리: jobIds={}", exhausted);
+        jobRepository.failExhausted(exhausted, ErrorStatus.DOCUMENT_ANALYSIS_FAILED.getCode(),
+            ErrorStatus.DOCUMENT_ANALYSIS_FAILED.getMessage(), now, AnalysisJobStatus.RUNNING,
+            AnalysisJobStatus.FAILED);
+        jobFileRepository.deleteByJobIds(exhausted);
+    }
+
+    private boolean isOwner(AnalysisJob job, Long userId, String deviceUuid) {
+        if (userId != null) {
+            return userId.equals(job.getUserId());
+        }
+        return job.getUserId() == null && deviceUuid != null
+            && Objects.equals(deviceUuid, job.getDeviceUuid());
+    }
+
+    private DocumentAnalysisResponse readResult(AnalysisJob job) {
+        try {
+            return objectMapper.readValue(job.getResultJson(), DocumentAnalysisResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error("분석 작업 결과 역직렬화 실패: jobId={}", job.getId(), e);
+            throw new GeneralException(ErrorStatus.DOCUMENT_ANALYSIS_FAILED);
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+
+    public record ClaimedJob(Long jobId, Long userId, String deviceUuid, UploadFile file) {
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.konnect_backend.domain.ai.service.job;
+
+import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
+import com.example.konnect_backend.domain.ai.service.job.AnalysisJobService.ClaimedJob;
+import com.example.konnect_backend.domain.ai.service.pipeline.DocumentAnalysisPipeline;
+import com.example.konnect_backend.domain.notification.entity.NotificationType;
+import com.example.konnect_backend.domain.notification.service.NotificationService;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import static com.example.konnect_backend.domain.ai.interceptor.AnalysisInterceptor.REQUEST_ID_KEY;
+
+/**
+ * DB 작업 큐를 폴링하여 분석 작업을 실행합니다. <br />
+ * 워커 수만큼만 선점하므로 인스턴스별 동시 실행 수가 제한되며, 실행 중인 작업의 임대는 주기적으로 연장합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ai.analysis-job.enabled", havingValue = "true", matchIfMissing = true)
+public class AnalysisJobWorker {
+
+    private final AnalysisJobService jobService;
+    private final DocumentAnalysisPipeline documentAnalysisPipeline;
+    private final NotificationService notificationService;
+    private final ThreadPoolTaskExecutor analysisJobExecutor;
+
+    private final String workerId;
+    private final Semaphore slots;
+    private final Set<Long> runningJobIds = ConcurrentHashMap.newKeySet();
+
+    public AnalysisJobWorker(AnalysisJobService jobService,
+                             DocumentAnalysisPipeline documentAnalysisPipeline,
+                             NotificationService notificationService,
+                             ThreadPoolTaskExecutor analysisJobExecutor,
+                             @Value("${ai.analysis-job.worker-count:3}") int workerCount) {
+        this.jobService = jobService;
+        this.documentAnalysisPipeline = documentAnalysisPipeline;
+        this.notificationService = notificationService;
+        this.analysisJobExecutor = analysisJobExecutor;
+        this.slots = new Semaphore(workerCount);
+        // 임대 소유자 식별용 (pid@host + 재시작 구분용 난수)
+        this.workerId = ManagementFactory.getRuntimeMXBean().getName() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    @Scheduled(fixedDelayString = "${ai.analysis-job.poll-interval:PT2S}")
+    public void poll() {
+        int available = slots.availablePermits();
+        if (available == 0) {
+            return;
+        }
+
+        List<Long> jobIds;
+        try {
+            jobIds = jobService.claim(workerId, available);
+        } catch (Exception e) {
+            log.warn("분석 작업 선점 실패: {}", e.getMessage());
+            return;
+        }
+
+        for (Long jobId : jobIds) {
+            if (!slots.tryAcquire()) {
+                // 선점했지만 실행하지 못한 작업은 임대 만료 후 다시 선점됨
+                log.warn("워커 슬롯 부족으로 작업 실행 보류: jobId={}", jobId);
+                continue;
+            }
+            runningJobIds.add(jobId);
+            try {
+                analysisJobExecutor.execute(() -> runAndRelease(jobId));
+            } catch (TaskRejectedException e) {
+                log.warn("분석 작업 실행 거절: jobId={}", jobId);
+                release(jobId);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ai.analysis-job.lease-renew-interval:PT30S}")
+    public void renewLeases() {
+        try {
+            jobService.renewLeases(workerId, Set.copyOf(runningJobIds));
+        } catch (Exception e) {
+            log.warn("분석 작업 임대 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void runAndRelease(Long jobId) {
+        try {
+            run(jobId);
+        } finally {
+            release(jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        UUID requestId = UUID.randomUUID();
+        // LLM 호출 로그가 요청 식별자를 MDC에서 읽음
+        MDC.put(REQUEST_ID_KEY, requestId.toString());
+        try {
+            ClaimedJob job = jobService.start(jobId, workerId, requestId);
+            if (job == null) {
+                log.info("임대를 잃은 분석 작업 건너뜀: jobId={}", jobId);
+                return;
+            }
+
+            try {
+                DocumentAnalysisResponse response = documentAnalysisPipeline.analyzeQueued(
+                    requestId, job.file(), job.userId(), job.deviceUuid());
+                if (jobService.succeed(jobId, workerId, response)) {
+                    notify(job, "문서 분석 완료",
+                        "'" + job.file().originalName() + "' 분석이 완료되었습니다.");
+                }
+            } catch (Exception e) {
+                ErrorStatus status = e instanceof GeneralException ge
+                    && ge.getCode() instanceof ErrorStatus errorStatus
+                    ? errorStatus
+                    : ErrorStatus.DOCUMENT_ANALYSIS_FAILED;
+                if (jobService.fail(jobId, workerId, status.getCode(), status.getMessage())) {
+                    notify(job, "문서 분석 실패",
+                        "'" + job.file().originalName() + "' 분석에 실패했습니다.");
+                }
+            }
+        } catch (Exception e) {
+            log.error("분석 작업 처리 중 오류: jobId={}", jobId, e);
+        } finally {
+            MDC.remove(REQUEST_ID_KEY);
+        }
+    }
+
+    // 푸시는 FCM 토큰이 사용자 단위로 관리되므로 로그인 사용자에게만 발송
+    private void notify(ClaimedJob job, String title, String body) {
+        if (job.userId() == null) {
+            return;
+        }
+        try {
+            notificationService.createAndSendNotification(job.userId(), title, body,
+                NotificationType.DOCUMENT, job.jobId());
+        } catch (Exception e) {
+            log.warn("분석 작업 완료 알림 발송 실패: jobId={}, message={}", job.jobId(), e.getMessage());
+        }
+    }
+
+    private void release(Long jobId) {
+        runningJobIds.remove(jobId);
+        slots.release();
+    }
+}
@@ -44,7 +44,8 @@ public class GeminiLogService {
                 logTime);
         } else {
             metadata = LlmCallMetadata.succeed(requestId, result.model(), (int) result.maxTokens(),
-                result.tokenUsage().inputTokens(), result.tokenUsage().outputTokens(), latency,
+                result.tokenUsage().inputTokens(), result.tokenUsage().outputTokens(),
+                result.tokenUsage().cachedInputTokens(), latency,
                 promptVersion,
                 moduleName, result.finishReason(), logTime);
         }
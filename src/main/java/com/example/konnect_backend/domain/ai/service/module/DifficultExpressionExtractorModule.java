@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 어려운 표현 추출 모듈 (Gemini API 사용)
@@ -86,7 +87,18 @@ public class DifficultExpressionExtractorModule implements PromptModule {
         return "DIFFICULT_EXPRESSION_EXTRACTION";
     }
 
-    private List<DifficultExpressionDto> parseResponse(String response) {
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.TEXT_EXTRACTED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return Set.of(PipelineContext.PipelineStage.DIFFICULT_EXPRESSIONS_EXTRACTED);
+    }
+
+    // 통합 분석 모듈(FusedAnalysisModule)의 difficultExpressions 섹션 파싱에도 사용
+    static List<DifficultExpressionDto> parseResponse(String response) {
         try {
             String jsonStr = PromptUtils.extractJsonArray(response);
             ObjectMapper mapper = new ObjectMapper();
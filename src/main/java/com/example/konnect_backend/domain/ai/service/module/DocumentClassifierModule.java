@@ -17,6 +17,7 @@ import org.springframework.stereotype.Component;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 문서 분류 모듈 (Gemini API 사용)
@@ -55,7 +56,7 @@ public class DocumentClassifierModule implements PromptModule {
             GeminiCallResult callResult = geminiService.generateSimpleContent(prompt, TEMPERATURE, MAX_TOKENS);
             String response = callResult.response();
 
-            ClassificationResult result = parseClassificationResult(response);
+            ClassificationResult result = parseClassificationResult(objectMapper, response);
             context.setClassificationResult(result);
             context.setDocumentType(result.getDocumentType());
             context.addLog("문서 분류 완료: " + result.getDocumentType().getDisplayName() +
@@ -93,8 +94,19 @@ public class DocumentClassifierModule implements PromptModule {
         return "CLASSIFICATION";
     }
 
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.TEXT_EXTRACTED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return Set.of(PipelineContext.PipelineStage.CLASSIFIED);
+    }
+
+    // 통합 분석 모듈(FusedAnalysisModule)의 classification 섹션 파싱에도 사용
     @SuppressWarnings("unchecked")
-    private ClassificationResult parseClassificationResult(String response) {
+    static ClassificationResult parseClassificationResult(ObjectMapper objectMapper, String response) {
         try {
             String jsonStr = PromptUtils.extractJsonObject(response);
             Map<String, Object> map = objectMapper.readValue(jsonStr, Map.class);
@@ -0,0 +1,145 @@
+package com.example.konnect_backend.domain.ai.service.module;
+
+import com.example.konnect_backend.domain.ai.domain.entity.PromptTemplate;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
+import com.example.konnect_backend.domain.ai.dto.internal.ClassificationResult;
+import com.example.konnect_backend.domain.ai.dto.internal.ExtractionResult;
+import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
+import com.example.konnect_backend.domain.ai.dto.response.DifficultExpressionDto;
+import com.example.konnect_backend.domain.ai.infra.GeminiService;
+import com.example.konnect_backend.domain.ai.service.prompt.PromptTemplateResolver;
+import com.example.konnect_backend.domain.ai.util.PromptUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 문서 분류 + 통합 정보 추출 + 어려운 표현 추출을 한 번의 Gemini 호출로 처리하는 모듈
+ *
+ * ## 사용 조건
+ * - ai.pipeline.mode=fused 일 때만 파이프라인 그래프에 포함됨
+ * - 이때 CLASSIFICATION, UNIFIED_EXTRACTION, DIFFICULT_EXPRESSION_EXTRACTION 노드는 제외됨
+ *
+ * ## 모델 선택: gemini-2.0-flash (Primary)
+ * - 이유: 세 가지 결과를 하나의 JSON 구조로 출력해야 하므로 통합 추출과 같은 모델 사용
+ * - 같은 본문을 세 번 보내지 않으므로 입력 토큰과 왕복 지연이 줄어듦
+ *
+ * ## 응답 형식
+ * {"classification": {...}, "extraction": {...}, "difficultExpressions": [...]} <br />
+ * 섹션별로 기존 모듈의 파서를 사용하며, 한 섹션의 파싱 실패는 해당 결과만 기본값으로 대체합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FusedAnalysisModule implements PromptModule {
+
+    public static final String MODULE_NAME = "FUSED_ANALYSIS";
+
+    public static final Set<PipelineContext.PipelineStage> PRODUCES = Set.of(
+        PipelineContext.PipelineStage.CLASSIFIED,
+        PipelineContext.PipelineStage.EXTRACTED,
+        PipelineContext.PipelineStage.DIFFICULT_EXPRESSIONS_EXTRACTED);
+
+    private final GeminiService geminiService;
+    private final ObjectMapper objectMapper;
+    private final PromptTemplateResolver resolver;
+
+    // Primary 모델 사용 (분류/추출/어려운 표현 출력을 합친 토큰 수)
+    public static final String MODEL_NAME = "gemini-2.0-flash";
+    public static final double TEMPERATURE = 0.2;
+    public static final int MAX_TOKENS = 5000;
+
+    @Override
+    public TokenUsage process(PromptTemplate promptTemplate, PipelineContext context) {
+        Map<String, String> vars = getVars(context);
+        String prompt = resolver.resolve(promptTemplate, vars);
+
+        long startTime = System.currentTimeMillis();
+        try {
+            log.info("통합 분석 시작 (Gemini Primary 모델, 출력 언어: {})",
+                context.getTargetLanguage().getDisplayName());
+
+            GeminiCallResult callResult = geminiService.generateContent(prompt, TEMPERATURE,
+                MAX_TOKENS, true, true);
+            applyResult(callResult.response(), context);
+
+            log.info("통합 분석 소요시간: {} ms", System.currentTimeMillis() - startTime);
+
+            return callResult.tokenUsage();
+        } catch (Exception e) {
+            log.error("통합 분석 실패", e);
+
+            ClassificationResult defaultResult = ClassificationResult.defaultNotice();
+            context.setDocumentType(defaultResult.getDocumentType());
+            context.setClassificationResult(defaultResult);
+            context.addLog("통합 분석 실패, 문서 분류 기본값(NOTICE) 사용: " + e.getMessage());
+
+            throw e;
+        }
+    }
+
+    @Override
+    public Map<String, String> getVars(PipelineContext context) {
+        Map<String, String> vars = new HashMap<>();
+        vars.put("target_language", context.getTargetLanguage().getDisplayName());
+        vars.put("today", LocalDate.now().toString());
+        vars.put("text", PromptUtils.truncateText(context.getExtractedText(), 5000));
+
+        return vars;
+    }
+
+    @Override
+    public String getModuleName() {
+        return MODULE_NAME;
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.TEXT_EXTRACTED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return PRODUCES;
+    }
+
+    void applyResult(String response, PipelineContext context) {
+        JsonNode root = readRoot(response);
+
+        ClassificationResult classification = DocumentClassifierModule.parseClassificationResult(
+            objectMapper, root.path("classification").toString());
+        ExtractionResult extraction = UnifiedExtractorModule.parseUnifiedResult(
+            root.path("extraction").toString());
+        List<DifficultExpressionDto> expressions = DifficultExpressionExtractorModule.parseResponse(
+            root.path("difficultExpressions").toString());
+
+        context.setClassificationResult(classification);
+        context.setDocumentType(classification.getDocumentType());
+        context.setExtractionResult(extraction);
+        context.setDifficultExpressions(expressions);
+
+        int scheduleCount = extraction.getSchedules() != null ? extraction.getSchedules().size() : 0;
+        context.addLog(String.format("통합 분석 완료: 문서 유형 %s (신뢰도: %s), %d개 일정, 어려운 표현 %d개",
+            classification.getDocumentType().getDisplayName(), classification.getConfidence(),
+            scheduleCount, expressions.size()));
+        context.setCompletedStage(PipelineContext.PipelineStage.DIFFICULT_EXPRESSIONS_EXTRACTED);
+    }
+
+    private JsonNode readRoot(String response) {
+        try {
+            return objectMapper.readTree(PromptUtils.extractJsonObject(response));
+        } catch (Exception e) {
+            log.warn("통합 분석 결과 JSON 파싱 실패: {}", PromptUtils.truncateText(response, 200), e);
+            return objectMapper.createObjectNode();
+        }
+    }
+}
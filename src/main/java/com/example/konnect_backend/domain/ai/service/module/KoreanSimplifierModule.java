@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 쉬운 한국어 변환 모듈 (Gemini API 사용)
@@ -82,4 +83,14 @@ public class KoreanSimplifierModule implements PromptModule {
     public String getModuleName() {
         return "SIMPLIFICATION";
     }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.TEXT_EXTRACTED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return Set.of(PipelineContext.PipelineStage.SIMPLIFIED);
+    }
 }
@@ -5,6 +5,7 @@ import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
 import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
 
 import java.util.Map;
+import java.util.Set;
 
 public interface PromptModule {
 
@@ -14,4 +15,10 @@ public interface PromptModule {
     String getModuleName();
 
     Map<String, String> getVars(PipelineContext context);
+
+    // 실행 전에 완료되어 있어야 하는 단계 (파이프라인 그래프의 선행 조건)
+    Set<PipelineContext.PipelineStage> requires();
+
+    // 실행 후 완료되는 단계
+    Set<PipelineContext.PipelineStage> produces();
 }
@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 요약 모듈 (Gemini API 사용)
@@ -49,8 +50,7 @@ public class SummarizerModule implements PromptModule {
             long startTime = System.currentTimeMillis();
 
             // Gemini Lite 모델 사용 (preferPrimary = false)
-            GeminiCallResult callResult = geminiService.generateSimpleContent(prompt, TEMPERATURE,
-                MAX_TOKENS);
+            GeminiCallResult callResult = callGemini(prompt, context);
             String summary = callResult.response();
 
             if (summary == null || summary.isBlank()) {
@@ -71,11 +71,30 @@ public class SummarizerModule implements PromptModule {
         }
     }
 
+    // 조각을 받을 리스너(SSE 등)가 있으면 생성되는 대로 전달
+    private GeminiCallResult callGemini(String prompt, PipelineContext context) {
+        if (!context.acceptsPartialResults()) {
+            return geminiService.generateSimpleContent(prompt, TEMPERATURE, MAX_TOKENS);
+        }
+        return geminiService.streamContent(prompt, TEMPERATURE, MAX_TOKENS, false,
+            chunk -> context.publishPartialResult(PipelineContext.PipelineStage.SUMMARIZED, chunk));
+    }
+
     @Override
     public String getModuleName() {
         return "SUMMARIZATION";
     }
 
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.SIMPLIFIED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return Set.of(PipelineContext.PipelineStage.SUMMARIZED);
+    }
+
     public Map<String, String> getVars(PipelineContext context) {
         String targetLanguage = context.getTargetLanguage() != null
             ? context.getTargetLanguage().getDisplayName()
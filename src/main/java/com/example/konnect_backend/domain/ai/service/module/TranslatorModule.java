@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 번역 모듈 (Gemini API 사용)
@@ -50,8 +51,7 @@ public class TranslatorModule implements PromptModule {
             long startTime = System.currentTimeMillis();
 
             // Gemini Lite 모델 사용 (preferPrimary = false)
-            GeminiCallResult callResult = geminiService.generateSimpleContent(prompt, TEMPERATURE,
-                MAX_TOKENS);
+            GeminiCallResult callResult = callGemini(prompt, context);
             String translatedText = callResult.response();
 
             if (translatedText == null || translatedText.isBlank()) {
@@ -73,11 +73,30 @@ public class TranslatorModule implements PromptModule {
         }
     }
 
+    // 조각을 받을 리스너(SSE 등)가 있으면 생성되는 대로 전달
+    private GeminiCallResult callGemini(String prompt, PipelineContext context) {
+        if (!context.acceptsPartialResults()) {
+            return geminiService.generateSimpleContent(prompt, TEMPERATURE, MAX_TOKENS);
+        }
+        return geminiService.streamContent(prompt, TEMPERATURE, MAX_TOKENS, false,
+            chunk -> context.publishPartialResult(PipelineContext.PipelineStage.TRANSLATED, chunk));
+    }
+
     @Override
     public String getModuleName() {
         return "TRANSLATION";
     }
 
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.SIMPLIFIED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return Set.of(PipelineContext.PipelineStage.TRANSLATED);
+    }
+
     public Map<String, String> getVars(PipelineContext context) {
         String simplifiedKorean = context.getSimplifiedKorean();
         String targetLanguage = context.getTargetLanguage().getDisplayName();
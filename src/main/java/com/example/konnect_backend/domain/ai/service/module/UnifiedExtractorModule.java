@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 통합 정보 추출 모듈 (Gemini API 사용)
@@ -54,9 +55,9 @@ public class UnifiedExtractorModule implements PromptModule {
                 context.getTargetLanguage().getDisplayName());
             long startTime = System.currentTimeMillis();
 
-            // Gemini Primary 모델 사용 (preferPrimary = true)
+            // Gemini Primary 모델 사용 (preferPrimary = true), 429 응답 시 Lite 모델 폴백 허용
             GeminiCallResult callResult = geminiService.generateContent(prompt, TEMPERATURE,
-                MAX_TOKENS, true);
+                MAX_TOKENS, true, true);
             String response = callResult.response();
 
             ExtractionResult result = parseUnifiedResult(response);
@@ -82,6 +83,16 @@ public class UnifiedExtractorModule implements PromptModule {
         return "UNIFIED_EXTRACTION";
     }
 
+    @Override
+    public Set<PipelineContext.PipelineStage> requires() {
+        return Set.of(PipelineContext.PipelineStage.TEXT_EXTRACTED);
+    }
+
+    @Override
+    public Set<PipelineContext.PipelineStage> produces() {
+        return Set.of(PipelineContext.PipelineStage.EXTRACTED);
+    }
+
     public Map<String, String> getVars(PipelineContext context) {
         Map<String, String> vars = new HashMap<>();
         vars.put("target_language", context.getTargetLanguage().getDisplayName());
@@ -91,8 +102,9 @@ public class UnifiedExtractorModule implements PromptModule {
         return vars;
     }
 
+    // 통합 분석 모듈(FusedAnalysisModule)의 extraction 섹션 파싱에도 사용
     @SuppressWarnings("unchecked")
-    private ExtractionResult parseUnifiedResult(String response) {
+    static ExtractionResult parseUnifiedResult(String response) {
         try {
             String jsonStr = PromptUtils.extractJsonObject(response);
 
@@ -1,11 +1,15 @@
 package com.example.konnect_backend.domain.ai.service.pipeline;
 
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisSession;
 import com.example.konnect_backend.domain.ai.domain.vo.ExtractedText;
 import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
 import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
 import com.example.konnect_backend.domain.ai.dto.internal.ExtractionResult;
 import com.example.konnect_backend.domain.ai.dto.response.DifficultExpressionDto;
 import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
+import com.example.konnect_backend.domain.ai.service.checkpoint.AnalysisCheckpointRecorder;
+import com.example.konnect_backend.domain.ai.service.checkpoint.AnalysisCheckpointService;
+import com.example.konnect_backend.domain.ai.service.checkpoint.AnalysisCheckpointService.ResumePoint;
 import com.example.konnect_backend.domain.ai.service.history.AnalysisHistoryService;
 import com.example.konnect_backend.domain.ai.service.log.AnalysisLogService;
 import com.example.konnect_backend.domain.ai.type.TargetLanguage;
@@ -38,6 +42,7 @@ public class DocumentAnalysisPipeline {
     private final AnalysisHistoryService analysisHistoryService;
     private final AnalysisLogService analysisLogService;
     private final PipelineExecutor pipelineExecutor;
+    private final AnalysisCheckpointService checkpointService;
 
     private final UserRepository userRepository;
     private final UsageFacade usageFacade;
@@ -45,14 +50,44 @@ public class DocumentAnalysisPipeline {
 
     @Transactional
     public DocumentAnalysisResponse analyze(UploadFile file, Long requesterId, String deviceUuid) {
+        return analyze(file, requesterId, deviceUuid, PipelineEventListener.NONE);
+    }
+
+    /**
+     * 단계별 결과를 리스너로 전달하며 문서를 분석합니다.
+     *
+     * @param eventListener 각 단계가 끝날 때 호출되는 리스너
+     */
+    @Transactional
+    public DocumentAnalysisResponse analyze(UploadFile file, Long requesterId, String deviceUuid,
+                                            PipelineEventListener eventListener) {
 
         // 사용량 증가
         usageFacade.validateAndIncrease(UsageType.DOCUMENT, deviceUuid);
 
         UUID requestId = UUID.fromString(MDC.get(REQUEST_ID_KEY));
         log.debug("[analyze] requestId: {}", requestId);
+        return analyze(requestId, file, requesterId, deviceUuid, eventListener);
+    }
+
+    /**
+     * 작업 큐에 등록된 문서를 분석합니다. <br />
+     * 사용량은 등록 시점에 이미 차감되었으므로 다시 검증하지 않습니다.
+     *
+     * @param requestId 실행 시도 식별자 (MDC에도 동일한 값이 설정되어 있어야 LLM 호출 로그와 연결됨)
+     */
+    @Transactional
+    public DocumentAnalysisResponse analyzeQueued(UUID requestId, UploadFile file, Long requesterId,
+                                                  String deviceUuid) {
+        return analyze(requestId, file, requesterId, deviceUuid, PipelineEventListener.NONE);
+    }
+
+    private DocumentAnalysisResponse analyze(UUID requestId, UploadFile file, Long requesterId,
+                                             String deviceUuid, PipelineEventListener eventListener) {
         User user = getUser(requesterId);
         TargetLanguage targetLanguage = getTargetLanguage(user, deviceUuid);
+        AnalysisCheckpointRecorder checkpoints = checkpointService.startSession(requestId,
+            user == null ? null : user.getId(), deviceUuid, file, targetLanguage);
 
         PipelineContext context = PipelineContext.builder()
                 .requestId(requestId)
@@ -60,13 +95,50 @@ public class DocumentAnalysisPipeline {
                 .completedStage(PipelineContext.PipelineStage.NONE)
                 .file(file)
                 .processingLogs(new ArrayList<>())
+                .eventListener(PipelineEventListener.compose(checkpoints, eventListener))
+                .build();
+
+        return executePipeline(requestId, file, user, deviceUuid, context, checkpoints);
+    }
+
+    /**
+     * 실패한 분석 요청을 저장된 단계 결과부터 이어서 실행합니다. <br />
+     * 완료된 단계(텍스트 추출 포함)는 다시 실행하지 않으며, 사용량도 다시 차감하지 않습니다. <br />
+     * 롤백할 사용량 차감이 없으므로 파이프라인 전체를 트랜잭션으로 묶지 않고, 세션 전이와 기록 저장은 각각 짧게 커밋합니다.
+     *
+     * @param originalRequestId 실패한 요청의 식별자 (분석 응답의 X-Request-Id 헤더)
+     */
+    public DocumentAnalysisResponse resume(UUID originalRequestId, Long requesterId,
+                                           String deviceUuid) {
+        UUID requestId = UUID.fromString(MDC.get(REQUEST_ID_KEY));
+        ResumePoint resumePoint = checkpointService.resume(originalRequestId, requestId,
+            requesterId, deviceUuid);
+        AnalysisSession session = resumePoint.session();
+        User user = getUser(session.getUserId());
+
+        // 원본 파일은 보관하지 않으므로 내역 저장과 응답에 필요한 메타데이터만 복원
+        UploadFile file = new UploadFile(session.getFileName(), session.getFileType(),
+            session.getContentType(), session.getFileSize(), new byte[0]);
+
+        PipelineContext context = PipelineContext.builder()
+                .requestId(requestId)
+                .targetLanguage(session.getTargetLanguage())
+                .completedStage(PipelineContext.PipelineStage.NONE)
+                .file(file)
+                .processingLogs(new ArrayList<>())
+                .eventListener(resumePoint.recorder())
                 .build();
+        resumePoint.outputs().values().forEach(snapshot -> snapshot.mergeInto(context));
+        resumePoint.outputs().keySet().forEach(context::publishStageRestored);
+        context.addLog("이어서 실행: " + originalRequestId + ", 복원 단계 " + resumePoint.outputs().keySet());
 
-        return executePipeline(requestId, file, user, deviceUuid, context);
+        return executePipeline(requestId, file, user, session.getDeviceUuid(), context,
+            resumePoint.recorder());
     }
 
     private DocumentAnalysisResponse executePipeline(UUID requestId, UploadFile file, User user,
-                                                     String deviceUuid, PipelineContext context) {
+                                                     String deviceUuid, PipelineContext context,
+                                                     AnalysisCheckpointRecorder checkpoints) {
         long startTime = System.currentTimeMillis();
 
         try {
@@ -101,6 +173,7 @@ public class DocumentAnalysisPipeline {
             long processingTime = System.currentTimeMillis() - startTime;
 
             analysisLogService.fail(context, processingTime, now, user == null ? null : user.getId());
+            checkpointService.markFailed(checkpoints);
 
             throw e;
         }
@@ -146,7 +219,7 @@ public class DocumentAnalysisPipeline {
         return DocumentAnalysisResponse.builder().analysisId(analysisId)
             .extractedText(extractedText).difficultExpressions(difficultExpressions)
             .translatedText(translatedText).summary(summary)
-            .extractedSchedules(extraction.getSchedules()).originalFileName(file.originalName())
+            .extractedSchedules(extraction == null ? List.of() : extraction.getSchedules()).originalFileName(file.originalName())
             .build();
     }
 }
@@ -0,0 +1,69 @@
+package com.example.konnect_backend.domain.ai.service.pipeline;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+
+/**
+ * 파이프라인 단계가 끝날 때마다 호출되는 리스너입니다. <br />
+ * 모듈 실행 스레드에서 호출되므로 구현체는 스레드 안전해야 하며, 예외를 던지지 않아야 합니다.
+ */
+public interface PipelineEventListener {
+
+    PipelineEventListener NONE = new PipelineEventListener() {
+    };
+
+    /**
+     * @param stage   완료된 단계
+     * @param context 해당 단계의 결과가 반영된 컨텍스트
+     */
+    default void onStageCompleted(PipelineContext.PipelineStage stage, PipelineContext context) {
+    }
+
+    /**
+     * 실행하지 않고 캐시나 체크포인트에서 복원한 단계입니다. <br />
+     * 기본적으로 완료와 동일하게 취급합니다.
+     */
+    default void onStageRestored(PipelineContext.PipelineStage stage, PipelineContext context) {
+        onStageCompleted(stage, context);
+    }
+
+    /**
+     * 스트리밍 호출로 생성 중인 단계의 텍스트 조각입니다. <br />
+     * {@link #acceptsPartialResults()}가 true인 리스너가 있을 때만 모듈이 스트리밍 호출을 사용합니다.
+     */
+    default void onPartialResult(PipelineContext.PipelineStage stage, String chunk) {
+    }
+
+    default boolean acceptsPartialResults() {
+        return false;
+    }
+
+    static PipelineEventListener compose(PipelineEventListener first,
+                                         PipelineEventListener second) {
+        return new PipelineEventListener() {
+            @Override
+            public void onStageCompleted(PipelineContext.PipelineStage stage,
+                                         PipelineContext context) {
+                first.onStageCompleted(stage, context);
+                second.onStageCompleted(stage, context);
+            }
+
+            @Override
+            public void onStageRestored(PipelineContext.PipelineStage stage,
+                                        PipelineContext context) {
+                first.onStageRestored(stage, context);
+                second.onStageRestored(stage, context);
+            }
+
+            @Override
+            public void onPartialResult(PipelineContext.PipelineStage stage, String chunk) {
+                first.onPartialResult(stage, chunk);
+                second.onPartialResult(stage, chunk);
+            }
+
+            @Override
+            public boolean acceptsPartialResults() {
+                return first.acceptsPartialResults() || second.acceptsPartialResults();
+            }
+        };
+    }
+}
@@ -1,78 +1,155 @@
 package com.example.konnect_backend.domain.ai.service.pipeline;
 
+import com.example.konnect_backend.domain.ai.config.PipelineConfig;
 import com.example.konnect_backend.domain.ai.domain.entity.PromptTemplate;
 import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
 import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
-import com.example.konnect_backend.domain.ai.service.module.*;
+import com.example.konnect_backend.domain.ai.service.cache.AnalysisCacheKey;
+import com.example.konnect_backend.domain.ai.service.cache.AnalysisResultCache;
+import com.example.konnect_backend.domain.ai.service.cache.AnalysisResultSnapshot;
+import com.example.konnect_backend.domain.ai.service.module.FusedAnalysisModule;
+import com.example.konnect_backend.domain.ai.service.module.PromptModule;
+import com.example.konnect_backend.domain.ai.service.pipeline.dag.PipelineDagEngine;
+import com.example.konnect_backend.domain.ai.service.pipeline.dag.PipelineGraph;
+import com.example.konnect_backend.domain.ai.service.pipeline.dag.PipelineNode;
 import com.example.konnect_backend.domain.ai.service.prompt.management.PromptLoader;
 import com.example.konnect_backend.domain.ai.service.textextractor.TextExtractorFacade;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CompletionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+/**
+ * 문서 분석 파이프라인을 실행합니다. <br />
+ * 모듈 간 실행 순서는 각 {@link PromptModule}이 선언한 requires/produces 단계로 결정되며,
+ * 설정({@link PipelineConfig})으로 노드를 끄거나 제한 시간을 바꿀 수 있습니다.
+ */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class PipelineExecutor {
 
+    public static final String TEXT_EXTRACTION_NODE = "TEXT_EXTRACTION";
+
     private final TextExtractorFacade textExtractorFacade;
-    private final DocumentClassifierModule classifierModule;
-    private final UnifiedExtractorModule unifiedExtractorModule;
-    private final DifficultExpressionExtractorModule difficultExpressionExtractorModule;
-    private final KoreanSimplifierModule koreanSimplifierModule;
-    private final TranslatorModule translatorModule;
-    private final SummarizerModule summarizerModule;
+    private final List<PromptModule> promptModules;
 
     private final PromptLoader promptLoader;
-    private final ThreadPoolTaskExecutor promptExecutor;
+    private final PipelineDagEngine dagEngine;
+    private final PipelineConfig pipelineConfig;
+    private final AnalysisResultCache analysisResultCache;
+
+    private PipelineGraph graph;
+
+    @PostConstruct
+    void initGraph() {
+        List<PipelineNode> nodes = new ArrayList<>();
+        addIfEnabled(nodes, new PipelineNode(TEXT_EXTRACTION_NODE, Set.of(),
+            Set.of(PipelineContext.PipelineStage.TEXT_EXTRACTED),
+            pipelineConfig.getTimeout(TEXT_EXTRACTION_NODE), textExtractorFacade::extract));
+        for (PromptModule module : promptModules) {
+            if (!isSelectedByMode(module)) {
+                continue;
+            }
+            addIfEnabled(nodes, new PipelineNode(module.getModuleName(), module.requires(),
+                module.produces(), pipelineConfig.getTimeout(module.getModuleName()),
+                context -> executeModuleAndAccTokenUsage(module, context)));
+        }
+
+        graph = PipelineGraph.of(nodes);
+        if (!graph.skipped().isEmpty()) {
+            log.warn("선행 단계를 만들 노드가 없어 제외된 노드: {}", graph.skipped());
+        }
+        log.info("파이프라인 그래프 구성 (mode={}): {}", pipelineConfig.getMode(),
+            graph.nodes().stream().map(PipelineNode::name).toList());
+    }
 
     @Transactional
     public void execute(PipelineContext context) {
-        textExtractorFacade.extract(context);
-
-        CompletableFuture<Void> classification = run(classifierModule, context);
-        CompletableFuture<Void> extraction = run(unifiedExtractorModule, context);
-        CompletableFuture<Void> difficultExpression = run(difficultExpressionExtractorModule,
-            context);
-
-        CompletableFuture<Void> simplificationFlow =
-            run(koreanSimplifierModule, context)
-                .thenCompose(v -> CompletableFuture.allOf(
-                    run(translatorModule, context),
-                    run(summarizerModule, context)
-                ));
-
-        CompletableFuture<Void> all = CompletableFuture.allOf(
-            classification,
-            extraction,
-            difficultExpression,
-            simplificationFlow
-        );
-
-        try {
-            all.join();
-        } catch (CompletionException e) {
-            all.cancel(true);
-            throw e;
+        // 캐시 키에 버전이 포함되므로 실행 중 활성화가 바뀌어도 키와 실제 사용 프롬프트가 일치하도록 미리 조회
+        Map<String, PromptTemplate> promptTemplates = loadActivePromptTemplates();
+        context.setPromptTemplates(promptTemplates);
+
+        // 체크포인트에서 이어서 실행하는 요청은 원본 파일이 없으므로 결과 캐시를 사용하지 않음
+        if (!context.getCompletedStages().isEmpty()) {
+            dagEngine.run(graph, context);
+            context.setCompletedStage(PipelineContext.PipelineStage.COMPLETED);
+            return;
+        }
+
+        AnalysisCacheKey cacheKey = analysisResultCache.createKey(context.getFile(),
+            context.getTargetLanguage(), toVersions(promptTemplates));
+
+        Optional<AnalysisResultSnapshot> cached = analysisResultCache.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("분석 결과 캐시 적중: requestId={}, hash={}", context.getRequestId(),
+                cacheKey.contentHash());
+            cached.get().restoreTo(context);
+            context.addLog("분석 결과 캐시 적중");
+            for (PipelineNode node : graph.nodes()) {
+                node.produces().forEach(context::publishStageRestored);
+            }
+            context.setCompletedStage(PipelineContext.PipelineStage.COMPLETED);
+            return;
         }
 
+        dagEngine.run(graph, context);
+
         context.setCompletedStage(PipelineContext.PipelineStage.COMPLETED);
+        analysisResultCache.put(cacheKey, AnalysisResultSnapshot.from(context));
+    }
+
+    private void addIfEnabled(List<PipelineNode> nodes, PipelineNode node) {
+        if (pipelineConfig.isEnabled(node.name())) {
+            nodes.add(node);
+        } else {
+            log.info("설정으로 비활성화된 노드: {}", node.name());
+        }
+    }
+
+    /**
+     * 통합(fused) 모드에서는 FUSED_ANALYSIS가 대신 만드는 단계의 개별 모듈을 제외하고,
+     * 분리(split) 모드에서는 FUSED_ANALYSIS를 제외합니다. <br />
+     * 같은 단계를 만드는 노드가 둘이면 그래프 구성이 실패하므로 둘 중 하나만 선택됩니다.
+     */
+    private boolean isSelectedByMode(PromptModule module) {
+        boolean fused = FusedAnalysisModule.MODULE_NAME.equals(module.getModuleName());
+        if (pipelineConfig.getMode() == PipelineConfig.Mode.FUSED) {
+            return fused || Collections.disjoint(module.produces(), FusedAnalysisModule.PRODUCES);
+        }
+        return !fused;
+    }
+
+    private Map<String, PromptTemplate> loadActivePromptTemplates() {
+        Map<String, PromptTemplate> promptTemplates = new HashMap<>();
+        for (PipelineNode node : graph.nodes()) {
+            if (TEXT_EXTRACTION_NODE.equals(node.name())) {
+                continue;
+            }
+            promptTemplates.put(node.name(), promptLoader.getActivePromptTemplate(node.name()));
+        }
+        return promptTemplates;
+    }
+
+    private Map<String, Integer> toVersions(Map<String, PromptTemplate> promptTemplates) {
+        Map<String, Integer> versions = new HashMap<>();
+        promptTemplates.forEach((moduleName, template) -> versions.put(moduleName,
+            template.getVersion()));
+        return versions;
     }
 
     private void executeModuleAndAccTokenUsage(PromptModule module, PipelineContext context) {
-        PromptTemplate promptTemplate = promptLoader.getActivePromptTemplate(
-            module.getModuleName());
+        PromptTemplate promptTemplate = context.getPromptTemplates().get(module.getModuleName());
         TokenUsage tokenUsage = module.process(promptTemplate, context);
         context.accTokenUsage(tokenUsage);
     }
-
-    private CompletableFuture<Void> run(PromptModule module, PipelineContext context) {
-        return CompletableFuture.runAsync(
-            () -> executeModuleAndAccTokenUsage(module, context),
-            promptExecutor
-        );
-    }
 }
@@ -0,0 +1,134 @@
+package com.example.konnect_backend.domain.ai.service.pipeline.dag;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.domain.ai.infra.GeminiCallDeadline;
+import com.example.konnect_backend.domain.ai.service.pipeline.dag.PipelineTrace.NodeTiming;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 파이프라인 그래프를 실행합니다. <br />
+ * 각 노드는 선행 단계를 만드는 노드들이 끝나는 즉시 실행기에 제출되며, 노드별 제한 시간을 넘기면 요청 전체가 실패합니다. <br />
+ * 컨텍스트에 이미 완료된 단계만 만드는 노드는 건너뜁니다. <br />
+ * 노드의 마감 시각은 {@link GeminiCallDeadline}으로 모듈 실행 스레드에 전달되어 Gemini 재시도가 남은 시간 안에서만 수행됩니다. <br />
+ * 실행기가 가득 차 노드를 받지 못하면 요청은 AI_SERVICE_BUSY로 실패합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PipelineDagEngine {
+
+    private static final String NODE_TIMER = "ai.pipeline.node";
+
+    private final AsyncTaskExecutor promptExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public PipelineTrace run(PipelineGraph graph, PipelineContext context) {
+        long startNanos = System.nanoTime();
+        Map<String, NodeTiming> timings = new ConcurrentHashMap<>();
+        Map<PipelineStage, CompletableFuture<Void>> stageFutures = new EnumMap<>(PipelineStage.class);
+        List<CompletableFuture<Void>> nodeFutures = new ArrayList<>();
+
+        for (PipelineNode node : graph.nodes()) {
+            if (context.getCompletedStages().containsAll(node.produces())) {
+                continue;
+            }
+            // 이미 완료된 단계는 대응하는 future가 없으므로 충족된 것으로 간주
+            CompletableFuture<?>[] dependencies = node.requires().stream()
+                .map(stageFutures::get)
+                .filter(Objects::nonNull)
+                .toArray(CompletableFuture[]::new);
+
+            CompletableFuture<Void> nodeFuture = CompletableFuture.allOf(dependencies)
+                .thenCompose(v -> submit(node, context, startNanos, timings));
+            node.produces().forEach(stage -> stageFutures.put(stage, nodeFuture));
+            nodeFutures.add(nodeFuture);
+        }
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(
+            nodeFutures.toArray(CompletableFuture[]::new));
+        PipelineTrace trace = new PipelineTrace(graph, timings);
+        try {
+            all.join();
+        } catch (CompletionException e) {
+            nodeFutures.forEach(future -> future.cancel(true));
+            log.warn("파이프라인 실패: requestId={}, 완료 노드 {}", context.getRequestId(),
+                trace.describeCriticalPath());
+            // 노드가 던진 오류 코드(AI_SERVICE_BUSY 등)가 그대로 응답되도록 풀어서 던짐
+            if (e.getCause() instanceof GeneralException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        String criticalPath = trace.describeCriticalPath();
+        log.info("파이프라인 임계 경로: requestId={}, 총 {}ms, {}", context.getRequestId(),
+            trace.totalMillis(), criticalPath);
+        context.addLog("임계 경로: " + criticalPath);
+        return trace;
+    }
+
+    private CompletableFuture<Void> submit(PipelineNode node, PipelineContext context,
+                                           long startNanos, Map<String, NodeTiming> timings) {
+        long deadlineNanos = System.nanoTime() + node.timeout().toNanos();
+        CompletableFuture<Void> future;
+        try {
+            future = CompletableFuture.runAsync(() -> GeminiCallDeadline.runUntil(deadlineNanos,
+                () -> execute(node, context, startNanos, timings)), promptExecutor);
+        } catch (TaskRejectedException e) {
+            log.warn("노드 실행 거절: node={}, 실행기 큐가 가득 찼습니다.", node.name());
+            return CompletableFuture.failedFuture(new DocumentAnalysisException(ErrorStatus.AI_SERVICE_BUSY));
+        }
+        return future
+            .orTimeout(node.timeout().toMillis(), TimeUnit.MILLISECONDS)
+            .whenComplete((v, e) -> {
+                if (e instanceof TimeoutException) {
+                    log.warn("노드 제한 시간 초과: node={}, timeout={}", node.name(), node.timeout());
+                }
+            });
+    }
+
+    private void execute(PipelineNode node, PipelineContext context, long startNanos,
+                         Map<String, NodeTiming> timings) {
+        long nodeStart = System.nanoTime();
+        boolean succeeded = false;
+        try {
+            node.task().accept(context);
+            node.produces().forEach(context::publishStageCompleted);
+            succeeded = true;
+        } finally {
+            long nodeEnd = System.nanoTime();
+            timings.put(node.name(), new NodeTiming(node.name(), toMillis(nodeStart - startNanos),
+                toMillis(nodeEnd - startNanos), succeeded));
+            Timer.builder(NODE_TIMER)
+                .tag("node", node.name())
+                .tag("outcome", succeeded ? "success" : "failure")
+                .register(meterRegistry)
+                .record(nodeEnd - nodeStart, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
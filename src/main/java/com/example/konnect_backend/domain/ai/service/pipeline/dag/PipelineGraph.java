@@ -0,0 +1,85 @@
+package com.example.konnect_backend.domain.ai.service.pipeline.dag;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 노드를 위상 정렬한 파이프라인 그래프입니다. <br />
+ * 선행 단계를 만들 노드가 없거나 순환에 걸린 노드는 실행할 수 없으므로 제외하고 {@link #skipped()}에 남깁니다.
+ */
+public final class PipelineGraph {
+
+    private final List<PipelineNode> nodes;
+    private final Map<PipelineStage, PipelineNode> producers;
+    private final List<String> skipped;
+
+    private PipelineGraph(List<PipelineNode> nodes, List<String> skipped) {
+        this.nodes = List.copyOf(nodes);
+        this.skipped = List.copyOf(skipped);
+        Map<PipelineStage, PipelineNode> producerMap = new HashMap<>();
+        nodes.forEach(node -> node.produces().forEach(stage -> producerMap.put(stage, node)));
+        this.producers = Map.copyOf(producerMap);
+    }
+
+    /**
+     * @param candidates 실행 후보 노드 (선언 순서가 같은 깊이의 노드 사이 제출 순서가 됨)
+     * @throws IllegalStateException 한 단계를 여러 노드가 만드는 경우
+     */
+    public static PipelineGraph of(Collection<PipelineNode> candidates) {
+        Map<PipelineStage, String> declaredProducers = new HashMap<>();
+        for (PipelineNode node : candidates) {
+            for (PipelineStage stage : node.produces()) {
+                String previous = declaredProducers.putIfAbsent(stage, node.name());
+                if (previous != null) {
+                    throw new IllegalStateException(
+                        "단계 " + stage + "를 만드는 노드가 둘 이상입니다: " + previous + ", " + node.name());
+                }
+            }
+        }
+
+        // Kahn 알고리즘: 선행 단계가 모두 준비된 노드부터 차례로 배치
+        Map<String, PipelineNode> remaining = new LinkedHashMap<>();
+        candidates.forEach(node -> remaining.put(node.name(), node));
+        Set<PipelineStage> available = new HashSet<>();
+        List<PipelineNode> sorted = new ArrayList<>();
+
+        boolean progressed = true;
+        while (!remaining.isEmpty() && progressed) {
+            List<PipelineNode> ready = remaining.values().stream()
+                .filter(node -> available.containsAll(node.requires()))
+                .toList();
+            progressed = !ready.isEmpty();
+            for (PipelineNode node : ready) {
+                remaining.remove(node.name());
+                sorted.add(node);
+                available.addAll(node.produces());
+            }
+        }
+
+        return new PipelineGraph(sorted, new ArrayList<>(remaining.keySet()));
+    }
+
+    public List<PipelineNode> nodes() {
+        return nodes;
+    }
+
+    public List<String> skipped() {
+        return skipped;
+    }
+
+    public PipelineNode producerOf(PipelineStage stage) {
+        return producers.get(stage);
+    }
+
+    public Set<PipelineStage> producedStages() {
+        return producers.keySet();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.konnect_backend.domain.ai.service.pipeline.dag;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 파이프라인 그래프의 노드입니다. <br />
+ * requires의 단계가 모두 완료되면 실행되고, 성공하면 produces의 단계가 완료됩니다.
+ *
+ * @param task 노드 작업, 결과는 컨텍스트에 기록
+ */
+public record PipelineNode(
+    String name,
+    Set<PipelineStage> requires,
+    Set<PipelineStage> produces,
+    Duration timeout,
+    Consumer<PipelineContext> task
+) {
+
+    public PipelineNode {
+        requires = Set.copyOf(requires);
+        produces = Set.copyOf(produces);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.konnect_backend.domain.ai.service.pipeline.dag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 요청 한 건의 노드별 실행 시각입니다. <br />
+ * 임계 경로는 가장 늦게 끝난 노드에서 시작해, 가장 늦게 끝난 선행 노드를 거슬러 올라가며 구합니다.
+ */
+public record PipelineTrace(PipelineGraph graph, Map<String, NodeTiming> timings) {
+
+    /**
+     * @param startMillis 파이프라인 시작 기준 노드 시작 시각
+     * @param endMillis   파이프라인 시작 기준 노드 종료 시각
+     */
+    public record NodeTiming(String name, long startMillis, long endMillis, boolean succeeded) {
+
+        public long durationMillis() {
+            return endMillis - startMillis;
+        }
+    }
+
+    public List<NodeTiming> criticalPath() {
+        NodeTiming current = timings.values().stream()
+            .max(Comparator.comparingLong(NodeTiming::endMillis))
+            .orElse(null);
+
+        List<NodeTiming> path = new ArrayList<>();
+        while (current != null) {
+            path.add(current);
+            current = latestPredecessor(current.name());
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    public long totalMillis() {
+        return timings.values().stream().mapToLong(NodeTiming::endMillis).max().orElse(0);
+    }
+
+    /**
+     * 예: TEXT_EXTRACTION(1200ms) -> SIMPLIFICATION(2300ms) -> TRANSLATION(2100ms)
+     */
+    public String describeCriticalPath() {
+        return criticalPath().stream()
+            .map(timing -> timing.name() + "(" + timing.durationMillis() + "ms)")
+            .collect(Collectors.joining(" -> "));
+    }
+
+    private NodeTiming latestPredecessor(String nodeName) {
+        PipelineNode node = graph.nodes().stream()
+            .filter(candidate -> candidate.name().equals(nodeName))
+            .findFirst()
+            .orElse(null);
+        if (node == null) {
+            return null;
+        }
+        return node.requires().stream()
+            .map(graph::producerOf)
+            .filter(Objects::nonNull)
+            .map(producer -> timings.get(producer.name()))
+            .filter(Objects::nonNull)
+            .max(Comparator.comparingLong(NodeTiming::endMillis))
+            .orElse(null);
+    }
+}
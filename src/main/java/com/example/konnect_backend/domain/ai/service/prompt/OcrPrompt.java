@@ -15,4 +15,44 @@ public abstract class OcrPrompt {
         ## 출력 형식
         추출된 텍스트를 그대로 출력
         """;
+
+    // %d: 이미지(페이지) 수, 응답은 "=== PAGE n ===" 구분선으로 페이지를 나눔
+    public static final String OCR_BATCH_PROMPT = """
+        다음 %d장의 이미지는 한 문서의 연속된 페이지입니다. 각 이미지에서 모든 텍스트를 추출해주세요.
+        
+        ## 추출 지침
+        - 이미지에 보이는 모든 텍스트를 정확하게 추출
+        - 원본 텍스트의 줄바꿈과 문단 구조 유지
+        - 표가 있는 경우 텍스트 내용만 추출 (표 형식 유지 불필요)
+        - 손글씨도 가능한 한 정확하게 인식
+        - 이미지 사이의 내용을 합치거나 순서를 바꾸지 마세요
+        - 추출된 텍스트만 출력하고 다른 설명은 하지 마세요
+        
+        ## 출력 형식
+        이미지 순서대로, 각 페이지 텍스트 앞에 구분선을 한 줄로 출력
+        === PAGE 1 ===
+        (첫 번째 이미지의 텍스트, 텍스트가 없으면 비워 둠)
+        === PAGE 2 ===
+        (두 번째 이미지의 텍스트)
+        """;
+
+    // %d: PDF 페이지 수, 응답 형식은 OCR_BATCH_PROMPT와 같음
+    public static final String OCR_PDF_PROMPT = """
+        첨부한 PDF는 %d페이지로 된 스캔 문서입니다. 각 페이지에서 모든 텍스트를 추출해주세요.
+        
+        ## 추출 지침
+        - 페이지에 보이는 모든 텍스트를 정확하게 추출
+        - 원본 텍스트의 줄바꿈과 문단 구조 유지
+        - 표가 있는 경우 텍스트 내용만 추출 (표 형식 유지 불필요)
+        - 손글씨도 가능한 한 정확하게 인식
+        - 페이지 사이의 내용을 합치거나 순서를 바꾸지 마세요
+        - 추출된 텍스트만 출력하고 다른 설명은 하지 마세요
+        
+        ## 출력 형식
+        페이지 순서대로, 각 페이지 텍스트 앞에 구분선을 한 줄로 출력
+        === PAGE 1 ===
+        (첫 번째 페이지의 텍스트, 텍스트가 없으면 비워 둠)
+        === PAGE 2 ===
+        (두 번째 페이지의 텍스트)
+        """;
 }
@@ -69,6 +69,17 @@ public class PromptTemplateResolver {
         return keys;
     }
 
+    /**
+     * 템플릿에서 첫 변수 슬롯 앞까지의 고정 부분을 반환합니다. <br />
+     * 슬롯이 없으면 템플릿 전체가 고정 부분입니다.
+     */
+    public String getStaticPrefix(String template) {
+        if (template == null) return "";
+
+        Matcher matcher = SLOT_PATTERN.matcher(template);
+        return matcher.find() ? template.substring(0, matcher.start()) : template;
+    }
+
     private void verifyAllSlotsResolved(String template) {
         if (template == null || template.isEmpty()) return;
 
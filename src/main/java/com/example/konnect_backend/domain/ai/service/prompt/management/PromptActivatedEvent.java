@@ -0,0 +1,11 @@
+package com.example.konnect_backend.domain.ai.service.prompt.management;
+
+/**
+ * 프롬프트 활성화 버전이 교체되었음을 알리는 이벤트입니다. <br />
+ * 활성 프롬프트 버전에 의존하는 캐시는 이 이벤트를 받아 무효화합니다.
+ *
+ * @param moduleName 활성화된 프롬프트의 모듈명
+ * @param version    새로 활성화된 버전
+ */
+public record PromptActivatedEvent(String moduleName, Integer version) {
+}
@@ -17,6 +17,7 @@ import com.example.konnect_backend.global.code.status.ErrorStatus;
 import com.example.konnect_backend.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,6 +36,7 @@ public class PromptManagementService {
 
     private final PromptTemplateRepository promptRepository;
     private final AiModelRepository aiModelRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public PromptSummaryListResponse getPrompts(PromptStatus status, String moduleName) {
@@ -76,6 +78,10 @@ public class PromptManagementService {
         previousActive.setStatus(PromptStatus.DEPRECATED);
         promptRepository.flush();
         toActivate.setStatus(PromptStatus.ACTIVE);
+
+        // 커밋 이후 캐시 무효화
+        eventPublisher.publishEvent(
+            new PromptActivatedEvent(toActivate.getModuleName(), toActivate.getVersion()));
     }
 
     @Transactional
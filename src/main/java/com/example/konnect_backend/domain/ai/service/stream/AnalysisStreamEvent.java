@@ -0,0 +1,66 @@
+package com.example.konnect_backend.domain.ai.service.stream;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 스트리밍 분석에서 클라이언트로 전송하는 SSE 이벤트입니다. <br />
+ * 파이프라인 단계 하나가 이벤트 하나에 대응하며, 단계 완료 시점의 컨텍스트에서 데이터를 꺼냅니다. <br />
+ * 번역, 요약처럼 스트리밍으로 생성되는 단계는 완료 전에 "{이벤트명}-delta" 이벤트로 텍스트 조각을 먼저 보냅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AnalysisStreamEvent {
+
+    EXTRACTED_TEXT("extracted-text", PipelineStage.TEXT_EXTRACTED,
+        context -> text(context.getExtractedText())),
+    CLASSIFICATION("classification", PipelineStage.CLASSIFIED,
+        PipelineContext::getClassificationResult),
+    SCHEDULES("schedules", PipelineStage.EXTRACTED,
+        context -> context.getExtractionResult() == null ? null : context.getExtractionResult().getSchedules()),
+    DIFFICULT_EXPRESSIONS("difficult-expressions", PipelineStage.DIFFICULT_EXPRESSIONS_EXTRACTED,
+        PipelineContext::getDifficultExpressions),
+    SIMPLIFIED_KOREAN("simplified-korean", PipelineStage.SIMPLIFIED,
+        context -> text(context.getSimplifiedKorean())),
+    TRANSLATION("translation", PipelineStage.TRANSLATED,
+        context -> text(context.getTranslatedText())),
+    SUMMARY("summary", PipelineStage.SUMMARIZED,
+        context -> text(context.getSummary()));
+
+    public static final String COMPLETE = "complete";
+    public static final String ERROR = "error";
+    private static final String DELTA_SUFFIX = "-delta";
+
+    private final String eventName;
+    private final PipelineStage stage;
+    private final Function<PipelineContext, Object> dataExtractor;
+
+    public static Optional<AnalysisStreamEvent> from(PipelineStage stage) {
+        return Arrays.stream(values())
+            .filter(event -> event.stage == stage)
+            .findFirst();
+    }
+
+    public String getDeltaEventName() {
+        return eventName + DELTA_SUFFIX;
+    }
+
+    /**
+     * 단계 완료 시점의 컨텍스트에서 전송할 데이터를 꺼냅니다. <br />
+     * 단계가 결과 없이 끝났으면(빈 문서, 실패 후 기본값 등) null을 반환하며 이벤트는 전송하지 않습니다.
+     */
+    public Object extractData(PipelineContext context) {
+        return dataExtractor.apply(context);
+    }
+
+    private static Map<String, String> text(String value) {
+        return value == null ? null : Map.of("text", value);
+    }
+}
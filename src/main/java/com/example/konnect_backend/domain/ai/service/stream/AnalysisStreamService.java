@@ -0,0 +1,77 @@
+package com.example.konnect_backend.domain.ai.service.stream;
+
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
+import com.example.konnect_backend.domain.ai.service.pipeline.DocumentAnalysisPipeline;
+import com.example.konnect_backend.global.code.ErrorReasonDTO;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 문서 분석을 별도 스레드에서 실행하고 단계별 결과를 SSE로 전송합니다. <br />
+ * 서블릿 스레드는 {@link SseEmitter}를 반환한 즉시 해제됩니다.
+ */
+@Slf4j
+@Service
+public class AnalysisStreamService {
+
+    private final DocumentAnalysisPipeline documentAnalysisPipeline;
+    private final ThreadPoolTaskExecutor analysisExecutor;
+    private final ThreadPoolTaskExecutor sseExecutor;
+    private final long timeoutMillis;
+    private final int maxPendingDeltas;
+
+    public AnalysisStreamService(DocumentAnalysisPipeline documentAnalysisPipeline,
+                                 ThreadPoolTaskExecutor analysisExecutor,
+                                 ThreadPoolTaskExecutor sseExecutor,
+                                 @Value("${ai.analysis-stream.timeout:PT3M}") Duration timeout,
+                                 @Value("${ai.analysis-stream.max-pending-deltas:200}") int maxPendingDeltas) {
+        this.documentAnalysisPipeline = documentAnalysisPipeline;
+        this.analysisExecutor = analysisExecutor;
+        this.sseExecutor = sseExecutor;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPendingDeltas = maxPendingDeltas;
+    }
+
+    public SseEmitter analyze(UploadFile file, Long userId, String deviceUuid) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        SseAnalysisEventListener listener = new SseAnalysisEventListener(emitter, sseExecutor, maxPendingDeltas);
+
+        // 인증 정보는 사용량 검증에서 참조하므로 작업 스레드로 전달
+        Runnable task = new DelegatingSecurityContextRunnable(() -> {
+            try {
+                DocumentAnalysisResponse response =
+                    documentAnalysisPipeline.analyze(file, userId, deviceUuid, listener);
+                listener.complete(AnalysisStreamEvent.COMPLETE, response);
+            } catch (Exception e) {
+                listener.complete(AnalysisStreamEvent.ERROR, toErrorData(e));
+            }
+        });
+
+        try {
+            analysisExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("스트리밍 분석 요청 거절: 작업 큐가 가득 찼습니다.");
+            throw new GeneralException(ErrorStatus.ANALYSIS_QUEUE_FULL);
+        }
+
+        return emitter;
+    }
+
+    private Map<String, String> toErrorData(Exception e) {
+        ErrorReasonDTO reason = e instanceof GeneralException generalException
+            ? generalException.getErrorReason()
+            : ErrorStatus.DOCUMENT_ANALYSIS_FAILED.getReason();
+        return Map.of("code", reason.getCode(), "message", reason.getMessage());
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.konnect_backend.domain.ai.service.stream;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.service.pipeline.PipelineEventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 파이프라인 단계 완료를 SSE 이벤트로 전송합니다. <br />
+ * 클라이언트 연결이 끊겨도 분석은 끝까지 진행되어야 하므로 전송 실패는 로그만 남깁니다.
+ * <p>
+ * ## 전송 스레드
+ * - 리스너는 모듈 실행 스레드와 Gemini 스트림 수신 스레드에서 호출되므로 이벤트를 큐에 넣고 바로 반환
+ * - 전송은 sender에서 연결당 하나의 작업만 큐를 비우므로 동시 전송이 없고 이벤트는 넣은 순서대로 전송
+ * - 전송이 밀리면 delta 이벤트는 max-pending-deltas까지만 쌓고 버림 (완료 이벤트에 전체 텍스트가 있음)
+ */
+@Slf4j
+class SseAnalysisEventListener implements PipelineEventListener {
+
+    private final SseEmitter emitter;
+    private final Executor sender;
+    private final int maxPendingDeltas;
+
+    private final Queue<Event> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingDeltas = new AtomicInteger();
+    // 큐를 비우는 작업이 실행 중이거나 예약되어 있으면 0보다 큼
+    private final AtomicInteger drainRequests = new AtomicInteger();
+    private volatile boolean disconnected;
+
+    SseAnalysisEventListener(SseEmitter emitter, Executor sender, int maxPendingDeltas) {
+        this.emitter = emitter;
+        this.sender = sender;
+        this.maxPendingDeltas = maxPendingDeltas;
+    }
+
+    @Override
+    public void onStageCompleted(PipelineContext.PipelineStage stage, PipelineContext context) {
+        try {
+            AnalysisStreamEvent.from(stage)
+                .ifPresent(event -> enqueue(new Event(event.getEventName(), event.extractData(context), false, false)));
+        } catch (RuntimeException e) {
+            // 이벤트 변환 실패가 파이프라인 단계를 실패시키지 않도록 함
+            log.warn("SSE 이벤트 생성 실패: stage={}, message={}", stage, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onPartialResult(PipelineContext.PipelineStage stage, String chunk) {
+        if (chunk == null || pendingDeltas.get() >= maxPendingDeltas) {
+            return;
+        }
+        AnalysisStreamEvent.from(stage).ifPresent(event -> {
+            pendingDeltas.incrementAndGet();
+            enqueue(new Event(event.getDeltaEventName(), Map.of("text", chunk), true, false));
+        });
+    }
+
+    @Override
+    public boolean acceptsPartialResults() {
+        return true;
+    }
+
+    /**
+     * 마지막 이벤트(complete, error)를 큐에 넣고, 앞선 이벤트까지 모두 전송한 뒤 연결을 닫습니다.
+     */
+    void complete(String eventName, Object data) {
+        enqueue(new Event(eventName, data, false, true));
+    }
+
+    private void enqueue(Event event) {
+        if (event.data() == null && !event.last()) {
+            return;
+        }
+        pending.add(event);
+        if (drainRequests.getAndIncrement() != 0) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 전송 스레드를 쓸 수 없으면 호출 스레드에서라도 전송하여 이벤트와 연결 종료가 유실되지 않도록 함
+            drain();
+        }
+    }
+
+    // 한 번에 하나의 스레드만 실행하며, 실행 중에 들어온 이벤트도 이어서 전송
+    private void drain() {
+        int requests = drainRequests.get();
+        while (true) {
+            Event event;
+            while ((event = pending.poll()) != null) {
+                send(event);
+            }
+            requests = drainRequests.addAndGet(-requests);
+            if (requests == 0) {
+                return;
+            }
+        }
+    }
+
+    private void send(Event event) {
+        if (event.delta()) {
+            pendingDeltas.decrementAndGet();
+        }
+        if (event.data() != null && !disconnected) {
+            try {
+                emitter.send(SseEmitter.event().name(event.eventName()).data(event.data()));
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 뒤의 이벤트는 전송을 시도하지 않음
+                disconnected = true;
+                log.debug("SSE 이벤트 전송 실패: event={}, message={}", event.eventName(), e.getMessage());
+            }
+        }
+        if (event.last()) {
+            emitter.complete();
+        }
+    }
+
+    private record Event(String eventName, Object data, boolean delta, boolean last) {
+    }
+}
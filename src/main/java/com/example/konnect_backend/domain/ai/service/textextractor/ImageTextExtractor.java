@@ -3,6 +3,9 @@ package com.example.konnect_backend.domain.ai.service.textextractor;
 import com.example.konnect_backend.domain.ai.domain.vo.TextExtractionResult;
 import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
 import com.example.konnect_backend.domain.ai.exception.TextExtractionException;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrPageCache;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
 import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrService;
 import com.example.konnect_backend.domain.ai.type.FileType;
 import com.example.konnect_backend.global.code.status.ErrorStatus;
@@ -17,6 +20,8 @@ import org.springframework.stereotype.Service;
 public class ImageTextExtractor implements TextExtractor {
 
     private final OcrService ocrService;
+    private final OcrImagePreprocessor preprocessor;
+    private final OcrPageCache pageCache;
 
     @Override
     public TextExtractionResult extract(UploadFile file) {
@@ -26,14 +31,19 @@ public class ImageTextExtractor implements TextExtractor {
         }
 
         try {
-            byte[] imageBytes = file.bytes();
-            String extractedText = ocrService.extractText(imageBytes, file.mimeType());
+            // 카메라 원본 해상도 사진을 글자 인식에 필요한 크기의 그레이스케일 이미지로 줄임
+            OcrImagePreprocessor.OcrImage image = preprocessor.preprocess(file.bytes(), file.mimeType());
+            // 같은 안내문을 다시 찍은 사진이면 저장된 결과를 쓰고 OCR을 호출하지 않음
+            OcrResult result = pageCache.extractText(image,
+                ocrImage -> ocrService.extract(ocrImage.bytes(), ocrImage.mimeType()));
+            String extractedText = result.text() == null ? "" : result.text();
 
             if (extractedText.trim().isEmpty()) {
                 return TextExtractionResult.failure("이미지에서 텍스트를 추출할 수 없습니다");
             }
 
-            String ocrMethod = ocrService.getServiceName();
+            // 서비스 이름이 아니라 실제로 텍스트를 만든 엔진(Tesseract, Vision, 캐시)을 기록
+            String ocrMethod = result.engine().name();
             log.info("이미지 텍스트 추출 완료: {} 글자, OCR: {}", extractedText.length(), ocrMethod);
             return TextExtractionResult.success(extractedText, ocrMethod, 1);
         } catch (Exception e) {
@@ -3,148 +3,353 @@ package com.example.konnect_backend.domain.ai.service.textextractor;
 import com.example.konnect_backend.domain.ai.domain.vo.TextExtractionResult;
 import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
 import com.example.konnect_backend.domain.ai.exception.TextExtractionException;
+import com.example.konnect_backend.domain.ai.infra.GeminiVisionOcrService;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrPageCache;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
 import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrService;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.PageFingerprint;
 import com.example.konnect_backend.domain.ai.type.FileType;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
 import com.example.konnect_backend.global.code.status.ErrorStatus;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.multipdf.Splitter;
 import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.rendering.ImageType;
 import org.apache.pdfbox.rendering.PDFRenderer;
-import org.springframework.ai.document.Document;
-import org.springframework.ai.reader.ExtractedTextFormatter;
-import org.springframework.ai.reader.pdf.PagePdfDocumentReader;
-import org.springframework.ai.reader.pdf.config.PdfDocumentReaderConfig;
-import org.springframework.core.io.ByteArrayResource;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 
-import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * PDF에서 텍스트를 페이지 단위로 추출합니다. <br />
+ * 텍스트 레이어가 충분한 페이지는 그대로 사용하고, 스캔 이미지로만 된 페이지만 OCR로 보냅니다. <br />
+ * 모든 페이지가 스캔 이미지인 PDF는 렌더링하지 않고 원본(페이지가 많으면 페이지 범위로 나눈 PDF)을 Gemini에 그대로 보내며,
+ * 요청 크기 제한을 넘거나 실패한 페이지만 렌더링하여 OCR합니다.
+ * <p>
+ * ## PDF 직접 전달의 비용
+ * 직접 전달은 렌더링과 인코딩의 CPU, 힙 사용을 없애지만 TieredOcrService를 거치지 않으므로
+ * Tesseract로 충분히 읽을 수 있는 깨끗한 스캔도 범위마다 Vision 호출(Primary RPD)을 씁니다.
+ * 그래서 첫 페이지만 렌더링하여 로컬 OCR(OcrService.extractTextLocally)로 먼저 읽어 보고,
+ * 읽히면 깨끗한 스캔으로 보고 나머지도 렌더링 OCR로 처리하며, 읽히지 않을 때만 직접 전달합니다.
+ * RPD보다 CPU가 부족한 환경에서는 확인 없이 항상 보내도록 ocr.pdf.native.local-check=false로 둘 수 있습니다.
+ * <p>
+ * 기록하는 방식은 페이지마다 텍스트를 실제로 만든 방식(PDF_READER, GEMINI_PDF_NATIVE, OcrEngine)이며,
+ * 모든 페이지가 같으면 그 방식이고 섞이면(텍스트 레이어와 OCR, Tesseract와 Vision 등) HYBRID입니다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class PdfTextExtractor implements TextExtractor {
 
-    private static final int MIN_TEXT_LENGTH = 50;
+    // 페이지 번호, 머리글 정도만 있는 스캔 페이지를 걸러내기 위한 최소 글자 수 (공백 제외)
+    private static final int MIN_PAGE_TEXT_LENGTH = 20;
     private static final String PDF_READER_METHOD = "PDF_READER";
-    private static final String OCR_METHOD = "GEMINI_VISION_OCR";
     private static final String HYBRID_METHOD = "HYBRID";
+    private static final String NATIVE_PDF_METHOD = "GEMINI_PDF_NATIVE";
+    private static final float RENDER_DPI = 300;
+    // PDF 직접 전달 시 캐시 조회용 해시를 구할 페이지 이미지 해상도 (dHash는 16x16 격자만 쓰므로 낮아도 됨)
+    private static final float HASH_RENDER_DPI = 72;
 
     private final OcrService ocrService;
+    private final OcrImagePreprocessor preprocessor;
+    private final OcrPageCache pageCache;
+    private final GeminiVisionOcrService visionOcrService;
+    private final AsyncTaskExecutor ocrExecutor;
+    // 렌더링은 끝났지만 아직 전처리하지 않은 페이지 이미지 수 상한 (300 DPI 페이지 하나가 수십 MB)
+    private final int renderAhead;
+    private final boolean nativeEnabled;
+    private final boolean nativeLocalCheck;
+    // PDF를 그대로 보내는 요청 하나의 크기 상한 (Base64로 약 4/3배가 되며, 요청 본문은 20MB를 넘을 수 없음)
+    private final long nativeMaxBytes;
+    // 요청 하나에 담을 페이지 수 (출력 토큰 한도 안에 모든 페이지 텍스트가 들어가야 함)
+    private final int nativePagesPerRequest;
 
+    public PdfTextExtractor(OcrService ocrService, OcrImagePreprocessor preprocessor,
+                            OcrPageCache pageCache, GeminiVisionOcrService visionOcrService,
+                            AsyncTaskExecutor ocrExecutor,
+                            @Value("${ocr.pdf.concurrency:4}") int renderAhead,
+                            @Value("${ocr.pdf.native.enabled:true}") boolean nativeEnabled,
+                            @Value("${ocr.pdf.native.local-check:true}") boolean nativeLocalCheck,
+                            @Value("${ocr.pdf.native.max-bytes:12MB}") DataSize nativeMaxBytes,
+                            @Value("${ocr.pdf.native.pages-per-request:6}") int nativePagesPerRequest) {
+        this.ocrService = ocrService;
+        this.preprocessor = preprocessor;
+        this.pageCache = pageCache;
+        this.visionOcrService = visionOcrService;
+        this.ocrExecutor = ocrExecutor;
+        this.renderAhead = renderAhead;
+        this.nativeEnabled = nativeEnabled;
+        this.nativeLocalCheck = nativeLocalCheck;
+        this.nativeMaxBytes = nativeMaxBytes.toBytes();
+        this.nativePagesPerRequest = nativePagesPerRequest;
+    }
+
+    /**
+     * 페이지마다 텍스트 레이어를 먼저 확인하고, 부족한 페이지는 렌더링하여 OCR로 넘긴 뒤 결과를 페이지 순서대로 합칩니다. <br />
+     * 렌더링한 페이지는 ocrExecutor에서 전처리(축소, JPEG 인코딩)하고, 전처리가 끝난 페이지부터 캐시 조회와 로컬 인식을 시작하므로
+     * 다음 페이지를 렌더링하는 동안 앞 페이지의 전처리와 인식이 함께 진행됩니다. <br />
+     * 모든 페이지를 넘긴 뒤에는 OCR 서비스가 기준에 못 미친 페이지의 Vision 호출을 묶어 보냅니다. <br />
+     * PDDocument와 PDFRenderer는 스레드 안전하지 않으므로 텍스트 추출과 렌더링은 호출 스레드에서만 수행하며,
+     * 전처리를 기다리는 렌더링 이미지는 renderAhead장까지만 유지합니다.
+     */
     @Override
     public TextExtractionResult extract(UploadFile file) {
-        try {
-            log.info("PDF 텍스트 추출 시작: {}", file.originalName());
+        log.info("PDF 텍스트 추출 시작: {}", file.originalName());
+
+        try (PDDocument document = Loader.loadPDF(file.bytes())) {
+            PDFTextStripper stripper = new PDFTextStripper();
+            stripper.setSortByPosition(true);
+            PDFRenderer renderer = new PDFRenderer(document);
+            int pageCount = document.getNumberOfPages();
 
-            // 1단계: PagePdfDocumentReader로 텍스트 추출 시도
-            TextExtractionResult pdfReaderResult = extractWithPdfReader(file);
+            // 페이지 순서대로, OCR할 페이지는 null로 두고 OCR 결과로 채움
+            List<String> pageTexts = new ArrayList<>(pageCount);
+            // 페이지 텍스트를 만든 방식 (텍스트 레이어, PDF 직접 전달, 실제 OCR 엔진)
+            List<String> pageMethods = new ArrayList<>(pageCount);
+            List<Integer> scannedPages = new ArrayList<>();
+            for (int page = 0; page < pageCount; page++) {
+                String layerText = extractTextLayer(stripper, document, page);
+                if (hasEnoughText(layerText)) {
+                    pageTexts.add(layerText.trim());
+                    pageMethods.add(PDF_READER_METHOD);
+                } else {
+                    pageTexts.add(null);
+                    pageMethods.add(null);
+                    scannedPages.add(page);
+                }
+            }
+            int ocrPageCount = scannedPages.size();
+
+            if (nativeEnabled && ocrPageCount > 0 && ocrPageCount == pageCount
+                && !(nativeLocalCheck && readsLocally(renderer, pageTexts, pageMethods))) {
+                extractNative(document, file, renderer, pageTexts, pageMethods);
+            }
 
-            if (!pdfReaderResult.isFailed() && isLongerThanMinLength(
-                pdfReaderResult.getText())) {
-                log.info("PDF Reader로 텍스트 추출 성공: {} 글자, {} 페이지", pdfReaderResult.getText().length(),
-                    pdfReaderResult.getPageCount());
-                return pdfReaderResult;
+            List<Integer> ocrPages = scannedPages.stream().filter(page -> pageTexts.get(page) == null).toList();
+            if (!ocrPages.isEmpty()) {
+                List<CompletableFuture<OcrImagePreprocessor.OcrImage>> ocrImages = ocrPages.stream()
+                    .map(page -> new CompletableFuture<OcrImagePreprocessor.OcrImage>())
+                    .toList();
+                // 같은 페이지를 다시 스캔하거나 내보낸 경우 저장된 결과를 쓰고 나머지만 OCR
+                List<OcrResult> ocrResults = pageCache.extractPages(ocrImages,
+                    () -> renderPages(renderer, ocrPages, ocrImages), ocrService::extractPages);
+                for (int i = 0; i < ocrPages.size(); i++) {
+                    OcrResult ocrResult = ocrResults.get(i);
+                    if (ocrResult != null && ocrResult.text() != null) {
+                        pageTexts.set(ocrPages.get(i), ocrResult.text());
+                        pageMethods.set(ocrPages.get(i), ocrResult.engine().name());
+                    }
+                }
+                log.debug("OCR 완료: {} 페이지", ocrPages.size());
             }
 
-            // 2단계: 텍스트 부족 또는 실패 시 Gemini Vision OCR로 폴백
-            log.info("PDF Reader 텍스트 부족: {} 글자, {} 페이지, Gemini Vision OCR로 폴백",
-                pdfReaderResult.getText().length(), pdfReaderResult.getPageCount());
-            return extractWithOcr(file);
+            String result = pageTexts.stream()
+                .filter(pageText -> pageText != null && !pageText.isEmpty())
+                .collect(Collectors.joining("\n\n"))
+                .trim();
+            if (result.isEmpty()) {
+                return TextExtractionResult.failure("PDF에서 텍스트를 추출할 수 없음");
+            }
 
+            String method = resolveMethod(pageMethods);
+            log.info("PDF 텍스트 추출 완료: {} 글자, {} 페이지 (OCR {} 페이지), 방식={}, 방식별 페이지={}",
+                result.length(), pageCount, ocrPageCount, method, pageMethods.stream()
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.groupingBy(Function.identity(), TreeMap::new, Collectors.counting())));
+            return TextExtractionResult.success(result, method, pageCount);
         } catch (Exception e) {
             log.error("PDF 텍스트 추출 중 오류", e);
             throw new TextExtractionException(ErrorStatus.PDF_PROCESSING_FAILED);
         }
     }
 
-    private boolean isLongerThanMinLength(String text) {
-        return text.trim().length() > MIN_TEXT_LENGTH;
+    /**
+     * 렌더링 없이 PDF를 nativePagesPerRequest 페이지씩 Gemini에 보내 pageTexts를 채웁니다. <br />
+     * OCR 결과 캐시를 쓰는 경우 낮은 해상도의 그레이스케일 렌더링으로 구한 페이지 지문으로 캐시를 먼저 조회하고,
+     * 모든 페이지가 캐시에 있는 범위는 보내지 않습니다. <br />
+     * 크기 상한을 넘거나 실패한 범위, 응답에서 빠진 페이지는 null로 남아 렌더링 OCR로 처리됩니다.
+     */
+    private void extractNative(PDDocument document, UploadFile file, PDFRenderer renderer,
+                               List<String> pageTexts, List<String> pageMethods) {
+        int pageCount = document.getNumberOfPages();
+        // 캐시를 쓰지 않으면 지문을 구하지 않으므로 페이지를 전혀 렌더링하지 않음
+        List<Optional<PageFingerprint>> fingerprints = new ArrayList<>(pageCount);
+        for (int page = 0; page < pageCount; page++) {
+            Optional<PageFingerprint> fingerprint = pageCache.isEnabled() && pageTexts.get(page) == null
+                ? fingerprint(renderer, page)
+                : Optional.empty();
+            fingerprints.add(fingerprint);
+            int current = page;
+            fingerprint.flatMap(pageCache::get).ifPresent(text -> {
+                pageTexts.set(current, text);
+                pageMethods.set(current, OcrEngine.OCR_PAGE_CACHE.name());
+            });
+        }
+
+        for (int first = 0; first < pageCount; first += nativePagesPerRequest) {
+            int count = Math.min(nativePagesPerRequest, pageCount - first);
+            if (pageTexts.subList(first, first + count).stream().allMatch(text -> text != null)) {
+                continue;
+            }
+            try {
+                byte[] part = pageCount <= nativePagesPerRequest ? file.bytes() : pageRange(document, first, count);
+                if (part.length > nativeMaxBytes) {
+                    log.info("PDF 직접 전달 생략 (크기 초과): 페이지 {}-{}, {} bytes", first + 1, first + count,
+                        part.length);
+                    continue;
+                }
+                List<String> texts = visionOcrService.extractPdfPages(part, count);
+                for (int i = 0; i < count; i++) {
+                    int page = first + i;
+                    String text = texts.get(i);
+                    if (text != null && pageTexts.get(page) == null) {
+                        pageTexts.set(page, text);
+                        pageMethods.set(page, NATIVE_PDF_METHOD);
+                        fingerprints.get(page).ifPresent(fingerprint -> pageCache.put(fingerprint, text));
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("PDF 직접 전달 실패, 렌더링 OCR로 처리: 페이지 {}-{}, {}", first + 1, first + count,
+                    e.getMessage());
+            }
+        }
     }
 
-    // 다음 단계 진행을 위해 예외 대신
-    private TextExtractionResult extractWithPdfReader(UploadFile file) {
+    /**
+     * 첫 페이지를 렌더링하여 OCR 결과 캐시나 로컬 OCR로 읽히는지 확인하고, 읽히면 그 텍스트를 채웁니다.
+     *
+     * @return 첫 페이지를 Vision 호출 없이 읽었는지 여부
+     */
+    private boolean readsLocally(PDFRenderer renderer, List<String> pageTexts, List<String> pageMethods) {
         try {
-            ByteArrayResource resource = new ByteArrayResource(file.bytes());
-
-            PdfDocumentReaderConfig config = PdfDocumentReaderConfig.builder().withPageTopMargin(0)
-                .withPageExtractedTextFormatter(
-                    ExtractedTextFormatter.builder().withNumberOfTopTextLinesToDelete(0).build())
-                .withPagesPerDocument(1).build();
-
-            PagePdfDocumentReader pdfReader = new PagePdfDocumentReader(resource, config);
-            List<Document> documents = pdfReader.read();
-
-            if (documents.isEmpty()) {
-                return TextExtractionResult.failure("PDF에서 페이지를 읽을 수 없음");
+            OcrImagePreprocessor.OcrImage image = preprocessor.preprocess(renderer.renderImageWithDPI(0, RENDER_DPI));
+            OcrResult result = pageCache.extractText(image,
+                ocrImage -> ocrService.extractTextLocally(ocrImage).orElse(null));
+            if (result == null || result.text() == null) {
+                return false;
             }
-
-            String extractedText = documents.stream().map(Document::getContent)
-                .collect(Collectors.joining("\n\n"));
-
-            return TextExtractionResult.success(extractedText != null ? extractedText.trim() : "",
-                PDF_READER_METHOD, documents.size());
-
-        } catch (Exception e) {
-            log.warn("PagePdfDocumentReader 실패: {}", e.getMessage());
-            return TextExtractionResult.failure(e.getMessage());
+            log.info("첫 페이지를 로컬 OCR로 읽음, PDF 직접 전달 대신 렌더링 OCR로 처리");
+            pageTexts.set(0, result.text());
+            pageMethods.set(0, result.engine().name());
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("첫 페이지 로컬 OCR 확인 실패: {}", e.getMessage());
+            return false;
         }
     }
 
-    private TextExtractionResult extractWithOcr(UploadFile file) {
+    // 저해상도 그레이스케일로 렌더링하여 렌더링 OCR 경로의 전처리와 같은 영역(여백 제거)만 남긴 페이지의 지문
+    // (기울기 보정, 축소, JPEG 인코딩은 하지 않음)
+    private Optional<PageFingerprint> fingerprint(PDFRenderer renderer, int page) {
         try {
-            byte[] pdfBytes = file.bytes();
-            List<BufferedImage> images = convertPdfToImages(pdfBytes);
-
-            StringBuilder combinedText = new StringBuilder();
-            for (int i = 0; i < images.size(); i++) {
-                byte[] imageBytes = convertImageToBytes(images.get(i));
-                String pageText = ocrService.extractText(imageBytes, "image/png");
-                if (pageText != null && !pageText.isEmpty()) {
-                    combinedText.append(pageText).append("\n\n");
-                }
-                log.debug("페이지 {} OCR 완료", i + 1);
-            }
+            BufferedImage gray = renderer.renderImageWithDPI(page, HASH_RENDER_DPI, ImageType.GRAY);
+            return Optional.of(PageFingerprint.of(preprocessor.trimMargins(gray)));
+        } catch (IOException | RuntimeException e) {
+            log.debug("페이지 {} 지문 계산 실패: {}", page + 1, e.getMessage());
+            return Optional.empty();
+        }
+    }
 
-            String result = combinedText.toString().trim();
-            if (result.isEmpty()) {
-                return TextExtractionResult.failure("PDF OCR에서 텍스트를 추출할 수 없음");
+    // 원본 문서에서 [first, first + count) 페이지만 담은 PDF, 렌더링 없이 페이지 객체만 복사
+    private byte[] pageRange(PDDocument document, int first, int count) throws IOException {
+        Splitter splitter = new Splitter();
+        splitter.setStartPage(first + 1);
+        splitter.setEndPage(first + count);
+        splitter.setSplitAtPage(count);
+        List<PDDocument> parts = splitter.split(document);
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            parts.get(0).save(out);
+            return out.toByteArray();
+        } finally {
+            for (PDDocument part : parts) {
+                part.close();
             }
+        }
+    }
 
-            return TextExtractionResult.success(result, OCR_METHOD, images.size());
-        } catch (Exception e) {
-            log.error("PDF OCR 처리 실패", e);
-            throw new TextExtractionException(ErrorStatus.PDF_PROCESSING_FAILED);
+    private String extractTextLayer(PDFTextStripper stripper, PDDocument document, int page) {
+        // PDFTextStripper의 페이지 번호는 1부터 시작
+        stripper.setStartPage(page + 1);
+        stripper.setEndPage(page + 1);
+        try {
+            return stripper.getText(document);
+        } catch (IOException e) {
+            log.warn("페이지 {} 텍스트 레이어 추출 실패, OCR로 처리: {}", page + 1, e.getMessage());
+            return "";
         }
     }
 
-    private List<BufferedImage> convertPdfToImages(byte[] pdfBytes) throws IOException {
-        try (java.io.ByteArrayInputStream bais = new java.io.ByteArrayInputStream(
-            pdfBytes); PDDocument document = org.apache.pdfbox.Loader.loadPDF(pdfBytes)) {
-            PDFRenderer renderer = new PDFRenderer(document);
-            int pageCount = document.getNumberOfPages();
+    private boolean hasEnoughText(String text) {
+        return text.codePoints().filter(c -> !Character.isWhitespace(c)).count()
+            >= MIN_PAGE_TEXT_LENGTH;
+    }
+
+    // 텍스트를 얻은 모든 페이지가 같은 방식이면 그 방식, 여러 방식이 섞이면 HYBRID
+    private String resolveMethod(List<String> pageMethods) {
+        List<String> methods = pageMethods.stream().filter(Objects::nonNull).distinct().toList();
+        return methods.size() == 1 ? methods.get(0) : HYBRID_METHOD;
+    }
 
-            return java.util.stream.IntStream.range(0, pageCount).mapToObj(page -> {
+    /**
+     * pages를 차례로 렌더링하여 ocrExecutor에서 전처리하고 결과로 targets를 완료합니다. <br />
+     * 렌더링에 실패한 페이지는 null로 완료하여 OCR에서 제외하고, 중단되면 남은 페이지를 모두 실패로 완료합니다.
+     */
+    private void renderPages(PDFRenderer renderer, List<Integer> pages,
+                             List<CompletableFuture<OcrImagePreprocessor.OcrImage>> targets) {
+        Semaphore rendered = new Semaphore(renderAhead);
+        for (int i = 0; i < pages.size(); i++) {
+            int page = pages.get(i);
+            CompletableFuture<OcrImagePreprocessor.OcrImage> target = targets.get(i);
+            try {
+                rendered.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                targets.subList(i, targets.size()).forEach(remaining -> remaining.completeExceptionally(e));
+                return;
+            }
+
+            BufferedImage image;
+            try {
+                image = renderer.renderImageWithDPI(page, RENDER_DPI);
+            } catch (IOException | RuntimeException e) {
+                rendered.release();
+                log.error("페이지 {} 렌더링 실패", page + 1, e);
+                target.complete(null);
+                continue;
+            }
+            // 전처리(그레이스케일, 축소, 인코딩)가 끝나면 렌더링 이미지의 참조를 놓아 GC 대상이 되도록 함
+            CompletableFuture.supplyAsync(() -> {
                 try {
-                    return renderer.renderImageWithDPI(page, 300);
-                } catch (IOException e) {
-                    log.error("페이지 {} 렌더링 실패", page, e);
-                    return null;
+                    return preprocessor.preprocess(image);
+                } finally {
+                    rendered.release();
                 }
-            }).filter(img -> img != null).collect(Collectors.toList());
+            }, ocrExecutor).whenComplete((ocrImage, e) -> {
+                if (e != null) {
+                    target.completeExceptionally(e);
+                } else {
+                    target.complete(ocrImage);
+                }
+            });
         }
     }
 
-    private byte[] convertImageToBytes(BufferedImage image) throws IOException {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ImageIO.write(image, "PNG", baos);
-        return baos.toByteArray();
-    }
-
     @Override
     public boolean supports(FileType fileType) {
         return fileType.equals(FileType.PDF);
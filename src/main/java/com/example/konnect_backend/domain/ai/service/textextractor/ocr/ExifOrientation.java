@@ -0,0 +1,120 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * JPEG EXIF Orientation 태그 읽기와 적용
+ * <p>
+ * 휴대폰 카메라는 센서 방향 그대로 픽셀을 저장하고 화면에 보일 방향을 Orientation 태그(1~8)로만 남깁니다.
+ * ImageIO는 이 태그를 무시하므로 세로로 찍은 가정통신문이 옆으로 누운 채 전처리되어 글자 줄 추정과 OCR이 실패합니다.
+ * <p>
+ * 태그 하나만 필요하므로 별도 라이브러리 없이 APP1(Exif) 세그먼트의 IFD0만 읽습니다.
+ */
+final class ExifOrientation {
+
+    static final int NORMAL = 1;
+
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final int APP1 = 0xE1;
+    private static final int START_OF_SCAN = 0xDA;
+
+    private ExifOrientation() {
+    }
+
+    /**
+     * JPEG의 Orientation 값, JPEG가 아니거나 태그가 없거나 읽을 수 없으면 NORMAL
+     */
+    static int read(byte[] image) {
+        try {
+            return readJpeg(ByteBuffer.wrap(image));
+        } catch (RuntimeException e) {
+            return NORMAL;
+        }
+    }
+
+    private static int readJpeg(ByteBuffer jpeg) {
+        if (jpeg.remaining() < 4 || (jpeg.getShort() & 0xFFFF) != 0xFFD8) {
+            return NORMAL;
+        }
+        while (jpeg.remaining() >= 4) {
+            if ((jpeg.get() & 0xFF) != 0xFF) {
+                return NORMAL;
+            }
+            int marker = jpeg.get() & 0xFF;
+            if (marker == 0xFF) {
+                // 채움 바이트
+                jpeg.position(jpeg.position() - 1);
+                continue;
+            }
+            if (marker == START_OF_SCAN) {
+                return NORMAL;
+            }
+            int length = jpeg.getShort() & 0xFFFF;
+            int next = jpeg.position() + length - 2;
+            if (marker == APP1 && isExif(jpeg)) {
+                ByteBuffer tiff = jpeg.slice(jpeg.position() + 6, length - 8);
+                return readTiff(tiff);
+            }
+            jpeg.position(next);
+        }
+        return NORMAL;
+    }
+
+    private static boolean isExif(ByteBuffer segment) {
+        int position = segment.position();
+        return segment.remaining() >= 6
+            && segment.get(position) == 'E' && segment.get(position + 1) == 'x'
+            && segment.get(position + 2) == 'i' && segment.get(position + 3) == 'f'
+            && segment.get(position + 4) == 0 && segment.get(position + 5) == 0;
+    }
+
+    private static int readTiff(ByteBuffer tiff) {
+        tiff.order(tiff.get(0) == 'M' ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        int ifd = tiff.getInt(4);
+        int entries = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < entries; i++) {
+            int entry = ifd + 2 + i * 12;
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF;
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Orientation에 맞게 회전, 반전한 이미지 (5~8은 가로세로가 바뀜)
+     */
+    static BufferedImage apply(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w);
+            case 8 -> new AffineTransform(0, -1, 1, 0, 0, w);
+            default -> null;
+        };
+        if (transform == null) {
+            return image;
+        }
+
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h,
+            image.getType() == BufferedImage.TYPE_CUSTOM ? BufferedImage.TYPE_INT_RGB : image.getType());
+        Graphics2D g = oriented.createGraphics();
+        try {
+            g.drawImage(image, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return oriented;
+    }
+}
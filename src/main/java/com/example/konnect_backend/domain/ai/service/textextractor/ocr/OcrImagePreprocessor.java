@@ -0,0 +1,470 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OCR 전 이미지 전처리
+ * <p>
+ * 휴대폰 사진은 카메라 원본 해상도로, PDF 페이지는 300 DPI 무손실 PNG로 OCR에 전달되어
+ * Vision 업로드 크기와 지연 시간, Tesseract CPU 시간이 필요 이상으로 큽니다.
+ * 글자 인식에 필요한 만큼만 남기도록 아래 순서로 처리합니다.
+ * <p>
+ * ## 처리 순서
+ * 1. 그레이스케일 변환 (긴 변이 max-long-edge를 넘으면 함께 축소), JPEG EXIF Orientation이 있으면 그 방향으로 회전
+ * 2. 기울기 보정: 글자 픽셀의 행 투영 분산이 가장 큰 각도(±max-skew-degrees)로 회전
+ * 3. 여백 제거: 글자 픽셀을 감싸는 영역 + margin만 남김
+ * 4. 축소: 행 투영으로 추정한 글자 줄 높이가 target-text-height가 되도록 (확대는 하지 않음)
+ * 5. JPEG(그레이스케일)로 다시 인코딩
+ * <p>
+ * 디코딩할 수 없는 형식(HEIC 등)이거나 결과가 원본보다 크면 원본을 그대로 사용합니다. <br />
+ * 단, Orientation이 있는 사진은 원본을 쓰면 누운 채로 OCR되므로 크기와 관계없이 회전한 결과를 사용합니다.
+ * <p>
+ * ## 지표
+ * - ocr.preprocess.bytes (stage=before|after): 요청별 전처리 전후 바이트 수
+ *   (PDF 페이지는 인코딩 전 이미지에서 시작하므로 after만 기록)
+ * - ocr.preprocess.duration
+ */
+@Component
+@Slf4j
+public class OcrImagePreprocessor {
+
+    private static final String OUTPUT_MIME_TYPE = "image/jpeg";
+    // 기울기, 줄 높이 추정 시 사용하는 표본 간격 (픽셀)
+    private static final int SAMPLE_STEP = 2;
+    // 이보다 작은 기울기는 회전하지 않음 (보간으로 글자가 흐려지는 비용이 더 큼)
+    private static final double MIN_DESKEW_DEGREES = 0.3;
+
+    private final boolean enabled;
+    private final int targetTextHeight;
+    private final int maxLongEdge;
+    private final int minLongEdge;
+    private final double maxSkewDegrees;
+    private final int margin;
+    private final float jpegQuality;
+
+    private final DistributionSummary bytesBefore;
+    private final DistributionSummary bytesAfter;
+    private final Timer duration;
+
+    public OcrImagePreprocessor(@Value("${ocr.preprocess.enabled:true}") boolean enabled,
+                                @Value("${ocr.preprocess.target-text-height:40}") int targetTextHeight,
+                                @Value("${ocr.preprocess.max-long-edge:2400}") int maxLongEdge,
+                                @Value("${ocr.preprocess.min-long-edge:1000}") int minLongEdge,
+                                @Value("${ocr.preprocess.max-skew-degrees:5}") double maxSkewDegrees,
+                                @Value("${ocr.preprocess.margin:16}") int margin,
+                                @Value("${ocr.preprocess.jpeg-quality:0.85}") float jpegQuality,
+                                MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.targetTextHeight = targetTextHeight;
+        this.maxLongEdge = maxLongEdge;
+        this.minLongEdge = minLongEdge;
+        this.maxSkewDegrees = maxSkewDegrees;
+        this.margin = margin;
+        this.jpegQuality = jpegQuality;
+        this.bytesBefore = DistributionSummary.builder("ocr.preprocess.bytes")
+            .baseUnit("bytes").tag("stage", "before").register(meterRegistry);
+        this.bytesAfter = DistributionSummary.builder("ocr.preprocess.bytes")
+            .baseUnit("bytes").tag("stage", "after").register(meterRegistry);
+        this.duration = Timer.builder("ocr.preprocess.duration").register(meterRegistry);
+    }
+
+    /**
+     * 업로드된 이미지 바이트를 전처리합니다.
+     */
+    public OcrImage preprocess(byte[] imageBytes, String mimeType) {
+        OcrImage original = new OcrImage(imageBytes, mimeType);
+        if (!enabled) {
+            return original;
+        }
+
+        BufferedImage image;
+        try {
+            image = ImageIO.read(new ByteArrayInputStream(imageBytes));
+        } catch (IOException e) {
+            image = null;
+        }
+        if (image == null) {
+            log.debug("전처리할 수 없는 이미지 형식, 원본 사용: MIME={}", mimeType);
+            return original;
+        }
+        return process(image, original, ExifOrientation.read(imageBytes));
+    }
+
+    /**
+     * 렌더링한 PDF 페이지를 전처리합니다. <br />
+     * 원본을 PNG로 인코딩하지 않고 바로 처리하며, 전처리를 끈 경우에만 PNG로 인코딩합니다.
+     */
+    public OcrImage preprocess(BufferedImage image) {
+        if (!enabled) {
+            return new OcrImage(encodePng(image), "image/png");
+        }
+        return process(image, null, ExifOrientation.NORMAL);
+    }
+
+    /**
+     * 렌더링한 PDF 페이지에서 여백만 제거한 그레이스케일 이미지 <br />
+     * 인코딩하지 않으므로 OCR 결과 캐시의 지문만 필요할 때 쓰며, 남기는 여백은 preprocess와 같은 비율로 줄입니다.
+     */
+    public BufferedImage trimMargins(BufferedImage image) {
+        BufferedImage gray = image.getType() == BufferedImage.TYPE_BYTE_GRAY ? image : toGray(image, 1.0);
+        int scaledMargin = (int) Math.round(margin * Math.max(gray.getWidth(), gray.getHeight())
+            / (double) maxLongEdge);
+        return cropMargins(gray, otsuThreshold(pixels(gray)), scaledMargin);
+    }
+
+    private OcrImage process(BufferedImage image, OcrImage original, int orientation) {
+        long start = System.nanoTime();
+        try {
+            int width = image.getWidth();
+            int height = image.getHeight();
+
+            BufferedImage gray = toGray(image, Math.min(1.0, maxLongEdge / (double) Math.max(width, height)));
+            // 축소한 그레이스케일에서 회전하여 원본 크기의 컬러 이미지를 한 번 더 만들지 않음
+            gray = ExifOrientation.apply(gray, orientation);
+            int threshold = otsuThreshold(pixels(gray));
+
+            double skew = estimateSkewDegrees(gray, threshold, maxSkewDegrees);
+            if (Math.abs(skew) >= MIN_DESKEW_DEGREES) {
+                gray = rotate(gray, -skew);
+            }
+            gray = cropMargins(gray, threshold, margin);
+
+            int lineHeight = estimateLineHeight(gray, threshold);
+            double scale = lineHeight > 0 ? targetTextHeight / (double) lineHeight : 1.0;
+            // 줄 높이를 추정하지 못했거나 너무 작아지는 경우에도 min-long-edge 아래로는 줄이지 않음
+            int longEdge = Math.max(gray.getWidth(), gray.getHeight());
+            scale = Math.min(1.0, Math.max(scale, Math.min(1.0, minLongEdge / (double) longEdge)));
+            if (scale < 1.0) {
+                gray = toGray(gray, scale);
+            }
+
+            byte[] encoded = encodeJpeg(gray);
+            if (original != null && orientation == ExifOrientation.NORMAL
+                && encoded.length >= original.bytes().length) {
+                record(original, original.bytes().length);
+                return original;
+            }
+
+            record(original, encoded.length);
+            log.info("OCR 이미지 전처리: {}x{} -> {}x{}, {} -> {} bytes, 기울기 {}도, 줄 높이 {}px",
+                width, height, gray.getWidth(), gray.getHeight(),
+                original != null ? original.bytes().length : "(렌더링)", encoded.length,
+                String.format("%.1f", skew), lineHeight);
+            return new OcrImage(encoded, OUTPUT_MIME_TYPE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("OCR 이미지 전처리 실패, 원본 사용: {}", e.getMessage());
+            return original != null ? original : new OcrImage(encodePng(image), "image/png");
+        } finally {
+            duration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void record(OcrImage original, long after) {
+        if (original != null) {
+            bytesBefore.record(original.bytes().length);
+        }
+        bytesAfter.record(after);
+    }
+
+    // 축소와 그레이스케일 변환을 한 번의 그리기로 처리
+    static BufferedImage toGray(BufferedImage source, double scale) {
+        int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+        BufferedImage gray = new BufferedImage(width, height, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return gray;
+    }
+
+    private static byte[] pixels(BufferedImage gray) {
+        return ((DataBufferByte) gray.getRaster().getDataBuffer()).getData();
+    }
+
+    /**
+     * 배경과 글자를 가르는 밝기 기준 (Otsu)
+     */
+    static int otsuThreshold(byte[] pixels) {
+        long[] histogram = new long[256];
+        for (byte pixel : pixels) {
+            histogram[pixel & 0xFF]++;
+        }
+        long total = pixels.length;
+        double sum = 0;
+        for (int i = 0; i < 256; i++) {
+            sum += i * (double) histogram[i];
+        }
+
+        double sumBackground = 0;
+        long weightBackground = 0;
+        double bestVariance = -1;
+        int threshold = 128;
+        for (int i = 0; i < 256; i++) {
+            weightBackground += histogram[i];
+            if (weightBackground == 0) {
+                continue;
+            }
+            long weightForeground = total - weightBackground;
+            if (weightForeground == 0) {
+                break;
+            }
+            sumBackground += i * (double) histogram[i];
+            double meanBackground = sumBackground / weightBackground;
+            double meanForeground = (sum - sumBackground) / weightForeground;
+            double variance = (double) weightBackground * weightForeground
+                * (meanBackground - meanForeground) * (meanBackground - meanForeground);
+            if (variance > bestVariance) {
+                bestVariance = variance;
+                threshold = i;
+            }
+        }
+        return threshold;
+    }
+
+    /**
+     * 글자 픽셀을 각도별로 기울여 행 투영을 만들고, 투영의 제곱합이 가장 큰(줄이 가장 뚜렷한) 각도를 찾습니다. <br />
+     * 0.5도 간격으로 찾은 뒤 주변을 0.1도 간격으로 다시 찾습니다.
+     *
+     * @return 이미지의 기울기 (도, 시계 방향이 양수)
+     */
+    static double estimateSkewDegrees(BufferedImage gray, int threshold, double maxDegrees) {
+        int[] ink = inkSamples(gray, threshold);
+        if (ink.length < 200) {
+            return 0;
+        }
+        double coarse = bestAngle(ink, gray.getHeight(), -maxDegrees, maxDegrees, 0.5);
+        return bestAngle(ink, gray.getHeight(), coarse - 0.5, coarse + 0.5, 0.1);
+    }
+
+    // 글자 픽셀 표본 좌표 (x, y 순서로 이어 붙임), 글자 픽셀이 절반을 넘으면 배경으로 보고 빈 배열
+    private static int[] inkSamples(BufferedImage gray, int threshold) {
+        byte[] pixels = pixels(gray);
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        int[] samples = new int[1024];
+        int count = 0;
+        int total = 0;
+        for (int y = 0; y < height; y += SAMPLE_STEP) {
+            int row = y * width;
+            for (int x = 0; x < width; x += SAMPLE_STEP) {
+                total++;
+                if ((pixels[row + x] & 0xFF) <= threshold) {
+                    if (count + 2 > samples.length) {
+                        samples = Arrays.copyOf(samples, samples.length * 2);
+                    }
+                    samples[count++] = x;
+                    samples[count++] = y;
+                }
+            }
+        }
+        return count / 2 > total / 2 ? new int[0] : Arrays.copyOf(samples, count);
+    }
+
+    private static double bestAngle(int[] ink, int height, double from, double to, double step) {
+        double best = 0;
+        double bestScore = -1;
+        int bins = height / SAMPLE_STEP + 2;
+        int offset = bins;
+        long[] histogram = new long[bins * 3];
+        for (double angle = from; angle <= to + 1e-9; angle += step) {
+            double radians = Math.toRadians(angle);
+            double sin = Math.sin(radians);
+            double cos = Math.cos(radians);
+            Arrays.fill(histogram, 0);
+            for (int i = 0; i < ink.length; i += 2) {
+                double rotatedY = ink[i + 1] * cos - ink[i] * sin;
+                int bin = (int) Math.floor(rotatedY / SAMPLE_STEP) + offset;
+                if (bin >= 0 && bin < histogram.length) {
+                    histogram[bin]++;
+                }
+            }
+            double score = 0;
+            for (long value : histogram) {
+                score += (double) value * value;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = angle;
+            }
+        }
+        return best;
+    }
+
+    static BufferedImage rotate(BufferedImage gray, double degrees) {
+        BufferedImage rotated = new BufferedImage(gray.getWidth(), gray.getHeight(),
+            BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = rotated.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, gray.getWidth(), gray.getHeight());
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+                RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.rotate(Math.toRadians(degrees), gray.getWidth() / 2.0, gray.getHeight() / 2.0);
+            g.drawImage(gray, 0, 0, null);
+        } finally {
+            g.dispose();
+        }
+        return rotated;
+    }
+
+    /**
+     * 글자 픽셀이 있는 행, 열을 감싸는 영역만 남깁니다. 잡음 한두 점은 무시합니다.
+     */
+    static BufferedImage cropMargins(BufferedImage gray, int threshold, int margin) {
+        byte[] pixels = pixels(gray);
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        int[] rowInk = new int[height];
+        int[] columnInk = new int[width];
+        for (int y = 0; y < height; y++) {
+            int row = y * width;
+            for (int x = 0; x < width; x++) {
+                if ((pixels[row + x] & 0xFF) <= threshold) {
+                    rowInk[y]++;
+                    columnInk[x]++;
+                }
+            }
+        }
+
+        int top = first(rowInk, 2);
+        int left = first(columnInk, 2);
+        if (top < 0 || left < 0) {
+            return gray;
+        }
+        int bottom = last(rowInk, 2);
+        int right = last(columnInk, 2);
+
+        int x0 = Math.max(0, left - margin);
+        int y0 = Math.max(0, top - margin);
+        int x1 = Math.min(width, right + margin + 1);
+        int y1 = Math.min(height, bottom + margin + 1);
+        if (x0 == 0 && y0 == 0 && x1 == width && y1 == height) {
+            return gray;
+        }
+        // getSubimage는 원본 버퍼를 공유하므로 복사하여 잘린 영역만 남김
+        BufferedImage cropped = new BufferedImage(x1 - x0, y1 - y0, BufferedImage.TYPE_BYTE_GRAY);
+        cropped.getRaster().setRect(-x0, -y0, gray.getRaster());
+        return cropped;
+    }
+
+    /**
+     * 행 투영에서 글자가 있는 행이 이어지는 구간(줄)의 높이 중앙값 <br />
+     * 줄이 3개 미만이면 추정하지 않고 -1을 반환합니다.
+     */
+    static int estimateLineHeight(BufferedImage gray, int threshold) {
+        byte[] pixels = pixels(gray);
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        // 행 폭의 0.5% 이상이 글자 픽셀이면 글자가 있는 행
+        int minInk = Math.max(2, width / SAMPLE_STEP / 200);
+
+        List<Integer> runs = new ArrayList<>();
+        int runStart = -1;
+        for (int y = 0; y <= height; y++) {
+            boolean inked = false;
+            if (y < height) {
+                int ink = 0;
+                int row = y * width;
+                for (int x = 0; x < width && ink < minInk; x += SAMPLE_STEP) {
+                    if ((pixels[row + x] & 0xFF) <= threshold) {
+                        ink++;
+                    }
+                }
+                inked = ink >= minInk;
+            }
+            if (inked && runStart < 0) {
+                runStart = y;
+            } else if (!inked && runStart >= 0) {
+                if (y - runStart >= 3) {
+                    runs.add(y - runStart);
+                }
+                runStart = -1;
+            }
+        }
+        if (runs.size() < 3) {
+            return -1;
+        }
+        runs.sort(null);
+        return runs.get(runs.size() / 2);
+    }
+
+    private static int first(int[] counts, int minCount) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] >= minCount) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int last(int[] counts, int minCount) {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] >= minCount) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private byte[] encodeJpeg(BufferedImage gray) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(baos)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(gray, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] encodePng(BufferedImage image) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            ImageIO.write(image, "PNG", baos);
+            return baos.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * OCR에 전달할 이미지
+     */
+    public record OcrImage(byte[] bytes, String mimeType) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import com.example.konnect_backend.domain.ai.domain.entity.ocr.OcrPageText;
+import com.example.konnect_backend.domain.ai.repository.OcrPageTextRepository;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 페이지 이미지 지각 해시 기반 OCR 결과 캐시
+ * <p>
+ * 같은 가정통신문이 조금씩 다른 사진이나 다시 내보낸 PDF로 올라오면 파일 바이트가 달라 분석 결과 캐시(SHA-256)에 적중하지 않습니다.
+ * 전처리한 페이지 이미지의 지문(PageFingerprint)으로 조회하여, 같은 페이지로 확인된 결과가 있으면 OCR을 호출하지 않습니다.
+ * <p>
+ * ## 적중 조건 (둘 다 만족해야 함)
+ * - 16x16 dHash(PageHash)의 해밍 거리 <= max-distance: 후보 찾기
+ * - 32x32 세부 해시의 해밍 거리 <= max-detail-distance: 같은 양식에 내용만 다른 안내문(글자 줄 배치가 같은 다른 페이지) 거르기
+ * <p>
+ * 결과는 사용자 간에 공유되므로, 다른 사용자의 문서 텍스트가 잘못 돌아가지 않도록 두 기준 모두 작게 유지합니다.
+ * 애매한 경우 미적중(OCR 호출)이 되는 쪽으로 정합니다.
+ * <p>
+ * 그래도 같은 양식에서 아이 이름, 반, 금액만 다른 개인별 안내문은 세부 해시 기준 안에 들 수 있어
+ * 다른 가정의 텍스트를 돌려줄 수 있으므로 기본값은 꺼져 있습니다. (ocr.page-cache.enabled=false)
+ * 실제 같은 양식 안내문으로 오적중이 없음을 확인한 뒤에만 켭니다.
+ * <p>
+ * ## 저장소
+ * - L1: 인스턴스별 Caffeine, 정확히 같은 해시를 먼저 찾고 없으면 전체 항목과 거리를 비교
+ * - L2: ocr_page_text 테이블, 보관 기간(retention) 안의 최근 l2-scan-limit행과 거리를 비교하며 적중하면 L1에 올림
+ * - L2 조회, 저장 실패는 미적중으로 처리하고 분석 트랜잭션에 영향을 주지 않도록 별도 트랜잭션으로 저장
+ * <p>
+ * ## 지표
+ * - ocr.page_cache.requests (result=hit|miss, tier=l1|l2|none)
+ * - ocr.page_cache.rejected (tier=l1|l2): 해시는 가깝지만 세부 해시가 달라 거른 후보 수
+ */
+@Component
+@Slf4j
+public class OcrPageCache {
+
+    // L2에서 세부 해시로 확인할 후보 수 (가장 가까운 후보가 같은 양식의 다른 페이지일 수 있음)
+    private static final int L2_CANDIDATES = 5;
+
+    private final OcrPageTextRepository repository;
+    private final TransactionTemplate requiresNew;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int maxDistance;
+    private final int maxDetailDistance;
+    private final int l2ScanLimit;
+    private final Duration retention;
+    private final Cache<PageHash, Entry> cache;
+
+    public OcrPageCache(OcrPageTextRepository repository, PlatformTransactionManager transactionManager,
+                        MeterRegistry meterRegistry,
+                        @Value("${ocr.page-cache.enabled:false}") boolean enabled,
+                        @Value("${ocr.page-cache.max-distance:8}") int maxDistance,
+                        @Value("${ocr.page-cache.max-detail-distance:96}") int maxDetailDistance,
+                        @Value("${ocr.page-cache.maximum-size:2000}") long maximumSize,
+                        @Value("${ocr.page-cache.l2-scan-limit:5000}") int l2ScanLimit,
+                        @Value("${ocr.page-cache.retention:P30D}") Duration retention) {
+        this.repository = repository;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxDistance = maxDistance;
+        this.maxDetailDistance = maxDetailDistance;
+        this.l2ScanLimit = l2ScanLimit;
+        this.retention = retention;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(retention)
+            .build();
+    }
+
+    /**
+     * 페이지 이미지가 준비되는 대로 (이미지를 만든 스레드에서) 해시를 구해 캐시를 조회하고,
+     * 캐시에 없는 페이지만 ocr(OcrService.extractPages)에 넘깁니다. <br />
+     * 캐시에서 가져온 페이지의 엔진은 OCR_PAGE_CACHE입니다.
+     *
+     * @param pages    null로 완료된 페이지는 조회하지 않으며 결과도 null
+     * @param producer 호출 스레드에서 pages를 완료시키는 작업
+     * @return pages와 같은 순서의 추출 결과
+     */
+    public List<OcrResult> extractPages(List<CompletableFuture<OcrImagePreprocessor.OcrImage>> pages,
+                                        Runnable producer,
+                                        BiFunction<List<CompletableFuture<OcrImagePreprocessor.OcrImage>>, Runnable,
+                                            List<OcrResult>> ocr) {
+        if (!enabled) {
+            return ocr.apply(pages, producer);
+        }
+
+        // 각 칸은 페이지 이미지를 완료한 스레드가 쓰고, ocr이 모든 페이지를 기다린 뒤에 읽음
+        PageFingerprint[] fingerprints = new PageFingerprint[pages.size()];
+        String[] cached = new String[pages.size()];
+        List<CompletableFuture<OcrImagePreprocessor.OcrImage>> misses = new ArrayList<>(pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            int page = i;
+            misses.add(pages.get(i).thenApply(image -> {
+                if (image == null) {
+                    return null;
+                }
+                fingerprints[page] = PageFingerprint.of(image).orElse(null);
+                cached[page] = fingerprints[page] == null ? null : get(fingerprints[page]).orElse(null);
+                return cached[page] == null ? image : null;
+            }));
+        }
+
+        List<OcrResult> results = new ArrayList<>(ocr.apply(misses, producer));
+        for (int page = 0; page < results.size(); page++) {
+            if (cached[page] != null) {
+                results.set(page, new OcrResult(cached[page], OcrEngine.OCR_PAGE_CACHE));
+            } else if (fingerprints[page] != null && results.get(page) != null) {
+                put(fingerprints[page], results.get(page).text());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 이미지 한 장을 캐시에서 찾고, 없으면 ocr로 인식한 뒤 결과를 저장합니다.
+     *
+     * @param ocr null을 돌려주면(인식하지 못함) 저장하지 않고 null을 반환
+     */
+    public OcrResult extractText(OcrImagePreprocessor.OcrImage image,
+                                 Function<OcrImagePreprocessor.OcrImage, OcrResult> ocr) {
+        return extractPages(List.of(CompletableFuture.completedFuture(image)), () -> {
+        }, (pages, producer) -> {
+            OcrImagePreprocessor.OcrImage miss = pages.get(0).join();
+            return Collections.singletonList(miss == null ? null : ocr.apply(miss));
+        }).get(0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<String> get(PageFingerprint fingerprint) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        String text = nearestInMemory(fingerprint);
+        if (text != null) {
+            count("hit", "l1");
+            return Optional.of(text);
+        }
+
+        Optional<OcrPageText> stored = findStored(fingerprint);
+        if (stored.isPresent()) {
+            cache.put(stored.get().getHash(), new Entry(stored.get().getDetail(), stored.get().getText()));
+            count("hit", "l2");
+            return Optional.of(stored.get().getText());
+        }
+        count("miss", "none");
+        return Optional.empty();
+    }
+
+    /**
+     * 비어 있지 않은 OCR 결과를 L1과 L2에 저장합니다.
+     */
+    public void put(PageFingerprint fingerprint, String text) {
+        if (!enabled || text == null || text.isBlank()) {
+            return;
+        }
+        cache.put(fingerprint.hash(), new Entry(fingerprint.detail(), text));
+        try {
+            requiresNew.executeWithoutResult(
+                status -> repository.save(new OcrPageText(fingerprint, text, LocalDateTime.now())));
+        } catch (DataAccessException e) {
+            log.warn("OCR 결과 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${ocr.page-cache.cleanup-cron:0 40 4 * * *}")
+    public void deleteExpired() {
+        Integer deleted = requiresNew.execute(
+            status -> repository.deleteCreatedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("보관 기간이 지난 OCR 결과 캐시 삭제: {}건", deleted);
+        }
+    }
+
+    // 정확히 같은 해시를 먼저 확인하고, 없으면 세부 해시까지 통과한 항목 중 해시가 가장 가까운 항목
+    private String nearestInMemory(PageFingerprint fingerprint) {
+        Entry exact = cache.getIfPresent(fingerprint.hash());
+        if (exact != null && matches(fingerprint, exact.detail(), "l1")) {
+            return exact.text();
+        }
+
+        String nearest = null;
+        int nearestDistance = maxDistance + 1;
+        for (Map.Entry<PageHash, Entry> entry : cache.asMap().entrySet()) {
+            int distance = fingerprint.hash().distance(entry.getKey());
+            if (distance > 0 && distance < nearestDistance && matches(fingerprint, entry.getValue().detail(), "l1")) {
+                nearest = entry.getValue().text();
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private Optional<OcrPageText> findStored(PageFingerprint fingerprint) {
+        PageHash hash = fingerprint.hash();
+        try {
+            return repository.findNearest(hash.hash0(), hash.hash1(), hash.hash2(), hash.hash3(), maxDistance,
+                    LocalDateTime.now().minus(retention), l2ScanLimit, L2_CANDIDATES).stream()
+                .filter(candidate -> matches(fingerprint, candidate.getDetail(), "l2"))
+                .findFirst();
+        } catch (DataAccessException e) {
+            log.warn("OCR 결과 캐시 조회 실패, 미적중으로 처리: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // 해시가 가까운 후보가 같은 페이지인지 세부 해시로 확인
+    private boolean matches(PageFingerprint fingerprint, byte[] detail, String tier) {
+        if (fingerprint.detailDistance(detail) <= maxDetailDistance) {
+            return true;
+        }
+        Counter.builder("ocr.page_cache.rejected")
+            .tag("tier", tier)
+            .register(meterRegistry)
+            .increment();
+        return false;
+    }
+
+    private void count(String result, String tier) {
+        Counter.builder("ocr.page_cache.requests")
+            .tag("result", result)
+            .tag("tier", tier)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private record Entry(byte[] detail, String text) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
+
+/**
+ * 한 페이지(이미지)의 OCR 텍스트와 그 텍스트를 만든 엔진
+ */
+public record OcrResult(String text, OcrEngine engine) {
+}
@@ -1,9 +1,58 @@
 package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 public interface OcrService {
 
     String extractText(byte[] imageBytes, String mimeType);
 
+    /**
+     * 여러 이미지(한 문서의 페이지)의 텍스트를 추출합니다. <br />
+     * 기본 구현은 이미지마다 extractText를 호출하며, 여러 이미지를 한 번에 처리할 수 있는 서비스가 재정의합니다.
+     * @return 이미지 순서와 같은 순서의 추출 텍스트
+     */
+    default List<String> extractTexts(List<OcrImagePreprocessor.OcrImage> images) {
+        return images.stream()
+            .map(image -> extractText(image.bytes(), image.mimeType()))
+            .toList();
+    }
+
+    /**
+     * extractText와 같지만, 텍스트를 실제로 만든 엔진을 함께 돌려줍니다. <br />
+     * 여러 엔진 중 하나를 고르는 서비스(TieredOcrService)는 페이지마다 다른 엔진을 돌려줄 수 있습니다.
+     */
+    OcrResult extract(byte[] imageBytes, String mimeType);
+
+    /**
+     * 아직 준비 중인 페이지 이미지를 받아, producer(렌더링 등)를 실행한 뒤 모든 페이지의 텍스트를 기다려 돌려줍니다. <br />
+     * 페이지를 하나씩 처리할 수 있는 서비스는 producer가 다음 페이지를 만드는 동안 준비된 페이지부터 인식하도록 재정의합니다. <br />
+     * 기본 구현은 모든 페이지가 준비된 뒤 페이지마다 extract를 호출합니다.
+     * @param pages null로 완료된 페이지(캐시 적중, 렌더링 실패)는 인식하지 않으며 결과도 null
+     * @param producer 호출 스레드에서 pages를 완료시키는 작업
+     * @return pages와 같은 순서의 추출 결과
+     */
+    default List<OcrResult> extractPages(List<CompletableFuture<OcrImagePreprocessor.OcrImage>> pages,
+                                         Runnable producer) {
+        producer.run();
+        List<OcrResult> results = new ArrayList<>(pages.size());
+        for (CompletableFuture<OcrImagePreprocessor.OcrImage> page : pages) {
+            OcrImagePreprocessor.OcrImage image = page.join();
+            results.add(image == null ? null : extract(image.bytes(), image.mimeType()));
+        }
+        return results;
+    }
+
+    /**
+     * 유료 호출(Gemini Vision) 없이 로컬 엔진만으로 충분히 인식할 수 있으면 그 결과를 돌려줍니다. <br />
+     * 로컬 결과가 기준에 못 미치거나 로컬 엔진이 없는 서비스는 empty입니다.
+     */
+    default Optional<OcrResult> extractTextLocally(OcrImagePreprocessor.OcrImage image) {
+        return Optional.empty();
+    }
+
     boolean supports(String mimeType);
 
     /**
@@ -0,0 +1,58 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * OCR 결과 캐시에서 페이지를 찾고 확인하는 데 쓰는 페이지 이미지 지문
+ * <p>
+ * hash(16x16 dHash)는 후보를 찾는 키이고, detail(32x32 dHash, 1024비트)은 후보가 정말 같은 페이지인지 확인하는 데 씁니다.
+ * 같은 양식에 내용만 다른 안내문은 글자 줄 배치가 같아 hash가 가까울 수 있지만,
+ * 칸 넓이가 1/4인 detail에서는 글자 차이가 드러나 다시 찍은 같은 페이지보다 거리가 몇 배 큽니다.
+ * <p>
+ * detail은 배열이므로 이 레코드는 캐시 키로 쓰지 않습니다. (키는 hash)
+ */
+public record PageFingerprint(PageHash hash, byte[] detail) {
+
+    private static final int DETAIL_ROWS = 32;
+    static final int DETAIL_BITS = DETAIL_ROWS * DETAIL_ROWS;
+
+    /**
+     * 인코딩된 이미지의 지문, 디코딩할 수 없는 형식(HEIC 등)이면 빈 값
+     */
+    public static Optional<PageFingerprint> of(OcrImagePreprocessor.OcrImage image) {
+        try {
+            BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(image.bytes()));
+            return Optional.ofNullable(decoded).map(PageFingerprint::of);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    public static PageFingerprint of(BufferedImage image) {
+        BufferedImage gray = PageHash.gray(image);
+        ByteBuffer detail = ByteBuffer.allocate(DETAIL_BITS / Byte.SIZE);
+        for (long bits : PageHash.dHash(gray, DETAIL_ROWS)) {
+            detail.putLong(bits);
+        }
+        return new PageFingerprint(PageHash.of(gray), detail.array());
+    }
+
+    /**
+     * 세부 해시의 해밍 거리, 길이가 다르면(저장된 값이 없는 등) 최대 거리
+     */
+    public int detailDistance(byte[] other) {
+        if (other == null || other.length != detail.length) {
+            return DETAIL_BITS;
+        }
+        int distance = 0;
+        for (int i = 0; i < detail.length; i++) {
+            distance += Integer.bitCount((detail[i] ^ other[i]) & 0xFF);
+        }
+        return distance;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+
+/**
+ * 페이지 이미지의 지각 해시 (dHash, 256비트)
+ * <p>
+ * 이미지를 17x16 칸의 평균 밝기로 줄이고, 각 행에서 이웃한 두 칸의 밝기 비교 결과 16x16비트를 기록합니다.
+ * (왼쪽 칸이 TOLERANCE보다 더 밝으면 1)
+ * 해상도, JPEG 압축, 전체 밝기가 달라도 거의 변하지 않고 글자 배치가 달라지면 달라지므로
+ * 해밍 거리(distance)가 작으면 같은 페이지를 다시 찍거나 다시 내보낸 것으로 봅니다.
+ * <p>
+ * hash0 ~ hash3에는 4행씩 위에서부터 차례로 담깁니다.
+ * 같은 양식에 내용만 다른 페이지도 거리가 가까울 수 있으므로 캐시 적중 여부는 PageFingerprint의 세부 해시로 다시 확인합니다.
+ */
+public record PageHash(long hash0, long hash1, long hash2, long hash3) {
+
+    private static final int ROWS = 16;
+    // 여백처럼 밝기가 같은 이웃 칸은 JPEG 잡음만으로 비교 결과가 바뀌므로 이 차이 이하는 0으로 기록
+    private static final double TOLERANCE = 2.0;
+
+    public static PageHash of(BufferedImage image) {
+        long[] hash = dHash(gray(image), ROWS);
+        return new PageHash(hash[0], hash[1], hash[2], hash[3]);
+    }
+
+    public int distance(PageHash other) {
+        return Long.bitCount(hash0 ^ other.hash0) + Long.bitCount(hash1 ^ other.hash1)
+            + Long.bitCount(hash2 ^ other.hash2) + Long.bitCount(hash3 ^ other.hash3);
+    }
+
+    static BufferedImage gray(BufferedImage image) {
+        return image.getType() == BufferedImage.TYPE_BYTE_GRAY ? image : OcrImagePreprocessor.toGray(image, 1.0);
+    }
+
+    /**
+     * rows x (rows + 1) 칸의 이웃 비교 결과 rows x rows비트, 위 행부터 64비트씩 담음
+     */
+    static long[] dHash(BufferedImage gray, int rows) {
+        double[][] cells = cellMeans(gray, rows);
+        long[] hash = new long[(rows * rows + Long.SIZE - 1) / Long.SIZE];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < rows; column++) {
+                if (cells[row][column] - cells[row][column + 1] > TOLERANCE) {
+                    int bit = row * rows + column;
+                    hash[bit / Long.SIZE] |= 1L << (bit % Long.SIZE);
+                }
+            }
+        }
+        return hash;
+    }
+
+    // 칸마다 속한 모든 픽셀의 평균 밝기 (축소 보간으로 생기는 표본 차이를 없애기 위해 직접 평균)
+    private static double[][] cellMeans(BufferedImage gray, int rows) {
+        int columns = rows + 1;
+        int width = gray.getWidth();
+        int height = gray.getHeight();
+        byte[] pixels = ((DataBufferByte) gray.getRaster().getDataBuffer()).getData();
+        long[][] sums = new long[rows][columns];
+        long[][] counts = new long[rows][columns];
+        for (int y = 0; y < height; y++) {
+            int row = (int) ((long) y * rows / height);
+            int offset = y * width;
+            for (int x = 0; x < width; x++) {
+                int column = (int) ((long) x * columns / width);
+                sums[row][column] += pixels[offset + x] & 0xFF;
+                counts[row][column]++;
+            }
+        }
+
+        double[][] means = new double[rows][columns];
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                means[row][column] = counts[row][column] == 0 ? 255 : sums[row][column] / (double) counts[row][column];
+            }
+        }
+        return means;
+    }
+}
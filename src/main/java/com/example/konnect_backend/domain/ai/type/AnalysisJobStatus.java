@@ -0,0 +1,8 @@
+package com.example.konnect_backend.domain.ai.type;
+
+public enum AnalysisJobStatus {
+    PENDING,    // 대기 중
+    RUNNING,    // 워커가 선점하여 실행 중
+    SUCCEEDED,  // 분석 완료
+    FAILED      // 분석 실패
+}
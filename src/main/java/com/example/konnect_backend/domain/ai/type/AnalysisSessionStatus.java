@@ -0,0 +1,8 @@
+package com.example.konnect_backend.domain.ai.type;
+
+public enum AnalysisSessionStatus {
+    IN_PROGRESS,    // 실행 중
+    SUCCEEDED,      // 분석 완료
+    FAILED,         // 실패, 이어서 실행 가능
+    RESUMED         // 다른 요청으로 이어서 실행됨
+}
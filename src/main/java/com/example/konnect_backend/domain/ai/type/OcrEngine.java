@@ -0,0 +1,21 @@
+package com.example.konnect_backend.domain.ai.type;
+
+/**
+ * 페이지 텍스트를 실제로 만든 OCR 엔진 <br />
+ * 이름은 분석 기록의 ocr_method에 그대로 저장됩니다.
+ */
+public enum OcrEngine {
+    TESSERACT_OCR("로컬 Tesseract"),
+    GEMINI_VISION_OCR("Gemini Vision"),
+    OCR_PAGE_CACHE("OCR 결과 캐시");
+
+    private final String description;
+
+    OcrEngine(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -85,6 +85,7 @@ public enum ErrorStatus implements BaseErrorCode {
     GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI4001", "콘텐츠 생성 중 오류가 발생했습니다."),
     TTS_CONVERSION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI4002", "음성 변환 중 오류가 발생했습니다."),
     AI_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI4003", "AI 서비스를 사용할 수 없습니다. 일일 호출 제한에 도달했을 수 있습니다."),
+    AI_SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "AI4004", "AI 서비스 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Document Analysis Errors
     DOCUMENT_ANALYSIS_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "DOC4001", "문서 분석 중 오류가 발생했습니다."),
@@ -95,6 +96,9 @@ public enum ErrorStatus implements BaseErrorCode {
     PDF_PROCESSING_FAILED(HttpStatus.BAD_REQUEST, "DOC4006", "PDF 처리 중 오류가 발생했습니다."),
     DOCUMENT_ANALYSIS_NOT_FOUND(HttpStatus.NOT_FOUND, "DOC4007", "문서 분석 결과를 찾을 수 없습니다."),
     ANALYSIS_NOT_FOUND(HttpStatus.NOT_FOUND, "DOC4008", "재시도할 분석 세션을 찾을 수 없습니다. 캐시가 만료되었을 수 있습니다."),
+    ANALYSIS_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "DOC4010", "분석 작업을 찾을 수 없습니다."),
+    ANALYSIS_NOT_RESUMABLE(HttpStatus.BAD_REQUEST, "DOC4011", "이어서 실행할 수 없는 분석입니다. 문서를 다시 업로드해주세요."),
+    ANALYSIS_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "DOC4009", "분석 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // OAuth Errors
     OAUTH_TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "OAUTH4001", "유효하지 않은 소셜 액세스 토큰입니다."),
@@ -1,8 +1,11 @@
 package com.example.konnect_backend.global.config;
 
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -14,19 +17,125 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    /**
+     * 파이프라인 노드(모듈의 Gemini 호출)와 Vision OCR 묶음 요청을 실행합니다. <br />
+     * 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 필요)에서는 노드마다 가상 스레드를 사용하므로
+     * HTTP 응답 대기가 플랫폼 스레드를 점유하지 않고, 동시 호출 수는 GeminiBulkhead가 제한합니다.
+     * <p>
+     * 스레드 풀 모드에서는 max-size까지 스레드를 먼저 늘리고 그다음 큐에 쌓으며, 큐도 가득 차면 거절합니다.
+     * (호출 스레드에서 실행하면 노드가 요청 스레드와 분석 트랜잭션 안에서 순서대로 실행되므로 CallerRuns를 쓰지 않음)
+     * 거절은 제출한 쪽에서 AI_SERVICE_BUSY로 바뀌며, 동시 Gemini 호출 수는 어느 모드든 GeminiBulkhead가 제한합니다.
+     */
     @Bean
-    public ThreadPoolTaskExecutor promptExecutor() {
+    public AsyncTaskExecutor promptExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${ai.executor.prompt.max-size:30}") int maxSize,
+        @Value("${ai.executor.prompt.queue-capacity:200}") int queueCapacity) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("prompt-");
+        }
+        // 코어 수를 max-size와 같게 두어야 큐가 차기 전에도 스레드가 늘어남 (쉬는 스레드는 keep-alive 후 종료)
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(10);
-        executor.setMaxPoolSize(30);
-        executor.setQueueCapacity(1);
-        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setCorePoolSize(maxSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
         executor.setTaskDecorator(new MdcTaskDecorator());
         executor.setThreadNamePrefix("prompt-");
         executor.initialize();
         return executor;
     }
 
+    /**
+     * 스트리밍 분석 요청의 파이프라인을 실행합니다. <br />
+     * 서블릿 스레드를 반환한 뒤 실행되므로 큐가 가득 차면 호출 스레드에서 실행하지 않고 거절합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor analysisExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(5);
+        executor.setMaxPoolSize(10);
+        executor.setQueueCapacity(20);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setThreadNamePrefix("analysis-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 스트리밍 분석의 SSE 이벤트를 클라이언트로 전송합니다. <br />
+     * 느린 클라이언트에 대한 쓰기가 모듈 실행 스레드나 Gemini 스트림 수신 스레드를 막지 않도록 전송만 따로 실행하며,
+     * 스레드가 모두 바쁘면 이벤트는 연결별 큐에서 기다립니다. (연결마다 대기하는 전송 작업은 최대 하나)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor sseExecutor(
+        @Value("${ai.analysis-stream.sender-size:4}") int senderSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(senderSize);
+        executor.setMaxPoolSize(senderSize);
+        executor.setQueueCapacity(Integer.MAX_VALUE);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setThreadNamePrefix("sse-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * DB 작업 큐에서 선점한 분석 작업을 실행합니다. <br />
+     * 워커가 슬롯 수만큼만 선점하므로 큐는 스레드 반환 지연에 대비한 여유분입니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor analysisJobExecutor(
+        @Value("${ai.analysis-job.worker-count:3}") int workerCount) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerCount);
+        executor.setMaxPoolSize(workerCount);
+        executor.setQueueCapacity(workerCount);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setThreadNamePrefix("analysis-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * PDF 페이지의 로컬 OCR(Tesseract)을 병렬로 실행합니다. <br />
+     * 동시에 인식하는 페이지 수는 Tesseract 엔진 풀 크기(ocr.pdf.concurrency)로 제한되므로
+     * 가상 스레드 모드에서도 동시 OCR 페이지 수는 같습니다.
+     */
+    @Bean
+    public AsyncTaskExecutor ocrExecutor(
+        @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+        @Value("${ocr.pdf.concurrency:4}") int concurrency) {
+        if (virtualThreads) {
+            return virtualThreadExecutor("ocr-");
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(100);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        executor.setThreadNamePrefix("ocr-");
+        executor.initialize();
+        return executor;
+    }
+
+    private AsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        // Java 17 런타임(현재 빌드 툴체인과 배포 이미지)에서는 작업 실행 시점에야 실패하므로 기동 시점에 막음
+        if (Runtime.version().feature() < 21) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true는 Java 21 이상에서만 사용할 수 있습니다. "
+                + "현재 런타임: Java " + Runtime.version().feature()
+                + ", 설정을 false로 두거나 툴체인과 배포 이미지를 Java 21로 올려야 합니다.");
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskDecorator(new MdcTaskDecorator());
+        return executor;
+    }
+
     private static class MdcTaskDecorator implements TaskDecorator {
         @Override
         public Runnable decorate(Runnable runnable) {
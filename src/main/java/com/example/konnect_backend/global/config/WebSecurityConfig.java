@@ -118,6 +118,7 @@ public class WebSecurityConfig {
         config.setAllowedOrigins(allowedOrigins);
         config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         config.addAllowedHeader("*");
+        config.addExposedHeader("X-Request-Id");
         config.setAllowCredentials(true);
         source.registerCorsConfiguration("/**", config);
 
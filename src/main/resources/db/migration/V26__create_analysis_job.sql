@@ -0,0 +1,40 @@
+-- 비동기 문서 분석 작업 큐
+CREATE TABLE analysis_job
+(
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    status           VARCHAR(20)  NOT NULL,
+    user_id          BIGINT       NULL,
+    device_uuid      VARCHAR(255) NULL,
+    file_name        VARCHAR(255) NOT NULL,
+    file_type        VARCHAR(20)  NOT NULL,
+    content_type     VARCHAR(100) NULL,
+    file_size        BIGINT       NOT NULL,
+    request_uuid     BINARY(16)   NULL,
+    analysis_id      BIGINT       NULL,
+    result_json      MEDIUMTEXT   NULL,
+    error_code       VARCHAR(50)  NULL,
+    error_message    VARCHAR(500) NULL,
+    lease_owner      VARCHAR(100) NULL,
+    lease_expires_at DATETIME(6)  NULL,
+    attempts         INT          NOT NULL DEFAULT 0,
+    created_at       DATETIME(6)  NOT NULL,
+    updated_at       DATETIME(6)  NOT NULL,
+    finished_at      DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    -- 워커의 작업 선점 조회용
+    INDEX idx_analysis_job_status_lease (status, lease_expires_at),
+    INDEX idx_analysis_job_user (user_id, created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 업로드 원본은 상태 조회 시 읽지 않도록 분리하고, 작업 종료 시 삭제
+CREATE TABLE analysis_job_file
+(
+    job_id BIGINT   NOT NULL,
+    data   LONGBLOB NOT NULL,
+    PRIMARY KEY (job_id),
+    CONSTRAINT fk_analysis_job_file_job
+        FOREIGN KEY (job_id) REFERENCES analysis_job (id)
+            ON DELETE CASCADE
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,35 @@
+-- 문서 분석 요청 단위 세션 (실패 시 이어서 실행하기 위한 메타데이터)
+CREATE TABLE analysis_session
+(
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    request_uuid        BINARY(16)   NOT NULL,
+    resumed_from_uuid   BINARY(16)   NULL,
+    status              VARCHAR(20)  NOT NULL,
+    user_id             BIGINT       NULL,
+    device_uuid         VARCHAR(255) NULL,
+    file_name           VARCHAR(255) NOT NULL,
+    file_type           VARCHAR(20)  NOT NULL,
+    content_type        VARCHAR(100) NULL,
+    file_size           BIGINT       NOT NULL,
+    target_language     VARCHAR(20)  NOT NULL,
+    created_at          DATETIME(6)  NOT NULL,
+    updated_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_analysis_session_request_uuid (request_uuid),
+    INDEX idx_analysis_session_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 단계별 실행 결과
+CREATE TABLE analysis_checkpoint
+(
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    request_uuid BINARY(16)  NOT NULL,
+    stage        VARCHAR(50) NOT NULL,
+    payload      MEDIUMTEXT  NOT NULL,
+    created_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_analysis_checkpoint_request_stage (request_uuid, stage),
+    INDEX idx_analysis_checkpoint_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,58 @@
+# 분류 + 통합 정보 추출 + 어려운 표현 추출을 한 번에 수행하는 통합 분석 프롬프트 (ai.pipeline.mode=fused)
+INSERT INTO prompt_template(module_name, version, template, created_at, updated_at, status, max_tokens, model_id)
+VALUES ('FUSED_ANALYSIS', 1, '다음 학교 가정통신문을 분석하여 문서 유형 분류, 정보 추출, 어려운 표현 추출 결과를 하나의 JSON으로 출력해주세요.
+문서에 해당 정보가 없으면 빈 배열 또는 null로 남겨두세요.
+
+## 1. 문서 유형 분류 (classification)
+반드시 아래 4가지 중 하나만 선택합니다.
+- SCHEDULE: 시험일정, 방학일정, 등교일, 휴업일, 행사일 등 특정 날짜/기간이 핵심인 문서
+- PENALTY: 교칙 위반, 벌점, 징계, 상벌점, 학교폭력, 규정 위반이 핵심인 문서
+- EVENT: 학교 행사, 체험학습, 소풍, 운동회, 발표회, 대회 등 행사 참여/동의서가 핵심인 문서
+- NOTICE: 위 3가지에 해당하지 않는 일반 공지
+documentType, confidence(0~1), keywords(한국어 키워드 배열), reasoning(분류 근거)을 작성합니다.
+
+## 2. 정보 추출 (extraction)
+- schedules: 날짜가 명시된 모든 일정/행사/마감일 [{title(20자 이내), memo, startDate, endDate, isAllDay}]
+  날짜는 ISO 8601 형식(yyyy-MM-ddTHH:mm:ss), 시간 정보가 없으면 isAllDay는 true
+- eventDetails: 해당되는 경우만 {eventName, targetGrade, location, cost(숫자), requirements[], consentRequired, consentDeadline}
+- penaltyInfo: 해당되는 경우만 {violations[{item, points, description}], cumulativePenalties[{points, action}], appealDeadline, warnings[]}
+- noticeDetails: 해당되는 경우만 {title, requirements[], deadline, contact, warnings[]}
+extraction의 모든 텍스트 필드는 반드시 {{target_language}}로 작성합니다. 원본이 한국어여도 번역하여 출력합니다.
+
+## 3. 어려운 표현 추출 (difficultExpressions)
+외국인이 이해하기 어려운 한자어, 학교/행정 용어, 관용적 표현, 문화적 맥락이 필요한 표현을 최대 10개까지 선별합니다.
+- original: 원본 한국어 표현 그대로
+- explanation: {{target_language}}로 쉽게 풀어서 설명 (간단명료하게)
+
+## 출력 형식 규칙 (필수)
+- 마크다운 문법 사용 금지 (###, **, *, -, |, 표 등 사용하지 않기)
+- 모든 텍스트 필드는 순수 텍스트로만 작성
+
+## 오늘 날짜 (연도 추론에 활용)
+{{today}}
+
+## 분석할 텍스트
+{{text}}
+
+## 응답 형식 (JSON만 출력, 다른 텍스트 없이)
+{
+  "classification": {"documentType":"SCHEDULE","confidence":0.95,"keywords":["기말고사","일정"],"reasoning":"시험 기간이 문서의 핵심 정보"},
+  "extraction": {
+    "schedules": [
+      {"title":"Final Exam","memo":"Required: ID card","startDate":"2024-12-15T09:00:00","endDate":"2024-12-17T12:00:00","isAllDay":false}
+    ],
+    "eventDetails": null,
+    "penaltyInfo": null,
+    "noticeDetails": null
+  },
+  "difficultExpressions": [{"original":"여가선용","explanation":"Using free time wisely"}]
+}', NOW(), NOW(), 'ACTIVE', 5000, 2);
+
+INSERT INTO prompt_slot(slot_key, slot_order, prompt_id)
+SELECT slot.slot_key, slot.slot_order, p.id
+FROM prompt_template p
+         JOIN (SELECT 'target_language' AS slot_key, 1 AS slot_order
+               UNION ALL SELECT 'today', 2
+               UNION ALL SELECT 'text', 3) slot
+WHERE p.module_name = 'FUSED_ANALYSIS'
+  AND p.version = 1;
@@ -0,0 +1,11 @@
+-- Gemini 일일 호출 수 (인스턴스 간 공유, quota_date는 제공자 기준 날짜)
+CREATE TABLE gemini_quota_usage
+(
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    quota_date DATE        NOT NULL,
+    model_type VARCHAR(20) NOT NULL,
+    used       INT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_gemini_quota_usage_date_model (quota_date, model_type)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,3 @@
+-- 컨텍스트 캐시(cachedContent)에서 읽은 입력 토큰 수 (input_tokens에 포함됨)
+ALTER TABLE llm_call_metadata
+    ADD COLUMN cached_input_tokens INT NULL AFTER output_tokens;
@@ -0,0 +1,16 @@
+-- 페이지 이미지 지각 해시(dHash 256비트, 64비트씩 4개)별 OCR 결과 캐시
+-- detail: 후보가 같은 페이지인지 확인하는 세부 해시 (dHash 1024비트)
+CREATE TABLE ocr_page_text
+(
+    id         BIGINT         NOT NULL AUTO_INCREMENT,
+    hash0      BIGINT         NOT NULL,
+    hash1      BIGINT         NOT NULL,
+    hash2      BIGINT         NOT NULL,
+    hash3      BIGINT         NOT NULL,
+    detail     VARBINARY(128) NOT NULL,
+    text       MEDIUMTEXT     NOT NULL,
+    created_at DATETIME(6)    NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_ocr_page_text_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
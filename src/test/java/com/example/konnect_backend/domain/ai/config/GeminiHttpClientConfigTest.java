@@ -0,0 +1,111 @@
+package com.example.konnect_backend.domain.ai.config;
+
+import com.example.konnect_backend.domain.ai.infra.GeminiRequestDeadlineHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiHttpClientConfigTest {
+
+    GeminiHttpClientConfig httpClientConfig = new GeminiHttpClientConfig();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    GeminiRequestDeadlineHandler deadlineHandler = new GeminiRequestDeadlineHandler();
+
+    HttpServer server;
+    PoolingHttpClientConnectionManager connectionManager;
+    CloseableHttpClient httpClient;
+    RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            if (exchange.getRequestURI().getPath().contains("slow")) {
+                sleep(Duration.ofSeconds(3));
+            }
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+
+        GeminiConfig config = new GeminiConfig();
+        GeminiConfig.Http.ModelTimeout slowModel = new GeminiConfig.Http.ModelTimeout();
+        slowModel.setDeadline(Duration.ofMillis(200));
+        config.getHttp().getModels().put("slow-model", slowModel);
+
+        connectionManager = httpClientConfig.geminiConnectionManager(config, meterRegistry);
+        httpClient = httpClientConfig.geminiHttpClient(config, connectionManager, deadlineHandler);
+        restTemplate = httpClientConfig.geminiRestTemplate(config, httpClient);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        deadlineHandler.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("모델별 마감 시간을 넘긴 요청은 응답을 기다리지 않고 취소된다")
+    void Should_CancelRequest_When_ModelDeadlineExceeded() {
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> restTemplate.postForObject(url("slow-model"), "{}", String.class))
+            .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("연속 호출은 풀의 커넥션을 재사용한다")
+    void Should_ReuseConnection_When_CalledRepeatedly() {
+        restTemplate.postForObject(url("fast-model"), "{}", String.class);
+        restTemplate.postForObject(url("fast-model"), "{}", String.class);
+
+        assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+        assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.connections")
+            .tag("httpclient", "gemini").gauges()).isNotEmpty();
+    }
+
+    @Test
+    @DisplayName("요청 경로에서 모델명을 추출한다")
+    void Should_ExtractModel_When_GenerateContentPath() {
+        assertThat(GeminiHttpClientConfig.modelOf(
+            URI.create("https://host/v1beta/models/gemini-2.0-flash:generateContent?key=k")))
+            .isEqualTo("gemini-2.0-flash");
+        assertThat(GeminiHttpClientConfig.modelOf(URI.create("https://host/v1beta/files")))
+            .isEmpty();
+    }
+
+    private String url(String model) {
+        return "http://127.0.0.1:" + server.getAddress().getPort()
+            + "/v1beta/models/" + model + ":generateContent";
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiBulkheadTest {
+
+    GeminiBulkhead bulkhead;
+
+    @BeforeEach
+    void setUp() {
+        GeminiConfig config = new GeminiConfig();
+        config.getBulkhead().setPrimary(1);
+        config.getBulkhead().setLite(1);
+        config.getBulkhead().setAcquireTimeout(Duration.ofMillis(50));
+        bulkhead = new GeminiBulkhead(config, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("자원의 동시 호출 수가 가득 차면 AI_SERVICE_BUSY로 실패한다")
+    void Should_ThrowBusy_When_ResourceIsSaturated() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> holder = CompletableFuture.supplyAsync(
+            () -> bulkhead.execute(GeminiBulkhead.Resource.PRIMARY, () -> {
+                entered.countDown();
+                await(release);
+                return "done";
+            }));
+        entered.await();
+
+        assertThatThrownBy(() -> bulkhead.execute(GeminiBulkhead.Resource.PRIMARY, () -> "next"))
+            .isInstanceOf(DocumentAnalysisException.class)
+            .extracting("code")
+            .isEqualTo(ErrorStatus.AI_SERVICE_BUSY);
+        // 다른 자원은 영향을 받지 않음
+        assertThat(bulkhead.execute(GeminiBulkhead.Resource.LITE, () -> "lite")).isEqualTo("lite");
+
+        release.countDown();
+        assertThat(holder.get()).isEqualTo("done");
+        assertThat(bulkhead.execute(GeminiBulkhead.Resource.PRIMARY, () -> "next")).isEqualTo("next");
+    }
+
+    @Test
+    @DisplayName("이미지 호출은 OCR, Lite 모델은 LITE, 그 외 모델은 PRIMARY 자원을 사용한다")
+    void Should_ResolveResource_When_ModelAndImageGiven() {
+        assertThat(bulkhead.resolve("gemini-2.0-flash", true)).isEqualTo(GeminiBulkhead.Resource.OCR);
+        assertThat(bulkhead.resolve("gemini-2.0-flash-lite", false)).isEqualTo(GeminiBulkhead.Resource.LITE);
+        assertThat(bulkhead.resolve("gemini-2.5-pro", false)).isEqualTo(GeminiBulkhead.Resource.PRIMARY);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
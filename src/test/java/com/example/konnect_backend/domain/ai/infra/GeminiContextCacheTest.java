@@ -0,0 +1,137 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.aop.PromptContext;
+import com.example.konnect_backend.domain.ai.aop.PromptContextHolder;
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.domain.ai.service.prompt.management.PromptActivatedEvent;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiContextCacheTest {
+
+    static final String MODEL = "gemini-2.0-flash";
+    static final String PREFIX = "다음 가정통신문을 요약하세요. ".repeat(50);
+
+    InMemoryGeminiCachedContentClient client;
+    GeminiContextCache contextCache;
+
+    @BeforeEach
+    void setUp() {
+        GeminiConfig config = new GeminiConfig();
+        config.getCache().setMinPrefixTokens(100);
+        client = new InMemoryGeminiCachedContentClient();
+        contextCache = new GeminiContextCache(config, client);
+    }
+
+    @AfterEach
+    void tearDown() {
+        PromptContextHolder.clear();
+    }
+
+    @Test
+    @DisplayName("같은 모듈, 버전, 모델은 고정 부분 캐시를 한 번만 만들고 변수 부분만 돌려준다")
+    void Should_ReuseCachedPrefix_When_SameModuleVersionAndModel() {
+        givenModule("SUMMARIZER", 1, PREFIX);
+
+        Optional<GeminiContextCache.CachedPrompt> first = contextCache.lookup(MODEL, PREFIX + "문서1");
+        Optional<GeminiContextCache.CachedPrompt> second = contextCache.lookup(MODEL, PREFIX + "문서2");
+
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(second.get().name()).isEqualTo(first.get().name());
+        assertThat(second.get().variablePart()).isEqualTo("문서2");
+        assertThat(client.text(first.get().name())).isEqualTo(PREFIX);
+        assertThat(client.createdCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("고정 부분이 최소 토큰 수보다 짧으면 캐시를 만들지 않는다")
+    void Should_SkipCache_When_PrefixTooShort() {
+        givenModule("TRANSLATOR", 1, "번역하세요: ");
+
+        assertThat(contextCache.lookup(MODEL, "번역하세요: 문서")).isEmpty();
+        assertThat(client.createdCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("프롬프트 모듈 밖의 호출에는 캐시를 사용하지 않는다")
+    void Should_SkipCache_When_NoPromptContext() {
+        assertThat(contextCache.lookup(MODEL, PREFIX + "문서")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프롬프트가 활성화되면 해당 모듈의 캐시를 삭제하고 새 버전 캐시를 만든다")
+    void Should_ReplaceCache_When_PromptActivated() {
+        givenModule("SUMMARIZER", 1, PREFIX);
+        String oldName = contextCache.lookup(MODEL, PREFIX + "문서").orElseThrow().name();
+
+        contextCache.onPromptActivated(new PromptActivatedEvent("SUMMARIZER", 2));
+        givenModule("SUMMARIZER", 2, "새 지시문 ".repeat(100));
+        String newName = contextCache.lookup(MODEL, "새 지시문 ".repeat(100) + "문서").orElseThrow().name();
+
+        assertThat(newName).isNotEqualTo(oldName);
+        assertThat(client.deleted()).containsExactly(oldName);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 캐시를 만드는 중이면 기다리지 않고 캐시 없이 보내며 중복 생성하지 않는다")
+    void Should_SkipWithoutWaiting_When_CacheIsBeingCreated() throws Exception {
+        givenModule("SUMMARIZER", 1, PREFIX);
+        CountDownLatch creating = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread creator = new Thread(() -> {
+            givenModule("SUMMARIZER", 1, PREFIX);
+            contextCache.lookup(MODEL, PREFIX + "문서1", (model, prefix, request) -> {
+                creating.countDown();
+                await(release);
+                return request.get();
+            });
+        });
+        creator.start();
+        creating.await(5, TimeUnit.SECONDS);
+
+        Optional<GeminiContextCache.CachedPrompt> whileCreating = contextCache.lookup(MODEL, PREFIX + "문서2");
+        release.countDown();
+        creator.join(5000);
+
+        assertThat(whileCreating).isEmpty();
+        assertThat(contextCache.lookup(MODEL, PREFIX + "문서3")).isPresent();
+        assertThat(client.createdCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 생성이 거절되면 캐시 없이 보내고 실패 대기 시간 동안 다시 만들지 않는다")
+    void Should_BackOff_When_CreationIsRejected() {
+        givenModule("SUMMARIZER", 1, PREFIX);
+        GeminiContextCache.Creator rejecting = (model, prefix, request) -> {
+            throw new DocumentAnalysisException(ErrorStatus.AI_SERVICE_UNAVAILABLE);
+        };
+
+        assertThat(contextCache.lookup(MODEL, PREFIX + "문서1", rejecting)).isEmpty();
+        assertThat(contextCache.lookup(MODEL, PREFIX + "문서2")).isEmpty();
+        assertThat(client.createdCount()).isZero();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void givenModule(String moduleName, int version, String prefix) {
+        PromptContextHolder.set(new PromptContext(moduleName, version, Map.of(), prefix));
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.repository.GeminiQuotaUsageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class GeminiQuotaStoreTest {
+
+    static final LocalDate TODAY = LocalDate.of(2026, 10, 17);
+
+    RecordingTransactionManager transactionManager;
+    GeminiQuotaUsageRepository repository;
+    GeminiQuotaStore store;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        repository = mock(GeminiQuotaUsageRepository.class);
+        given(repository.findByQuotaDateAndModelType(any(), any())).willReturn(Optional.empty());
+        store = new GeminiQuotaStore(repository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("분석 트랜잭션 안에서 예약해도 별도 트랜잭션으로 바로 커밋되어 분석이 롤백되어도 예약이 남는다")
+    void Should_CommitReservation_When_CallerTransactionRollsBack() {
+        given(repository.increaseIfUnderLimit(eq(TODAY), eq("PRIMARY"), eq(3), anyInt())).willAnswer(invocation -> {
+            transactionManager.events.add("update in " + transactionManager.active.peek());
+            return 1;
+        });
+
+        int reserved = new TransactionTemplate(transactionManager).execute(status -> {
+            transactionManager.events.add("analysis in " + transactionManager.active.peek());
+            int amount = store.reserve(TODAY, "PRIMARY", 3, 200);
+            status.setRollbackOnly();
+            return amount;
+        });
+
+        assertThat(reserved).isEqualTo(3);
+        assertThat(transactionManager.events).containsExactly(
+            "begin 1", "analysis in 1", "begin 2", "update in 2", "commit 2", "rollback 1");
+    }
+
+    @Test
+    @DisplayName("반납도 호출한 트랜잭션과 별도로 커밋한다")
+    void Should_CommitRelease_When_CalledInsideTransaction() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            store.add(TODAY, "PRIMARY", -2);
+            status.setRollbackOnly();
+        });
+
+        assertThat(transactionManager.events).containsExactly("begin 1", "begin 2", "commit 2", "rollback 1");
+    }
+
+    // 시작, 커밋, 롤백한 트랜잭션 번호를 기록하는 트랜잭션 매니저 (REQUIRES_NEW면 바깥 트랜잭션을 보류하고 새 번호로 시작)
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        final List<String> events = new ArrayList<>();
+        final Deque<Integer> active = new ArrayDeque<>();
+        private int next = 1;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Holder(active.peek());
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return ((Holder) transaction).id != null;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            ((Holder) transaction).id = next++;
+            active.push(((Holder) transaction).id);
+            events.add("begin " + ((Holder) transaction).id);
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            ((Holder) transaction).id = null;
+            return active.pop();
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+            active.push((Integer) suspendedResources);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            events.add("commit " + active.pop());
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            events.add("rollback " + active.pop());
+        }
+
+        private static class Holder {
+            Integer id;
+
+            Holder(Integer id) {
+                this.id = id;
+            }
+        }
+    }
+}
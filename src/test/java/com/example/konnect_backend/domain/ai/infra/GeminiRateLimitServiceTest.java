@@ -0,0 +1,140 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class GeminiRateLimitServiceTest {
+
+    static final String PRIMARY = "gemini-2.0-flash";
+
+    GeminiConfig config;
+    SimpleMeterRegistry meterRegistry;
+    GeminiQuotaStore quotaStore;
+
+    @BeforeEach
+    void setUp() {
+        config = new GeminiConfig();
+        config.getLimit().setAdmissionTimeout(Duration.ofSeconds(1));
+        meterRegistry = new SimpleMeterRegistry();
+        quotaStore = mock(GeminiQuotaStore.class);
+    }
+
+    @Test
+    @DisplayName("일일 호출 수는 lease-size만큼 미리 예약하여 예약분이 남아 있는 동안 DB에 접근하지 않는다")
+    void Should_ReserveOnce_When_LeaseRemains() {
+        config.getLimit().setLeaseSize(3);
+        given(quotaStore.reserve(any(), eq("PRIMARY"), eq(3), eq(200))).willReturn(3);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(service.canUsePrimaryModel()).isTrue();
+            service.recordUsage(PRIMARY);
+        }
+
+        then(quotaStore).should(times(1)).reserve(any(), any(), anyInt(), anyInt());
+        then(quotaStore).should(never()).add(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("공유 저장소의 일일 한도에 도달하면 다시 조회하지 않고 Lite 모델로 폴백한다")
+    void Should_FallBackToLite_When_SharedDailyQuotaExhausted() {
+        given(quotaStore.reserve(any(), eq("PRIMARY"), anyInt(), anyInt())).willReturn(0);
+        given(quotaStore.reserve(any(), eq("LITE"), anyInt(), anyInt())).willReturn(5);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+
+        assertThat(service.getAvailableModel(true)).isEqualTo("gemini-2.0-flash-lite");
+        assertThat(service.canUsePrimaryModel()).isFalse();
+
+        then(quotaStore).should(times(1)).reserve(any(), eq("PRIMARY"), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("일일 한도 날짜는 제공자 시간대(태평양 시간) 기준이다")
+    void Should_UseProviderDate_When_ReservingDailyQuota() {
+        given(quotaStore.reserve(any(), any(), anyInt(), anyInt())).willReturn(5);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+
+        service.canUseLiteModel();
+
+        then(quotaStore).should().reserve(eq(LocalDate.now(ZoneId.of("America/Los_Angeles"))),
+            eq("LITE"), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("종료 시 쓰지 않은 예약은 공유 저장소에 반납한다")
+    void Should_ReleaseUnusedLease_When_Destroyed() {
+        given(quotaStore.reserve(any(), eq("PRIMARY"), anyInt(), anyInt())).willReturn(5);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+        service.canUsePrimaryModel();
+        service.recordUsage(PRIMARY);
+
+        service.releaseLeases();
+
+        then(quotaStore).should().add(any(), eq("PRIMARY"), eq(-4));
+    }
+
+    @Test
+    @DisplayName("분당 요청 수를 모두 쓰면 제한 시간 안에 자리가 나지 않는 호출은 AI_SERVICE_BUSY로 실패한다")
+    void Should_ThrowBusy_When_RequestsPerMinuteExhausted() {
+        config.getLimit().getPrimary().setRpm(1);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+
+        service.admit(PRIMARY, 10);
+
+        assertThatThrownBy(() -> service.admit(PRIMARY, 10))
+            .isInstanceOf(DocumentAnalysisException.class)
+            .extracting("code")
+            .isEqualTo(ErrorStatus.AI_SERVICE_BUSY);
+        assertThat(meterRegistry.get("ai.gemini.ratelimit.rejected").counter().count())
+            .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("분당 토큰 수가 부족하면 다시 채워질 때까지 기다린 뒤 통과한다")
+    void Should_WaitForRefill_When_TokensPerMinuteExhausted() {
+        // 초당 10토큰씩 채워짐
+        config.getLimit().getPrimary().setTpm(600);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+
+        service.admit(PRIMARY, 600);
+        long start = System.nanoTime();
+        service.admit(PRIMARY, 1);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(
+            Duration.ofMillis(80));
+    }
+
+    @Test
+    @DisplayName("실제 사용량이 추정치보다 적으면 차이만큼 토큰을 돌려받는다")
+    void Should_RefundTokens_When_ActualUsageBelowEstimate() {
+        config.getLimit().getPrimary().setTpm(1000);
+        GeminiRateLimitService service = new GeminiRateLimitService(config, meterRegistry, quotaStore);
+
+        service.admit(PRIMARY, 800);
+        service.recordTokenUsage(PRIMARY, 800, 100);
+
+        assertThat(meterRegistry.get("ai.gemini.ratelimit.available")
+            .tag("model", "PRIMARY").tag("limit", "tpm").gauge().value())
+            .isGreaterThanOrEqualTo(900.0);
+    }
+}
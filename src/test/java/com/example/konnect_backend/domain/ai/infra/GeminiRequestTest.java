@@ -0,0 +1,45 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiRequestTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("이미지 바이트는 inlineData.data에 표준 Base64로 직렬화된다")
+    void Should_SerializeImageAsBase64_When_ImageIsGiven() throws Exception {
+        byte[] image = new byte[10_000];
+        for (int i = 0; i < image.length; i++) {
+            image[i] = (byte) (i * 31);
+        }
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(GeminiRequest.of(
+            "prompt", new GeminiRequest.InlineData("image/png", image), 0.1, 8000)));
+
+        JsonNode parts = json.path("contents").get(0).path("parts");
+        assertThat(parts.get(0).path("text").asText()).isEqualTo("prompt");
+        assertThat(parts.get(0).has("inlineData")).isFalse();
+        assertThat(parts.get(1).path("inlineData").path("mimeType").asText()).isEqualTo("image/png");
+        assertThat(parts.get(1).path("inlineData").path("data").asText())
+            .isEqualTo(Base64.getEncoder().encodeToString(image));
+        assertThat(json.path("generationConfig").path("maxOutputTokens").asInt()).isEqualTo(8000);
+        assertThat(json.path("generationConfig").path("topK").asInt()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("텍스트만 있는 요청에는 이미지 파트가 없다")
+    void Should_HaveSingleTextPart_When_NoImage() throws Exception {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsBytes(
+            GeminiRequest.of("prompt", null, 0.5, 1000)));
+
+        assertThat(json.path("contents").get(0).path("parts")).hasSize(1);
+    }
+}
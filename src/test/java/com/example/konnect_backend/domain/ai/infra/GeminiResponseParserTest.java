@@ -0,0 +1,53 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeminiResponseParserTest {
+
+    JsonFactory jsonFactory = new JsonFactory();
+
+    @Test
+    @DisplayName("첫 번째 후보의 텍스트와 종료 사유, 모델 버전, 토큰 사용량만 읽고 나머지 필드는 건너뛴다")
+    void Should_ReadOnlyUsedFields_When_ResponseHasExtraFields() throws Exception {
+        String body = """
+            {"candidates":[
+              {"content":{"parts":[{"text":"첫 "},{"text":"응답"}],"role":"model"},
+               "finishReason":"MAX_TOKENS","index":0,
+               "safetyRatings":[{"category":"HARM_CATEGORY_HATE_SPEECH","probability":"NEGLIGIBLE"}],
+               "citationMetadata":{"citationSources":[{"startIndex":0,"endIndex":5,"uri":"https://a"}]}},
+              {"content":{"parts":[{"text":"두 번째 후보"}]},"finishReason":"STOP"}],
+             "promptFeedback":{"blockReason":null},
+             "usageMetadata":{"promptTokenCount":120,"candidatesTokenCount":45,"totalTokenCount":165},
+             "modelVersion":"gemini-2.0-flash-001"}
+            """;
+
+        GeminiResponseParser.ParsedResponse parsed = GeminiResponseParser.parse(jsonFactory,
+            new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(parsed.text()).isEqualTo("첫 응답");
+        assertThat(parsed.finishReason()).isEqualTo("MAX_TOKENS");
+        assertThat(parsed.modelVersion()).isEqualTo("gemini-2.0-flash-001");
+        assertThat(parsed.usage().inputTokens()).isEqualTo(120);
+        assertThat(parsed.usage().outputTokens()).isEqualTo(45);
+    }
+
+    @Test
+    @DisplayName("후보가 없는 응답(차단 등)은 텍스트 없이 반환한다")
+    void Should_ReturnNullText_When_NoCandidates() throws Exception {
+        String body = """
+            {"promptFeedback":{"blockReason":"SAFETY"},"usageMetadata":{"promptTokenCount":7}}
+            """;
+
+        GeminiResponseParser.ParsedResponse parsed = GeminiResponseParser.parse(jsonFactory, body);
+
+        assertThat(parsed.text()).isNull();
+        assertThat(parsed.usage().inputTokens()).isEqualTo(7);
+    }
+}
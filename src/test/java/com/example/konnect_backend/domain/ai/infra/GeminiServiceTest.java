@@ -1,27 +1,47 @@
 package com.example.konnect_backend.domain.ai.infra;
 
 import com.example.konnect_backend.domain.ai.config.GeminiConfig;
+import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
 import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.domain.ai.exception.GeminiApiException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
 import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class GeminiServiceTest {
@@ -35,32 +55,65 @@ class GeminiServiceTest {
     @Mock
     RestTemplate geminiRestTemplate;
     @Mock
-    ObjectMapper objectMapper;
-    @Mock
     DiscordWebhookService discordService;
     @Mock
     LlmHealthTracker tracker;
+    @Mock
+    GeminiContextCache contextCache;
+
+    ObjectMapper objectMapper = new ObjectMapper();
 
     GeminiService geminiService;
 
     @BeforeEach
     void setUp() {
+        GeminiConfig defaultConfig = new GeminiConfig();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
         geminiService = new GeminiService(config, rateLimitService, geminiRestTemplate,
-            objectMapper, discordService, tracker);
+            objectMapper, discordService, tracker,
+            new GeminiBulkhead(defaultConfig, meterRegistry),
+            new GeminiRetryPolicy(defaultConfig, meterRegistry), contextCache);
 
-        given(config.getApi()).willReturn(api);
-        given(api.getBaseUrl()).willReturn("https://gemini.test");
-        given(api.getKey()).willReturn("test-key");
+        // 즉시 실패 테스트는 API 호출까지 도달하지 않으므로 lenient
+        lenient().when(config.getApi()).thenReturn(api);
+        lenient().when(api.getBaseUrl()).thenReturn("https://gemini.test");
+        lenient().when(api.getKey()).thenReturn("test-key");
         given(rateLimitService.getAvailableModel(anyBoolean())).willReturn("gemini-pro");
-        given(tracker.recordAndCheck(anyBoolean())).willReturn(
+        lenient().when(tracker.recordAndCheck(anyBoolean())).thenReturn(
             LlmHealthTracker.StateChange.NO_CHANGE);
+        given(tracker.tryAcquirePermission()).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("LLM 장애 상태에서는 API를 호출하지 않고 즉시 실패")
+    void Should_FailFast_When_TrackerRejectsCall() {
+        given(tracker.tryAcquirePermission()).willReturn(false);
+
+        assertThatThrownBy(() -> geminiService.generateContent("prompt", 0.5, 1000, true))
+            .isInstanceOf(DocumentAnalysisException.class);
+
+        then(geminiRestTemplate).shouldHaveNoInteractions();
+        then(tracker).should(never()).recordAndCheck(anyBoolean());
+    }
+
+    @Test
+    @DisplayName("한도 대기나 벌크헤드에서 거절되어 호출하지 못하면 상태를 기록하지 않고 허가를 돌려준다")
+    void Should_ReleasePermission_When_CallIsRejectedBeforeReachingLlm() {
+        willThrow(new DocumentAnalysisException(ErrorStatus.AI_SERVICE_BUSY))
+            .given(rateLimitService).admit(anyString(), anyInt());
+
+        assertThatThrownBy(() -> geminiService.generateContent("prompt", 0.5, 1000, true))
+            .isInstanceOf(DocumentAnalysisException.class);
+
+        then(geminiRestTemplate).shouldHaveNoInteractions();
+        then(tracker).should(never()).recordAndCheck(anyBoolean());
+        then(tracker).should().releasePermission();
     }
 
     @Test
     @DisplayName("Read Timeout 발생 시 tracker.recordAndCheck(false) 호출")
     void Should_RecordFailure_When_ReadTimeoutOccurs() {
-        given(
-            geminiRestTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
+        givenApiCall(":generateContent")
             .willThrow(new ResourceAccessException("Read timed out"));
 
         assertThatThrownBy(() -> geminiService.generateContent("prompt", 0.5, 1000, true))
@@ -72,8 +125,7 @@ class GeminiServiceTest {
     @Test
     @DisplayName("TCP Connection Timeout 발생 시 tracker.recordAndCheck(false) 호출")
     void Should_RecordFailure_When_ConnectionTimeoutOccurs() {
-        given(
-            geminiRestTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
+        givenApiCall(":generateContent")
             .willThrow(new ResourceAccessException("Connection timed out"));
 
         assertThatThrownBy(() -> geminiService.generateContent("prompt", 0.5, 1000, true))
@@ -85,8 +137,7 @@ class GeminiServiceTest {
     @Test
     @DisplayName("5xx 서버 에러 응답 시 tracker.recordAndCheck(false) 호출")
     void Should_RecordFailure_When_ServerErrorOccurs() {
-        given(
-            geminiRestTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
+        givenApiCall(":generateContent")
             .willThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
 
         assertThatThrownBy(() -> geminiService.generateContent("prompt", 0.5, 1000, true))
@@ -98,32 +149,152 @@ class GeminiServiceTest {
     @Test
     @DisplayName("정상 응답 시 tracker.recordAndCheck(true) 호출")
     void Should_RecordSuccess_When_ResponseIsSuccessful() throws Exception {
-        GeminiResponse.Part part = new GeminiResponse.Part();
-        part.setText("response");
+        givenApiCall(":generateContent")
+            .willAnswer(invocation -> respond(invocation, successJson("gemini-pro")));
+
+        geminiService.generateContent("prompt", 0.5, 1000, true);
+
+        then(tracker).should().recordAndCheck(true);
+    }
 
-        GeminiResponse.Content content = new GeminiResponse.Content();
-        content.setParts(List.of(part));
+    @Test
+    @DisplayName("503 응답 뒤 재시도가 성공하면 성공으로 한 번만 기록")
+    void Should_RetryAndRecordSuccessOnce_When_TransientErrorRecovers() throws Exception {
+        givenApiCall(":generateContent")
+            .willThrow(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE))
+            .willAnswer(invocation -> respond(invocation, successJson("gemini-pro")));
 
-        GeminiResponse.Candidate candidate = new GeminiResponse.Candidate();
-        candidate.setContent(content);
-        candidate.setFinishReason("STOP");
+        geminiService.generateContent("prompt", 0.5, 1000, true);
 
-        GeminiResponse.UsageMetadata usage = new GeminiResponse.UsageMetadata();
-        usage.setPromptTokenCount(10);
-        usage.setCandidatesTokenCount(20);
+        then(geminiRestTemplate).should(times(2))
+            .execute(anyString(), eq(HttpMethod.POST), any(RequestCallback.class),
+                any(ResponseExtractor.class));
+        then(tracker).should().recordAndCheck(true);
+        then(tracker).should(never()).recordAndCheck(false);
+    }
 
-        GeminiResponse response = new GeminiResponse();
-        response.setCandidates(List.of(candidate));
-        response.setUsageMetadata(usage);
-        response.setModelVersion("gemini-pro");
+    @Test
+    @DisplayName("Primary 모델이 429를 반환하고 폴백을 허용하면 Lite 모델로 다시 호출")
+    void Should_FallbackToLiteModel_When_PrimaryRateLimited() throws Exception {
+        given(config.getModel()).willReturn(new GeminiConfig.Model());
+        given(rateLimitService.canUseLiteModel()).willReturn(true);
+        givenApiCall("/models/gemini-pro:")
+            .willThrow(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS));
+        givenApiCall("/models/gemini-2.0-flash-lite:")
+            .willAnswer(invocation -> respond(invocation, successJson("gemini-2.0-flash-lite")));
 
-        given(geminiRestTemplate.exchange(anyString(), eq(HttpMethod.POST), any(), eq(String.class)))
-            .willReturn(ResponseEntity.ok("{}"));
-        given(objectMapper.readValue(anyString(), eq(GeminiResponse.class)))
-            .willReturn(response);
+        GeminiCallResult result = geminiService.generateContent("prompt", 0.5, 1000, true, true);
 
-        geminiService.generateContent("prompt", 0.5, 1000, true);
+        assertThat(result.model()).isEqualTo("gemini-2.0-flash-lite");
+        then(tracker).should().recordAndCheck(true);
+    }
+
+    @Test
+    @DisplayName("400 응답은 재시도하지 않음")
+    void Should_NotRetry_When_ClientErrorOccurs() {
+        givenApiCall(":generateContent")
+            .willThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+        assertThatThrownBy(() -> geminiService.generateContent("prompt", 0.5, 1000, true))
+            .isInstanceOf(DocumentAnalysisException.class);
+
+        then(geminiRestTemplate).should(times(1))
+            .execute(anyString(), eq(HttpMethod.POST), any(RequestCallback.class),
+                any(ResponseExtractor.class));
+    }
 
+    @Test
+    @DisplayName("컨텍스트 캐시가 있으면 변수 부분만 보내고, 캐시를 찾을 수 없으면 캐시를 버리고 전체 프롬프트로 재요청")
+    void Should_ResendFullPrompt_When_CachedContentNotFound() throws Exception {
+        GeminiContextCache.CachedPrompt cached =
+            new GeminiContextCache.CachedPrompt("cachedContents/abc", "문서 내용");
+        given(contextCache.lookup(eq("gemini-pro"), eq("지시문 문서 내용"), any())).willReturn(Optional.of(cached));
+        List<String> sentBodies = new ArrayList<>();
+        givenApiCall(":generateContent")
+            .willAnswer(invocation -> {
+                sentBodies.add(sentBody(invocation));
+                throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+            })
+            .willAnswer(invocation -> {
+                sentBodies.add(sentBody(invocation));
+                return respond(invocation, successJson("gemini-pro"));
+            });
+
+        geminiService.generateContent("지시문 문서 내용", 0.5, 1000, true);
+
+        assertThat(sentBodies.get(0)).contains("\"cachedContent\":\"cachedContents/abc\"")
+            .doesNotContain("지시문");
+        assertThat(sentBodies.get(1)).contains("지시문 문서 내용").doesNotContain("cachedContent");
+        then(contextCache).should().evict(cached);
         then(tracker).should().recordAndCheck(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("컨텍스트 캐시 생성 요청은 분당 한도 대기를 거치고, 서킷 브레이커 허가와 상태 기록은 원래 호출의 한 번만 쓴다")
+    void Should_AdmitCacheCreationWithoutSecondPermission_When_ContextCacheIsCreated() {
+        given(contextCache.lookup(eq("gemini-pro"), eq("지시문 문서 내용"), any())).willAnswer(invocation -> {
+            GeminiContextCache.Creator creator = invocation.getArgument(2);
+            creator.create("gemini-pro", "지시문 ",
+                () -> new GeminiCachedContentClient.CachedContent("cachedContents/abc", Instant.now()));
+            return Optional.empty();
+        });
+        givenApiCall(":generateContent").willAnswer(invocation -> respond(invocation, successJson("gemini-pro")));
+
+        geminiService.generateContent("지시문 문서 내용", 0.5, 1000, true);
+
+        then(tracker).should(times(1)).tryAcquirePermission();
+        then(tracker).should(times(1)).recordAndCheck(true);
+        then(rateLimitService).should().admit("gemini-pro", GeminiRateLimitService.estimateTokens("지시문 ", 0));
+    }
+
+    @Test
+    @DisplayName("컨텍스트 캐시 생성의 일시 오류는 재시도하되 LLM 상태에는 원래 호출의 결과만 기록한다")
+    void Should_RetryCacheCreationWithoutRecordingHealth_When_CreationFailsOnce() {
+        AtomicInteger creations = new AtomicInteger();
+        given(contextCache.lookup(eq("gemini-pro"), eq("지시문 문서 내용"), any())).willAnswer(invocation -> {
+            GeminiContextCache.Creator creator = invocation.getArgument(2);
+            creator.create("gemini-pro", "지시문 ", () -> {
+                if (creations.incrementAndGet() == 1) {
+                    throw GeminiApiException.from(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE));
+                }
+                return new GeminiCachedContentClient.CachedContent("cachedContents/abc", Instant.now());
+            });
+            return Optional.empty();
+        });
+        givenApiCall(":generateContent").willAnswer(invocation -> respond(invocation, successJson("gemini-pro")));
+
+        geminiService.generateContent("지시문 문서 내용", 0.5, 1000, true);
+
+        assertThat(creations.get()).isEqualTo(2);
+        then(tracker).should(times(1)).tryAcquirePermission();
+        then(tracker).should(times(1)).recordAndCheck(true);
+        then(tracker).should(never()).recordAndCheck(false);
+    }
+
+    private String sentBody(InvocationOnMock invocation) throws Exception {
+        RequestCallback callback = invocation.getArgument(2);
+        MockClientHttpRequest request = new MockClientHttpRequest();
+        callback.doWithRequest(request);
+        return request.getBodyAsString(StandardCharsets.UTF_8);
+    }
+
+    @SuppressWarnings("unchecked")
+    private BDDMockito.BDDMyOngoingStubbing<Object> givenApiCall(String urlPart) {
+        return given(geminiRestTemplate.execute(contains(urlPart), eq(HttpMethod.POST),
+            any(RequestCallback.class), any(ResponseExtractor.class)));
+    }
+
+    private Object respond(InvocationOnMock invocation, String body) throws Exception {
+        ResponseExtractor<?> extractor = invocation.getArgument(3);
+        return extractor.extractData(
+            new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+    }
+
+    private String successJson(String modelVersion) {
+        return """
+            {"candidates":[{"content":{"parts":[{"text":"response"}],"role":"model"},\
+            "finishReason":"STOP","safetyRatings":[{"category":"HARM_CATEGORY_HARASSMENT",\
+            "probability":"NEGLIGIBLE"}]}],"usageMetadata":{"promptTokenCount":10,\
+            "candidatesTokenCount":20,"totalTokenCount":30},"modelVersion":"%s"}""".formatted(modelVersion);
+    }
+}
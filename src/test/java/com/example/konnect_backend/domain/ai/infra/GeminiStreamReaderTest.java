@@ -0,0 +1,67 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GeminiStreamReaderTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("SSE 청크의 텍스트를 순서대로 전달하고 마지막 청크의 토큰 사용량으로 결과를 만든다")
+    void Should_DeliverChunksAndAccumulateUsage_When_StreamCompletes() throws Exception {
+        String body = """
+            data: {"candidates":[{"content":{"parts":[{"text":"Hello"}],"role":"model"}}],"usageMetadata":{"promptTokenCount":12,"candidatesTokenCount":1},"modelVersion":"gemini-2.0-flash-lite"}
+
+            data: {"candidates":[{"content":{"parts":[{"text":", world"}],"role":"model"},"finishReason":"STOP"}],"usageMetadata":{"promptTokenCount":12,"candidatesTokenCount":4},"modelVersion":"gemini-2.0-flash-lite"}
+
+            """;
+        List<String> chunks = new ArrayList<>();
+
+        GeminiCallResult result = new GeminiStreamReader(objectMapper, chunks::add)
+            .read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 4000);
+
+        assertThat(chunks).containsExactly("Hello", ", world");
+        assertThat(result.response()).isEqualTo("Hello, world");
+        assertThat(result.tokenUsage().inputTokens()).isEqualTo(12);
+        assertThat(result.tokenUsage().outputTokens()).isEqualTo(4);
+        assertThat(result.model()).isEqualTo("gemini-2.0-flash-lite");
+        assertThat(result.finishReason()).isEqualTo("STOP");
+    }
+
+    @Test
+    @DisplayName("조각 전달이 실패해도 응답은 끝까지 읽는다")
+    void Should_KeepReading_When_ChunkConsumerFails() throws Exception {
+        String body = """
+            data: {"candidates":[{"content":{"parts":[{"text":"A"}]}}]}
+            data: {"candidates":[{"content":{"parts":[{"text":"B"}]},"finishReason":"STOP"}],"usageMetadata":{"promptTokenCount":1,"candidatesTokenCount":2}}
+            """;
+
+        GeminiCallResult result = new GeminiStreamReader(objectMapper, chunk -> {
+            throw new IllegalStateException("closed");
+        }).read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 500);
+
+        assertThat(result.response()).isEqualTo("AB");
+    }
+
+    @Test
+    @DisplayName("토큰 사용량 없이 스트림이 끝나면 실패로 처리한다")
+    void Should_Throw_When_StreamEndsWithoutUsage() {
+        String body = "data: {\"candidates\":[{\"content\":{\"parts\":[{\"text\":\"A\"}]}}]}\n";
+
+        assertThatThrownBy(() -> new GeminiStreamReader(objectMapper, chunk -> {
+        }).read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), 500))
+            .isInstanceOf(DocumentAnalysisException.class);
+    }
+}
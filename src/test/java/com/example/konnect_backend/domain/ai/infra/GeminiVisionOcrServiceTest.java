@@ -0,0 +1,136 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.domain.vo.TokenUsage;
+import com.example.konnect_backend.domain.ai.dto.internal.GeminiCallResult;
+import com.example.konnect_backend.domain.ai.exception.OcrException;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor.OcrImage;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class GeminiVisionOcrServiceTest {
+
+    GeminiService geminiService;
+    GeminiVisionOcrService service;
+
+    @BeforeEach
+    void setUp() {
+        geminiService = mock(GeminiService.class);
+        service = new GeminiVisionOcrService(geminiService, DataSize.ofBytes(300), 3,
+            new SimpleAsyncTaskExecutor());
+    }
+
+    @Test
+    @DisplayName("바이트 예산과 장수 상한을 넘지 않도록 페이지를 순서대로 묶는다")
+    void Should_SplitBatches_When_BudgetIsExceeded() {
+        List<OcrImage> images = List.of(page(100), page(100), page(150), page(400), page(50), page(50),
+            page(50), page(50));
+
+        List<List<OcrImage>> batches = service.batches(images);
+
+        assertThat(batches).extracting(List::size).containsExactly(2, 1, 1, 3, 1);
+    }
+
+    @Test
+    @DisplayName("여러 페이지를 한 번의 Vision 호출로 보내고 구분선으로 나눠 돌려준다")
+    void Should_ExtractSeveralPagesInOneCall_When_PagesFitBatch() {
+        given(geminiService.generateContentWithImages(anyString(), anyList(), anyDouble(), anyInt()))
+            .willReturn(result("=== PAGE 1 ===\n가정통신문\n=== PAGE 2 ===\n\n=== PAGE 3 ===\n신청서", "STOP"));
+
+        List<String> texts = service.extractTexts(List.of(page(10), page(10), page(10)));
+
+        assertThat(texts).containsExactly("가정통신문", "", "신청서");
+        then(geminiService).should(times(1))
+            .generateContentWithImages(anyString(), argThat(images -> images.size() == 3), anyDouble(), anyInt());
+        then(geminiService).shouldHaveNoMoreInteractions();
+    }
+
+    @Test
+    @DisplayName("출력 한도로 잘린 묶음 응답은 빠지거나 잘린 페이지만 한 장씩 다시 요청한다")
+    void Should_RetryMissingPagesOneByOne_When_BatchResponseIsTruncated() {
+        given(geminiService.generateContentWithImages(anyString(), anyList(), anyDouble(), anyInt()))
+            .willReturn(result("=== PAGE 1 ===\n첫 페이지\n=== PAGE 2 ===\n둘째 페", "MAX_TOKENS"));
+        given(geminiService.generateContentWithImage(anyString(), eq(new byte[11]), anyString(), anyDouble(),
+            anyInt())).willReturn(result("둘째 페이지", "STOP"));
+        given(geminiService.generateContentWithImage(anyString(), eq(new byte[12]), anyString(), anyDouble(),
+            anyInt())).willReturn(result("셋째 페이지", "STOP"));
+
+        List<String> texts = service.extractTexts(List.of(page(10), page(11), page(12)));
+
+        assertThat(texts).containsExactly("첫 페이지", "둘째 페이지", "셋째 페이지");
+    }
+
+    @Test
+    @DisplayName("묶음이 여럿이면 앞 묶음의 응답을 기다리지 않고 동시에 보내고 페이지 순서대로 합친다")
+    void Should_SendBatchesConcurrently_When_PagesSplitIntoSeveralBatches() {
+        CountDownLatch bothSent = new CountDownLatch(2);
+        given(geminiService.generateContentWithImages(anyString(), anyList(), anyDouble(), anyInt()))
+            .willAnswer(invocation -> {
+                bothSent.countDown();
+                // 순서대로 보낸다면 두 번째 묶음이 시작되지 않아 기다림이 끝나지 않음
+                if (!bothSent.await(5, TimeUnit.SECONDS)) {
+                    return result("", "STOP");
+                }
+                List<?> images = invocation.getArgument(1);
+                return images.size() == 3
+                    ? result("=== PAGE 1 ===\n1\n=== PAGE 2 ===\n2\n=== PAGE 3 ===\n3", "STOP")
+                    : result("=== PAGE 1 ===\n4\n=== PAGE 2 ===\n5", "STOP");
+            });
+
+        List<String> texts = service.extractTexts(List.of(page(10), page(10), page(10), page(10), page(10)));
+
+        assertThat(texts).containsExactly("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    @DisplayName("실행기가 가득 차 묶음을 보낼 수 없으면 호출 스레드에서 보내지 않고 AI_SERVICE_BUSY로 실패한다")
+    void Should_FailWithServiceBusy_When_ExecutorRejectsBatch() {
+        service = new GeminiVisionOcrService(geminiService, DataSize.ofBytes(300), 3, task -> {
+            throw new TaskRejectedException("full");
+        });
+
+        assertThatThrownBy(() -> service.extractTexts(List.of(page(10), page(10), page(10), page(10))))
+            .isInstanceOfSatisfying(OcrException.class,
+                e -> assertThat(e.getCode()).isEqualTo(ErrorStatus.AI_SERVICE_BUSY));
+        then(geminiService).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("구분선 앞의 설명은 버리고 번호별 텍스트를 나눈다")
+    void Should_SplitByMarkers_When_ResponseHasPreamble() {
+        Map<Integer, String> pages = GeminiVisionOcrService.splitPages(
+            "추출 결과입니다.\n=== PAGE 1 ===\n안내\n== PAGE 2 ==\n일정");
+
+        assertThat(pages).containsOnly(Map.entry(1, "안내"), Map.entry(2, "일정"));
+    }
+
+    private OcrImage page(int size) {
+        return new OcrImage(new byte[size], "image/jpeg");
+    }
+
+    private GeminiCallResult result(String text, String finishReason) {
+        return new GeminiCallResult(text, new TokenUsage(100, 50, 0), 8000, "gemini-2.0-flash", finishReason);
+    }
+}
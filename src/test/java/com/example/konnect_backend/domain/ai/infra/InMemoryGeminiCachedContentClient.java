@@ -0,0 +1,45 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 cachedContents 대역 <br />
+ * 캐시를 메모리에 보관하고 생성, 삭제 요청을 기록합니다.
+ */
+class InMemoryGeminiCachedContentClient implements GeminiCachedContentClient {
+
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final Map<String, String> contents = new ConcurrentHashMap<>();
+    private final List<String> deleted = new CopyOnWriteArrayList<>();
+
+    @Override
+    public CachedContent create(String model, String text, Duration ttl) {
+        String name = "cachedContents/local-" + sequence.incrementAndGet();
+        contents.put(name, text);
+        return new CachedContent(name, Instant.now().plus(ttl));
+    }
+
+    @Override
+    public void delete(String name) {
+        contents.remove(name);
+        deleted.add(name);
+    }
+
+    int createdCount() {
+        return sequence.get();
+    }
+
+    String text(String name) {
+        return contents.get(name);
+    }
+
+    List<String> deleted() {
+        return deleted;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.konnect_backend.domain.ai.infra;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 
@@ -45,6 +46,54 @@ class LlmHealthTrackerTest {
         assertThat(tracker.recordAndCheck(false)).isEqualTo(NO_CHANGE);
     }
 
+    @Test
+    @DisplayName("DOWN 직후 open 기간에는 호출을 허용하지 않는다")
+    void Should_RejectCalls_When_OpenDurationNotElapsed() {
+        assertThat(tracker.tryAcquirePermission()).isTrue();
+        degradeToDown();
+        assertThat(tracker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("open 기간이 지나면 probe 허용 수만큼만 호출을 허용하고, probe 성공 시 다음 probe를 허용한다")
+    void Should_AllowLimitedProbes_When_OpenDurationElapsed() throws InterruptedException {
+        tracker = new LlmHealthTracker(5, 3, 3, Duration.ofMillis(300), 1);
+        degradeToDown();
+        Thread.sleep(350);
+
+        assertThat(tracker.tryAcquirePermission()).isTrue();
+        assertThat(tracker.tryAcquirePermission()).isFalse();
+
+        tracker.recordAndCheck(true);
+        assertThat(tracker.tryAcquirePermission()).isTrue();
+    }
+
+    @Test
+    @DisplayName("probe가 실패하면 다시 open 기간 동안 호출을 허용하지 않는다")
+    void Should_ReopenCircuit_When_ProbeFails() throws InterruptedException {
+        tracker = new LlmHealthTracker(5, 3, 3, Duration.ofMillis(300), 1);
+        degradeToDown();
+        Thread.sleep(350);
+
+        assertThat(tracker.tryAcquirePermission()).isTrue();
+        assertThat(tracker.recordAndCheck(false)).isEqualTo(NO_CHANGE);
+        assertThat(tracker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("결과를 기록하지 않고 돌려준 probe 허가는 open 기간을 다시 기다리지 않고 다음 호출에 허용한다")
+    void Should_AllowNextProbe_When_ProbePermissionIsReleased() throws InterruptedException {
+        tracker = new LlmHealthTracker(5, 3, 3, Duration.ofMillis(300), 1);
+        degradeToDown();
+        Thread.sleep(350);
+
+        assertThat(tracker.tryAcquirePermission()).isTrue();
+        assertThat(tracker.tryAcquirePermission()).isFalse();
+
+        tracker.releasePermission();
+        assertThat(tracker.tryAcquirePermission()).isTrue();
+    }
+
     private void degradeToDown() {
         record(true, true, false, false, false);
     }
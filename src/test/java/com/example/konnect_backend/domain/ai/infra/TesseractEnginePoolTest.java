@@ -0,0 +1,111 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.exception.OcrException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TesseractEnginePoolTest {
+
+    SimpleMeterRegistry meterRegistry;
+    AtomicInteger initialized;
+    AtomicInteger closed;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        initialized = new AtomicInteger();
+        closed = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("미리 만든 엔진을 재사용하여 호출마다 초기화하지 않는다")
+    void Should_ReuseWarmedEngines_When_CalledRepeatedly() {
+        TesseractEnginePool pool = pool(2, Duration.ofSeconds(1));
+
+        pool.warmUp();
+        for (int i = 0; i < 10; i++) {
+            String text = pool.execute(engine -> engine.recognize(null).text());
+            assertThat(text).isEqualTo("text");
+        }
+
+        assertThat(initialized.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("ocr.tesseract.pool.wait").timer().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("모든 엔진이 사용 중이면 기다리고, 제한 시간을 넘기면 AI_SERVICE_BUSY로 실패한다")
+    void Should_ThrowBusy_When_AllEnginesInUseBeyondTimeout() throws Exception {
+        TesseractEnginePool pool = pool(1, Duration.ofMillis(100));
+        CountDownLatch inUse = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.submit(() -> pool.execute(engine -> {
+            inUse.countDown();
+            await(release);
+            return null;
+        }));
+        inUse.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> pool.execute(engine -> engine.recognize(null)))
+            .isInstanceOf(OcrException.class)
+            .extracting("code")
+            .isEqualTo(ErrorStatus.AI_SERVICE_BUSY);
+
+        release.countDown();
+        executor.shutdown();
+        assertThat(initialized.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("인식 중 예외가 난 엔진은 닫고 다음 호출에서 새로 만든다")
+    void Should_ReplaceEngine_When_RecognitionFails() {
+        TesseractEnginePool pool = pool(1, Duration.ofSeconds(1));
+
+        assertThatThrownBy(() -> pool.execute(engine -> {
+            throw new IllegalStateException("native error");
+        })).isInstanceOf(IllegalStateException.class);
+        pool.execute(engine -> engine.recognize(null));
+
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(initialized.get()).isEqualTo(2);
+    }
+
+    private TesseractEnginePool pool(int size, Duration acquireTimeout) {
+        return new TesseractEnginePool(size, acquireTimeout, () -> {
+            initialized.incrementAndGet();
+            return new TesseractEngine() {
+                @Override
+                public Recognition recognize(BufferedImage image) {
+                    return new Recognition("text", 90);
+                }
+
+                @Override
+                public void close() {
+                    closed.incrementAndGet();
+                }
+            };
+        }, meterRegistry);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.konnect_backend.domain.ai.infra;
+
+import com.example.konnect_backend.domain.ai.exception.OcrException;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor.OcrImage;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class TieredOcrServiceTest {
+
+    static final byte[] IMAGE = {1, 2, 3};
+    static final String NOTICE = "가정통신문 현장체험학습 안내 학부모님께 알려드립니다. 10월 20일까지 신청서를 제출해 주세요.";
+
+    TesseractOcrService tesseract;
+    GeminiVisionOcrService vision;
+    SimpleMeterRegistry meterRegistry;
+    TieredOcrService service;
+
+    @BeforeEach
+    void setUp() {
+        tesseract = mock(TesseractOcrService.class);
+        vision = mock(GeminiVisionOcrService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TieredOcrService(tesseract, vision, meterRegistry, new SimpleAsyncTaskExecutor(), true,
+            75, 0.3, 0.05, 20);
+        given(tesseract.supports(anyString())).willReturn(true);
+    }
+
+    @Test
+    @DisplayName("신뢰도가 높고 깨끗한 한글 결과는 Vision을 호출하지 않고 그대로 사용한다")
+    void Should_UseTesseract_When_ResultIsConfident() {
+        given(tesseract.recognize(any(), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 91));
+
+        String text = service.extractText(IMAGE, "image/jpeg");
+
+        assertThat(text).isEqualTo(NOTICE);
+        then(vision).should(never()).extractText(any(), anyString());
+        assertThat(meterRegistry.get("ocr.tier.route").tag("engine", "tesseract").tag("reason", "passed")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("평균 신뢰도가 기준보다 낮으면 Vision으로 넘긴다")
+    void Should_EscalateToVision_When_ConfidenceIsLow() {
+        given(tesseract.recognize(any(), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 52));
+        given(vision.extractText(any(), anyString())).willReturn("vision text");
+
+        OcrResult result = service.extract(IMAGE, "image/jpeg");
+
+        assertThat(result).isEqualTo(new OcrResult("vision text", OcrEngine.GEMINI_VISION_OCR));
+        assertThat(meterRegistry.get("ocr.tier.route").tag("engine", "vision").tag("reason", "low_confidence")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("홀로 쓰인 자모와 기호가 많으면 신뢰도가 높아도 Vision으로 넘긴다")
+    void Should_EscalateToVision_When_ResultHasGarbage() {
+        String noisy = NOTICE + " ㅁㄴㅇ ▒▒ ¦¦ ㅎㅎ ¤¤";
+        given(tesseract.recognize(any(), anyString())).willReturn(new TesseractEngine.Recognition(noisy, 88));
+        given(vision.extractText(any(), anyString())).willReturn("vision text");
+
+        assertThat(service.extractText(IMAGE, "image/png")).isEqualTo("vision text");
+        assertThat(meterRegistry.get("ocr.tier.route").tag("reason", "garbage").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로컬 인식만 요청하면 기준에 못 미쳐도 Vision을 호출하지 않고 빈 값을 돌려준다")
+    void Should_NotCallVision_When_OnlyLocalTextIsRequested() {
+        given(tesseract.recognize(eq(IMAGE), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 52));
+        byte[] clean = {9};
+        given(tesseract.recognize(eq(clean), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 92));
+
+        assertThat(service.extractTextLocally(new OcrImage(IMAGE, "image/jpeg"))).isEmpty();
+        assertThat(service.extractTextLocally(new OcrImage(clean, "image/jpeg"))).contains(new OcrResult(NOTICE, OcrEngine.TESSERACT_OCR));
+        then(vision).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("Vision이 실패하면 신뢰도가 낮더라도 Tesseract 결과를 사용한다")
+    void Should_FallBackToTesseract_When_VisionFails() {
+        given(tesseract.recognize(any(), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 60));
+        given(vision.extractText(any(), anyString())).willThrow(new OcrException(ErrorStatus.AI_SERVICE_BUSY));
+
+        OcrResult result = service.extract(IMAGE, "image/jpeg");
+
+        assertThat(result).isEqualTo(new OcrResult(NOTICE, OcrEngine.TESSERACT_OCR));
+        assertThat(meterRegistry.get("ocr.tier.route").tag("reason", "vision_failed").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("준비된 페이지는 나머지 페이지를 만드는 동안 먼저 인식하고, 건너뛴 페이지는 null로 돌려준다")
+    void Should_RecognizeReadyPage_When_LaterPagesAreStillProduced() {
+        byte[] first = {1};
+        byte[] second = {2};
+        CountDownLatch firstRecognized = new CountDownLatch(1);
+        given(tesseract.recognize(eq(first), anyString())).willAnswer(invocation -> {
+            firstRecognized.countDown();
+            return new TesseractEngine.Recognition(NOTICE, 93);
+        });
+        given(tesseract.recognize(eq(second), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 90));
+        CompletableFuture<OcrImage> page1 = new CompletableFuture<>();
+        CompletableFuture<OcrImage> page2 = new CompletableFuture<>();
+        CompletableFuture<OcrImage> skipped = new CompletableFuture<>();
+        AtomicBoolean recognizedWhileProducing = new AtomicBoolean();
+
+        List<OcrResult> results = service.extractPages(List.of(page1, skipped, page2), () -> {
+            page1.complete(new OcrImage(first, "image/jpeg"));
+            recognizedWhileProducing.set(await(firstRecognized));
+            skipped.complete(null);
+            page2.complete(new OcrImage(second, "image/jpeg"));
+        });
+
+        assertThat(recognizedWhileProducing).isTrue();
+        assertThat(results).containsExactly(new OcrResult(NOTICE, OcrEngine.TESSERACT_OCR), null,
+            new OcrResult(NOTICE, OcrEngine.TESSERACT_OCR));
+        then(vision).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("여러 페이지 중 기준에 못 미친 페이지만 모아 Vision을 한 번 호출하고 페이지 순서대로 돌려준다")
+    void Should_BatchEscalatedPagesToVision_When_ExtractingSeveralPages() {
+        byte[] clean = {1};
+        byte[] blurred = {2};
+        byte[] handwritten = {3};
+        given(tesseract.recognize(eq(clean), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 93));
+        given(tesseract.recognize(eq(blurred), anyString())).willReturn(new TesseractEngine.Recognition(NOTICE, 40));
+        given(tesseract.recognize(eq(handwritten), anyString())).willReturn(new TesseractEngine.Recognition("", 0));
+        given(vision.extractTexts(argThat(images -> images.size() == 2))).willReturn(List.of("page 2", "page 3"));
+
+        List<OcrResult> results = service.extractPages(List.of(
+            CompletableFuture.completedFuture(new OcrImage(clean, "image/jpeg")),
+            CompletableFuture.completedFuture(new OcrImage(blurred, "image/jpeg")),
+            CompletableFuture.completedFuture(new OcrImage(handwritten, "image/jpeg"))), () -> {
+        });
+
+        assertThat(results).extracting(OcrResult::text).containsExactly(NOTICE, "page 2", "page 3");
+        assertThat(results).extracting(OcrResult::engine).containsExactly(OcrEngine.TESSERACT_OCR,
+            OcrEngine.GEMINI_VISION_OCR, OcrEngine.GEMINI_VISION_OCR);
+        then(vision).should().extractTexts(argThat(images -> images.get(0).bytes() == blurred
+            && images.get(1).bytes() == handwritten));
+        then(vision).should(never()).extractText(any(), anyString());
+    }
+
+    private boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
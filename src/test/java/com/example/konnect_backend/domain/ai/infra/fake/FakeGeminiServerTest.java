@@ -0,0 +1,150 @@
+package com.example.konnect_backend.domain.ai.infra.fake;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FakeGeminiServerTest {
+
+    static final String REQUEST = """
+        {"contents":[{"role":"user","parts":[{"text":"가정통신문을 요약하세요"}]}],\
+        "generationConfig":{"temperature":0.3,"maxOutputTokens":1000}}""";
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    HttpClient httpClient = HttpClient.newHttpClient();
+    List<FakeGeminiServer> servers = new ArrayList<>();
+
+    @TempDir
+    Path recordingDir;
+
+    @AfterEach
+    void tearDown() {
+        servers.forEach(FakeGeminiServer::stop);
+    }
+
+    @Test
+    @DisplayName("generateContent는 설정한 응답 텍스트와 토큰 사용량을 Gemini 응답 형식으로 반환한다")
+    void Should_ReturnSyntheticResponse_When_GenerateContentCalled() throws Exception {
+        FakeGeminiProperties properties = properties("{\"summary\":\"요약\"}");
+        FakeGeminiServer server = start(properties);
+
+        HttpResponse<String> response = post(server, "gemini-2.0-flash:generateContent");
+
+        JsonNode json = objectMapper.readTree(response.body());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(json.at("/candidates/0/content/parts/0/text").asText())
+            .isEqualTo("{\"summary\":\"요약\"}");
+        assertThat(json.at("/candidates/0/finishReason").asText()).isEqualTo("STOP");
+        assertThat(json.at("/usageMetadata/promptTokenCount").asInt()).isPositive();
+        assertThat(json.path("modelVersion").asText()).isEqualTo("gemini-2.0-flash");
+    }
+
+    @Test
+    @DisplayName("streamGenerateContent는 응답을 여러 SSE 조각으로 나누고 마지막 조각에만 토큰 사용량을 담는다")
+    void Should_SplitIntoSseChunks_When_StreamGenerateContentCalled() throws Exception {
+        FakeGeminiProperties properties = properties("abcdefgh");
+        properties.setStreamChunks(4);
+        properties.setStreamChunkInterval(Duration.ZERO);
+        FakeGeminiServer server = start(properties);
+
+        HttpResponse<String> response = post(server, "gemini-2.0-flash:streamGenerateContent?alt=sse");
+
+        List<JsonNode> chunks = new ArrayList<>();
+        for (String line : response.body().split("\r\n")) {
+            if (line.startsWith("data: ")) {
+                chunks.add(objectMapper.readTree(line.substring("data: ".length())));
+            }
+        }
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("text/event-stream");
+        assertThat(chunks).hasSize(4);
+        assertThat(chunks.get(0).has("usageMetadata")).isFalse();
+        assertThat(chunks.get(3).at("/usageMetadata/candidatesTokenCount").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("429 주입 비율이 1이면 모든 요청이 Retry-After와 함께 429로 실패한다")
+    void Should_Return429WithRetryAfter_When_RateLimitInjected() throws Exception {
+        FakeGeminiProperties properties = properties("{}");
+        properties.getErrors().setRateLimitedRate(1.0);
+        properties.getErrors().setRetryAfter(Duration.ofSeconds(3));
+        FakeGeminiServer server = start(properties);
+
+        HttpResponse<String> response = post(server, "gemini-2.0-flash:generateContent");
+
+        assertThat(response.statusCode()).isEqualTo(429);
+        assertThat(response.headers().firstValue("Retry-After")).hasValue("3");
+    }
+
+    @Test
+    @DisplayName("녹화 모드에서 저장한 응답을 재생 모드에서 같은 요청에 그대로 반환한다")
+    void Should_ReplayRecordedResponse_When_SameRequestSent() throws Exception {
+        FakeGeminiServer upstream = start(properties("녹화된 응답"));
+        FakeGeminiProperties recordProperties = properties("사용되지 않음");
+        recordProperties.setMode(FakeGeminiProperties.Mode.RECORD);
+        recordProperties.setUpstreamBaseUrl("http://localhost:" + upstream.getPort() + "/v1beta");
+        FakeGeminiServer recorder = start(recordProperties);
+
+        String recorded = post(recorder, "gemini-2.0-flash:generateContent").body();
+        upstream.stop();
+
+        FakeGeminiProperties replayProperties = properties("합성 응답");
+        replayProperties.setMode(FakeGeminiProperties.Mode.REPLAY);
+        FakeGeminiServer replayer = start(replayProperties);
+        String replayed = post(replayer, "gemini-2.0-flash:generateContent").body();
+
+        assertThat(replayed).isEqualTo(recorded).contains("녹화된 응답");
+        try (var files = Files.list(recordingDir)) {
+            // 쿼리의 API 키는 파일에 남지 않음
+            assertThat(files.map(this::read)).hasSize(1).noneMatch(body -> body.contains("test-key"));
+        }
+    }
+
+    private FakeGeminiProperties properties(String responseText) {
+        FakeGeminiProperties properties = new FakeGeminiProperties();
+        properties.setResponseText(responseText);
+        properties.setRecordingDir(recordingDir);
+        properties.getLatency().setMedian(Duration.ZERO);
+        return properties;
+    }
+
+    private FakeGeminiServer start(FakeGeminiProperties properties) throws Exception {
+        FakeGeminiServer server = new FakeGeminiServer(properties, objectMapper);
+        server.start();
+        servers.add(server);
+        return server;
+    }
+
+    private HttpResponse<String> post(FakeGeminiServer server, String target) throws Exception {
+        String separator = target.contains("?") ? "&" : "?";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(
+                "http://localhost:" + server.getPort() + "/v1beta/models/" + target + separator
+                    + "key=test-key"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(REQUEST))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String read(Path file) {
+        try {
+            return Files.readString(file);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.konnect_backend.domain.ai.service.cache;
+
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.service.prompt.management.PromptActivatedEvent;
+import com.example.konnect_backend.domain.ai.type.FileType;
+import com.example.konnect_backend.domain.ai.type.TargetLanguage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisResultCacheTest {
+
+    AnalysisResultCache cache = new AnalysisResultCache(true, 100, Duration.ofHours(1));
+
+    UploadFile file = new UploadFile("notice.pdf", FileType.PDF, "application/pdf", 3,
+        new byte[]{1, 2, 3});
+    UploadFile sameContent = new UploadFile("renamed.pdf", FileType.PDF, "application/pdf", 3,
+        new byte[]{1, 2, 3});
+
+    AnalysisResultSnapshot snapshot = new AnalysisResultSnapshot("text", 1, "PDF_READER", null,
+        null, null, null, "쉬운 글", "translated", "summary");
+
+    @Test
+    @DisplayName("파일명이 달라도 내용, 언어, 프롬프트 버전이 같으면 적중한다")
+    void Should_Hit_When_SameContentLanguageAndVersions() {
+        cache.put(cache.createKey(file, TargetLanguage.ENGLISH, Map.of("TRANSLATION", 1)), snapshot);
+
+        assertThat(cache.get(
+            cache.createKey(sameContent, TargetLanguage.ENGLISH, Map.of("TRANSLATION", 1))))
+            .contains(snapshot);
+    }
+
+    @Test
+    @DisplayName("대상 언어나 프롬프트 버전이 다르면 적중하지 않는다")
+    void Should_Miss_When_LanguageOrVersionDiffers() {
+        cache.put(cache.createKey(file, TargetLanguage.ENGLISH, Map.of("TRANSLATION", 1)), snapshot);
+
+        assertThat(cache.get(cache.createKey(file, TargetLanguage.VIETNAMESE,
+            Map.of("TRANSLATION", 1)))).isEmpty();
+        assertThat(cache.get(cache.createKey(file, TargetLanguage.ENGLISH,
+            Map.of("TRANSLATION", 2)))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("프롬프트가 활성화되면 해당 모듈을 사용한 항목만 제거된다")
+    void Should_EvictMatchingEntries_When_PromptActivated() {
+        AnalysisCacheKey translationKey = cache.createKey(file, TargetLanguage.ENGLISH,
+            Map.of("TRANSLATION", 1));
+        AnalysisCacheKey summaryKey = cache.createKey(file, TargetLanguage.ENGLISH,
+            Map.of("SUMMARIZATION", 1));
+        cache.put(translationKey, snapshot);
+        cache.put(summaryKey, snapshot);
+
+        cache.onPromptActivated(new PromptActivatedEvent("TRANSLATION", 2));
+
+        assertThat(cache.get(translationKey)).isEmpty();
+        assertThat(cache.get(summaryKey)).contains(snapshot);
+    }
+}
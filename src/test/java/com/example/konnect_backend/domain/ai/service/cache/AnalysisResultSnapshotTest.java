@@ -0,0 +1,55 @@
+package com.example.konnect_backend.domain.ai.service.cache;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalysisResultSnapshotTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("단계 스냅샷은 해당 단계가 만든 값만 직렬화한다")
+    void Should_SerializeOnlyStageOutput_When_SnapshotOfStage() throws Exception {
+        PipelineContext context = PipelineContext.builder()
+            .extractedText("원문")
+            .pageCount(2)
+            .ocrMethod("PDF_READER")
+            .simplifiedKorean("쉬운 글")
+            .build();
+
+        String json = objectMapper.writeValueAsString(
+            AnalysisResultSnapshot.ofStage(PipelineStage.SIMPLIFIED, context));
+
+        assertThat(json).isEqualTo("{\"simplifiedKorean\":\"쉬운 글\"}");
+    }
+
+    @Test
+    @DisplayName("여러 단계 스냅샷을 합치면 각 단계의 값이 모두 복원된다")
+    void Should_RestoreAllStages_When_MergingStageSnapshots() throws Exception {
+        PipelineContext source = PipelineContext.builder()
+            .extractedText("원문")
+            .pageCount(1)
+            .ocrMethod("HYBRID")
+            .simplifiedKorean("쉬운 글")
+            .build();
+        String textJson = objectMapper.writeValueAsString(
+            AnalysisResultSnapshot.ofStage(PipelineStage.TEXT_EXTRACTED, source));
+        String simplifiedJson = objectMapper.writeValueAsString(
+            AnalysisResultSnapshot.ofStage(PipelineStage.SIMPLIFIED, source));
+
+        PipelineContext restored = PipelineContext.builder().build();
+        objectMapper.readValue(textJson, AnalysisResultSnapshot.class).mergeInto(restored);
+        objectMapper.readValue(simplifiedJson, AnalysisResultSnapshot.class).mergeInto(restored);
+
+        assertThat(restored.getExtractedText()).isEqualTo("원문");
+        assertThat(restored.getPageCount()).isEqualTo(1);
+        assertThat(restored.getOcrMethod()).isEqualTo("HYBRID");
+        assertThat(restored.getSimplifiedKorean()).isEqualTo("쉬운 글");
+        assertThat(restored.getTranslatedText()).isNull();
+    }
+}
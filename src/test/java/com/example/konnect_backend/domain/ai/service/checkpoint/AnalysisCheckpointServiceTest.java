@@ -0,0 +1,159 @@
+package com.example.konnect_backend.domain.ai.service.checkpoint;
+
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisCheckpoint;
+import com.example.konnect_backend.domain.ai.domain.entity.checkpoint.AnalysisSession;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.repository.AnalysisCheckpointRepository;
+import com.example.konnect_backend.domain.ai.repository.AnalysisSessionRepository;
+import com.example.konnect_backend.domain.ai.service.checkpoint.AnalysisCheckpointService.ResumePoint;
+import com.example.konnect_backend.domain.ai.type.AnalysisSessionStatus;
+import com.example.konnect_backend.domain.ai.type.FileType;
+import com.example.konnect_backend.domain.ai.type.TargetLanguage;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AnalysisCheckpointServiceTest {
+
+    static final UUID ORIGINAL = UUID.randomUUID();
+    static final UUID RESUMED = UUID.randomUUID();
+    static final String TEXT_PAYLOAD = "{\"extractedText\":\"원문\",\"pageCount\":1,\"ocrMethod\":\"PDF_READER\"}";
+    static final String SIMPLIFIED_PAYLOAD = "{\"simplifiedKorean\":\"쉬운 글\"}";
+
+    AnalysisSessionRepository sessionRepository;
+    AnalysisCheckpointRepository checkpointRepository;
+    AnalysisCheckpointService service;
+
+    @BeforeEach
+    void setUp() {
+        sessionRepository = mock(AnalysisSessionRepository.class);
+        checkpointRepository = mock(AnalysisCheckpointRepository.class);
+        service = new AnalysisCheckpointService(sessionRepository, checkpointRepository, new ObjectMapper(),
+            mock(PlatformTransactionManager.class), Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("성공한 요청은 단계가 끝나도 세션과 체크포인트를 저장하지 않는다")
+    void Should_WriteNothing_When_RequestDoesNotFail() {
+        AnalysisCheckpointRecorder recorder = service.startSession(ORIGINAL, 10L, null, file(),
+            TargetLanguage.KOREAN);
+
+        recorder.onStageCompleted(PipelineStage.TEXT_EXTRACTED, PipelineContext.builder().extractedText("원문").build());
+
+        verifyNoInteractions(sessionRepository, checkpointRepository);
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 세션을 FAILED로, 완료된 단계 결과를 체크포인트로 한 번에 저장한다")
+    void Should_SaveSessionAndCheckpoints_When_RequestFails() {
+        AnalysisCheckpointRecorder recorder = service.startSession(ORIGINAL, 10L, null, file(),
+            TargetLanguage.KOREAN);
+        recorder.onStageCompleted(PipelineStage.TEXT_EXTRACTED, PipelineContext.builder().extractedText("원문").build());
+
+        service.markFailed(recorder);
+
+        ArgumentCaptor<AnalysisSession> session = ArgumentCaptor.forClass(AnalysisSession.class);
+        then(sessionRepository).should().save(session.capture());
+        assertThat(session.getValue().getStatus()).isEqualTo(AnalysisSessionStatus.FAILED);
+        assertThat(savedCheckpoints(ORIGINAL)).containsOnlyKeys(PipelineStage.TEXT_EXTRACTED);
+    }
+
+    @Test
+    @DisplayName("실패한 요청을 이어받으면 원래 요청은 RESUMED가 되고, 새 요청이 또 실패하면 복원한 단계와 새 단계가 함께 복사된다")
+    void Should_CopyRestoredCheckpoints_When_ResumedRequestFailsAgain() {
+        given(sessionRepository.findByRequestUuid(ORIGINAL)).willReturn(Optional.of(originalSession()));
+        given(checkpointRepository.findByRequestUuid(ORIGINAL)).willReturn(List.of(
+            new AnalysisCheckpoint(ORIGINAL, PipelineStage.TEXT_EXTRACTED, TEXT_PAYLOAD, LocalDateTime.now()),
+            new AnalysisCheckpoint(ORIGINAL, PipelineStage.SIMPLIFIED, SIMPLIFIED_PAYLOAD, LocalDateTime.now())));
+        given(sessionRepository.transition(eq(ORIGINAL), eq(AnalysisSessionStatus.FAILED),
+            eq(AnalysisSessionStatus.RESUMED), any())).willReturn(1);
+
+        ResumePoint resumePoint = service.resume(ORIGINAL, RESUMED, 10L, null);
+        resumePoint.recorder().onStageCompleted(PipelineStage.TRANSLATED,
+            PipelineContext.builder().translatedText("translated").build());
+        service.markFailed(resumePoint.recorder());
+
+        assertThat(resumePoint.outputs()).containsOnlyKeys(PipelineStage.TEXT_EXTRACTED, PipelineStage.SIMPLIFIED);
+        ArgumentCaptor<AnalysisSession> session = ArgumentCaptor.forClass(AnalysisSession.class);
+        then(sessionRepository).should().save(session.capture());
+        assertThat(session.getValue().getRequestUuid()).isEqualTo(RESUMED);
+        assertThat(session.getValue().getResumedFromUuid()).isEqualTo(ORIGINAL);
+        assertThat(session.getValue().getStatus()).isEqualTo(AnalysisSessionStatus.FAILED);
+
+        Map<PipelineStage, String> copied = savedCheckpoints(RESUMED);
+        assertThat(copied).containsOnlyKeys(PipelineStage.TEXT_EXTRACTED, PipelineStage.SIMPLIFIED,
+            PipelineStage.TRANSLATED);
+        assertThat(copied.get(PipelineStage.SIMPLIFIED)).isEqualTo(SIMPLIFIED_PAYLOAD);
+    }
+
+    @Test
+    @DisplayName("이미 이어받은 요청은 다시 이어받을 수 없다")
+    void Should_RejectResume_When_SessionIsNotFailed() {
+        given(sessionRepository.findByRequestUuid(ORIGINAL)).willReturn(Optional.of(originalSession()));
+        given(checkpointRepository.findByRequestUuid(ORIGINAL)).willReturn(List.of(
+            new AnalysisCheckpoint(ORIGINAL, PipelineStage.TEXT_EXTRACTED, TEXT_PAYLOAD, LocalDateTime.now())));
+        given(sessionRepository.transition(eq(ORIGINAL), eq(AnalysisSessionStatus.FAILED),
+            eq(AnalysisSessionStatus.RESUMED), any())).willReturn(0);
+
+        assertThatThrownBy(() -> service.resume(ORIGINAL, RESUMED, 10L, null))
+            .isInstanceOf(GeneralException.class)
+            .extracting("code").isEqualTo(ErrorStatus.ANALYSIS_NOT_RESUMABLE);
+        then(checkpointRepository).should(never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 요청은 찾을 수 없는 것으로 처리한다")
+    void Should_RejectResume_When_RequesterIsNotOwner() {
+        given(sessionRepository.findByRequestUuid(ORIGINAL)).willReturn(Optional.of(originalSession()));
+
+        assertThatThrownBy(() -> service.resume(ORIGINAL, RESUMED, 99L, null))
+            .isInstanceOf(GeneralException.class)
+            .extracting("code").isEqualTo(ErrorStatus.ANALYSIS_NOT_FOUND);
+        then(sessionRepository).should(never()).transition(any(), any(), any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<PipelineStage, String> savedCheckpoints(UUID requestId) {
+        ArgumentCaptor<List<AnalysisCheckpoint>> checkpoints = ArgumentCaptor.forClass(List.class);
+        then(checkpointRepository).should().saveAll(checkpoints.capture());
+        assertThat(checkpoints.getValue()).extracting(AnalysisCheckpoint::getRequestUuid).containsOnly(requestId);
+        return checkpoints.getValue().stream()
+            .collect(Collectors.toMap(AnalysisCheckpoint::getStage, AnalysisCheckpoint::getPayload));
+    }
+
+    private AnalysisSession originalSession() {
+        return AnalysisSession.builder().requestUuid(ORIGINAL).userId(10L).fileName("notice.pdf")
+            .fileType(FileType.PDF).contentType("application/pdf").fileSize(3)
+            .targetLanguage(TargetLanguage.ENGLISH).createdAt(LocalDateTime.now()).build();
+    }
+
+    private UploadFile file() {
+        return new UploadFile("notice.pdf", FileType.PDF, "application/pdf", 3, new byte[3]);
+    }
+}
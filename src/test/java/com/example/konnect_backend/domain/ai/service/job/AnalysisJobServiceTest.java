@@ -0,0 +1,113 @@
+package com.example.konnect_backend.domain.ai.service.job;
+
+import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
+import com.example.konnect_backend.domain.ai.repository.AnalysisJobFileRepository;
+import com.example.konnect_backend.domain.ai.repository.AnalysisJobRepository;
+import com.example.konnect_backend.domain.ai.type.AnalysisJobStatus;
+import com.example.konnect_backend.domain.user.service.UsageFacade;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class AnalysisJobServiceTest {
+
+    static final String OWNER = "worker-1";
+
+    AnalysisJobRepository jobRepository;
+    AnalysisJobFileRepository jobFileRepository;
+    AnalysisJobService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(AnalysisJobRepository.class);
+        jobFileRepository = mock(AnalysisJobFileRepository.class);
+        service = new AnalysisJobService(jobRepository, jobFileRepository, mock(UsageFacade.class),
+            new ObjectMapper(), Duration.ofMinutes(2), 3);
+    }
+
+    @Test
+    @DisplayName("임대를 잃은 작업의 완료 처리는 반영되지 않고 원본 파일도 지우지 않는다")
+    void Should_RejectSucceed_When_LeaseIsLost() {
+        given(jobRepository.succeed(eq(1L), eq(OWNER), any(), anyString(), any(), eq(AnalysisJobStatus.SUCCEEDED)))
+            .willReturn(0);
+
+        boolean succeeded = service.succeed(1L, OWNER, DocumentAnalysisResponse.builder().analysisId(7L).build());
+
+        assertThat(succeeded).isFalse();
+        then(jobFileRepository).should(never()).deleteByJobIds(anyList());
+    }
+
+    @Test
+    @DisplayName("임대를 잃은 작업의 실패 처리는 반영되지 않는다")
+    void Should_RejectFail_When_LeaseIsLost() {
+        given(jobRepository.fail(eq(1L), eq(OWNER), anyString(), any(), any(), eq(AnalysisJobStatus.FAILED)))
+            .willReturn(0);
+
+        assertThat(service.fail(1L, OWNER, "AI500", "실패")).isFalse();
+        then(jobFileRepository).should(never()).deleteByJobIds(anyList());
+    }
+
+    @Test
+    @DisplayName("임대를 가진 작업을 완료하면 원본 파일을 지운다")
+    void Should_DeleteFile_When_SucceedWithLease() {
+        given(jobRepository.succeed(eq(1L), eq(OWNER), eq(7L), anyString(), any(), eq(AnalysisJobStatus.SUCCEEDED)))
+            .willReturn(1);
+
+        assertThat(service.succeed(1L, OWNER, DocumentAnalysisResponse.builder().analysisId(7L).build())).isTrue();
+        then(jobFileRepository).should().deleteByJobIds(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘긴 만료 작업은 실패 처리하고, 선점은 시도 횟수가 남은 작업만 대상으로 한다")
+    void Should_FailExhaustedJobs_When_Claiming() {
+        given(jobRepository.findExhaustedIds(any(), eq(3), eq(AnalysisJobStatus.RUNNING))).willReturn(List.of(4L));
+        given(jobRepository.findClaimableIdsForUpdate(any(), eq(3), eq(2))).willReturn(List.of(5L));
+
+        List<Long> claimed = service.claim(OWNER, 2);
+
+        assertThat(claimed).containsExactly(5L);
+        then(jobRepository).should().failExhausted(eq(List.of(4L)),
+            eq(ErrorStatus.DOCUMENT_ANALYSIS_FAILED.getCode()), anyString(), any(),
+            eq(AnalysisJobStatus.RUNNING), eq(AnalysisJobStatus.FAILED));
+        then(jobFileRepository).should().deleteByJobIds(List.of(4L));
+        then(jobRepository).should().claim(eq(List.of(5L)), eq(OWNER), any(), any(), eq(AnalysisJobStatus.RUNNING));
+    }
+
+    @Test
+    @DisplayName("선점할 작업이 없으면 상태를 바꾸지 않는다")
+    void Should_NotClaim_When_NothingIsClaimable() {
+        given(jobRepository.findExhaustedIds(any(), anyInt(), any())).willReturn(List.of());
+        given(jobRepository.findClaimableIdsForUpdate(any(), anyInt(), anyInt())).willReturn(List.of());
+
+        assertThat(service.claim(OWNER, 3)).isEmpty();
+        then(jobRepository).should(never()).claim(anyList(), anyString(), any(), any(), any());
+        then(jobRepository).should(never()).failExhausted(anyList(), anyString(), anyString(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("시작 시 임대를 잃었으면 작업 정보를 읽지 않고 null을 돌려준다")
+    void Should_ReturnNull_When_LeaseIsLostBeforeStart() {
+        given(jobRepository.assignRequestUuid(eq(1L), eq(OWNER), any(UUID.class), any())).willReturn(0);
+
+        assertThat(service.start(1L, OWNER, UUID.randomUUID())).isNull();
+        then(jobRepository).should(never()).findById(anyLong());
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.konnect_backend.domain.ai.service.job;
+
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.dto.response.DocumentAnalysisResponse;
+import com.example.konnect_backend.domain.ai.service.job.AnalysisJobService.ClaimedJob;
+import com.example.konnect_backend.domain.ai.service.pipeline.DocumentAnalysisPipeline;
+import com.example.konnect_backend.domain.ai.type.FileType;
+import com.example.konnect_backend.domain.notification.service.NotificationService;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import com.example.konnect_backend.global.exception.GeneralException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class AnalysisJobWorkerTest {
+
+    static final UploadFile FILE = new UploadFile("notice.pdf", FileType.PDF, "application/pdf", 3, new byte[3]);
+
+    AnalysisJobService jobService;
+    DocumentAnalysisPipeline pipeline;
+    NotificationService notificationService;
+    ThreadPoolTaskExecutor executor;
+    AnalysisJobWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        jobService = mock(AnalysisJobService.class);
+        pipeline = mock(DocumentAnalysisPipeline.class);
+        notificationService = mock(NotificationService.class);
+        executor = mock(ThreadPoolTaskExecutor.class);
+        worker = new AnalysisJobWorker(jobService, pipeline, notificationService, executor, 2);
+        given(jobService.start(eq(1L), anyString(), any())).willReturn(new ClaimedJob(1L, 10L, null, FILE));
+    }
+
+    @Test
+    @DisplayName("분석이 끝났지만 임대를 잃어 완료 처리되지 않으면 알림을 보내지 않는다")
+    void Should_NotNotify_When_SucceedIsFenced() {
+        runInline();
+        given(jobService.claim(anyString(), eq(2))).willReturn(List.of(1L));
+        given(pipeline.analyzeQueued(any(), any(), any(), any())).willReturn(new DocumentAnalysisResponse());
+        given(jobService.succeed(eq(1L), anyString(), any())).willReturn(false);
+
+        worker.poll();
+
+        then(notificationService).should(never())
+            .createAndSendNotification(anyLong(), anyString(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("분석이 실패했지만 임대를 잃어 실패 처리되지 않으면 알림을 보내지 않는다")
+    void Should_NotNotify_When_FailIsFenced() {
+        runInline();
+        given(jobService.claim(anyString(), eq(2))).willReturn(List.of(1L));
+        given(pipeline.analyzeQueued(any(), any(), any(), any()))
+            .willThrow(new GeneralException(ErrorStatus.AI_SERVICE_BUSY));
+        given(jobService.fail(eq(1L), anyString(), anyString(), anyString())).willReturn(false);
+
+        worker.poll();
+
+        then(jobService).should().fail(eq(1L), anyString(), eq(ErrorStatus.AI_SERVICE_BUSY.getCode()), anyString());
+        then(notificationService).should(never())
+            .createAndSendNotification(anyLong(), anyString(), anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("임대를 가진 채 완료하면 로그인 사용자에게 알림을 보낸다")
+    void Should_Notify_When_SucceedWithLease() {
+        runInline();
+        given(jobService.claim(anyString(), eq(2))).willReturn(List.of(1L));
+        given(pipeline.analyzeQueued(any(), any(), any(), any())).willReturn(new DocumentAnalysisResponse());
+        given(jobService.succeed(eq(1L), anyString(), any())).willReturn(true);
+
+        worker.poll();
+
+        then(notificationService).should()
+            .createAndSendNotification(eq(10L), anyString(), anyString(), any(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("실행기가 작업을 거절하면 슬롯을 돌려받아 다음 폴링에서 다시 선점한다")
+    void Should_ReleaseSlots_When_ExecutorRejects() {
+        given(jobService.claim(anyString(), eq(2))).willReturn(List.of(1L, 2L));
+        willThrow(new TaskRejectedException("full")).given(executor).execute(any(Runnable.class));
+
+        worker.poll();
+        worker.poll();
+
+        then(jobService).should(times(2)).claim(anyString(), eq(2));
+        worker.renewLeases();
+        then(jobService).should().renewLeases(anyString(), eq(Set.of()));
+    }
+
+    private void runInline() {
+        willAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).given(executor).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.konnect_backend.domain.ai.service.module;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.type.DocumentType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FusedAnalysisModuleTest {
+
+    FusedAnalysisModule module = new FusedAnalysisModule(null, new ObjectMapper(), null);
+
+    @Test
+    @DisplayName("통합 응답의 각 섹션을 분류, 추출, 어려운 표현 결과로 나누어 저장한다")
+    void Should_ApplyEverySection_When_FusedResponseIsValid() {
+        String response = """
+            ```json
+            {
+              "classification": {"documentType":"EVENT","confidence":0.9,"keywords":["소풍"],"reasoning":"행사"},
+              "extraction": {
+                "schedules": [{"title":"Picnic","memo":"Lunch box","startDate":"2025-05-02T09:00:00","endDate":"2025-05-02T15:00:00","isAllDay":false}],
+                "eventDetails": {"eventName":"Picnic"}
+              },
+              "difficultExpressions": [{"original":"현장체험학습","explanation":"Field trip"}]
+            }
+            ```""";
+        PipelineContext context = PipelineContext.builder().build();
+
+        module.applyResult(response, context);
+
+        assertThat(context.getDocumentType()).isEqualTo(DocumentType.EVENT);
+        assertThat(context.getClassificationResult().getKeywords()).containsExactly("소풍");
+        assertThat(context.getExtractionResult().getSchedules()).hasSize(1);
+        assertThat(context.getExtractionResult().getAdditionalInfo()).containsKey("eventDetails");
+        assertThat(context.getDifficultExpressions()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("섹션이 누락되면 해당 결과만 기본값으로 대체한다")
+    void Should_UseDefaultsForMissingSection_When_SectionIsAbsent() {
+        String response = """
+            {"difficultExpressions": [{"original":"가정통신문","explanation":"School letter"}]}""";
+        PipelineContext context = PipelineContext.builder().build();
+
+        module.applyResult(response, context);
+
+        assertThat(context.getDocumentType()).isEqualTo(DocumentType.NOTICE);
+        assertThat(context.getExtractionResult().getSchedules()).isEmpty();
+        assertThat(context.getDifficultExpressions()).hasSize(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.konnect_backend.domain.ai.service.pipeline.dag;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.example.konnect_backend.domain.ai.exception.DocumentAnalysisException;
+import com.example.konnect_backend.global.code.status.ErrorStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelineDagEngineTest {
+
+    ThreadPoolTaskExecutor executor;
+    CountDownLatch release = new CountDownLatch(1);
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실행기가 가득 차면 노드를 요청 스레드에서 실행하지 않고 AI_SERVICE_BUSY로 실패한다")
+    void Should_FailWithServiceBusy_When_ExecutorIsFull() throws InterruptedException {
+        executor = fullExecutor();
+        Thread[] ranOn = new Thread[1];
+        PipelineNode node = new PipelineNode("TEXT_EXTRACTION", Set.of(), Set.of(PipelineStage.TEXT_EXTRACTED),
+            Duration.ofSeconds(1), context -> ranOn[0] = Thread.currentThread());
+        PipelineDagEngine engine = new PipelineDagEngine(executor, new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> engine.run(PipelineGraph.of(List.of(node)), PipelineContext.builder().build()))
+            .isInstanceOfSatisfying(DocumentAnalysisException.class,
+                e -> assertThat(e.getCode()).isEqualTo(ErrorStatus.AI_SERVICE_BUSY));
+        assertThat(ranOn[0]).isNull();
+    }
+
+    // 스레드 하나와 큐 한 칸을 모두 막아 둔 거절 정책(Abort) 실행기
+    private ThreadPoolTaskExecutor fullExecutor() throws InterruptedException {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await();
+        });
+        started.await(5, TimeUnit.SECONDS);
+        executor.execute(this::await);
+        return executor;
+    }
+
+    private void await() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.konnect_backend.domain.ai.service.pipeline.dag;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import com.example.konnect_backend.domain.ai.service.pipeline.dag.PipelineTrace.NodeTiming;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PipelineGraphTest {
+
+    PipelineNode textExtraction = node("TEXT_EXTRACTION", Set.of(),
+        Set.of(PipelineStage.TEXT_EXTRACTED));
+    PipelineNode classification = node("CLASSIFICATION", Set.of(PipelineStage.TEXT_EXTRACTED),
+        Set.of(PipelineStage.CLASSIFIED));
+    PipelineNode simplification = node("SIMPLIFICATION", Set.of(PipelineStage.TEXT_EXTRACTED),
+        Set.of(PipelineStage.SIMPLIFIED));
+    PipelineNode translation = node("TRANSLATION", Set.of(PipelineStage.SIMPLIFIED),
+        Set.of(PipelineStage.TRANSLATED));
+
+    @Test
+    @DisplayName("선언 순서와 관계없이 선행 단계를 만드는 노드가 먼저 오도록 정렬한다")
+    void Should_SortTopologically_When_DeclaredOutOfOrder() {
+        PipelineGraph graph = PipelineGraph.of(
+            List.of(translation, classification, simplification, textExtraction));
+
+        assertThat(graph.nodes()).extracting(PipelineNode::name)
+            .containsExactly("TEXT_EXTRACTION", "CLASSIFICATION", "SIMPLIFICATION", "TRANSLATION");
+        assertThat(graph.skipped()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("선행 단계를 만드는 노드가 빠지면 의존 노드도 제외된다")
+    void Should_SkipDependents_When_ProducerMissing() {
+        PipelineGraph graph = PipelineGraph.of(List.of(textExtraction, classification, translation));
+
+        assertThat(graph.nodes()).extracting(PipelineNode::name)
+            .containsExactly("TEXT_EXTRACTION", "CLASSIFICATION");
+        assertThat(graph.skipped()).containsExactly("TRANSLATION");
+    }
+
+    @Test
+    @DisplayName("같은 단계를 두 노드가 만들면 그래프를 만들 수 없다")
+    void Should_Throw_When_StageHasTwoProducers() {
+        PipelineNode duplicate = node("OTHER_CLASSIFIER", Set.of(PipelineStage.TEXT_EXTRACTED),
+            Set.of(PipelineStage.CLASSIFIED));
+
+        assertThatThrownBy(() -> PipelineGraph.of(List.of(textExtraction, classification, duplicate)))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("임계 경로는 가장 늦게 끝난 노드에서 가장 늦게 끝난 선행 노드를 따라간다")
+    void Should_FollowLatestPredecessors_When_ComputingCriticalPath() {
+        PipelineGraph graph = PipelineGraph.of(
+            List.of(textExtraction, classification, simplification, translation));
+        PipelineTrace trace = new PipelineTrace(graph, Map.of(
+            "TEXT_EXTRACTION", new NodeTiming("TEXT_EXTRACTION", 0, 100, true),
+            "CLASSIFICATION", new NodeTiming("CLASSIFICATION", 100, 900, true),
+            "SIMPLIFICATION", new NodeTiming("SIMPLIFICATION", 100, 500, true),
+            "TRANSLATION", new NodeTiming("TRANSLATION", 500, 1200, true)));
+
+        assertThat(trace.criticalPath()).extracting(NodeTiming::name)
+            .containsExactly("TEXT_EXTRACTION", "SIMPLIFICATION", "TRANSLATION");
+        assertThat(trace.totalMillis()).isEqualTo(1200);
+    }
+
+    private PipelineNode node(String name, Set<PipelineStage> requires,
+                              Set<PipelineStage> produces) {
+        return new PipelineNode(name, requires, produces, Duration.ofSeconds(1), context -> {
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.konnect_backend.domain.ai.service.stream;
+
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext;
+import com.example.konnect_backend.domain.ai.domain.vo.PipelineContext.PipelineStage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+class SseAnalysisEventListenerTest {
+
+    SseEmitter emitter;
+    List<Runnable> senderTasks;
+    SseAnalysisEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        emitter = mock(SseEmitter.class);
+        senderTasks = new ArrayList<>();
+        listener = new SseAnalysisEventListener(emitter, senderTasks::add, 2);
+    }
+
+    @Test
+    @DisplayName("이벤트는 호출 스레드에서 전송하지 않고 전송 작업 하나가 넣은 순서대로 보낸 뒤 연결을 닫는다")
+    void Should_SendInOrderOnSender_When_EventsAreQueued() throws IOException {
+        PipelineContext context = PipelineContext.builder().extractedText("가정통신문").summary("요약").build();
+
+        listener.onStageCompleted(PipelineStage.TEXT_EXTRACTED, context);
+        listener.onPartialResult(PipelineStage.SUMMARIZED, "요");
+        listener.onStageCompleted(PipelineStage.SUMMARIZED, context);
+        listener.complete(AnalysisStreamEvent.COMPLETE, "done");
+
+        then(emitter).should(never()).send(any(SseEventBuilder.class));
+        assertThat(senderTasks).hasSize(1);
+
+        senderTasks.get(0).run();
+
+        assertThat(sentEventNames()).containsExactly("extracted-text", "summary-delta", "summary", "complete");
+        then(emitter).should().complete();
+    }
+
+    @Test
+    @DisplayName("단계 결과가 비어 있으면 이벤트를 보내지 않고 예외도 던지지 않는다")
+    void Should_SkipEvent_When_StageResultIsNull() throws IOException {
+        PipelineContext context = PipelineContext.builder().build();
+
+        assertThatCode(() -> {
+            listener.onStageCompleted(PipelineStage.TEXT_EXTRACTED, context);
+            listener.onStageCompleted(PipelineStage.EXTRACTED, context);
+            listener.onStageCompleted(PipelineStage.TRANSLATED, context);
+        }).doesNotThrowAnyException();
+        listener.complete(AnalysisStreamEvent.COMPLETE, "done");
+        senderTasks.forEach(Runnable::run);
+
+        assertThat(sentEventNames()).containsExactly("complete");
+    }
+
+    @Test
+    @DisplayName("전송이 밀리면 delta 이벤트는 상한까지만 쌓고, 전송이 실패한 뒤에도 연결은 닫는다")
+    void Should_DropDeltasAndStillComplete_When_ClientIsSlowOrGone() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            listener.onPartialResult(PipelineStage.TRANSLATED, "chunk" + i);
+        }
+        willThrow(new IOException("broken pipe")).given(emitter).send(any(SseEventBuilder.class));
+        listener.complete(AnalysisStreamEvent.COMPLETE, "done");
+        senderTasks.forEach(Runnable::run);
+
+        then(emitter).should(times(1)).send(any(SseEventBuilder.class));
+        then(emitter).should().complete();
+    }
+
+    private List<String> sentEventNames() throws IOException {
+        ArgumentCaptor<SseEventBuilder> captor = ArgumentCaptor.forClass(SseEventBuilder.class);
+        then(emitter).should(atLeastOnce()).send(captor.capture());
+        return captor.getAllValues().stream()
+            .map(builder -> builder.build().stream()
+                .map(data -> String.valueOf(data.getData()))
+                .collect(Collectors.joining()))
+            .map(raw -> raw.substring(raw.indexOf("event:") + 6, raw.indexOf('\n', raw.indexOf("event:"))))
+            .toList();
+    }
+}
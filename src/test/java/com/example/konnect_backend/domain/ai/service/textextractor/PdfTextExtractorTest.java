@@ -0,0 +1,194 @@
+package com.example.konnect_backend.domain.ai.service.textextractor;
+
+import com.example.konnect_backend.domain.ai.domain.vo.TextExtractionResult;
+import com.example.konnect_backend.domain.ai.domain.vo.UploadFile;
+import com.example.konnect_backend.domain.ai.infra.GeminiVisionOcrService;
+import com.example.konnect_backend.domain.ai.repository.OcrPageTextRepository;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrImagePreprocessor;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrPageCache;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrResult;
+import com.example.konnect_backend.domain.ai.service.textextractor.ocr.OcrService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.example.konnect_backend.domain.ai.type.FileType;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class PdfTextExtractorTest {
+
+    private static final String TEXT_LAYER = "School notice: field trip on Friday, bring lunch.";
+
+    OcrService ocrService = mock(OcrService.class);
+    GeminiVisionOcrService visionOcrService = mock(GeminiVisionOcrService.class);
+    PdfTextExtractor extractor;
+
+    @BeforeEach
+    void setUp() {
+        OcrImagePreprocessor preprocessor = new OcrImagePreprocessor(true, 40, 2400, 1000, 5, 16,
+            0.85f, new SimpleMeterRegistry());
+        OcrPageCache pageCache = new OcrPageCache(mock(OcrPageTextRepository.class),
+            mock(PlatformTransactionManager.class), new SimpleMeterRegistry(), false, 8, 96, 100, 5000,
+            Duration.ofDays(1));
+        extractor = new PdfTextExtractor(ocrService, preprocessor, pageCache, visionOcrService,
+            new SimpleAsyncTaskExecutor(), 2, true, true, DataSize.ofMegabytes(12), 2);
+    }
+
+    @Test
+    @DisplayName("텍스트 레이어가 있는 페이지는 그대로 쓰고 이미지 페이지만 OCR하여 페이지 순서대로 합친다")
+    void Should_OcrOnlyImagePages_When_PdfIsMixed() throws IOException {
+        givenOcr(vision("scanned attachment"));
+
+        TextExtractionResult result = extractor.extract(pdf(true, false));
+
+        assertThat(result.getOcrMethod()).isEqualTo("HYBRID");
+        assertThat(result.getPageCount()).isEqualTo(2);
+        assertThat(result.getText()).startsWith(TEXT_LAYER).endsWith("scanned attachment");
+        verify(ocrService, times(1)).extractPages(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("이미지 페이지가 여러 장이면 한 번에 OCR로 넘기고 결과를 페이지 순서대로 합친다")
+    void Should_OcrImagePagesTogether_When_PdfHasSeveralScannedPages() throws IOException {
+        givenOcr(vision("first scan"), vision("last scan"));
+
+        TextExtractionResult result = extractor.extract(pdf(false, true, false));
+
+        assertThat(result.getText()).isEqualTo("first scan\n\n" + TEXT_LAYER + "\n\nlast scan");
+        verify(ocrService, times(1)).extractPages(argThat(images -> images.size() == 2), any());
+    }
+
+    @Test
+    @DisplayName("텍스트 레이어가 없는 PDF는 렌더링하지 않고 페이지 범위로 나눠 Gemini에 그대로 보낸다")
+    void Should_SendPdfNatively_When_NoPageHasTextLayer() throws IOException {
+        given(visionOcrService.extractPdfPages(any(), eq(2))).willReturn(List.of("page 1", "page 2"));
+        given(visionOcrService.extractPdfPages(any(), eq(1))).willReturn(List.of("page 3"));
+
+        TextExtractionResult result = extractor.extract(pdf(false, false, false));
+
+        assertThat(result.getOcrMethod()).isEqualTo("GEMINI_PDF_NATIVE");
+        assertThat(result.getText()).isEqualTo("page 1\n\npage 2\n\npage 3");
+        verify(visionOcrService, times(2)).extractPdfPages(any(), anyInt());
+        verify(ocrService, never()).extractPages(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("직접 전달한 응답에서 빠진 페이지만 렌더링하여 OCR한다")
+    void Should_RenderOnlyMissingPages_When_NativeResponseSkipsPage() throws IOException {
+        given(visionOcrService.extractPdfPages(any(), eq(2))).willReturn(Arrays.asList("page 1", null));
+        givenOcr(vision("rendered page 2"));
+
+        TextExtractionResult result = extractor.extract(pdf(false, false));
+
+        assertThat(result.getText()).isEqualTo("page 1\n\nrendered page 2");
+        assertThat(result.getOcrMethod()).isEqualTo("HYBRID");
+        verify(ocrService, times(1)).extractPages(argThat(images -> images.size() == 1), any());
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 로컬 OCR로 읽히는 깨끗한 스캔은 Gemini에 직접 보내지 않고 렌더링 OCR로 처리한다")
+    void Should_SkipNativeRequest_When_FirstPageReadsLocally() throws IOException {
+        given(ocrService.extractTextLocally(any())).willReturn(Optional.of(tesseract("local page 1")));
+        givenOcr(tesseract("local page 2"), tesseract("local page 3"));
+
+        TextExtractionResult result = extractor.extract(pdf(false, false, false));
+
+        assertThat(result.getText()).isEqualTo("local page 1\n\nlocal page 2\n\nlocal page 3");
+        assertThat(result.getOcrMethod()).isEqualTo("TESSERACT_OCR");
+        verify(visionOcrService, never()).extractPdfPages(any(), anyInt());
+        verify(ocrService, times(1)).extractPages(argThat(images -> images.size() == 2), any());
+    }
+
+    @Test
+    @DisplayName("스캔 페이지를 모두 Vision이 읽으면 GEMINI_VISION_OCR, Tesseract와 섞이면 HYBRID로 기록한다")
+    void Should_RecordEngineActuallyUsed_When_ScannedPagesAreOcred() throws IOException {
+        given(visionOcrService.extractPdfPages(any(), eq(2))).willReturn(Arrays.asList(null, null));
+        givenOcr(vision("page 1"), vision("page 2"));
+
+        assertThat(extractor.extract(pdf(false, false)).getOcrMethod()).isEqualTo("GEMINI_VISION_OCR");
+
+        givenOcr(tesseract("page 1"), vision("page 2"));
+
+        assertThat(extractor.extract(pdf(false, false)).getOcrMethod()).isEqualTo("HYBRID");
+    }
+
+    @Test
+    @DisplayName("모든 페이지에 텍스트 레이어가 있으면 OCR을 호출하지 않는다")
+    void Should_SkipOcr_When_AllPagesHaveTextLayer() throws IOException {
+        TextExtractionResult result = extractor.extract(pdf(true, true));
+
+        assertThat(result.getOcrMethod()).isEqualTo("PDF_READER");
+        verify(ocrService, never()).extractPages(anyList(), any());
+    }
+
+    // 실제 OCR 서비스처럼 렌더링을 실행하고 모든 페이지가 전처리된 뒤 results를 돌려줌
+    private void givenOcr(OcrResult... results) {
+        willAnswer(invocation -> {
+            List<CompletableFuture<OcrImagePreprocessor.OcrImage>> pages = invocation.getArgument(0);
+            Runnable producer = invocation.getArgument(1);
+            producer.run();
+            pages.forEach(page -> assertThat(page.join()).isNotNull());
+            return List.of(results);
+        }).given(ocrService).extractPages(anyList(), any());
+    }
+
+    private OcrResult tesseract(String text) {
+        return new OcrResult(text, OcrEngine.TESSERACT_OCR);
+    }
+
+    private OcrResult vision(String text) {
+        return new OcrResult(text, OcrEngine.GEMINI_VISION_OCR);
+    }
+
+    private UploadFile pdf(boolean... textPages) throws IOException {
+        try (PDDocument document = new PDDocument();
+             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (boolean hasText : textPages) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                if (hasText) {
+                    try (PDPageContentStream stream = new PDPageContentStream(document, page)) {
+                        stream.beginText();
+                        stream.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                        stream.newLineAtOffset(50, 700);
+                        stream.showText(TEXT_LAYER);
+                        stream.endText();
+                    }
+                }
+            }
+            document.save(out);
+            byte[] bytes = out.toByteArray();
+            return new UploadFile("notice.pdf", FileType.PDF, "application/pdf", bytes.length,
+                bytes);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class OcrImagePreprocessorTest {
+
+    SimpleMeterRegistry meterRegistry;
+    OcrImagePreprocessor preprocessor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        preprocessor = new OcrImagePreprocessor(true, 40, 2400, 1000, 5, 16, 0.85f, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("큰 컬러 사진은 줄 높이에 맞춰 축소한 그레이스케일 JPEG로 바꾸고 전후 바이트 수를 기록한다")
+    void Should_DownscaleToGrayJpeg_When_PhotoIsLarge() throws IOException {
+        // 줄 높이 80px인 4000x3000 사진
+        BufferedImage photo = page(4000, 3000, 80, 0);
+        byte[] original = png(photo);
+
+        OcrImagePreprocessor.OcrImage result = preprocessor.preprocess(original, "image/png");
+
+        BufferedImage processed = ImageIO.read(new ByteArrayInputStream(result.bytes()));
+        assertThat(result.mimeType()).isEqualTo("image/jpeg");
+        assertThat(result.bytes().length).isLessThan(original.length);
+        assertThat(processed.getType()).isEqualTo(BufferedImage.TYPE_BYTE_GRAY);
+        assertThat(Math.max(processed.getWidth(), processed.getHeight())).isLessThan(2400);
+        assertThat(meterRegistry.get("ocr.preprocess.bytes").tag("stage", "before").summary()
+            .totalAmount()).isEqualTo(original.length);
+        assertThat(meterRegistry.get("ocr.preprocess.bytes").tag("stage", "after").summary()
+            .totalAmount()).isEqualTo(result.bytes().length);
+    }
+
+    @Test
+    @DisplayName("기울어진 글자 줄의 각도를 찾는다")
+    void Should_EstimateSkew_When_TextLinesAreRotated() {
+        BufferedImage gray = OcrImagePreprocessor.toGray(page(1600, 1200, 30, 3.0), 1.0);
+        int threshold = OcrImagePreprocessor.otsuThreshold(
+            ((DataBufferByte) gray.getRaster().getDataBuffer()).getData());
+
+        double skew = OcrImagePreprocessor.estimateSkewDegrees(gray, threshold, 5);
+
+        assertThat(skew).isCloseTo(3.0, within(0.3));
+    }
+
+    @Test
+    @DisplayName("디코딩할 수 없는 형식은 원본을 그대로 반환한다")
+    void Should_ReturnOriginal_When_ImageCannotBeDecoded() {
+        byte[] heic = {0, 0, 0, 24, 'f', 't', 'y', 'p', 'h', 'e', 'i', 'c'};
+
+        OcrImagePreprocessor.OcrImage result = preprocessor.preprocess(heic, "image/heic");
+
+        assertThat(result.bytes()).isSameAs(heic);
+        assertThat(result.mimeType()).isEqualTo("image/heic");
+    }
+
+    @Test
+    @DisplayName("EXIF Orientation으로 눕혀 저장된 세로 사진은 세워서 전처리한다")
+    void Should_ApplyExifOrientation_When_PhotoIsStoredSideways() throws IOException {
+        // 세로 1200x1600 안내문을 센서 방향(시계 반대 방향 90도)으로 눕혀 저장하고 Orientation=6(시계 방향 90도 회전) 기록
+        BufferedImage upright = page(1200, 1600, 30, 0);
+        BufferedImage sideways = new BufferedImage(1600, 1200, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = sideways.createGraphics();
+        g.rotate(-Math.PI / 2);
+        g.drawImage(upright, -1200, 0, null);
+        g.dispose();
+        byte[] photo = withOrientation(jpeg(sideways), 6);
+
+        OcrImagePreprocessor.OcrImage result = preprocessor.preprocess(photo, "image/jpeg");
+
+        BufferedImage processed = ImageIO.read(new ByteArrayInputStream(result.bytes()));
+        assertThat(result.bytes()).isNotSameAs(photo);
+        assertThat(processed.getHeight()).isGreaterThan(processed.getWidth());
+        assertThat(OcrImagePreprocessor.estimateLineHeight(processed, 128)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Orientation 태그가 없거나 JPEG가 아니면 회전하지 않는다")
+    void Should_ReadNormalOrientation_When_TagIsMissing() throws IOException {
+        BufferedImage image = page(400, 300, 20, 0);
+
+        assertThat(ExifOrientation.read(jpeg(image))).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(ExifOrientation.read(png(image))).isEqualTo(ExifOrientation.NORMAL);
+        assertThat(ExifOrientation.read(withOrientation(jpeg(image), 8))).isEqualTo(8);
+    }
+
+    // SOI 바로 뒤에 Orientation 하나만 담은 APP1(Exif, 빅 엔디언) 세그먼트를 넣음
+    private byte[] withOrientation(byte[] jpeg, int orientation) {
+        byte[] tiff = {
+            'M', 'M', 0, 42, 0, 0, 0, 8,
+            0, 1,
+            0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+            0, 0, 0, 0
+        };
+        int length = 2 + 6 + tiff.length;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, 2);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(length >> 8);
+        out.write(length & 0xFF);
+        out.writeBytes(new byte[]{'E', 'x', 'i', 'f', 0, 0});
+        out.writeBytes(tiff);
+        out.write(jpeg, 2, jpeg.length - 2);
+        return out.toByteArray();
+    }
+
+    private byte[] jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "JPEG", out);
+        return out.toByteArray();
+    }
+
+    // 흰 바탕에 줄마다 검은 막대(글자 줄)를 그리고 degrees만큼 기울인 컬러 이미지
+    private BufferedImage page(int width, int height, int lineHeight, double degrees) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(250, 248, 240));
+        g.fillRect(0, 0, width, height);
+        g.rotate(Math.toRadians(degrees), width / 2.0, height / 2.0);
+        g.setColor(new Color(20, 20, 30));
+        for (int y = height / 8; y < height * 7 / 8; y += lineHeight * 2) {
+            for (int x = width / 8; x < width * 7 / 8; x += lineHeight) {
+                g.fillRect(x, y, lineHeight * 2 / 3, lineHeight);
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    private byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "PNG", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.konnect_backend.domain.ai.service.textextractor.ocr;
+
+import com.example.konnect_backend.domain.ai.domain.entity.ocr.OcrPageText;
+import com.example.konnect_backend.domain.ai.repository.OcrPageTextRepository;
+import com.example.konnect_backend.domain.ai.type.OcrEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+class OcrPageCacheTest {
+
+    OcrPageTextRepository repository;
+    SimpleMeterRegistry meterRegistry;
+    OcrPageCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OcrPageTextRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new OcrPageCache(repository, mock(PlatformTransactionManager.class), meterRegistry, true, 8, 96,
+            100, 5000, Duration.ofDays(30));
+        given(repository.findNearest(anyLong(), anyLong(), anyLong(), anyLong(), anyInt(), any(), anyInt(), anyInt()))
+            .willReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("해상도와 밝기가 달라도 같은 페이지는 해시와 세부 해시 거리가 작고, 다른 페이지는 크다")
+    void Should_KeepHashClose_When_SamePageIsRescanned() throws IOException {
+        PageFingerprint original = fingerprint(notice(1200, 1600, 1, 1, 0));
+        PageFingerprint rescanned = fingerprint(notice(1000, 1333, 1, 1, 10));
+        PageFingerprint other = fingerprint(notice(1200, 1600, 2, 2, 0));
+
+        assertThat(original.hash().distance(rescanned.hash())).isLessThanOrEqualTo(8);
+        assertThat(original.detailDistance(rescanned.detail())).isLessThanOrEqualTo(96);
+        assertThat(original.hash().distance(other.hash())).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("다시 찍은 같은 페이지는 저장된 텍스트를 돌려주고 OCR을 호출하지 않는다")
+    void Should_SkipOcr_When_NearDuplicatePageIsCached() throws IOException {
+        AtomicInteger ocrCalls = new AtomicInteger();
+        cache.extractText(jpeg(notice(1200, 1600, 1, 1, 0)), image -> {
+            ocrCalls.incrementAndGet();
+            return new OcrResult("현장체험학습 안내", OcrEngine.TESSERACT_OCR);
+        });
+
+        OcrResult result = cache.extractText(jpeg(notice(1000, 1333, 1, 1, 10)), image -> {
+            ocrCalls.incrementAndGet();
+            return new OcrResult("다시 인식한 텍스트", OcrEngine.TESSERACT_OCR);
+        });
+
+        assertThat(result).isEqualTo(new OcrResult("현장체험학습 안내", OcrEngine.OCR_PAGE_CACHE));
+        assertThat(ocrCalls.get()).isEqualTo(1);
+        then(repository).should().save(any(OcrPageText.class));
+        assertThat(meterRegistry.get("ocr.page_cache.requests").tag("result", "hit").tag("tier", "l1")
+            .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("글자 줄 배치가 같은 양식이라도 내용이 다른 페이지는 저장된 텍스트를 쓰지 않고 OCR한다")
+    void Should_NotReuseText_When_SameLayoutHasDifferentText() throws IOException {
+        PageFingerprint stored = fingerprint(notice(1200, 1600, 1, 1, 0));
+        PageFingerprint sameForm = fingerprint(notice(1200, 1600, 1, 2, 0));
+        // 배치가 같아 해시만으로는 같은 페이지로 보이는 후보를 L2가 돌려주는 경우
+        given(repository.findNearest(anyLong(), anyLong(), anyLong(), anyLong(), anyInt(), any(), anyInt(), anyInt()))
+            .willReturn(List.of(new OcrPageText(new PageFingerprint(sameForm.hash(), stored.detail()),
+                "10월 현장체험학습 안내", LocalDateTime.now())));
+
+        OcrResult result = cache.extractText(jpeg(notice(1200, 1600, 1, 2, 0)),
+            image -> new OcrResult("11월 급식 안내", OcrEngine.TESSERACT_OCR));
+
+        assertThat(result.text()).isEqualTo("11월 급식 안내");
+        assertThat(meterRegistry.get("ocr.page_cache.rejected").tag("tier", "l2").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("ocr.page_cache.requests").tag("result", "miss").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1에 없으면 DB에서 가까운 결과를 찾아 쓰고, 없는 페이지만 OCR에 넘긴다")
+    void Should_UseStoredTextAndOcrOnlyMisses_When_PagesAreMixed() throws IOException {
+        PageFingerprint stored = fingerprint(notice(1200, 1600, 1, 1, 0));
+        given(repository.findNearest(anyLong(), anyLong(), anyLong(), anyLong(), eq(8), any(), eq(5000), anyInt()))
+            .willAnswer(invocation -> stored.hash().distance(new PageHash(invocation.getArgument(0),
+                invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3))) <= 8
+                ? List.of(new OcrPageText(stored, "저장된 1페이지", LocalDateTime.now()))
+                : List.of());
+
+        List<OcrResult> results = cache.extractPages(
+            List.of(completedFuture(jpeg(notice(1000, 1333, 1, 1, 10))),
+                completedFuture(jpeg(notice(1200, 1600, 3, 3, 0)))),
+            () -> {
+            },
+            (pages, producer) -> {
+                producer.run();
+                assertThat(pages.get(0).join()).isNull();
+                return Arrays.asList(null, new OcrResult("새로 인식한 2페이지", OcrEngine.GEMINI_VISION_OCR));
+            });
+
+        assertThat(results).containsExactly(new OcrResult("저장된 1페이지", OcrEngine.OCR_PAGE_CACHE),
+            new OcrResult("새로 인식한 2페이지", OcrEngine.GEMINI_VISION_OCR));
+        assertThat(meterRegistry.get("ocr.page_cache.requests").tag("tier", "l2").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("ocr.page_cache.requests").tag("result", "miss").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비어 있는 OCR 결과는 저장하지 않는다")
+    void Should_NotStore_When_TextIsBlank() {
+        cache.put(PageFingerprint.of(notice(1200, 1600, 1, 1, 0)), " ");
+
+        then(repository).should(never()).save(any());
+    }
+
+    // layout마다 다른 위치, 길이의 글자 줄에 text마다 다른 획으로 글자를 그린 안내문, brightness만큼 배경과 글자를 밝게 함
+    private BufferedImage notice(int width, int height, long layout, long text, int brightness) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(new Color(Math.min(255, 225 + brightness), Math.min(255, 225 + brightness),
+            Math.min(255, 220 + brightness)));
+        g.fillRect(0, 0, width, height);
+        g.setColor(new Color(20 + brightness, 20 + brightness, 30 + brightness));
+        Random lines = new Random(layout);
+        Random glyphs = new Random(text);
+        // 줄과 글자 수를 정수로 정해 해상도가 달라도 같은 글자가 같은 자리에 그려짐
+        double lineHeight = height / 40.0;
+        double charWidth = lineHeight * 0.8;
+        for (int line = 4; line < 36; line += 2 + lines.nextInt(2)) {
+            double y = line * lineHeight;
+            double indent = width * (0.08 + lines.nextDouble() * 0.2);
+            int chars = 8 + lines.nextInt(24);
+            for (int c = 0; c < chars; c++) {
+                double x = indent + c * charWidth;
+                // 여섯 칸 중 한 칸은 띄어쓰기, 나머지는 가로, 세로 획 1~3개
+                if (glyphs.nextInt(6) == 0) {
+                    continue;
+                }
+                for (int stroke = 1 + glyphs.nextInt(3); stroke > 0; stroke--) {
+                    boolean horizontal = glyphs.nextBoolean();
+                    g.fill(new Rectangle2D.Double(x + glyphs.nextDouble() * charWidth * 0.6,
+                        y + glyphs.nextDouble() * lineHeight * 0.6,
+                        horizontal ? charWidth * 0.6 : lineHeight * 0.12,
+                        horizontal ? lineHeight * 0.12 : lineHeight * 0.7));
+                }
+            }
+        }
+        g.dispose();
+        return image;
+    }
+
+    private PageFingerprint fingerprint(BufferedImage image) throws IOException {
+        return PageFingerprint.of(jpeg(image)).orElseThrow();
+    }
+
+    private OcrImagePreprocessor.OcrImage jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "JPEG", out);
+        return new OcrImagePreprocessor.OcrImage(out.toByteArray(), "image/jpeg");
+    }
+}